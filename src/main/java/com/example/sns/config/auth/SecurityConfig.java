@@ -23,6 +23,7 @@ import com.example.sns.security.JwtAuthenticationFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
  * 보안 헤더 및 Actuator 제한 (RULE 1.6.1).
  * JWT 인증 필터 적용 (Step 6).
  * Step 7: /api/admin/** ROLE_ADMIN, deny-by-default, CORS allow-list, 403 로깅.
+ * /ws: WebSocket 핸드셰이크 허용, JWT 인증은 STOMP CONNECT 단계에서 수행.
  */
 @Slf4j
 @Configuration
@@ -71,6 +73,8 @@ public class SecurityConfig {
                                         "default-src 'self'; script-src 'self'; style-src 'self' 'unsafe-inline'; img-src 'self' data: https:; font-src 'self'; connect-src 'self'")))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        // SSE·비동기 응답의 ASYNC 재디스패치: 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/h2-console", "/h2-console/**").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         .requestMatchers("/actuator/**").denyAll()
@@ -94,6 +98,7 @@ public class SecurityConfig {
                         .requestMatchers(org.springframework.http.HttpMethod.DELETE, "/api/image-posts/*")
                         .authenticated()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/map/directions").permitAll()
+                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/map/matrix").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/pins/nearby").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/pins/*/posts",
                                 "/api/pins/*/image-posts")
@@ -112,6 +117,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/users/*").permitAll()
                         // Notifications
                         .requestMatchers("/api/notifications", "/api/notifications/**").authenticated()
+                        // WebSocket(STOMP) 핸드셰이크 — 인증은 CONNECT 프레임에서 (StompAuthChannelInterceptor)
+                        .requestMatchers("/ws", "/ws/**").permitAll()
                         // Saved Routes
                         .requestMatchers("/api/saved-routes", "/api/saved-routes/**").authenticated()
                         // Route proxy
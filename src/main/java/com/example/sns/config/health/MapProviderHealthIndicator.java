@@ -0,0 +1,42 @@
+package com.example.sns.config.health;
+
+import java.util.Map;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.service.map.CircuitBreaker;
+import com.example.sns.service.map.MapCallExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지도 제공자별 회로 상태 노출 (/actuator/health 의 mapProviders).
+ *
+ * <p>
+ * RULE 5.2.1: 외부 지도 API 장애는 fallback 으로 흡수되므로 상태는 항상 UP —
+ * 제공자 장애로 readiness 가 떨어져 트래픽이 끊기지 않게 한다. 상세(state·실패율)는 관측용.
+ * prod 는 management.endpoint.health.show-details=never 라 상세가 응답에 나오지 않으므로
+ * 운영 관측은 지표 map.client.circuit.state{provider} 로 한다.
+ */
+@Component("mapProviders")
+@RequiredArgsConstructor
+public class MapProviderHealthIndicator implements HealthIndicator {
+
+    private final MapCallExecutor mapCallExecutor;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        for (Map.Entry<String, CircuitBreaker.Snapshot> entry : mapCallExecutor.circuitStates().entrySet()) {
+            CircuitBreaker.Snapshot snapshot = entry.getValue();
+            builder.withDetail(entry.getKey(), Map.of(
+                    "state", snapshot.state().name(),
+                    "calls", snapshot.calls(),
+                    "failureRate", snapshot.failureRate(),
+                    "slowCallRate", snapshot.slowCallRate()));
+        }
+        return builder.build();
+    }
+}
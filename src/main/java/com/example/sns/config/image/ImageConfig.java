@@ -0,0 +1,31 @@
+package com.example.sns.config.image;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 이미지 처리 설정.
+ *
+ * <p>ImageProperties 활성화. 파생본 생성 전용 bounded 워커 풀 — 디코딩·리사이즈는 CPU·메모리 집약적이므로
+ * 요청 스레드·공용 풀과 분리하고, 대기열 초과분은 버린다 (요청 시 lazy 생성으로 복구).
+ */
+@Configuration
+@EnableConfigurationProperties(ImageProperties.class)
+public class ImageConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor imageDerivativeExecutor(ImageProperties imageProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageProperties.workerThreads());
+        executor.setMaxPoolSize(imageProperties.workerThreads());
+        executor.setQueueCapacity(imageProperties.queueCapacity());
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
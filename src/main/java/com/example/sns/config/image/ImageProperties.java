@@ -0,0 +1,77 @@
+package com.example.sns.config.image;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 이미지 파생본(썸네일·리사이즈) 설정.
+ *
+ * <p>업로드 직후 백그라운드 워커에서 파생본을 생성하고, 없으면 요청 시 생성(lazy)하여 디스크에 캐시한다.
+ *
+ * @param workerThreads  파생본 생성 워커 스레드 수 (CPU 사용 상한)
+ * @param queueCapacity  대기 작업 상한. 초과 시 버리고 요청 시 lazy 생성에 맡김
+ * @param jpegQuality    JPEG 파생본 품질 (0.0~1.0)
+ * @param derivativeDir  파생본 저장 디렉터리 (업로드 basePath 기준 상대 경로)
+ * @param pathCacheSize  게시글 ID → 저장 경로 캐시 최대 항목 수 (이미지 서빙 시 DB 조회 생략)
+ * @param pathCacheTtl   경로 캐시 TTL. 다른 노드의 이미지 교체 반영 지연 상한 (버전 URL 은 즉시 반영)
+ * @param gc             고아 파일 GC 설정
+ * @param deletion       커밋 후 파일 삭제 대기열 설정
+ */
+@ConfigurationProperties(prefix = "app.image")
+public record ImageProperties(
+        @DefaultValue("2") int workerThreads,
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("0.82") float jpegQuality,
+        @DefaultValue("derivatives") String derivativeDir,
+        @DefaultValue("10000") int pathCacheSize,
+        @DefaultValue("5m") Duration pathCacheTtl,
+        @DefaultValue Gc gc,
+        @DefaultValue Deletion deletion
+) {
+
+    /**
+     * 고아 파일(어떤 게시글·blob 도 참조하지 않는 파일) GC 설정.
+     *
+     * @param enabled             정기 실행 여부
+     * @param cron                실행 주기
+     * @param dryRun              true 면 보고만 하고 격리·삭제하지 않음
+     * @param minAge              이보다 최근 파일은 검사 제외 (진행 중 업로드·트랜잭션 보호)
+     * @param quarantineRetention 격리 후 삭제까지 유예 기간 (오판 시 복구 기회)
+     * @param batchSize           DB 확인·I/O 배치 크기
+     * @param batchPause          배치 간 대기 (디스크·저장소 I/O 제한)
+     * @param falsePositiveRate   참조 집합 Bloom filter 오탐률 (오탐 = 고아를 이번 실행에서 놓침)
+     * @param lockTtl             클러스터 실행 임대 기간 (실행 노드가 죽었을 때 다른 노드가 이어받기까지)
+     */
+    public record Gc(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0 0 4 * * *") String cron,
+            @DefaultValue("false") boolean dryRun,
+            @DefaultValue("24h") Duration minAge,
+            @DefaultValue("7d") Duration quarantineRetention,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("100ms") Duration batchPause,
+            @DefaultValue("0.01") double falsePositiveRate,
+            @DefaultValue("6h") Duration lockTtl
+    ) {
+    }
+
+    /**
+     * 파일 삭제 대기열(pending_file_deletions) 작업자 설정.
+     *
+     * @param pollIntervalMs 대기열 polling 주기(ms). 커밋 직후 즉시 처리되므로 재시도·다른 노드 기록분용
+     * @param batchSize      트랜잭션 1회에 처리할 최대 항목 수 (저장소 일괄 삭제 단위)
+     * @param maxAttempts    재시도 상한. 초과 시 포기하고 고아 파일 GC 에 맡김
+     * @param initialBackoff 첫 재시도 대기 (이후 2배씩)
+     * @param maxBackoff     재시도 대기 상한
+     */
+    public record Deletion(
+            @DefaultValue("2000") long pollIntervalMs,
+            @DefaultValue("100") int batchSize,
+            @DefaultValue("8") int maxAttempts,
+            @DefaultValue("10s") Duration initialBackoff,
+            @DefaultValue("1h") Duration maxBackoff
+    ) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.sns.config.map;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 경로(Directions) 조회 설정.
+ *
+ * @param cache     경로 응답 캐시 설정
+ * @param matrix    거리 행렬 조회 설정
+ * @param waypoints 경유지 경로 조회 설정
+ */
+@ConfigurationProperties(prefix = "app.map.directions")
+public record DirectionsProperties(
+        @DefaultValue Cache cache,
+        @DefaultValue Matrix matrix,
+        @DefaultValue Waypoints waypoints
+) {
+
+    /**
+     * 경로 응답 캐시. 출발지·목적지를 격자로 스냅한 키로 같은 구간 요청을 외부 API 호출 없이 응답.
+     *
+     * @param enabled      캐시 사용 여부
+     * @param snapDecimals 좌표 스냅 소수 자릿수 (4 ≈ 11m 격자). 같은 격자 안의 출발·도착 요청은 같은 경로 공유
+     * @param maxEntries   노드 로컬 캐시 최대 항목 수
+     * @param ttl          캐시 TTL (교통 상황 반영 지연 상한)
+     * @param redisEnabled true 면 Redis 2차 캐시 사용 (노드 간 공유). Redis 장애 시 로컬 캐시만 사용
+     * @param redisTtl     Redis 항목 TTL
+     */
+    public record Cache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("4") int snapDecimals,
+            @DefaultValue("10000") int maxEntries,
+            @DefaultValue("30m") Duration ttl,
+            @DefaultValue("false") boolean redisEnabled,
+            @DefaultValue("6h") Duration redisTtl
+    ) {
+    }
+
+    /**
+     * 거리 행렬 (출발지 N × 목적지 M). 직선 거리는 모든 쌍, 도로 거리는 쌍 수 상한 안에서 병렬 조회.
+     *
+     * @param maxLocations     출발지·목적지 각각의 최대 좌표 수
+     * @param maxRoadPairs     도로 거리 조회 최대 쌍 수 (외부 API 할당량 보호)
+     * @param roadParallelism  요청 1건 안의 도로 거리 동시 조회 수
+     */
+    public record Matrix(
+            @DefaultValue("50") int maxLocations,
+            @DefaultValue("25") int maxRoadPairs,
+            @DefaultValue("4") int roadParallelism
+    ) {
+    }
+
+    /**
+     * 경유지 경로 (출발지 → 경유지들 → 목적지). 구간(leg)별 경로를 병렬 조회해 하나로 잇는다.
+     *
+     * @param maxWaypoints   최대 경유지 수 (구간 수 = 경유지 수 + 1, 외부 API 할당량 보호)
+     * @param legParallelism 요청 1건 안의 구간 동시 조회 수
+     */
+    public record Waypoints(
+            @DefaultValue("5") int maxWaypoints,
+            @DefaultValue("6") int legParallelism
+    ) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.sns.config.map;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Geocoding·Reverse Geocoding 조회 설정.
+ *
+ * @param cache 조회 결과 캐시 설정
+ */
+@ConfigurationProperties(prefix = "app.map.geocode")
+public record GeocodeProperties(
+        @DefaultValue Cache cache
+) {
+
+    /**
+     * 조회 결과 캐시. Geocoding 은 정규화한 주소, Reverse Geocoding 은 geohash 칸을 키로 사용.
+     *
+     * @param enabled          캐시 사용 여부
+     * @param geohashPrecision Reverse Geocoding 키 geohash 정밀도 (8 ≈ 38m × 19m). 같은 칸의 핀은 같은 주소 공유
+     * @param maxEntries       노드 로컬 캐시 최대 항목 수 (조회 종류별)
+     * @param ttl              결과 캐시 TTL
+     * @param negativeTtl      "결과 없음" 캐시 TTL. 제공자 장애 fallback 도 결과 없음으로 오므로 짧게 유지
+     * @param redisEnabled     true 면 Redis 2차 캐시 사용 (노드 간 공유). Redis 장애 시 로컬 캐시만 사용
+     * @param redisTtl         Redis 결과 항목 TTL
+     */
+    public record Cache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("8") int geohashPrecision,
+            @DefaultValue("10000") int maxEntries,
+            @DefaultValue("6h") Duration ttl,
+            @DefaultValue("5m") Duration negativeTtl,
+            @DefaultValue("false") boolean redisEnabled,
+            @DefaultValue("7d") Duration redisTtl
+    ) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.sns.config.map;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 외부 지도 API 호출 실행 설정.
+ *
+ * <p>RULE 3.4: 외부 호출이 느려져도 다른 API 의 요청 스레드를 소모하지 않도록 실행 방식·동시 호출 상한을 둔다.
+ *
+ * @param mode                  async: 지도 API 요청을 가상 스레드에서 처리하고 요청 스레드는 즉시 반환 (Servlet async),
+ *                              blocking: 요청 스레드에서 직접 처리 (동시 호출 상한만 적용)
+ * @param maxConcurrent         제공자별 동시 외부 호출 기본 상한 (bulkhead)
+ * @param providerMaxConcurrent 제공자별 상한 재정의 (kakao-mobility, google)
+ * @param acquireTimeout        상한 도달 시 대기 시간. 초과하면 외부 호출 없이 fallback 응답
+ * @param circuitBreaker        제공자별 회로 차단기 설정
+ * @param pool                  HTTP 커넥션 풀 설정 (Kakao Mobility RestTemplate·Google GeoApiContext 공유)
+ */
+@ConfigurationProperties(prefix = "app.map.client")
+public record MapClientProperties(
+        @DefaultValue("async") ExecutionMode mode,
+        @DefaultValue("32") int maxConcurrent,
+        Map<String, Integer> providerMaxConcurrent,
+        @DefaultValue("200ms") Duration acquireTimeout,
+        @DefaultValue CircuitBreaker circuitBreaker,
+        @DefaultValue Pool pool
+) {
+
+    public MapClientProperties {
+        providerMaxConcurrent = providerMaxConcurrent != null ? Map.copyOf(providerMaxConcurrent) : Map.of();
+    }
+
+    public int maxConcurrent(String provider) {
+        return providerMaxConcurrent.getOrDefault(provider, maxConcurrent);
+    }
+
+    public enum ExecutionMode {
+        ASYNC, BLOCKING
+    }
+
+    /**
+     * 회로 차단기. 장애 중에는 외부 timeout 을 기다리지 않고 즉시 fallback (직선 거리·빈 결과).
+     *
+     * @param enabled               사용 여부
+     * @param windowSize            실패율 집계 대상 최근 호출 수
+     * @param minimumCalls          판정에 필요한 최소 호출 수
+     * @param failureRateThreshold  OPEN 전환 실패율 (%)
+     * @param slowCallThreshold     느린 호출 기준 시간
+     * @param slowCallRateThreshold OPEN 전환 느린 호출 비율 (%)
+     * @param openDuration          OPEN 유지 시간. 이후 HALF_OPEN 에서 시험 호출
+     * @param halfOpenProbes        HALF_OPEN 시험 호출 수
+     */
+    public record CircuitBreaker(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20") int windowSize,
+            @DefaultValue("10") int minimumCalls,
+            @DefaultValue("50") int failureRateThreshold,
+            @DefaultValue("2s") Duration slowCallThreshold,
+            @DefaultValue("80") int slowCallRateThreshold,
+            @DefaultValue("30s") Duration openDuration,
+            @DefaultValue("3") int halfOpenProbes
+    ) {
+    }
+
+    /**
+     * HTTP 커넥션 풀. 호출마다 TCP·TLS 핸드셰이크를 반복하지 않도록 keep-alive 커넥션을 재사용.
+     *
+     * @param maxTotal                전체 최대 커넥션 수
+     * @param maxPerRoute             호스트별 최대 커넥션 수 (bulkhead 상한과 맞춤)
+     * @param keepAlive               keep-alive 최대 유지 시간. 서버가 더 짧게 주면 서버 값 사용
+     * @param idleTimeout             유휴 커넥션 정리 기준 시간
+     * @param validateAfterInactivity 재사용 전 stale 검사 기준 유휴 시간
+     * @param timeToLive              커넥션 최대 수명 (DNS 변경 반영)
+     */
+    public record Pool(
+            @DefaultValue("64") int maxTotal,
+            @DefaultValue("32") int maxPerRoute,
+            @DefaultValue("30s") Duration keepAlive,
+            @DefaultValue("60s") Duration idleTimeout,
+            @DefaultValue("2s") Duration validateAfterInactivity,
+            @DefaultValue("5m") Duration timeToLive
+    ) {
+    }
+}
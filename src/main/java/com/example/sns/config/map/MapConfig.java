@@ -2,43 +2,145 @@ package com.example.sns.config.map;
 
 import java.util.concurrent.TimeUnit;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.google.maps.GeoApiContext;
+import com.google.maps.OkHttpRequestHandler;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+
 /**
  * 지도 API 설정.
  *
- * <p>Step 11: MapProperties 활성화. Timeout·Retry 정책 적용.
+ * <p>Step 11: MapProperties·DirectionsProperties·GeocodeProperties·MapClientProperties 활성화. Timeout·Retry 정책 적용.
  * RULE 3.4: 외부 호출 Timeout 필수.
  * Apache HttpClient 5 사용: HttpURLConnection 의 Origin·KA 등 커스텀 헤더 차단 문제 해소.
+ * HTTP 클라이언트·커넥션 풀은 애플리케이션 수명 동안 공유하고 종료 시 닫는다 (app.map.client.pool).
  */
 @Configuration
-@EnableConfigurationProperties(MapProperties.class)
+@EnableConfigurationProperties({MapProperties.class, DirectionsProperties.class, GeocodeProperties.class,
+        MapClientProperties.class})
 public class MapConfig {
 
     /**
-     * 지도 API 호출용 RestTemplate. RULE 3.4: Timeout 필수.
-     * Apache HttpClient 5 기반 — 모든 커스텀 헤더 정상 전송 보장.
+     * 지도 API 커넥션 풀. 호스트별 상한·keep-alive 재사용·stale 검사·최대 수명.
      */
-    @Bean
-    public RestTemplate mapRestTemplate(MapProperties mapProperties) {
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager mapConnectionManager(MapProperties mapProperties,
+            MapClientProperties clientProperties) {
+        MapClientProperties.Pool pool = clientProperties.pool();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.maxTotal())
+                .setMaxConnPerRoute(pool.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(mapProperties.timeoutSeconds(), TimeUnit.SECONDS)
+                        .setValidateAfterInactivity(TimeValue.of(pool.validateAfterInactivity()))
+                        .setTimeToLive(TimeValue.of(pool.timeToLive()))
+                        .build())
+                .build();
+    }
+
+    /**
+     * 지도 API HttpClient. 서버 Keep-Alive 값을 pool.keepAlive 로 상한하고, 유휴·만료 커넥션은 백그라운드 정리.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient mapHttpClient(MapProperties mapProperties, MapClientProperties clientProperties,
+            PoolingHttpClientConnectionManager mapConnectionManager) {
         int timeoutMs = mapProperties.timeoutSeconds() * 1000;
+        MapClientProperties.Pool pool = clientProperties.pool();
+        TimeValue maxKeepAlive = TimeValue.of(pool.keepAlive());
 
         RequestConfig requestConfig = RequestConfig.custom()
                 .setConnectionRequestTimeout(timeoutMs, TimeUnit.MILLISECONDS)
                 .setResponseTimeout(timeoutMs, TimeUnit.MILLISECONDS)
                 .build();
 
-        CloseableHttpClient httpClient = HttpClients.custom()
+        return HttpClients.custom()
+                .setConnectionManager(mapConnectionManager)
                 .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return serverKeepAlive.compareTo(maxKeepAlive) < 0 ? serverKeepAlive : maxKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(pool.idleTimeout()))
                 .build();
+    }
+
+    /**
+     * 지도 API 호출용 RestTemplate. RULE 3.4: Timeout 필수.
+     * Apache HttpClient 5 기반 — 모든 커스텀 헤더 정상 전송 보장.
+     */
+    @Bean
+    public RestTemplate mapRestTemplate(CloseableHttpClient mapHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(mapHttpClient));
+    }
+
+    /**
+     * 커넥션 풀 지표: httpcomponents.httpclient.pool.{total.max,total.connections,route.max.default,...}{httpclient=map}.
+     */
+    @Bean
+    public MeterBinder mapConnectionPoolMetrics(PoolingHttpClientConnectionManager mapConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(mapConnectionManager, "map");
+    }
+
+    /**
+     * Google Maps 공유 GeoApiContext. 컨텍스트마다 OkHttp 클라이언트·rate limit 스레드가 생기므로
+     * 호출마다 만들지 않고 하나를 재사용하며, 종료 시 shutdown 으로 스레드를 정리한다.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "app.map.provider", havingValue = "google")
+    static class GoogleMapsClientConfig {
+
+        @Bean
+        public ConnectionPool googleMapsConnectionPool(MapClientProperties clientProperties) {
+            MapClientProperties.Pool pool = clientProperties.pool();
+            return new ConnectionPool(pool.maxPerRoute(), pool.keepAlive().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        public GeoApiContext googleGeoApiContext(MapProperties mapProperties, MapClientProperties clientProperties,
+                ConnectionPool googleMapsConnectionPool) {
+            OkHttpRequestHandler.Builder requestHandler = new OkHttpRequestHandler.Builder();
+            // 기본 Dispatcher 는 호스트당 동시 요청 5건 — bulkhead 상한까지 대기열 없이 보내도록 맞춤
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequestsPerHost(clientProperties.pool().maxPerRoute());
+            requestHandler.okHttpClientBuilder()
+                    .connectionPool(googleMapsConnectionPool)
+                    .dispatcher(dispatcher);
+            return new GeoApiContext.Builder(requestHandler)
+                    .apiKey(mapProperties.googleApiKey())
+                    .connectTimeout(mapProperties.timeoutSeconds(), TimeUnit.SECONDS)
+                    .readTimeout(mapProperties.timeoutSeconds(), TimeUnit.SECONDS)
+                    .maxRetries(mapProperties.retryCount())
+                    .build();
+        }
 
-        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        /**
+         * 커넥션 풀 지표: okhttp.pool.connection.count{state=active|idle, client=google-maps}.
+         */
+        @Bean
+        public MeterBinder googleMapsConnectionPoolMetrics(ConnectionPool googleMapsConnectionPool) {
+            return new OkHttpConnectionPoolMetrics(googleMapsConnectionPool, Tags.of("client", "google-maps"));
+        }
     }
 }
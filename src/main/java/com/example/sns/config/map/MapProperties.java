@@ -1,5 +1,7 @@
 package com.example.sns.config.map;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -69,4 +71,11 @@ public record MapProperties(
         if (timeoutSeconds <= 0) timeoutSeconds = 5;
         if (retryCount < 0) retryCount = 2;
     }
+
+    /**
+     * 외부 호출 1건이 재시도를 포함해 걸릴 수 있는 최대 시간 (timeout × (retry + 1)).
+     */
+    public Duration upstreamBudget() {
+        return Duration.ofSeconds((long) timeoutSeconds * (retryCount + 1));
+    }
 }
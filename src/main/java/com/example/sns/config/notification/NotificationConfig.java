@@ -0,0 +1,36 @@
+package com.example.sns.config.notification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.sns.service.notification.RedisNotificationPublisher;
+
+/**
+ * 알림 설정.
+ *
+ * <p>NotificationProperties 활성화.
+ * app.notification.push.relay=redis 시 Redis Pub/Sub 구독 컨테이너 등록 — 다른 노드에서 발행한 알림을
+ * 이 노드에 연결된 WebSocket 세션으로 전달.
+ */
+@Configuration
+@EnableConfigurationProperties(NotificationProperties.class)
+public class NotificationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.notification.push.relay", havingValue = "redis")
+    public RedisMessageListenerContainer notificationRelayListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisNotificationPublisher redisNotificationPublisher,
+            NotificationProperties notificationProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisNotificationPublisher,
+                new ChannelTopic(notificationProperties.push().redisChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.sns.config.notification;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 알림 설정 속성.
+ *
+ * <p>실시간 Push: relay(local|redis), Redis Pub/Sub 채널명.
+ * 단일 노드(dev/test)는 local, 다중 노드(prod)는 redis relay 사용.
+ * SSE: 연결 타임아웃·heartbeat 주기·Last-Event-ID 재전송 한도.
+ * Outbox: 알림 생성 배치 크기·polling 주기·좋아요 병합 기간.
+ * Retention: 읽은 알림 보관 기간·정리 배치 크기·배치 간 대기.
+ */
+@ConfigurationProperties(prefix = "app.notification")
+public record NotificationProperties(
+        @DefaultValue Push push,
+        @DefaultValue Sse sse,
+        @DefaultValue Outbox outbox,
+        @DefaultValue Retention retention
+) {
+
+    /**
+     * 실시간 Push 설정.
+     *
+     * @param relay        노드 간 전달 방식: local(단일 노드) | redis(Pub/Sub 중계)
+     * @param redisChannel Redis Pub/Sub 채널명
+     */
+    public record Push(
+            @DefaultValue("local") String relay,
+            @DefaultValue("notifications:push") String redisChannel
+    ) {
+    }
+
+    /**
+     * SSE 스트림 설정.
+     *
+     * @param timeout             연결 최대 유지 시간. 만료 시 클라이언트(EventSource)가 Last-Event-ID로 재연결
+     * @param heartbeatIntervalMs heartbeat(comment) 전송 주기(ms)
+     * @param replayLimit         재연결 시 재전송할 최대 알림 수
+     */
+    public record Sse(
+            @DefaultValue("30m") Duration timeout,
+            @DefaultValue("15000") long heartbeatIntervalMs,
+            @DefaultValue("100") int replayLimit
+    ) {
+    }
+
+    /**
+     * 알림 outbox 디스패처 설정.
+     *
+     * @param batchSize           트랜잭션 1회에 처리할 최대 outbox 항목 수
+     * @param pollIntervalMs      polling 주기(ms). 커밋 직후 즉시 처리되므로 안전망 용도
+     * @param likeCoalesceWindow  같은 게시글 좋아요를 기존 안 읽은 알림에 병합하는 기간
+     */
+    public record Outbox(
+            @DefaultValue("200") int batchSize,
+            @DefaultValue("1000") long pollIntervalMs,
+            @DefaultValue("10m") Duration likeCoalesceWindow
+    ) {
+    }
+
+    /**
+     * 알림 보관(정리) 설정. 보관 기간이 지난 읽은 알림을 배치 삭제.
+     *
+     * @param enabled          정리 작업 사용 여부
+     * @param cron             실행 주기 (기본: 매일 03:30)
+     * @param maxAge           읽은 알림 보관 기간
+     * @param batchSize        트랜잭션 1회 삭제 건수 (잠금·undo 로그 크기 제한)
+     * @param batchPause       배치 간 대기 (복제 지연·운영 트래픽 보호)
+     * @param maxBatchesPerRun 1회 실행 최대 배치 수 (남은 건 다음 실행에서 처리)
+     */
+    public record Retention(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0 30 3 * * *") String cron,
+            @DefaultValue("90d") Duration maxAge,
+            @DefaultValue("1000") int batchSize,
+            @DefaultValue("200ms") Duration batchPause,
+            @DefaultValue("500") int maxBatchesPerRun
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.sns.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화.
+ *
+ * <p>@Scheduled 작업(SSE heartbeat, 알림 outbox polling 등) 실행. 작업은 멱등·짧게 유지한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,42 @@
+package com.example.sns.config.storage;
+
+import java.net.http.HttpClient;
+import java.nio.file.Paths;
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.sns.config.upload.UploadProperties;
+import com.example.sns.service.storage.BlobStore;
+import com.example.sns.service.storage.LocalBlobStore;
+import com.example.sns.service.storage.S3BlobStore;
+
+/**
+ * 이미지 저장소 설정. app.storage.type 에 따라 BlobStore 구현 선택.
+ *
+ * <p>local(기본): 업로드 basePath. s3: S3 호환 오브젝트 스토리지 — 여러 앱 노드가 공유 저장소(NFS) 없이 확장 가능.
+ */
+@Configuration
+@EnableConfigurationProperties(StorageProperties.class)
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+    public BlobStore localBlobStore(UploadProperties uploadProperties) {
+        return new LocalBlobStore(Paths.get(uploadProperties.basePath()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+    public BlobStore s3BlobStore(StorageProperties storageProperties) {
+        StorageProperties.S3 s3 = storageProperties.s3();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(s3.connectTimeout())
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        return new S3BlobStore(s3, httpClient, Clock.systemUTC());
+    }
+}
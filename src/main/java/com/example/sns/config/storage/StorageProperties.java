@@ -0,0 +1,47 @@
+package com.example.sns.config.storage;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 이미지 저장소(BlobStore) 설정.
+ *
+ * <p>type: local(업로드 basePath 파일시스템, 단일 노드) | s3(S3 호환 오브젝트 스토리지, 다중 노드).
+ * s3 는 AWS S3 외에 MinIO 등 S3 API 호환 서버에도 사용 (path-style 주소).
+ */
+@ConfigurationProperties(prefix = "app.storage")
+public record StorageProperties(
+        @DefaultValue("local") String type,
+        @DefaultValue S3 s3
+) {
+
+    /**
+     * S3 호환 저장소 설정.
+     *
+     * @param endpoint       엔드포인트 (예: https://s3.ap-northeast-2.amazonaws.com, http://minio:9000)
+     * @param region         서명 리전
+     * @param bucket         버킷명
+     * @param accessKey      액세스 키 (환경 변수로 주입)
+     * @param secretKey      시크릿 키 (환경 변수로 주입)
+     * @param pathStyle      true: {endpoint}/{bucket}/{key} (MinIO), false: {bucket}.{endpoint host}/{key}
+     * @param partSizeBytes  멀티파트 업로드 파트 크기. 이보다 작은 파일은 단일 PUT (S3 최소 5MiB)
+     * @param presignTtl     pre-signed GET URL 유효 기간. 같은 URL 을 ttl/2 동안 재사용해 브라우저·CDN 캐시 유지
+     * @param connectTimeout 연결 타임아웃
+     * @param requestTimeout 요청(파트 1개) 타임아웃
+     */
+    public record S3(
+            String endpoint,
+            @DefaultValue("us-east-1") String region,
+            String bucket,
+            String accessKey,
+            String secretKey,
+            @DefaultValue("true") boolean pathStyle,
+            @DefaultValue("8388608") long partSizeBytes,
+            @DefaultValue("10m") Duration presignTtl,
+            @DefaultValue("5s") Duration connectTimeout,
+            @DefaultValue("60s") Duration requestTimeout
+    ) {
+    }
+}
@@ -3,12 +3,13 @@ package com.example.sns.config.upload;
 import java.util.Set;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * 파일 업로드 설정.
  *
  * RULE 1.1: 저장 경로·제한 값은 설정에서 주입.
- * Step 9: 허용 MIME·최대 크기·저장 경로.
+ * Step 9: 허용 MIME·최대 크기·저장 경로. 허용 MIME 은 파일 magic byte 로 판별한 형식 기준.
  */
 @ConfigurationProperties(prefix = "app.upload")
 public record UploadProperties(
@@ -23,7 +24,12 @@ public record UploadProperties(
         Set<String> allowedMimeTypes,
 
         /**
-         * 최대 파일 크기 (바이트).
+         * 최대 파일 크기 (바이트). 업로드 스트림을 읽는 동안 강제.
          */
-        long maxFileSizeBytes) {
+        long maxFileSizeBytes,
+
+        /**
+         * 최대 해상도 (가로×세로 픽셀). 헤더로 판별, 디코딩 폭탄 방지.
+         */
+        @DefaultValue("40000000") long maxImagePixels) {
 }
@@ -0,0 +1,79 @@
+package com.example.sns.config.websocket;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.StompWebSocketEndpointRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import com.example.sns.config.auth.CorsProperties;
+import com.example.sns.security.StompAuthChannelInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocket(STOMP) 설정 — 실시간 알림 Push.
+ *
+ * <p>엔드포인트: /ws (STOMP over WebSocket). CONNECT 프레임의 Authorization 헤더로 JWT 인증.
+ * 구독: /user/queue/notifications (사용자별 목적지).
+ * 노드 간 전달은 SimpleBroker 대신 Redis Pub/Sub relay가 담당 (RedisNotificationPublisher).
+ * RULE 1.2.3: 허용 오리진은 CORS allow-list와 동일.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String ENDPOINT = "/ws";
+
+    /** STOMP heart-beat 주기(ms). 프록시 idle timeout 으로 연결이 끊기지 않도록 유지. */
+    private static final long HEARTBEAT_MILLIS = 25_000L;
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final CorsProperties corsProperties;
+
+    /** heart-beat 스케줄러 — 프레임워크가 등록·종료하는 messageBrokerTaskScheduler 빈 (직접 생성 시 종료되지 않음). */
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    /**
+     * messageBrokerTaskScheduler 는 이 configurer 를 주입받는 설정 클래스가 정의하므로 순환을 피해 지연 주입.
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(
+            @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        StompWebSocketEndpointRegistration registration = registry.addEndpoint(ENDPOINT);
+        List<String> patterns = corsProperties.getAllowedOriginPatterns();
+        if (patterns != null && !patterns.isEmpty()) {
+            registration.setAllowedOriginPatterns(patterns.toArray(String[]::new));
+        } else {
+            registration.setAllowedOrigins(corsProperties.getAllowedOrigins().toArray(String[]::new));
+        }
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/queue")
+                .setHeartbeatValue(new long[] { HEARTBEAT_MILLIS, HEARTBEAT_MILLIS })
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
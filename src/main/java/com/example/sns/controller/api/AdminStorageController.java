@@ -0,0 +1,39 @@
+package com.example.sns.controller.api;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.sns.aop.AuditLog;
+import com.example.sns.dto.response.ImageGcReportResponse;
+import com.example.sns.service.image.OrphanImageCollector;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 저장소 관리 API — ROLE_ADMIN 전용.
+ *
+ * RULE 1.2: ROLE_ADMIN만 접근. RULE 1.4.2: 민감 작업 감사 로그.
+ */
+@Tag(name = "관리자 - 저장소 관리", description = "ROLE_ADMIN 전용. 고아 이미지 파일 GC")
+@RestController
+@RequestMapping("/api/admin/storage")
+@RequiredArgsConstructor
+public class AdminStorageController {
+
+    private final OrphanImageCollector orphanImageCollector;
+
+    @Operation(summary = "고아 이미지 파일 GC", description = "참조되지 않는 업로드 파일 검사. dryRun=true(기본)면 보고만, "
+            + "false 면 격리·유예 기간 지난 격리 파일 삭제. 실행 중이면 409")
+    @PostMapping("/gc")
+    @AuditLog("ADMIN_STORAGE_GC")
+    public ResponseEntity<ImageGcReportResponse> collectOrphans(
+            @Parameter(description = "보고만 하고 격리·삭제하지 않음") @RequestParam(defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(orphanImageCollector.collect(dryRun));
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.sns.controller.api;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -16,6 +21,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sns.domain.User;
@@ -24,10 +30,15 @@ import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.service.AuthService;
 import com.example.sns.service.ImagePostService;
+import com.example.sns.service.image.ImageAsset;
+import com.example.sns.service.image.ImageLocation;
+import com.example.sns.service.image.ImageVariant;
+import com.example.sns.util.file.ZeroCopyFileSender;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -41,6 +52,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ImagePostController {
 
+    /** 버전 URL 캐시: 1년, 내용 불변 (재검증 불필요). */
+    private static final CacheControl IMMUTABLE_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final ImagePostService imagePostService;
     private final AuthService authService;
 
@@ -72,23 +86,59 @@ public class ImagePostController {
         return ResponseEntity.ok(imagePostService.getById(id));
     }
 
-    @Operation(summary = "이미지 파일 조회", description = "이미지 게시글의 이미지 바이너리 반환")
+    /**
+     * 이미지 바이너리. 조건부 요청(If-None-Match·If-Modified-Since)은 DB 메타데이터만으로 304 판정 (파일 I/O 없음).
+     * 버전(v)이 현재 이미지와 일치하는 URL 은 내용이 바뀌지 않으므로 immutable 로 영구 캐시,
+     * 버전 없는 URL 은 매번 재검증(no-cache + ETag). Range 요청은 206 부분 응답 (Spring Resource region).
+     * 전체 응답은 ID → 경로 캐시 + sendfile(zero-copy)/FileChannel.transferTo 로 전송 (JPA·힙 버퍼 복사 생략).
+     * 원격 저장소(S3 호환)는 pre-signed URL 로 302 redirect — 클라이언트가 저장소에서 직접 받는다.
+     * 저장소 오류로 파생본 대신 원본을 임시로 내줄 때는 원본 ETag + no-cache (다음 요청에서 파생본으로 갱신).
+     */
+    @Operation(summary = "이미지 파일 조회", description = "이미지 게시글의 이미지 바이너리 반환. size 로 리사이즈 파생본 선택. "
+            + "ETag·Last-Modified 조건부 요청(304)·Range(206) 지원. 원격 저장소 사용 시 pre-signed URL 로 302")
     @GetMapping("/{id}/image")
-    public ResponseEntity<Resource> getImage(@PathVariable Long id) {
-        Resource resource = imagePostService.getImageResource(id);
-        String contentType = "image/jpeg";
-        if (resource.getFilename() != null) {
-            String fn = resource.getFilename().toLowerCase();
-            if (fn.endsWith(".png")) {
-                contentType = "image/png";
-            } else if (fn.endsWith(".gif")) {
-                contentType = "image/gif";
-            } else if (fn.endsWith(".webp")) {
-                contentType = "image/webp";
-            }
+    public ResponseEntity<Resource> getImage(
+            @PathVariable Long id,
+            @Parameter(description = "긴 변 최대 픽셀: 160 | 480 | 1080 | original") @RequestParam(required = false) String size,
+            @Parameter(description = "이미지 버전 (응답의 imageUrl 에 포함)") @RequestParam(required = false) String v,
+            ServletWebRequest webRequest) throws IOException {
+        ImageAsset asset = imagePostService.getImageAsset(id, ImageVariant.fromParam(size), v);
+        CacheControl cacheControl = asset.version().equals(v) ? IMMUTABLE_CACHE : CacheControl.noCache().cachePublic();
+        if (webRequest.checkNotModified(asset.etag(), asset.lastModified().toEpochMilli())) {
+            // 304: checkNotModified 가 상태·ETag·Last-Modified 설정
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            return null;
+        }
+        ImageLocation location = imagePostService.locateImage(asset);
+        if (location.fallback()) {
+            // 파생본 대신 원본을 임시로 내줌: 규격 ETag·immutable 로 캐시되면 파생본이 생겨도 갱신되지 않으므로
+            // 원본 ETag 로 덮어쓰고 재검증 (checkNotModified 가 이미 규격 ETag 헤더를 설정함)
+            cacheControl = CacheControl.noCache().cachePublic();
+            webRequest.getResponse().setHeader(HttpHeaders.ETAG,
+                    new ImageAsset(asset.storagePath(), ImageVariant.ORIGINAL, asset.lastModified()).etag());
+        }
+        if (location.isRedirect()) {
+            // 원격 저장소: pre-signed URL 로 redirect (바이트는 앱 서버를 거치지 않음). URL 이 만료되므로 redirect 는 재검증
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(location.redirectUrl())
+                    .cacheControl(CacheControl.noCache().cachePublic())
+                    .build();
+        }
+        if (webRequest.getHeader(HttpHeaders.RANGE) == null) {
+            Path file = location.file();
+            HttpServletResponse response = webRequest.getResponse();
+            response.setContentType(asset.contentType().toString());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "inline; filename=\"" + file.getFileName() + "\"");
+            ZeroCopyFileSender.send(webRequest.getRequest(), response, file);
+            return null;
         }
+        Resource resource = imagePostService.openImage(location);
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
+                .cacheControl(cacheControl)
+                .contentType(asset.contentType())
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "inline; filename=\"" + (resource.getFilename() != null ? resource.getFilename() : "image")
                                 + "\"")
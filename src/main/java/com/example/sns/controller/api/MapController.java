@@ -1,20 +1,42 @@
 package com.example.sns.controller.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.sns.dto.request.DistanceMatrixRequest;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.security.RateLimitFilter;
+import com.example.sns.service.map.DistanceMatrixService;
+import com.example.sns.service.map.DistanceMatrixService.DistanceMatrix;
 import com.example.sns.service.map.KakaoMobilityDirectionsService;
 import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
+import com.example.sns.service.map.MapCallExecutor;
+import com.example.sns.service.map.MultiStopRouteService;
+import com.example.sns.service.map.MultiStopRouteService.MultiStopRoute;
 import com.example.sns.util.haversine.HaversineUtil;
+import com.example.sns.util.polyline.PolylineEncoder;
+import com.example.sns.util.polyline.PolylineSimplifier;
+import com.example.sns.util.polyline.RoutePathFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,6 +46,9 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * Kakao Mobility Directions API로 실제 도로 경로 및 이동 거리 제공.
  * API 키 미설정 시 직선 거리(Haversine)만 반환.
+ * 외부 API 대기는 {@link MapCallExecutor} 가상 스레드에서 처리 (Servlet async) — 요청 스레드 풀을 점유하지 않음.
+ * 여러 목적지까지의 거리는 거리 행렬 API 로 요청 1건에 조회.
+ * 경유지 경로는 구간별로 병렬 조회해 잇는다 — 지연은 가장 느린 구간 수준.
  */
 @Slf4j
 @Tag(name = "Map", description = "지도 경로·거리 조회")
@@ -32,12 +57,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MapController {
 
+    /** 단순화 허용 오차 — 화면 1px 미만의 굴곡은 그려도 보이지 않음. */
+    private static final double SIMPLIFY_TOLERANCE_PIXELS = 1.0;
+    private static final int MAX_ZOOM = 22;
+
     private final KakaoMobilityDirectionsService directionsService;
+    private final MapCallExecutor mapCallExecutor;
+    private final DistanceMatrixService distanceMatrixService;
+    private final MultiStopRouteService multiStopRouteService;
 
     @Operation(summary = "경로·거리 조회",
-            description = "출발지→목적지 경로·거리. transportMode: WALK|BIKE|CAR, routeType: RECOMMEND|MAIN_ROAD|NO_STAIRS")
+            description = "출발지→목적지 경로·거리. transportMode: WALK|BIKE|CAR, routeType: RECOMMEND|MAIN_ROAD|NO_STAIRS, "
+                    + "format: coords(path 좌표 배열)|polyline(polyline 문자열), zoom 지정 시 해당 줌에서 보이지 않는 점 제거")
     @GetMapping("/map/directions")
-    public ResponseEntity<DirectionsResponse> getDirections(
+    public CompletableFuture<ResponseEntity<DirectionsResponse>> getDirections(
             @Parameter(description = "출발지 위도") @RequestParam double originLat,
             @Parameter(description = "출발지 경도") @RequestParam double originLng,
             @Parameter(description = "목적지 위도") @RequestParam double destLat,
@@ -45,71 +78,178 @@ public class MapController {
             @Parameter(description = "이동수단: WALK(도보)|BIKE(자전거/오토바이)|CAR(자동차)")
             @RequestParam(defaultValue = "CAR") String transportMode,
             @Parameter(description = "경로 유형: RECOMMEND(추천길/최단거리)|MAIN_ROAD(큰길 우선)|NO_STAIRS(계단회피 도보)")
-            @RequestParam(defaultValue = "RECOMMEND") String routeType) {
+            @RequestParam(defaultValue = "RECOMMEND") String routeType,
+            @Parameter(description = "경로 형식: coords({lat,lng} 배열, 기본)|polyline(Encoded Polyline 문자열)")
+            @RequestParam(defaultValue = "coords") String format,
+            @Parameter(description = "지도 줌(Web Mercator 0~22). 지정 시 화면 1px 미만 굴곡을 단순화")
+            @RequestParam(required = false) Integer zoom) {
+
+        RoutePathFormat pathFormat = pathFormat(format);
+        log.info("[MapController] directions 요청: ({},{}) → ({},{}), mode={}, routeType={}, format={}, zoom={}",
+                originLat, originLng, destLat, destLng, transportMode, routeType, pathFormat, zoom);
+        return mapCallExecutor.async(() -> directions(originLat, originLng, destLat, destLng, transportMode, routeType,
+                pathFormat, zoom));
+    }
 
-        log.info("[MapController] directions 요청: ({},{}) → ({},{}), mode={}, routeType={}",
-                originLat, originLng, destLat, destLng, transportMode, routeType);
+    private ResponseEntity<DirectionsResponse> directions(double originLat, double originLng, double destLat,
+            double destLng, String transportMode, String routeType, RoutePathFormat format, Integer zoom) {
         DirectionsResult result = directionsService.getDirections(
                 originLat, originLng, destLat, destLng, transportMode, routeType);
 
         if (result != null) {
-            List<Coord> path = result.path().stream()
-                    .map(p -> new Coord(p[0], p[1]))
-                    .toList();
-            log.info("[MapController] 도로 경로 반환: pathSize={}, distanceMeters={}", path.size(), result.distanceMeters());
-            return ResponseEntity.ok(new DirectionsResponse(path, result.distanceMeters(), true));
+            double[] coordinates = result.coordinates();
+            if (zoom != null) {
+                int clampedZoom = Math.clamp(zoom, 0, MAX_ZOOM);
+                coordinates = PolylineSimplifier.simplify(coordinates,
+                        PolylineSimplifier.toleranceMeters(clampedZoom, originLat, SIMPLIFY_TOLERANCE_PIXELS));
+            }
+            log.info("[MapController] 도로 경로 반환: pathSize={}/{}, distanceMeters={}",
+                    coordinates.length / 2, result.pointCount(), result.distanceMeters());
+            return ResponseEntity.ok(DirectionsResponse.of(coordinates, format, result.distanceMeters(), true));
         }
 
         // Fallback: 직선 거리
         double distanceMeters = HaversineUtil.distanceMeters(originLat, originLng, destLat, destLng);
-        List<Coord> path = List.of(
-                new Coord(originLat, originLng),
-                new Coord(destLat, destLng));
+        double[] coordinates = {originLat, originLng, destLat, destLng};
         log.warn("[MapController] 직선 fallback 반환: distanceMeters={}", (int) Math.round(distanceMeters));
-        return ResponseEntity.ok(new DirectionsResponse(path, (int) Math.round(distanceMeters), false));
+        return ResponseEntity.ok(DirectionsResponse.of(coordinates, format, (int) Math.round(distanceMeters), false));
+    }
+
+    private static RoutePathFormat pathFormat(String format) {
+        try {
+            return RoutePathFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "format 은 coords 또는 polyline 이어야 합니다.");
+        }
     }
 
     public record Coord(double lat, double lng) {
     }
 
-    public record DirectionsResponse(List<Coord> path, int distanceMeters, boolean isRoadRoute) {
+    /**
+     * 경로 응답. format=coords 면 path, format=polyline 이면 polyline 만 채운다.
+     */
+    public record DirectionsResponse(
+            @JsonInclude(JsonInclude.Include.NON_NULL) List<Coord> path,
+            int distanceMeters,
+            boolean isRoadRoute,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String polyline
+    ) {
+
+        static DirectionsResponse of(double[] coordinates, RoutePathFormat format, int distanceMeters,
+                boolean isRoadRoute) {
+            if (format == RoutePathFormat.POLYLINE) {
+                return new DirectionsResponse(null, distanceMeters, isRoadRoute, PolylineEncoder.encode(coordinates));
+            }
+            List<Coord> path = new ArrayList<>(coordinates.length / 2);
+            for (int i = 0; i + 1 < coordinates.length; i += 2) {
+                path.add(new Coord(coordinates[i], coordinates[i + 1]));
+            }
+            return new DirectionsResponse(path, distanceMeters, isRoadRoute, null);
+        }
+    }
+
+    @Operation(summary = "거리 행렬 조회",
+            description = "출발지 N × 목적지 M 모든 쌍의 직선 거리(미터). road=true 면 도로 거리도 병렬 조회하며 "
+                    + "실패한 쌍은 null 로 두고 나머지를 반환. road=true 는 쌍 수만큼 요청 한도를 차감")
+    @PostMapping("/map/matrix")
+    public CompletableFuture<ResponseEntity<DistanceMatrix>> getDistanceMatrix(
+            @Valid @RequestBody DistanceMatrixRequest request, HttpServletRequest httpRequest) {
+        log.info("[MapController] matrix 요청: origins={}, destinations={}, road={}",
+                request.origins().size(), request.destinations().size(), request.road());
+        // 도로 거리는 쌍마다 외부 호출 — 필터가 차감한 1건 외에 나머지 쌍 수만큼 같은 IP 한도에서 추가 차감
+        int roadPairs = distanceMatrixService.roadPairs(request);
+        if (!RateLimitFilter.tryConsumeAdditional(httpRequest, roadPairs - 1L)) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        if (!request.road()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(distanceMatrixService.compute(request)));
+        }
+        return mapCallExecutor.async(() -> ResponseEntity.ok(distanceMatrixService.compute(request)));
     }
 
     /**
-     * 프론트엔드 호환 경로 프록시.
-     * /api/route?origin=lng,lat&destination=lng,lat&mode=car&priority=RECOMMEND
+     * 프론트엔드 호환 경로 프록시 (Kakao Mobility 응답 형식: routes[0].summary, sections[].roads[].vertexes).
+     * /api/route?origin=lng,lat&destination=lng,lat&waypoints=lng,lat|lng,lat&mode=car&priority=RECOMMEND
+     *
+     * <p>경유지가 있으면 구간마다 sections 1개. optimize=true 면 경유지 방문 순서를 최적화하고
+     * waypointOrder(입력 경유지 인덱스, 방문 순)를 함께 반환.
      */
     @GetMapping("/route")
-    public ResponseEntity<?> routeProxy(
+    public CompletableFuture<ResponseEntity<?>> routeProxy(
             @RequestParam String origin,
             @RequestParam String destination,
             @RequestParam(defaultValue = "car") String mode,
             @RequestParam(defaultValue = "RECOMMEND") String priority,
-            @RequestParam(required = false) String waypoints) {
-
-        String[] orig = origin.split(",");
-        String[] dest = destination.split(",");
-        double originLng = Double.parseDouble(orig[0].trim());
-        double originLat = Double.parseDouble(orig[1].trim());
-        double destLng = Double.parseDouble(dest[0].trim());
-        double destLat = Double.parseDouble(dest[1].trim());
+            @RequestParam(required = false) String waypoints,
+            @RequestParam(defaultValue = "false") boolean optimize) {
 
+        double[] stops = stops(origin, waypoints, destination);
         String transportMode = mode.toUpperCase();
-        DirectionsResult result = directionsService.getDirections(
-                originLat, originLng, destLat, destLng, transportMode, priority);
+        log.info("[MapController] route 요청: stops={}, mode={}, priority={}, optimize={}",
+                stops.length / 2, transportMode, priority, optimize);
+        return mapCallExecutor.async(() -> route(stops, optimize, transportMode, priority));
+    }
 
-        if (result != null) {
-            var path = result.path().stream()
-                    .map(p -> new Coord(p[0], p[1]))
-                    .toList();
-            var summary = java.util.Map.of("distance", result.distanceMeters(), "duration", 0);
-            var route = java.util.Map.of("sections", java.util.List.of(), "summary", summary);
-            return ResponseEntity.ok(java.util.Map.of("routes", java.util.List.of(route)));
+    private ResponseEntity<?> route(double[] stops, boolean optimize, String transportMode, String priority) {
+        MultiStopRoute route = multiStopRouteService.plan(stops, optimize, transportMode, priority);
+
+        List<Map<String, Object>> sections = new ArrayList<>(route.legs().size());
+        for (MultiStopRouteService.Leg leg : route.legs()) {
+            sections.add(Map.of("distance", leg.distanceMeters(), "duration", 0,
+                    "roads", List.of(Map.of("vertexes", lngLatVertexes(leg.coordinates())))));
         }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("summary", Map.of("distance", route.distanceMeters(), "duration", 0));
+        body.put("sections", sections);
+        if (optimize) {
+            int[] order = route.order();
+            body.put("waypointOrder", Arrays.stream(order, 1, order.length - 1).map(i -> i - 1).toArray());
+        }
+        return ResponseEntity.ok(Map.of("routes", List.of(body)));
+    }
 
-        double distanceMeters = HaversineUtil.distanceMeters(originLat, originLng, destLat, destLng);
-        var summary = java.util.Map.of("distance", (int) Math.round(distanceMeters), "duration", 0);
-        var route = java.util.Map.of("sections", java.util.List.of(), "summary", summary);
-        return ResponseEntity.ok(java.util.Map.of("routes", java.util.List.of(route)));
+    /** origin, waypoints("|" 구분), destination 의 "lng,lat" → {lat, lng} 교차 배열. NaN·무한대·범위 밖 좌표는 400. */
+    private static double[] stops(String origin, String waypoints, String destination) {
+        List<String> points = new ArrayList<>();
+        points.add(origin);
+        if (waypoints != null && !waypoints.isBlank()) {
+            points.addAll(Arrays.asList(waypoints.split("\\|")));
+        }
+        points.add(destination);
+
+        double[] stops = new double[points.size() * 2];
+        for (int i = 0; i < points.size(); i++) {
+            String[] lngLat = points.get(i).split(",");
+            try {
+                if (lngLat.length != 2) {
+                    throw new NumberFormatException();
+                }
+                stops[i * 2] = Double.parseDouble(lngLat[1].trim());
+                stops[i * 2 + 1] = Double.parseDouble(lngLat[0].trim());
+            } catch (NumberFormatException e) {
+                throw new BusinessException(ErrorCode.BAD_REQUEST, "좌표는 lng,lat 형식이어야 합니다: " + points.get(i));
+            }
+            if (!isValidCoordinate(stops[i * 2], stops[i * 2 + 1])) {
+                throw new BusinessException(ErrorCode.BAD_REQUEST,
+                        "좌표 범위를 벗어났습니다 (위도 -90~90, 경도 -180~180): " + points.get(i));
+            }
+        }
+        return stops;
+    }
+
+    /** Double.parseDouble 은 "NaN"·"Infinity" 도 받으므로 유한 값인지 함께 확인. */
+    private static boolean isValidCoordinate(double lat, double lng) {
+        return Double.isFinite(lat) && Double.isFinite(lng) && Math.abs(lat) <= 90 && Math.abs(lng) <= 180;
+    }
+
+    /** {lat, lng} 교차 배열 → Kakao vertexes 형식 {lng, lat} 교차 배열. */
+    private static double[] lngLatVertexes(double[] coordinates) {
+        double[] vertexes = new double[coordinates.length];
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            vertexes[i] = coordinates[i + 1];
+            vertexes[i + 1] = coordinates[i];
+        }
+        return vertexes;
     }
 }
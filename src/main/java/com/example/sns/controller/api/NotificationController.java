@@ -1,19 +1,23 @@
 package com.example.sns.controller.api;
 
-import java.util.List;
-
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.example.sns.dto.response.NotificationResponse;
+import com.example.sns.dto.response.NotificationPageResponse;
+import com.example.sns.dto.response.UnreadCountResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
 import com.example.sns.service.AuthService;
 import com.example.sns.service.NotificationService;
+import com.example.sns.service.notification.NotificationEmitterRegistry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,27 +28,62 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final AuthService authService;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
 
+    /**
+     * 알림함 (최신순, 커서 페이징). 다음 페이지는 응답의 nextCursor 를 cursor 로 전달.
+     */
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getMyNotifications(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = authService.getCurrentUser(userDetails.getUsername()).getId();
-        return ResponseEntity.ok(notificationService.getByUser(userId));
+    public ResponseEntity<NotificationPageResponse> getMyNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + NotificationService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(notificationService.getInbox(currentUserId(), cursor, size));
+    }
+
+    /**
+     * 안 읽은 알림 수 (알림 배지).
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadCountResponse> getUnreadCount() {
+        return ResponseEntity.ok(new UnreadCountResponse(notificationService.getUnreadCount(currentUserId())));
+    }
+
+    /**
+     * 알림 SSE 스트림. 이벤트: notification(id=알림 ID), unread-count.
+     * 재연결 시 Last-Event-ID 이후 알림을 먼저 재전송.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationEmitterRegistry.connect(currentUserId(), parseLastEventId(lastEventId));
     }
 
     @PostMapping("/{id}/read")
-    public ResponseEntity<Void> markAsRead(@PathVariable Long id,
-                                           @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = authService.getCurrentUser(userDetails.getUsername()).getId();
-        notificationService.markAsRead(id, userId);
+    public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
+        notificationService.markAsRead(id, currentUserId());
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/read-all")
-    public ResponseEntity<Void> markAllAsRead(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = authService.getCurrentUser(userDetails.getUsername()).getId();
-        notificationService.markAllAsRead(userId);
+    public ResponseEntity<Void> markAllAsRead() {
+        notificationService.markAllAsRead(currentUserId());
         return ResponseEntity.ok().build();
     }
+
+    /** JwtAuthenticationFilter는 User 엔티티를 principal로 설정하므로 AuthService로 조회. */
+    private Long currentUserId() {
+        return authService.getCurrentUserEntity()
+                .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED))
+                .getId();
+    }
+
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -11,12 +11,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.sns.dto.request.SavedRouteCreateRequest;
 import com.example.sns.dto.response.SavedRouteResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
 import com.example.sns.service.AuthService;
 import com.example.sns.service.SavedRouteService;
+import com.example.sns.util.polyline.RoutePathFormat;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -31,9 +35,10 @@ public class SavedRouteController {
 
     @GetMapping
     public ResponseEntity<List<SavedRouteResponse>> getMyRoutes(
+            @RequestParam(defaultValue = "coords") String format,
             @AuthenticationPrincipal UserDetails userDetails) {
         Long userId = authService.getCurrentUser(userDetails.getUsername()).getId();
-        return ResponseEntity.ok(savedRouteService.getByUser(userId));
+        return ResponseEntity.ok(savedRouteService.getByUser(userId, pathFormat(format)));
     }
 
     @PostMapping
@@ -51,4 +56,12 @@ public class SavedRouteController {
         savedRouteService.delete(id, userId);
         return ResponseEntity.ok().build();
     }
+
+    private static RoutePathFormat pathFormat(String format) {
+        try {
+            return RoutePathFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "format 은 coords 또는 polyline 이어야 합니다.");
+        }
+    }
 }
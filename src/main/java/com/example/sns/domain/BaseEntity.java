@@ -1,6 +1,7 @@
 package com.example.sns.domain;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
@@ -19,13 +20,17 @@ public abstract class BaseEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * DB 컬럼 정밀도(DATETIME(6))에 맞춰 마이크로초로 절삭.
+     * 영속성 컨텍스트의 값과 저장값이 달라 커서(createdAt, id) 비교가 어긋나는 것을 방지.
+     */
     protected void onCreate() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         this.createdAt = now;
         this.updatedAt = now;
     }
 
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,37 @@
+package com.example.sns.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 주소(SHA-256) 기반 이미지 blob — 같은 내용은 한 번만 저장하고 참조 수로 공유.
+ *
+ * <p>참조 수 증감·생성은 ImageBlobRepository 의 원자적 쿼리로만 수행 (동시 업로드·삭제 시 lost update 방지).
+ * 참조 수가 0 이 된 blob 만 행·파일을 삭제한다.
+ */
+@Entity
+@Table(name = "image_blobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageBlob extends BaseEntity {
+
+    /** 내용 SHA-256 (hex 64자). */
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    /** basePath 기준 상대 저장 경로 (blobs/ab/{hash}.ext). */
+    @Column(name = "storage_path", nullable = false, unique = true, length = 200)
+    private String storagePath;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+}
@@ -1,5 +1,7 @@
 package com.example.sns.domain;
 
+import java.time.LocalDateTime;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -19,6 +21,7 @@ import lombok.NoArgsConstructor;
  *
  * ERD: ImagePost (user_id FK, pin_id FK nullable, title, content, image_url, latitude, longitude, notice).
  * Step 9: 이미지+텍스트 게시글, image_url 저장 경로.
+ * 이미지 가로·세로·촬영 시각은 업로드 시 헤더(EXIF)에서 추출 — 목록 레이아웃 자리 확보·촬영일 표시용.
  */
 @Entity
 @Table(name = "image_posts")
@@ -53,6 +56,18 @@ public class ImagePost extends BaseEntity {
     @Column
     private Double longitude;
 
+    /** 표시 기준 이미지 가로 픽셀 (EXIF 방향 반영). 알 수 없으면 null. */
+    @Column(name = "image_width")
+    private Integer imageWidth;
+
+    /** 표시 기준 이미지 세로 픽셀 (EXIF 방향 반영). 알 수 없으면 null. */
+    @Column(name = "image_height")
+    private Integer imageHeight;
+
+    /** 촬영 시각 (EXIF DateTimeOriginal 등, 카메라 로컬 시각). 없으면 null. */
+    @Column(name = "captured_at")
+    private LocalDateTime capturedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "pin_id")
     private Pin pin;
@@ -62,7 +77,8 @@ public class ImagePost extends BaseEntity {
 
     @Builder
     public ImagePost(User author, String title, String content, String imageStoragePath,
-                     Double latitude, Double longitude, Pin pin) {
+                     Double latitude, Double longitude, Pin pin,
+                     Integer imageWidth, Integer imageHeight, LocalDateTime capturedAt) {
         this.author = author;
         this.title = title;
         this.content = content;
@@ -70,6 +86,9 @@ public class ImagePost extends BaseEntity {
         this.latitude = latitude;
         this.longitude = longitude;
         this.pin = pin;
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+        this.capturedAt = capturedAt;
         onCreate();
     }
 
@@ -96,6 +115,15 @@ public class ImagePost extends BaseEntity {
         onUpdate();
     }
 
+    /**
+     * 이미지 교체 시 이미지 메타데이터(가로·세로·촬영 시각) 갱신.
+     */
+    public void updateImageMetadata(Integer imageWidth, Integer imageHeight, LocalDateTime capturedAt) {
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+        this.capturedAt = capturedAt;
+    }
+
     public boolean isAuthor(User user) {
         return user != null && author != null && author.getId().equals(user.getId());
     }
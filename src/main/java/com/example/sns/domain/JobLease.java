@@ -0,0 +1,63 @@
+package com.example.sns.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클러스터 단위 작업 임대(lease). 정기 작업을 노드 중 하나만 실행하도록 이름별로 1행.
+ *
+ * <p>lockedUntil 이 지나면 만료 — 실행 중 노드가 죽어도 다음 실행에서 다른 노드가 가져간다.
+ * 생성은 항상 INSERT (Persistable) — 동시 생성 시 merge 로 다른 노드의 행을 덮어쓰지 않고 PK 충돌로 실패.
+ */
+@Entity
+@Table(name = "job_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease implements Persistable<String> {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Transient
+    private boolean isNew;
+
+    public JobLease(String name, String owner, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.owner = owner;
+        this.lockedUntil = lockedUntil;
+        this.isNew = true;
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        this.isNew = false;
+    }
+}
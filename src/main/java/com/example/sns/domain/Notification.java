@@ -1,6 +1,11 @@
 package com.example.sns.domain;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -8,15 +13,27 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 알림 엔티티.
+ *
+ * <p>알림함은 (user_id, created_at) 인덱스 기반 커서 페이징으로 조회. 보관 정리는 (created_at, id) 인덱스.
+ * 같은 게시글에 대한 안 읽은 좋아요 알림은 1건으로 병합 (actorCount, 같은 행위자는 1회만 집계).
+ * 저장된 알림에 병합할 때는 새 id·createdAt 의 알림으로 대체 — SSE Last-Event-ID 재전송·커서 페이징에 노출.
+ */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_notifications_created", columnList = "created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseEntity {
@@ -43,6 +60,20 @@ public class Notification extends BaseEntity {
     @Column(nullable = false)
     private boolean isRead = false;
 
+    /** 묶인 행위자 수. 좋아요 알림 병합 시 증가 ("fromUser 외 actorCount-1명"). */
+    @Column(name = "actor_count", nullable = false)
+    private int actorCount = 1;
+
+    /** 병합된 행위자 userId (fromUser 포함). 병합이 처음 일어날 때 채운다 — 병합 없는 알림은 행 없음. */
+    @ElementCollection
+    @CollectionTable(name = "notification_actors", joinColumns = @JoinColumn(name = "notification_id"))
+    @Column(name = "actor_id", nullable = false)
+    private Set<Long> actorIds = new HashSet<>();
+
+    /** 이 알림이 대체한 이전 병합 알림 id (응답 전용, 클라이언트가 이전 항목을 제거). */
+    @Transient
+    private Long replacedId;
+
     public Notification(User user, NotificationType type, User fromUser, Long postId) {
         this.user = user;
         this.type = type;
@@ -51,8 +82,57 @@ public class Notification extends BaseEntity {
         onCreate();
     }
 
+    /**
+     * 실효 읽음 여부. 개별 읽음 또는 사용자 읽음 워터마크 이하.
+     *
+     * @param readWatermarkId 수신자의 읽음 워터마크 (UserNotificationState)
+     */
+    public boolean isReadAt(long readWatermarkId) {
+        return isRead || id <= readWatermarkId;
+    }
+
+    /**
+     * 읽음 처리.
+     */
     public void markAsRead() {
         this.isRead = true;
         onUpdate();
     }
+
+    /**
+     * 이미 집계된 행위자인지. 좋아요 → 취소 → 좋아요를 반복한 같은 사용자를 다시 세지 않기 위함.
+     */
+    public boolean hasActor(Long actorId) {
+        return fromUser.getId().equals(actorId) || actorIds.contains(actorId);
+    }
+
+    /**
+     * 행위자 병합 (아직 저장 전인 알림). 최근 행위자를 대표로 노출하고 행위자 수를 1 늘린다.
+     * 호출 전 {@link #hasActor} 로 중복 행위자를 걸러야 한다.
+     *
+     * @param latestActor 가장 최근 행위자
+     */
+    public void coalesce(User latestActor) {
+        if (actorIds.isEmpty()) {
+            actorIds.add(fromUser.getId());
+        }
+        actorIds.add(latestActor.getId());
+        this.fromUser = latestActor;
+        this.actorCount++;
+        onUpdate();
+    }
+
+    /**
+     * 저장된 알림에 행위자를 병합한 대체 알림 (새 id·createdAt). 호출 측이 이 알림을 삭제하고 반환값을 저장.
+     *
+     * @param latestActor 가장 최근 행위자
+     */
+    public Notification supersede(User latestActor) {
+        Notification next = new Notification(user, type, fromUser, postId);
+        next.actorIds.addAll(actorIds);
+        next.actorCount = actorCount;
+        next.replacedId = id;
+        next.coalesce(latestActor);
+        return next;
+    }
 }
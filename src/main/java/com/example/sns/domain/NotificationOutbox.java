@@ -0,0 +1,56 @@
+package com.example.sns.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 outbox 항목 (transactional outbox).
+ *
+ * <p>팔로우·좋아요 트랜잭션 안에서 ID 만 기록하고, NotificationDispatcher 가 배치로 알림을 생성한 뒤 삭제한다.
+ * 사용자 조회·연관관계가 없어 원 트랜잭션 비용은 INSERT 1건.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationType type;
+
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public NotificationOutbox(Long recipientId, NotificationType type, Long actorId, Long postId) {
+        this.recipientId = recipientId;
+        this.type = type;
+        this.actorId = actorId;
+        this.postId = postId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
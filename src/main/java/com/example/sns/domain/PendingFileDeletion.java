@@ -0,0 +1,62 @@
+package com.example.sns.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파일 삭제 대기열 항목 (transactional outbox).
+ *
+ * <p>파일 참조를 해제한 트랜잭션 안에서 기록하므로 롤백되면 항목도 사라져 파일이 삭제되지 않는다.
+ * FileDeletionWorker 가 커밋 후 배치로 파일을 삭제하고, 실패 시 지수 backoff 로 재시도한다.
+ */
+@Entity
+@Table(name = "pending_file_deletions", indexes = {
+        @Index(name = "idx_pending_file_deletions_next_attempt", columnList = "next_attempt_at"),
+        @Index(name = "idx_pending_file_deletions_storage_key", columnList = "storage_key")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingFileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "storage_key", nullable = false, length = 200)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public PendingFileDeletion(String storageKey) {
+        this.storageKey = storageKey;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 삭제 실패 기록 후 재시도 예약. 대기 시간은 시도마다 2배 (maxBackoff 상한).
+     */
+    public void retryLater(Duration initialBackoff, Duration maxBackoff) {
+        attempts++;
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+}
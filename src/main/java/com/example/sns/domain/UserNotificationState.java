@@ -0,0 +1,34 @@
+package com.example.sns.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 알림 상태 (비정규화).
+ *
+ * <p>안 읽은 알림 수를 알림 생성·읽음 처리 시 함께 갱신하여 배지 조회를 O(1) 단건 조회로 만든다.
+ * 갱신은 UserNotificationStateRepository의 원자적 UPDATE로만 수행 (동시 알림 생성 시 lost update 방지).
+ * "모두 읽음"은 알림 행을 갱신하지 않고 읽음 워터마크만 기록한다 (실효 읽음 = isRead || id <= 워터마크).
+ */
+@Entity
+@Table(name = "user_notification_states")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserNotificationState extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    /** 읽음 워터마크: 이 ID 이하 알림은 모두 읽음으로 간주 ("모두 읽음" 1회 기록). */
+    @Column(name = "read_watermark_id", nullable = false)
+    private long readWatermarkId;
+}
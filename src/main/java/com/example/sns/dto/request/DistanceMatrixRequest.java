@@ -0,0 +1,41 @@
+package com.example.sns.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 거리 행렬 조회 요청. 출발지 N × 목적지 M 모든 쌍의 거리를 한 번에 조회.
+ * 좌표 수 상한은 app.map.directions.matrix.max-locations.
+ *
+ * @param road          true 면 직선 거리에 더해 도로 거리도 조회 (쌍 수 상한 적용)
+ * @param transportMode 도로 거리 이동수단: WALK|BIKE|CAR (기본 CAR)
+ * @param routeType     도로 거리 경로 유형: RECOMMEND|MAIN_ROAD|NO_STAIRS (기본 RECOMMEND)
+ */
+public record DistanceMatrixRequest(
+        @NotEmpty(message = "출발지는 1개 이상이어야 합니다.")
+        List<@Valid @NotNull Point> origins,
+
+        @NotEmpty(message = "목적지는 1개 이상이어야 합니다.")
+        List<@Valid @NotNull Point> destinations,
+
+        boolean road,
+        String transportMode,
+        String routeType
+) {
+
+    public record Point(
+            @NotNull(message = "위도는 필수입니다.")
+            @DecimalMin("-90") @DecimalMax("90")
+            Double lat,
+
+            @NotNull(message = "경도는 필수입니다.")
+            @DecimalMin("-180") @DecimalMax("180")
+            Double lng
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.sns.dto.response;
+
+import java.util.List;
+
+/**
+ * 고아 이미지 파일 GC 실행 결과.
+ *
+ * @param dryRun        true 면 격리·삭제 없이 보고만 함
+ * @param scanned       검사한 저장소 항목 수
+ * @param orphans       고아로 판정된 항목 수
+ * @param orphanBytes   고아 항목 총 크기
+ * @param quarantined   격리(quarantine/)로 이동한 항목 수
+ * @param purged        삭제한 항목 수 (유예 기간이 지난 격리 항목·오래된 임시 파일)
+ * @param failed        격리·삭제·순회 실패 수 (다음 실행에서 재시도)
+ * @param sampleOrphans 고아 항목 키 일부 (최대 100개)
+ * @param elapsedMs     소요 시간(ms)
+ */
+public record ImageGcReportResponse(
+        boolean dryRun,
+        long scanned,
+        long orphans,
+        long orphanBytes,
+        long quarantined,
+        long purged,
+        long failed,
+        List<String> sampleOrphans,
+        long elapsedMs
+) {
+}
@@ -3,12 +3,15 @@ package com.example.sns.dto.response;
 import java.time.LocalDateTime;
 
 import com.example.sns.domain.ImagePost;
+import com.example.sns.service.image.ImageAsset;
 
 /**
  * 이미지 게시글 응답 DTO.
  *
  * RULE 3.3: 엔티티 직접 반환 금지.
- * API 명세 ImagePostResponse. imageUrl은 클라이언트용 URL (/api/image-posts/{id}/image).
+ * API 명세 ImagePostResponse. imageUrl은 클라이언트용 버전 URL (/api/image-posts/{id}/image?v={버전}).
+ * 이미지가 교체되면 버전이 바뀌므로 클라이언트·CDN 은 URL 단위로 영구 캐시할 수 있다.
+ * imageWidth/imageHeight 는 표시 기준 크기(로딩 전 레이아웃 자리 확보용), capturedAt 은 EXIF 촬영 시각 (없으면 null).
  */
 public record ImagePostResponse(
         Long id,
@@ -17,8 +20,11 @@ public record ImagePostResponse(
         String title,
         String content,
         String imageUrl,
+        Integer imageWidth,
+        Integer imageHeight,
         Double latitude,
         Double longitude,
+        LocalDateTime capturedAt,
         Long pinId,
         boolean notice,
         LocalDateTime createdAt,
@@ -26,10 +32,11 @@ public record ImagePostResponse(
 ) {
 
     /**
-     * 엔티티에서 응답 DTO 생성. imageUrl은 /api/image-posts/{id}/image 형태.
+     * 엔티티에서 응답 DTO 생성. imageUrl은 /api/image-posts/{id}/image?v={버전} 형태.
      */
     public static ImagePostResponse from(ImagePost post) {
-        String imageUrl = "/api/image-posts/" + post.getId() + "/image";
+        String imageUrl = "/api/image-posts/" + post.getId() + "/image?v="
+                + ImageAsset.versionOf(post.getImageStoragePath());
         return new ImagePostResponse(
                 post.getId(),
                 post.getAuthor().getId(),
@@ -37,8 +44,11 @@ public record ImagePostResponse(
                 post.getTitle(),
                 post.getContent(),
                 imageUrl,
+                post.getImageWidth(),
+                post.getImageHeight(),
                 post.getLatitude(),
                 post.getLongitude(),
+                post.getCapturedAt(),
                 post.getPin() != null ? post.getPin().getId() : null,
                 post.isNotice(),
                 post.getCreatedAt(),
@@ -0,0 +1,13 @@
+package com.example.sns.dto.response;
+
+import java.util.List;
+
+/**
+ * 알림함 커서 페이지 응답.
+ *
+ * @param content    알림 목록 (최신순)
+ * @param nextCursor 다음 페이지 조회용 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record NotificationPageResponse(List<NotificationResponse> content, String nextCursor, boolean hasNext) {
+}
@@ -3,7 +3,11 @@ package com.example.sns.dto.response;
 import java.time.LocalDateTime;
 
 import com.example.sns.domain.Notification;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+/**
+ * 알림 응답. replacedId 는 병합으로 대체된 이전 알림 id (있을 때만 노출).
+ */
 public record NotificationResponse(
         Long id,
         Long userId,
@@ -13,10 +17,19 @@ public record NotificationResponse(
         String fromUserProfilePic,
         Long postId,
         boolean isRead,
-        LocalDateTime createdAt
+        int actorCount,
+        LocalDateTime createdAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long replacedId
 ) {
 
     public static NotificationResponse from(Notification n) {
+        return from(n, 0L);
+    }
+
+    /**
+     * 수신자 읽음 워터마크를 반영한 응답 (워터마크 이하 알림은 읽음).
+     */
+    public static NotificationResponse from(Notification n, long readWatermarkId) {
         return new NotificationResponse(
                 n.getId(),
                 n.getUser().getId(),
@@ -25,8 +38,10 @@ public record NotificationResponse(
                 n.getFromUser().getNickname(),
                 n.getFromUser().getProfilePic(),
                 n.getPostId(),
-                n.isRead(),
-                n.getCreatedAt()
+                n.isReadAt(readWatermarkId),
+                n.getActorCount(),
+                n.getCreatedAt(),
+                n.getReplacedId()
         );
     }
 }
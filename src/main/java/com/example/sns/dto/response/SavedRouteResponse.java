@@ -16,13 +16,16 @@ public record SavedRouteResponse(
         LocalDateTime createdAt
 ) {
 
-    public static SavedRouteResponse from(SavedRoute r) {
+    /**
+     * @param path 응답 형식(좌표 JSON·Encoded Polyline)으로 변환한 경로
+     */
+    public static SavedRouteResponse from(SavedRoute r, String path) {
         return new SavedRouteResponse(
                 r.getId(),
                 r.getUser().getId(),
                 r.getName(),
                 r.getPoints(),
-                r.getPath(),
+                path,
                 r.getDistance(),
                 r.getDuration(),
                 r.getTransportMode(),
@@ -0,0 +1,9 @@
+package com.example.sns.dto.response;
+
+/**
+ * 안 읽은 알림 수 응답.
+ *
+ * @param count 안 읽은 알림 수
+ */
+public record UnreadCountResponse(long count) {
+}
@@ -20,6 +20,7 @@ public enum ErrorCode {
     INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "E008", "허용되지 않는 파일 형식입니다."),
     FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "E009", "파일 크기가 허용 범위를 초과했습니다."),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "E010", "파일 저장에 실패했습니다."),
+    OPERATION_IN_PROGRESS(HttpStatus.CONFLICT, "E011", "이미 진행 중인 작업입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E999", "서버 내부 오류가 발생했습니다."),
     /** RULE 1.9, Step 18: Rate Limiting 초과 시 429 + Retry-After */
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "E429", "요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요.");
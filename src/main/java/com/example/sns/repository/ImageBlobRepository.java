@@ -0,0 +1,83 @@
+package com.example.sns.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.sns.domain.ImageBlob;
+
+/**
+ * 이미지 blob Repository.
+ *
+ * 참조 수는 원자적 UPDATE·UPSERT 로만 변경 (read-modify-write 금지).
+ */
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    Optional<ImageBlob> findByStoragePath(String storagePath);
+
+    /**
+     * 현재 참조 상태 (저장 경로·참조 수). 엔티티가 아닌 스칼라 조회라 영속성 컨텍스트 캐시를 거치지 않음.
+     */
+    @Query("SELECT b.storagePath AS storagePath, b.refCount AS refCount FROM ImageBlob b WHERE b.hash = :hash")
+    Optional<BlobRef> findRefByHash(@Param("hash") String hash);
+
+    /**
+     * 참조 추가. 없으면 참조 수 1로 생성. MySQL·H2(MODE=MySQL) 호환.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO image_blobs (hash, storage_path, size_bytes, ref_count, created_at, updated_at)
+            VALUES (:hash, :storagePath, :sizeBytes, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int acquire(@Param("hash") String hash, @Param("storagePath") String storagePath,
+                @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * 참조 해제 (0 미만으로 내려가지 않음).
+     *
+     * @return 갱신된 행 수 (blob 이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = CASE WHEN b.refCount > 0 THEN b.refCount - 1 ELSE 0 END, "
+            + "b.updatedAt = CURRENT_TIMESTAMP WHERE b.storagePath = :storagePath")
+    int release(@Param("storagePath") String storagePath);
+
+    /**
+     * 참조 수 0 인 blob 행 삭제. 그 사이 다시 참조되었으면 삭제하지 않음.
+     *
+     * @return 삭제된 행 수 (1이면 파일 삭제 대상)
+     */
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.storagePath = :storagePath AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("storagePath") String storagePath);
+
+    /**
+     * 참조 중인 blob 경로 keyset 순회 (고아 파일 GC 의 참조 집합 구성). 경로 오름차순.
+     */
+    @Query("SELECT b.storagePath FROM ImageBlob b WHERE b.refCount > 0 AND b.storagePath > :after "
+            + "ORDER BY b.storagePath")
+    List<String> findReferencedStoragePathsAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * 주어진 경로 중 참조 중인 blob 경로.
+     */
+    @Query("SELECT b.storagePath FROM ImageBlob b WHERE b.refCount > 0 AND b.storagePath IN :paths")
+    List<String> findReferencedStoragePaths(@Param("paths") Collection<String> paths);
+
+    /**
+     * blob 참조 상태 projection.
+     */
+    interface BlobRef {
+
+        String getStoragePath();
+
+        long getRefCount();
+    }
+}
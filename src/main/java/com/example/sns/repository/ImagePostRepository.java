@@ -1,6 +1,7 @@
 package com.example.sns.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -73,4 +74,27 @@ public interface ImagePostRepository extends JpaRepository<ImagePost, Long> {
     @Query(value = "SELECT DATE(created_at), COUNT(*) FROM image_posts WHERE created_at BETWEEN :start AND :end GROUP BY DATE(created_at)",
             nativeQuery = true)
     List<Object[]> countByCreatedAtBetweenGroupByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 이미지 저장 경로 keyset 순회 (고아 파일 GC 의 참조 집합 구성). id 오름차순.
+     */
+    @Query("SELECT p.id AS id, p.imageStoragePath AS storagePath FROM ImagePost p "
+            + "WHERE p.id > :afterId ORDER BY p.id")
+    List<StoragePathRow> findStoragePathsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 주어진 경로 중 게시글이 참조하는 경로.
+     */
+    @Query("SELECT DISTINCT p.imageStoragePath FROM ImagePost p WHERE p.imageStoragePath IN :paths")
+    List<String> findReferencedStoragePaths(@Param("paths") Collection<String> paths);
+
+    /**
+     * 저장 경로 projection.
+     */
+    interface StoragePathRow {
+
+        Long getId();
+
+        String getStoragePath();
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.sns.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.sns.domain.JobLease;
+
+/**
+ * 작업 임대 Repository. 획득·해제는 조건부 단건 UPDATE (행 잠금은 문장 실행 동안만).
+ */
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 만료된(또는 이미 내 것인) 임대를 가져온다.
+     *
+     * @return 1 이면 획득, 0 이면 다른 노드가 보유 중이거나 행 없음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.lockedUntil = :until "
+            + "WHERE l.name = :name AND (l.lockedUntil < :now OR l.owner = :owner)")
+    int claim(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("until") LocalDateTime until);
+
+    /**
+     * 내 임대를 즉시 만료시킨다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLease l SET l.lockedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,28 @@
+package com.example.sns.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.example.sns.domain.NotificationOutbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * 알림 outbox Repository.
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 처리할 outbox 배치 (오래된 순). 행 잠금 + SKIP LOCKED (lock.timeout=-2)로 다중 노드가 같은 행을 중복 처리하지 않음.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o ORDER BY o.id ASC")
+    List<NotificationOutbox> findBatchForUpdate(Pageable pageable);
+}
@@ -1,20 +1,86 @@
 package com.example.sns.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.sns.domain.Notification;
-import com.example.sns.domain.User;
 
+/**
+ * 알림 Repository.
+ *
+ * 알림함: (user_id, created_at) 인덱스 기반 keyset(커서) 페이징. fromUser는 fetch join (N+1 방지).
+ * 읽음 여부는 isRead 와 사용자 읽음 워터마크(UserNotificationState)를 함께 본다.
+ */
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findByUserOrderByCreatedAtDesc(User user);
+    /**
+     * 알림함 첫 페이지 (최신순).
+     */
+    @Query("SELECT n FROM Notification n JOIN FETCH n.fromUser WHERE n.user.id = :userId "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInbox(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * 알림함 다음 페이지 — 커서(createdAt, id) 이전 알림 (최신순).
+     */
+    @Query("SELECT n FROM Notification n JOIN FETCH n.fromUser WHERE n.user.id = :userId "
+            + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 지정 ID 이후 알림 (오래된 순). SSE Last-Event-ID 재전송용.
+     */
+    @EntityGraph(attributePaths = "fromUser")
+    List<Notification> findByUser_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
+    /**
+     * 실효 안 읽은 알림 수 (개별 읽음 제외, 읽음 워터마크 초과분). 카운터 초기화용.
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false "
+            + "AND n.id > :readWatermarkId")
+    long countUnread(@Param("userId") Long userId, @Param("readWatermarkId") long readWatermarkId);
+
+    /**
+     * 개별 읽음: 안 읽은 알림(개별 읽음·워터마크 이하 아님)일 때만 읽음으로 바꾸는 조건부 UPDATE.
+     * 동시 요청 중 1건만 1 을 받으므로 안 읽은 알림 수 카운터를 한 번만 줄인다.
+     *
+     * @return 안 읽음 → 읽음으로 바뀐 행 수 (0 또는 1)
+     */
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
-    void markAllAsRead(@Param("userId") Long userId);
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false AND n.id > "
+            + "COALESCE((SELECT s.readWatermarkId FROM UserNotificationState s WHERE s.userId = :userId), 0)")
+    int markAsRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 보관 기간이 지난 읽은 알림 ID (afterId 초과, id 오름차순). 읽음 = 개별 읽음 또는 수신자 워터마크 이하.
+     * afterId 키셋으로 이전 배치가 훑은 구간(삭제 불가한 안 읽은 알림 포함)을 다시 읽지 않는다.
+     * 워터마크는 상태 테이블 조인 1회 (행별 상관 서브쿼리 없음).
+     */
+    @Query("SELECT n.id FROM Notification n LEFT JOIN UserNotificationState s ON s.userId = n.user.id "
+            + "WHERE n.id > :afterId AND n.createdAt < :cutoff "
+            + "AND (n.isRead = true OR n.id <= COALESCE(s.readWatermarkId, 0)) ORDER BY n.id ASC")
+    List<Long> findExpiredReadIds(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") long afterId,
+                                  Pageable pageable);
+
+    /**
+     * 병합 대상 좋아요 알림: 지정 수신자·게시글의 안 읽은 LIKE 알림 중 since 이후 생성분 (최신순).
+     */
+    @Query("SELECT n FROM Notification n WHERE n.type = com.example.sns.domain.NotificationType.LIKE "
+            + "AND n.isRead = false AND n.createdAt >= :since AND n.id > "
+            + "COALESCE((SELECT s.readWatermarkId FROM UserNotificationState s WHERE s.userId = n.user.id), 0) "
+            + "AND n.user.id IN :recipientIds AND n.postId IN :postIds ORDER BY n.id DESC")
+    List<Notification> findCoalescibleLikes(@Param("recipientIds") Collection<Long> recipientIds,
+                                            @Param("postIds") Collection<Long> postIds,
+                                            @Param("since") LocalDateTime since);
 }
@@ -0,0 +1,41 @@
+package com.example.sns.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.sns.domain.PendingFileDeletion;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * 파일 삭제 대기열 Repository.
+ */
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    /**
+     * 재시도 시각이 된 항목 배치 (오래된 순). 행 잠금 + SKIP LOCKED (lock.timeout=-2)로 다중 노드 중복 처리 방지.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM PendingFileDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.id ASC")
+    List<PendingFileDeletion> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 키의 삭제 대기 취소 (같은 내용이 다시 업로드되어 파일이 다시 필요해진 경우).
+     * 작업자가 처리 중인 행이면 그 트랜잭션이 끝날 때까지 대기 — 삭제 후 재기록 순서 보장.
+     *
+     * @return 취소된 항목 수
+     */
+    @Modifying
+    @Query("DELETE FROM PendingFileDeletion d WHERE d.storageKey = :storageKey")
+    int deleteByStorageKey(@Param("storageKey") String storageKey);
+}
@@ -0,0 +1,62 @@
+package com.example.sns.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.sns.domain.UserNotificationState;
+
+/**
+ * 사용자별 알림 상태 Repository.
+ *
+ * 안 읽은 알림 수는 원자적 UPDATE로만 증감 (read-modify-write 금지).
+ */
+public interface UserNotificationStateRepository extends JpaRepository<UserNotificationState, Long> {
+
+    /**
+     * 안 읽은 알림 수 증가.
+     *
+     * @return 갱신된 행 수 (상태 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE UserNotificationState s SET s.unreadCount = s.unreadCount + :delta, s.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE s.userId = :userId")
+    int incrementUnread(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 안 읽은 알림 수 감소 (0 미만으로 내려가지 않음).
+     */
+    @Modifying
+    @Query("UPDATE UserNotificationState s SET s.unreadCount = CASE WHEN s.unreadCount > :delta "
+            + "THEN s.unreadCount - :delta ELSE 0 END, s.updatedAt = CURRENT_TIMESTAMP WHERE s.userId = :userId")
+    int decrementUnread(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 모두 읽음: 읽음 워터마크를 사용자의 최신 알림 ID 로 올리고 안 읽은 알림 수 0 (단건 UPDATE).
+     * 최신 알림 ID 는 (user_id, created_at) 인덱스로 조회.
+     */
+    @Modifying
+    @Query("UPDATE UserNotificationState s SET s.unreadCount = 0, s.readWatermarkId = "
+            + "(SELECT COALESCE(MAX(n.id), 0) FROM Notification n WHERE n.user.id = :userId), "
+            + "s.updatedAt = CURRENT_TIMESTAMP WHERE s.userId = :userId")
+    int markAllRead(@Param("userId") Long userId);
+
+    @Query("SELECT s.readWatermarkId FROM UserNotificationState s WHERE s.userId = :userId")
+    Optional<Long> findReadWatermarkId(@Param("userId") Long userId);
+
+    /**
+     * 상태 행 최초 생성 (기존 알림 이력 집계값으로 초기화). 동시 생성 시 중복 키는 증가로 처리.
+     * MySQL·H2(MODE=MySQL) 호환.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_notification_states (user_id, unread_count, read_watermark_id, created_at, updated_at)
+            VALUES (:userId, :unreadCount, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE unread_count = unread_count + :delta
+            """, nativeQuery = true)
+    int initialize(@Param("userId") Long userId, @Param("unreadCount") long unreadCount,
+                   @Param("delta") long delta);
+}
@@ -29,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 로그인·회원가입·토큰 갱신·비인증 공개 API에 IP 기준 제한 적용.
  * 초과 시 429 Too Many Requests + Retry-After 헤더 반환.
+ * 요청 1건이 외부 호출 여러 건으로 이어지는 API 는 {@link #tryConsumeAdditional} 로 같은 버킷에서 추가 차감.
  */
 @Slf4j
 @Component
@@ -41,6 +42,9 @@ public class RateLimitFilter extends OncePerRequestFilter {
             "POST:/api/members",
             "POST:/api/auth/refresh");
 
+    /** 이 요청이 차감된 버킷 (추가 차감용 요청 속성). */
+    public static final String BUCKET_ATTRIBUTE = RateLimitFilter.class.getName() + ".bucket";
+
     private final RateLimitProperties props;
     private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
 
@@ -56,6 +60,9 @@ public class RateLimitFilter extends OncePerRequestFilter {
         if (AUTH_RATE_LIMIT_PATHS.contains(method + ":" + path)) {
             return true;
         }
+        if ("POST".equals(method) && "/api/map/matrix".equals(path)) {
+            return true;
+        }
         if (!"GET".equals(method)) {
             return false;
         }
@@ -98,9 +105,22 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
+        request.setAttribute(BUCKET_ATTRIBUTE, bucket);
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 필터가 차감한 1건 외에 같은 버킷에서 tokens 만큼 추가 차감.
+     *
+     * @return 차감 성공 또는 제한 대상이 아닌 요청이면 true, 한도 초과면 false (차감 없음)
+     */
+    public static boolean tryConsumeAdditional(HttpServletRequest request, long tokens) {
+        if (tokens <= 0 || !(request.getAttribute(BUCKET_ATTRIBUTE) instanceof Bucket bucket)) {
+            return true;
+        }
+        return bucket.tryConsume(tokens);
+    }
+
     private Bucket bucketFor(String path, String method, String clientKey) {
         String bucketKey = bucketKey(path, method, clientKey);
         return buckets.computeIfAbsent(bucketKey, k -> buildBucket(path, method));
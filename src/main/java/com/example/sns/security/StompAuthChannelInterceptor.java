@@ -0,0 +1,94 @@
+package com.example.sns.security;
+
+import java.util.Collections;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.example.sns.domain.UserRole;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.auth.JwtService;
+import com.example.sns.service.auth.TokenStore;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP CONNECT 인증 인터셉터.
+ *
+ * <p>WebSocket 핸드셰이크는 브라우저에서 Authorization 헤더를 보낼 수 없으므로,
+ * CONNECT 프레임의 Authorization: Bearer 헤더로 JWT 검증 (JwtAuthenticationFilter와 동일 규칙).
+ * RULE 6.1: JWT 검증, jti 블랙리스트 확인.
+ * RULE 1.2: 구독은 본인 목적지(/user/**)만 허용.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String CLAIM_USER_ID = "userId";
+    private static final String CLAIM_ROLE = "role";
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+
+    private final JwtService jwtService;
+    private final TokenStore tokenStore;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)));
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            String destination = accessor.getDestination();
+            if (accessor.getUser() == null || destination == null
+                    || !destination.startsWith(USER_DESTINATION_PREFIX)) {
+                log.warn("STOMP 구독 거부: destination={}", destination);
+                throw new BusinessException(ErrorCode.FORBIDDEN);
+            }
+        }
+        return message;
+    }
+
+    /** Principal 이름 = userId (SimpMessagingTemplate.convertAndSendToUser 대상). */
+    private UsernamePasswordAuthenticationToken authenticate(String header) {
+        if (!StringUtils.hasText(header) || !header.startsWith(BEARER_PREFIX)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        try {
+            Claims claims = jwtService.parseAccessToken(header.substring(BEARER_PREFIX.length()).trim());
+            String jti = claims.getId();
+            if (jti != null && tokenStore.isBlacklisted(jti)) {
+                log.debug("STOMP CONNECT 블랙리스트된 토큰: jti={}", jti);
+                throw new BusinessException(ErrorCode.UNAUTHORIZED);
+            }
+            Object userId = claims.get(CLAIM_USER_ID);
+            if (!(userId instanceof Number num)) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED);
+            }
+            String role = claims.get(CLAIM_ROLE, String.class);
+            return new UsernamePasswordAuthenticationToken(String.valueOf(num.longValue()), null,
+                    role != null
+                            ? Collections.singletonList(new SimpleGrantedAuthority(UserRole.valueOf(role).toAuthority()))
+                            : Collections.emptyList());
+        } catch (JwtException e) {
+            log.debug("STOMP CONNECT JWT 검증 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+    }
+}
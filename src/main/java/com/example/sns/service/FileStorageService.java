@@ -1,17 +1,36 @@
 package com.example.sns.service;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.sns.config.upload.UploadProperties;
+import com.example.sns.domain.PendingFileDeletion;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
+import com.example.sns.repository.ImageBlobRepository;
+import com.example.sns.repository.PendingFileDeletionRepository;
+import com.example.sns.service.image.FileDeletionRequestedEvent;
+import com.example.sns.service.image.ImageDimensions;
+import com.example.sns.service.image.ImageFormat;
+import com.example.sns.service.image.ImageIngestStream;
+import com.example.sns.service.image.ImageMetadata;
+import com.example.sns.service.image.MetadataStrippingStream;
+import com.example.sns.service.image.UploadedImage;
+import com.example.sns.service.storage.BlobStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,89 +38,97 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 파일 저장 서비스.
  *
- * RULE 1.3: 파일 타입·크기 검증, 경로 traversal 방지.
+ * RULE 1.3: 파일 타입(magic byte)·크기·해상도 검증, 경로 traversal 방지.
  * Step 9: Multipart 검증·저장.
+ *
+ * <p>내용 주소 저장: 업로드 스트림을 임시 파일로 쓰면서 SHA-256 을 계산하고, blobs/{hash 앞 2자}/{hash}.ext 에
+ * 한 번만 저장한다. 같은 내용의 업로드는 참조 수(image_blobs)만 증가시키고, 참조 수가 0 이 될 때만 파일을 삭제.
+ * 파일명이 내용 해시이므로 같은 경로의 바이트는 바뀌지 않는다 (불변 URL·강한 ETag).
+ * 바이트 저장 위치는 {@link BlobStore} (로컬 파일시스템 | S3 호환 저장소). 해시 계산용 임시 파일만 로컬 basePath 사용.
+ *
+ * <p>JPEG 는 같은 패스에서 EXIF·XMP 를 읽어(위치·촬영 시각·방향) 반환하고, 저장본에서는 방향 외 메타데이터를 제거한다.
+ * 해시는 제거 후 바이트 기준 — 메타데이터만 다른 같은 사진은 하나의 blob 을 공유.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    private static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    /** 해상도 판별용으로 보관하는 파일 앞부분 크기 (JPEG EXIF APP1 최대 크기 수준). */
+    private static final int HEADER_CAPACITY = 64 * 1024;
+
     private final UploadProperties uploadProperties;
+    private final BlobStore blobStore;
+    private final ImageBlobRepository imageBlobRepository;
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 이미지 파일 검증 후 저장하고, 저장 경로(상대) 반환.
+     * 이미지 파일 검증 후 저장(중복 제거)하고, 저장 경로(상대)·해상도·메타데이터 반환.
+     * 검증·메타데이터 추출/제거·해시·해상도 확인·기록을 업로드 스트림 한 번 읽기로 처리 (메모리 사용은 파일 크기와 무관).
      *
      * @param file 업로드된 파일
-     * @param subDir 저장 서브디렉터리 (예: image-posts)
-     * @return DB에 저장할 경로 문자열 (basePath 내 상대 경로)
+     * @return 저장 결과 (storagePath 는 DB에 저장할 저장소 키 blobs/ab/{sha256}.ext)
      */
-    public String storeImage(MultipartFile file, String subDir) {
+    @Transactional
+    public UploadedImage storeImage(MultipartFile file) {
         validateImageFile(file);
 
         Path basePath = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize();
-        Path subPath = sanitizePathSegment(subDir);
-        Path targetDir = basePath.resolve(subPath);
-
-        try {
-            Files.createDirectories(targetDir);
-        } catch (IOException e) {
-            log.error("업로드 디렉터리 생성 실패: basePath={}", basePath);
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 디렉터리를 생성할 수 없습니다.");
-        }
-
-        String safeFilename = generateSafeFilename(file.getOriginalFilename());
-        Path targetFile = targetDir.resolve(safeFilename);
-
-        // 경로 traversal 방지: targetFile이 targetDir 내에 있는지 검증
-        if (!targetFile.normalize().startsWith(targetDir.normalize())) {
-            log.warn("경로 traversal 시도 차단: originalFilename={}", sanitizeForLog(file.getOriginalFilename()));
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
-        }
-
+        Path tempFile = createTempFile(basePath);
         try {
-            file.transferTo(targetFile.toFile());
+            IngestedImage ingested = ingest(file, tempFile);
+            String hash = ingested.hash();
+            long size = ingested.sizeBytes();
+            String candidatePath = BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash + ingested.format().extension();
+
+            imageBlobRepository.acquire(hash, candidatePath, size);
+            ImageBlobRepository.BlobRef blob = imageBlobRepository.findRefByHash(hash)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장에 실패했습니다."));
+
+            // 새 blob(참조 1)이거나 파일이 없으면 기록. 기존 blob 이면 중복 저장 생략
+            if (blob.getRefCount() == 1 || !blobStore.exists(blob.getStoragePath())) {
+                // 같은 내용이 삭제 대기 중이면 취소 (행 잠금으로 진행 중인 삭제 작업 뒤에 순서화)
+                pendingFileDeletionRepository.deleteByStorageKey(blob.getStoragePath());
+                blobStore.put(blob.getStoragePath(), tempFile, ingested.format().mimeType());
+                log.info("이미지 저장 완료: storedPath={}, size={}, dimensions={}", blob.getStoragePath(), size,
+                        ingested.dimensions());
+            } else {
+                log.info("이미지 중복 업로드 — 기존 blob 참조: storedPath={}, refCount={}",
+                        blob.getStoragePath(), blob.getRefCount());
+            }
+            ImageDimensions dimensions = ingested.dimensions();
+            if (dimensions != null && ingested.metadata().isTransposed()) {
+                dimensions = dimensions.transposed();
+            }
+            return new UploadedImage(blob.getStoragePath(), dimensions, ingested.metadata());
         } catch (IOException e) {
-            log.error("파일 저장 실패: subDir={}, filename={}", subDir, sanitizeForLog(safeFilename));
+            log.error("파일 저장 실패: filename={}", sanitizeForLog(file.getOriginalFilename()));
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장에 실패했습니다.");
+        } finally {
+            deleteQuietly(tempFile);
         }
-
-        // DB에는 basePath 기준 상대 경로 저장 (이식성)
-        String relativePath = subPath.resolve(safeFilename).toString().replace('\\', '/');
-        log.info("이미지 저장 완료: subDir={}, storedPath={}", subDir, relativePath);
-        return relativePath;
-    }
-
-    /**
-     * 저장된 파일의 전체 경로 반환.
-     */
-    public Path resolveStoredPath(String relativePath) {
-        if (relativePath == null || relativePath.contains("..")) {
-            log.warn("저장 경로 traversal 시도 차단: relativePath={}", sanitizeForLog(relativePath));
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
-        }
-        Path base = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize();
-        Path resolved = base.resolve(relativePath.replace('\\', '/')).normalize();
-        if (!resolved.startsWith(base)) {
-            log.warn("저장 경로 traversal 시도 차단: relativePath={}", sanitizeForLog(relativePath));
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
-        }
-        return resolved;
     }
 
     /**
-     * 파일이 존재하면 삭제.
+     * 저장 파일 참조 해제. 참조 수가 0 이 되면 같은 트랜잭션에서 삭제 대기열(pending_file_deletions)에 기록하고,
+     * 커밋 후 {@link com.example.sns.service.image.FileDeletionWorker} 가 일괄 삭제 (롤백 시 대기열 기록도 사라져 파일 유지).
+     * image_blobs 에 없는 파일(내용 주소 저장 이전 업로드)은 바로 삭제 대상.
      */
+    @Transactional
     public void deleteIfExists(String relativePath) {
-        Path path = resolveStoredPath(relativePath);
-        try {
-            if (Files.exists(path)) {
-                Files.delete(path);
-                log.info("저장 파일 삭제: path={}", sanitizeForLog(relativePath));
-            }
-        } catch (IOException e) {
-            log.warn("파일 삭제 실패(무시): path={}", sanitizeForLog(relativePath), e);
+        boolean tracked = imageBlobRepository.release(relativePath) > 0;
+        if (tracked && imageBlobRepository.deleteIfUnreferenced(relativePath) == 0) {
+            log.debug("다른 참조가 남아 있어 blob 유지: path={}", sanitizeForLog(relativePath));
+            return;
         }
+        pendingFileDeletionRepository.save(new PendingFileDeletion(relativePath));
+        eventPublisher.publishEvent(new FileDeletionRequestedEvent(relativePath));
+        log.debug("파일 삭제 예약: path={}", sanitizeForLog(relativePath));
     }
 
     private void validateImageFile(MultipartFile file) {
@@ -109,45 +136,86 @@ public class FileStorageService {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "이미지 파일이 필요합니다.");
         }
 
-        String contentType = file.getContentType();
-        if (contentType == null || !uploadProperties.allowedMimeTypes().contains(contentType)) {
-            log.warn("허용되지 않는 MIME 타입: contentType={}", contentType);
-            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
-        }
-
+        // 선언 크기로 조기 거부. 실제 크기는 스트리밍 중 ImageIngestStream 이 강제
         if (file.getSize() > uploadProperties.maxFileSizeBytes()) {
             log.warn("파일 크기 초과: size={}, max={}", file.getSize(), uploadProperties.maxFileSizeBytes());
             throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
         }
     }
 
+    private Path createTempFile(Path basePath) {
+        try {
+            Path tempDir = basePath.resolve(TEMP_DIR);
+            Files.createDirectories(tempDir);
+            return Files.createTempFile(tempDir, "upload-", ".tmp");
+        } catch (IOException e) {
+            log.error("업로드 디렉터리 생성 실패: basePath={}", basePath);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 디렉터리를 생성할 수 없습니다.");
+        }
+    }
+
     /**
-     * 경로 traversal 방지: "..", "/", "\" 등 제거, 정규화.
+     * 업로드 스트림 단일 패스 처리: 첫 블록 magic byte 로 포맷 판별(클라이언트 Content-Type 무시) →
+     * (JPEG·PNG·WebP) 메타데이터 추출·제거 → 크기 상한 강제·SHA-256 계산·파일 기록 → 보관한 헤더에서 해상도 확인.
      */
-    private Path sanitizePathSegment(String segment) {
-        if (segment == null || segment.isBlank()) {
-            return Paths.get("default");
+    private IngestedImage ingest(MultipartFile file, Path target) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new BufferedInputStream(file.getInputStream(), STREAM_BUFFER_SIZE)) {
+            ImageFormat format = sniff(in, file.getContentType());
+            MetadataStrippingStream metadataStream = MetadataStrippingStream.of(format, in);
+            ImageIngestStream ingest = new ImageIngestStream(
+                    new DigestInputStream(metadataStream != null ? metadataStream : in, digest),
+                    uploadProperties.maxFileSizeBytes(), HEADER_CAPACITY);
+            Files.copy(ingest, target, StandardCopyOption.REPLACE_EXISTING);
+
+            ImageDimensions dimensions = format.readDimensions(ingest.header(), ingest.headerLength());
+            if (dimensions != null && dimensions.pixels() > uploadProperties.maxImagePixels()) {
+                log.warn("이미지 해상도 초과: dimensions={}, maxPixels={}", dimensions, uploadProperties.maxImagePixels());
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR, "이미지 해상도가 너무 큽니다.");
+            }
+            ImageMetadata metadata = metadataStream != null ? metadataStream.metadata() : ImageMetadata.EMPTY;
+            if (metadataStream != null && metadataStream.strippedBytes() > 0) {
+                log.debug("이미지 메타데이터 제거: strippedBytes={}, hasLocation={}",
+                        metadataStream.strippedBytes(), metadata.hasLocation());
+            }
+            return new IngestedImage(HexFormat.of().formatHex(digest.digest()), format, ingest.bytesRead(),
+                    dimensions, metadata);
         }
-        String cleaned = segment.replace("..", "")
-                .replace("\\", "/")
-                .replaceAll("^/+", "")
-                .trim();
-        if (cleaned.isEmpty()) {
-            return Paths.get("default");
+    }
+
+    /**
+     * 첫 블록을 소비하지 않고(mark/reset) 포맷 판별. 허용 목록에 없는 포맷이면 즉시 거부.
+     */
+    private ImageFormat sniff(InputStream in, String declaredContentType) throws IOException {
+        in.mark(ImageFormat.MAGIC_LENGTH);
+        byte[] magic = in.readNBytes(ImageFormat.MAGIC_LENGTH);
+        in.reset();
+        ImageFormat format = ImageFormat.sniff(magic, magic.length);
+        if (format == null || !uploadProperties.allowedMimeTypes().contains(format.mimeType())) {
+            log.warn("허용되지 않는 이미지 형식: declared={}, detected={}", declaredContentType, format);
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
         }
-        return Paths.get(cleaned);
+        if (!format.mimeType().equals(declaredContentType)) {
+            log.debug("선언 Content-Type 과 실제 형식 불일치 — 실제 형식 사용: declared={}, detected={}",
+                    declaredContentType, format);
+        }
+        return format;
     }
 
-    private String generateSafeFilename(String originalFilename) {
-        String ext = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            int lastDot = originalFilename.lastIndexOf('.');
-            String maybeExt = originalFilename.substring(lastDot);
-            if (maybeExt.matches("\\.[a-zA-Z0-9]{1,10}")) {
-                ext = maybeExt.toLowerCase();
-            }
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " 미지원", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패(무시)", e);
         }
-        return UUID.randomUUID().toString() + ext;
     }
 
     /**
@@ -159,4 +227,14 @@ public class FileStorageService {
         }
         return value.substring(0, 10) + "..." + value.substring(value.length() - 5);
     }
+
+    /**
+     * 스트림 처리 결과.
+     *
+     * @param sizeBytes  저장된 바이트 수 (메타데이터 제거 후)
+     * @param dimensions 헤더에서 읽은 해상도 (헤더 범위 밖이면 null)
+     */
+    private record IngestedImage(String hash, ImageFormat format, long sizeBytes, ImageDimensions dimensions,
+            ImageMetadata metadata) {
+    }
 }
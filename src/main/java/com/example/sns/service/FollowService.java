@@ -2,17 +2,18 @@ package com.example.sns.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.sns.domain.Follow;
-import com.example.sns.domain.NotificationType;
 import com.example.sns.domain.User;
 import com.example.sns.dto.response.UserProfileResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.FollowRepository;
 import com.example.sns.repository.UserRepository;
+import com.example.sns.service.event.UserFollowedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,7 +24,7 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void follow(Long followerId, Long followingId) {
@@ -41,7 +42,8 @@ public class FollowService {
         }
 
         followRepository.save(new Follow(follower, following));
-        notificationService.create(followingId, NotificationType.FOLLOW, followerId, null);
+        // 알림은 outbox 기록 후 NotificationDispatcher 가 비동기 생성
+        eventPublisher.publishEvent(new UserFollowedEvent(followerId, followingId));
     }
 
     @Transactional
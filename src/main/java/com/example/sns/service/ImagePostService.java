@@ -1,7 +1,10 @@
 package com.example.sns.service;
 
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Optional;
 
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -10,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -20,6 +24,13 @@ import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.ImagePostRepository;
 import com.example.sns.repository.PinRepository;
+import com.example.sns.service.image.ImageAsset;
+import com.example.sns.service.image.ImageDerivativeService;
+import com.example.sns.service.image.ImageLocation;
+import com.example.sns.service.image.ImagePathCache;
+import com.example.sns.service.image.ImageVariant;
+import com.example.sns.service.image.UploadedImage;
+import com.example.sns.service.storage.BlobStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,8 +54,9 @@ public class ImagePostService {
     private final ImagePostRepository imagePostRepository;
     private final FileStorageService fileStorageService;
     private final PinRepository pinRepository;
-
-    private static final String STORAGE_SUB_DIR = "image-posts";
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImagePathCache imagePathCache;
+    private final BlobStore blobStore;
 
     /** 공지 상단 노출용 정렬. */
     private static final Sort NOTICE_FIRST_SORT = Sort.by(
@@ -82,21 +94,26 @@ public class ImagePostService {
 
     /**
      * 이미지 게시글 작성. 로그인 필수.
+     * 위치를 보내지 않았으면 사진 EXIF·XMP 의 GPS 좌표로 채운다.
      */
     @Transactional
     public ImagePostResponse create(String title, String content, MultipartFile image,
             Double latitude, Double longitude, Long pinId, User author) {
-        String storedPath = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
+        UploadedImage stored = storeImage(image);
         var pin = pinId != null ? pinRepository.findById(pinId).orElse(null) : null;
+        boolean geotag = useImageLocation(latitude, longitude, stored);
 
         ImagePost post = ImagePost.builder()
                 .author(author)
                 .title(title)
                 .content(content)
-                .imageStoragePath(storedPath)
-                .latitude(latitude)
-                .longitude(longitude)
+                .imageStoragePath(stored.storagePath())
+                .latitude(geotag ? stored.metadata().latitude() : latitude)
+                .longitude(geotag ? stored.metadata().longitude() : longitude)
                 .pin(pin)
+                .imageWidth(widthOf(stored))
+                .imageHeight(heightOf(stored))
+                .capturedAt(stored.metadata().capturedAt())
                 .build();
         ImagePost saved = imagePostRepository.save(post);
         log.info("이미지 게시글 작성: imagePostId={}, authorId={}", saved.getId(), author.getId());
@@ -105,6 +122,7 @@ public class ImagePostService {
 
     /**
      * 이미지 게시글 수정. 작성자만. image가 있으면 교체. latitude/longitude/pinId로 위치 수정.
+     * 이미지를 교체하면서 위치를 보내지 않았으면 새 사진의 GPS 좌표로 채운다.
      */
     @Transactional
     public ImagePostResponse update(Long id, String title, String content,
@@ -118,8 +136,13 @@ public class ImagePostService {
 
         String newPath = post.getImageStoragePath();
         if (image != null && !image.isEmpty()) {
-            fileStorageService.deleteIfExists(post.getImageStoragePath());
-            newPath = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
+            deleteImage(post.getId(), post.getImageStoragePath());
+            UploadedImage stored = replaceImage(post, image);
+            newPath = stored.storagePath();
+            if (useImageLocation(latitude, longitude, stored)) {
+                latitude = stored.metadata().latitude();
+                longitude = stored.metadata().longitude();
+            }
         }
         var pin = pinId != null ? pinRepository.findById(pinId).orElse(null) : null;
         post.update(title, content, newPath, latitude, longitude, pin);
@@ -136,30 +159,64 @@ public class ImagePostService {
             log.warn("이미지 게시글 삭제 IDOR 시도: imagePostId={}, userId={}", id, currentUser.getId());
             throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 게시글만 삭제할 수 있습니다.");
         }
-        fileStorageService.deleteIfExists(post.getImageStoragePath());
+        deleteImage(post.getId(), post.getImageStoragePath());
         imagePostRepository.delete(post);
         log.info("이미지 게시글 삭제: imagePostId={}, authorId={}", id, currentUser.getId());
     }
 
     /**
-     * 이미지 파일 리소스 반환. 상세 조회용.
+     * 이미지 응답 메타데이터 (ETag·Last-Modified·Content-Type). 파일에 접근하지 않음 — 304 판정용.
+     * ID → 저장 경로 캐시 적중 시 DB 도 조회하지 않음. 요청 버전이 캐시와 다르면 DB 에서 다시 읽음.
+     *
+     * @param expectedVersion 요청 URL 의 버전(v). 없으면 null
      */
-    @Transactional(readOnly = true)
-    public Resource getImageResource(Long id) {
-        ImagePost post = findById(id);
-        Path path = fileStorageService.resolveStoredPath(post.getImageStoragePath());
-        if (!Files.exists(path)) {
-            log.warn("저장된 이미지 파일 없음: imagePostId={}", id);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ImageAsset getImageAsset(Long id, ImageVariant variant, String expectedVersion) {
+        ImagePathCache.StoredImage stored = imagePathCache.get(id);
+        if (stored == null || (expectedVersion != null
+                && !expectedVersion.equals(ImageAsset.versionOf(stored.storagePath())))) {
+            ImagePost post = findById(id);
+            stored = new ImagePathCache.StoredImage(post.getImageStoragePath(),
+                    post.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant());
+            imagePathCache.put(id, stored);
+        }
+        return new ImageAsset(stored.storagePath(), variant, stored.lastModified());
+    }
+
+    /**
+     * 이미지 바이트 위치. 규격(size)에 맞는 파생본, 없으면 생성 후 반환 (생성 불가 시 원본).
+     * 저장소 I/O 오류로 원본을 임시로 대신 내주면 {@link ImageLocation#fallback()} 이 true.
+     * 원격 저장소는 pre-signed URL, 로컬 저장소는 파일 경로. DB 접근이 없으므로 트랜잭션(커넥션)을 잡지 않음.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ImageLocation locateImage(ImageAsset asset) {
+        ImageDerivativeService.ResolvedKey resolved = imageDerivativeService.resolveKey(asset.storagePath(), asset.variant());
+        String key = resolved.key();
+        Optional<URI> redirectUrl = blobStore.presignedGetUrl(key);
+        if (redirectUrl.isPresent()) {
+            return ImageLocation.redirect(redirectUrl.get(), resolved.fallback());
+        }
+        Path path = blobStore.localPath(key).filter(Files::isReadable).orElse(null);
+        if (path == null) {
+            log.warn("저장된 이미지 파일 없음: storagePath={}", asset.storagePath());
             throw new BusinessException(ErrorCode.NOT_FOUND, "이미지 파일을 찾을 수 없습니다.");
         }
+        return ImageLocation.local(path, resolved.fallback());
+    }
+
+    /**
+     * 로컬 이미지 파일 리소스 반환 (Range 요청용).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Resource openImage(ImageLocation location) {
         try {
-            Resource resource = new UrlResource(path.toUri());
+            Resource resource = new UrlResource(location.file().toUri());
             if (!resource.isReadable()) {
                 throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "이미지를 읽을 수 없습니다.");
             }
             return resource;
         } catch (Exception e) {
-            log.error("이미지 리소스 로드 실패: imagePostId={}", id, e);
+            log.error("이미지 리소스 로드 실패: file={}", location.file().getFileName(), e);
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "이미지를 불러올 수 없습니다.");
         }
     }
@@ -199,6 +256,45 @@ public class ImagePostService {
                 .map(ImagePostResponse::from);
     }
 
+    /**
+     * 원본 저장 후 파생본(썸네일 등) 백그라운드 생성 예약.
+     */
+    private UploadedImage storeImage(MultipartFile image) {
+        UploadedImage stored = fileStorageService.storeImage(image);
+        imageDerivativeService.generateAsync(stored.storagePath());
+        return stored;
+    }
+
+    private UploadedImage replaceImage(ImagePost post, MultipartFile image) {
+        UploadedImage stored = storeImage(image);
+        post.updateImageMetadata(widthOf(stored), heightOf(stored), stored.metadata().capturedAt());
+        return stored;
+    }
+
+    /**
+     * 클라이언트가 위치를 보내지 않았고 사진에 GPS 좌표가 있을 때만 사진 위치 사용.
+     */
+    private static boolean useImageLocation(Double latitude, Double longitude, UploadedImage stored) {
+        boolean geotag = latitude == null && longitude == null && stored.metadata().hasLocation();
+        if (geotag) {
+            log.debug("EXIF 위치로 게시글 좌표 채움: storedPath={}", stored.storagePath());
+        }
+        return geotag;
+    }
+
+    private static Integer widthOf(UploadedImage stored) {
+        return stored.dimensions() != null ? stored.dimensions().width() : null;
+    }
+
+    private static Integer heightOf(UploadedImage stored) {
+        return stored.dimensions() != null ? stored.dimensions().height() : null;
+    }
+
+    private void deleteImage(Long imagePostId, String storedPath) {
+        imagePathCache.evict(imagePostId);
+        fileStorageService.deleteIfExists(storedPath);
+    }
+
     private ImagePost findById(Long id) {
         return imagePostRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, MSG_IMAGE_POST_NOT_FOUND));
@@ -212,8 +308,8 @@ public class ImagePostService {
         ImagePost post = findById(id);
         String newPath = post.getImageStoragePath();
         if (image != null && !image.isEmpty()) {
-            fileStorageService.deleteIfExists(post.getImageStoragePath());
-            newPath = fileStorageService.storeImage(image, STORAGE_SUB_DIR);
+            deleteImage(post.getId(), post.getImageStoragePath());
+            newPath = replaceImage(post, image).storagePath();
         }
         post.update(title, content, newPath);
         log.info("관리자 이미지 게시글 수정: imagePostId={}", id);
@@ -226,7 +322,7 @@ public class ImagePostService {
     @Transactional
     public void deleteByAdmin(Long id) {
         ImagePost post = findById(id);
-        fileStorageService.deleteIfExists(post.getImageStoragePath());
+        deleteImage(post.getId(), post.getImageStoragePath());
         imagePostRepository.delete(post);
         log.info("관리자 이미지 게시글 삭제: imagePostId={}", id);
     }
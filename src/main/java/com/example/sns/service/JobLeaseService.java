@@ -0,0 +1,58 @@
+package com.example.sns.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.sns.domain.JobLease;
+import com.example.sns.repository.JobLeaseRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 단위 작업 임대. 모든 노드에서 같은 cron 으로 도는 정기 작업을 한 노드만 실행하게 한다.
+ *
+ * <p>획득은 만료된 행에 대한 조건부 UPDATE 1회, 행이 없으면 INSERT (동시 INSERT 는 PK 충돌로 한쪽만 성공).
+ * 작업 동안 트랜잭션·DB 연결을 붙잡지 않는다. 호출 측 트랜잭션 밖에서 사용.
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String owner = UUID.randomUUID().toString();
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository) {
+        this.jobLeaseRepository = jobLeaseRepository;
+    }
+
+    /**
+     * @param name 작업 이름
+     * @param ttl  임대 기간 (이 노드가 해제하지 못하고 죽었을 때 다른 노드가 가져가기까지의 시간)
+     * @return 획득하면 true
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(ttl);
+        if (jobLeaseRepository.claim(name, owner, now, until) > 0) {
+            return true;
+        }
+        if (jobLeaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            jobLeaseRepository.saveAndFlush(new JobLease(name, owner, until));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("작업 임대 생성 경합 — 다른 노드가 획득: name={}", name);
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        jobLeaseRepository.release(name, owner, LocalDateTime.now());
+    }
+}
@@ -1,50 +1,194 @@
 package com.example.sns.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.sns.config.notification.NotificationProperties;
 import com.example.sns.domain.Notification;
+import com.example.sns.domain.NotificationOutbox;
 import com.example.sns.domain.NotificationType;
 import com.example.sns.domain.User;
+import com.example.sns.dto.response.NotificationPageResponse;
 import com.example.sns.dto.response.NotificationResponse;
 import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
+import com.example.sns.repository.NotificationOutboxRepository;
 import com.example.sns.repository.NotificationRepository;
+import com.example.sns.repository.UserNotificationStateRepository;
 import com.example.sns.repository.UserRepository;
+import com.example.sns.service.notification.NotificationReadEvent;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    /** 알림함 페이지 크기 기본값·상한. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String MSG_INVALID_CURSOR = "잘못된 커서입니다.";
+
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserNotificationStateRepository userNotificationStateRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationProperties notificationProperties;
 
+    /**
+     * outbox 배치 1건을 알림으로 변환해 일괄 저장.
+     *
+     * <p>outbox 행은 SKIP LOCKED 로 잠가 다중 노드 중복 처리를 막고, 처리 후 같은 트랜잭션에서 삭제.
+     * 행위자·수신자는 배치 단위 IN 조회 1회, 안 읽은 알림 수는 수신자별 1회 갱신.
+     * 탈퇴 등으로 사용자가 없는 항목은 버린다.
+     * 좋아요는 (수신자, 게시글)별로 배치 내에서 묶고, 병합 기간 내 안 읽은 좋아요 알림이 있으면 그 알림을
+     * 행위자를 합친 새 알림으로 대체한다 (이전 행 삭제 + 새 행 저장, 안 읽은 알림 수 불변).
+     * 새 id·createdAt 이므로 Last-Event-ID 재전송·알림함 첫 페이지에 갱신이 보인다.
+     * 이미 집계된 행위자의 좋아요(좋아요 → 취소 → 좋아요)는 버린다.
+     *
+     * @param batchSize 최대 처리 건수
+     * @return 생성·병합된 알림 (비어 있으면 outbox 가 비었음)
+     */
     @Transactional
-    public void create(Long userId, NotificationType type, Long fromUserId, Long postId) {
-        if (userId.equals(fromUserId)) return;
+    public List<NotificationResponse> dispatchOutbox(int batchSize) {
+        List<NotificationOutbox> batch = notificationOutboxRepository.findBatchForUpdate(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return List.of();
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
-        User fromUser = userRepository.findById(fromUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
+        Set<Long> userIds = new HashSet<>();
+        for (NotificationOutbox entry : batch) {
+            userIds.add(entry.getRecipientId());
+            userIds.add(entry.getActorId());
+        }
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<LikeKey, Notification> likeTargets = findCoalescibleLikes(batch);
 
-        notificationRepository.save(new Notification(user, type, fromUser, postId));
+        List<Notification> created = new ArrayList<>(batch.size());
+        List<Notification> replaced = new ArrayList<>();
+        Map<Long, Long> newPerRecipient = new HashMap<>();
+        Set<Notification> touched = new LinkedHashSet<>();
+        for (NotificationOutbox entry : batch) {
+            User recipient = users.get(entry.getRecipientId());
+            User actor = users.get(entry.getActorId());
+            if (recipient == null || actor == null) {
+                log.debug("알림 outbox 항목 폐기 (사용자 없음): outboxId={}", entry.getId());
+                continue;
+            }
+            LikeKey likeKey = LikeKey.of(entry);
+            Notification target = likeKey != null ? likeTargets.get(likeKey) : null;
+            if (target != null) {
+                if (target.hasActor(actor.getId())) {
+                    continue;
+                }
+                if (target.getId() == null) {
+                    target.coalesce(actor);
+                } else {
+                    Notification next = target.supersede(actor);
+                    replaced.add(target);
+                    touched.remove(target);
+                    likeTargets.put(likeKey, next);
+                    created.add(next);
+                    touched.add(next);
+                }
+                continue;
+            }
+            Notification notification = new Notification(recipient, entry.getType(), actor, entry.getPostId());
+            if (likeKey != null) {
+                likeTargets.put(likeKey, notification);
+            }
+            created.add(notification);
+            touched.add(notification);
+            newPerRecipient.merge(recipient.getId(), 1L, Long::sum);
+        }
+
+        notificationRepository.deleteAll(replaced);
+        notificationRepository.saveAll(created);
+        notificationOutboxRepository.deleteAllInBatch(batch);
+
+        newPerRecipient.forEach(this::incrementUnread);
+
+        return touched.stream().map(NotificationResponse::from).toList();
     }
 
-    public List<NotificationResponse> getByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
+    /**
+     * 알림함 커서 페이징 조회 (최신순).
+     *
+     * @param userId 사용자 userId
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1~100)
+     */
+    public NotificationPageResponse getInbox(Long userId, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Notification> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationRepository.findInbox(userId, limit);
+        } else {
+            InboxCursor decoded = InboxCursor.decode(cursor);
+            rows = notificationRepository.findInboxBefore(userId, decoded.createdAt(), decoded.id(), limit);
+        }
 
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user).stream()
-                .map(NotificationResponse::from)
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? InboxCursor.of(page.get(page.size() - 1)).encode() : null;
+        long readWatermarkId = getReadWatermarkId(userId);
+        return new NotificationPageResponse(page.stream().map(n -> NotificationResponse.from(n, readWatermarkId))
+                .toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 지정 알림 ID 이후의 알림 (오래된 순). SSE Last-Event-ID 재연결 시 누락분 재전송용.
+     */
+    public List<NotificationResponse> getSince(Long userId, Long lastNotificationId, int limit) {
+        long readWatermarkId = getReadWatermarkId(userId);
+        return notificationRepository
+                .findByUser_IdAndIdGreaterThanOrderByIdAsc(userId, lastNotificationId, PageRequest.of(0, limit))
+                .stream()
+                .map(n -> NotificationResponse.from(n, readWatermarkId))
                 .toList();
     }
 
+    /**
+     * 안 읽은 알림 수. 비정규화 카운터 단건 조회 (O(1)).
+     * 상태 행이 없는 기존 사용자는 최초 1회 알림 이력을 집계해 생성.
+     */
+    @Transactional
+    public long getUnreadCount(Long userId) {
+        return userNotificationStateRepository.findById(userId)
+                .map(state -> state.getUnreadCount())
+                .orElseGet(() -> {
+                    long count = notificationRepository.countUnread(userId, 0L);
+                    userNotificationStateRepository.initialize(userId, count, 0);
+                    return count;
+                });
+    }
+
+    /**
+     * 개별 읽음. 읽음 전환은 조건부 UPDATE 1건 — 같은 알림의 동시 요청 중 실제로 바꾼 요청만 카운터를 줄인다.
+     */
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
         Notification notification = notificationRepository.findById(notificationId)
@@ -53,11 +197,125 @@ public class NotificationService {
         if (!notification.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
-        notification.markAsRead();
+        if (notificationRepository.markAsRead(notificationId, userId) == 0) {
+            return;
+        }
+        userNotificationStateRepository.decrementUnread(userId, 1);
+        eventPublisher.publishEvent(new NotificationReadEvent(userId));
     }
 
+    /**
+     * 모두 읽음. 알림 행은 갱신하지 않고 읽음 워터마크만 기록 (사용자당 단건 UPDATE).
+     */
     @Transactional
     public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsRead(userId);
+        if (userNotificationStateRepository.markAllRead(userId) == 0) {
+            userNotificationStateRepository.initialize(userId, 0, 0);
+            userNotificationStateRepository.markAllRead(userId);
+        }
+        eventPublisher.publishEvent(new NotificationReadEvent(userId));
+    }
+
+    /**
+     * 보관 기간이 지난 읽은 알림 1배치 삭제. NotificationRetentionJob 이 배치마다 별도 트랜잭션으로 호출.
+     *
+     * @param cutoff    이 시각 이전 생성 알림이 대상
+     * @param afterId   이전 배치의 마지막 삭제 id (첫 배치면 0). 이 id 이후부터 조회
+     * @param batchSize 최대 삭제 건수
+     */
+    @Transactional
+    public PurgeBatch purgeExpiredRead(LocalDateTime cutoff, long afterId, int batchSize) {
+        List<Long> ids = notificationRepository.findExpiredReadIds(cutoff, afterId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return new PurgeBatch(0, afterId);
+        }
+        notificationRepository.deleteAllByIdInBatch(ids);
+        return new PurgeBatch(ids.size(), ids.getLast());
+    }
+
+    /**
+     * 보관 정리 배치 결과.
+     *
+     * @param deleted 삭제 건수
+     * @param lastId  다음 배치의 afterId
+     */
+    public record PurgeBatch(int deleted, long lastId) {
+    }
+
+    private long getReadWatermarkId(Long userId) {
+        return userNotificationStateRepository.findReadWatermarkId(userId).orElse(0L);
+    }
+
+    /**
+     * 배치 내 좋아요의 병합 대상 (수신자, 게시글)별 가장 최근 안 읽은 좋아요 알림.
+     */
+    private Map<LikeKey, Notification> findCoalescibleLikes(List<NotificationOutbox> batch) {
+        Set<Long> recipientIds = new HashSet<>();
+        Set<Long> postIds = new HashSet<>();
+        for (NotificationOutbox entry : batch) {
+            if (LikeKey.of(entry) != null) {
+                recipientIds.add(entry.getRecipientId());
+                postIds.add(entry.getPostId());
+            }
+        }
+        Map<LikeKey, Notification> targets = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return targets;
+        }
+        LocalDateTime since = LocalDateTime.now().minus(notificationProperties.outbox().likeCoalesceWindow());
+        for (Notification n : notificationRepository.findCoalescibleLikes(recipientIds, postIds, since)) {
+            targets.putIfAbsent(new LikeKey(n.getUser().getId(), n.getPostId()), n);
+        }
+        return targets;
+    }
+
+    /**
+     * 안 읽은 알림 수 증가. 상태 행이 없으면 알림 이력 집계로 생성 (방금 저장한 알림 포함).
+     */
+    private void incrementUnread(Long userId, long delta) {
+        if (userNotificationStateRepository.incrementUnread(userId, delta) == 0) {
+            long count = notificationRepository.countUnread(userId, 0L);
+            userNotificationStateRepository.initialize(userId, count, delta);
+        }
+    }
+
+    /**
+     * 좋아요 알림 병합 단위 (수신자, 게시글).
+     */
+    private record LikeKey(Long recipientId, Long postId) {
+
+        /** 좋아요 항목이면 병합 키, 아니면 null. */
+        static LikeKey of(NotificationOutbox entry) {
+            if (entry.getType() != NotificationType.LIKE || entry.getPostId() == null) {
+                return null;
+            }
+            return new LikeKey(entry.getRecipientId(), entry.getPostId());
+        }
+    }
+
+    /**
+     * 알림함 커서: 마지막 항목의 (createdAt, id). URL-safe Base64 로 인코딩해 불투명 문자열로 노출.
+     */
+    private record InboxCursor(LocalDateTime createdAt, Long id) {
+
+        static InboxCursor of(Notification notification) {
+            return new InboxCursor(notification.getCreatedAt(), notification.getId());
+        }
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static InboxCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new InboxCursor(LocalDateTime.parse(raw.substring(0, sep)),
+                        Long.parseLong(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.BAD_REQUEST, MSG_INVALID_CURSOR);
+            }
+        }
     }
 }
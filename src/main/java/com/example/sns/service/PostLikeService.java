@@ -2,10 +2,10 @@ package com.example.sns.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.sns.domain.NotificationType;
 import com.example.sns.domain.Post;
 import com.example.sns.domain.PostLike;
 import com.example.sns.domain.User;
@@ -14,6 +14,7 @@ import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.PostLikeRepository;
 import com.example.sns.repository.PostRepository;
 import com.example.sns.repository.UserRepository;
+import com.example.sns.service.event.PostLikedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,7 +26,7 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void like(Long userId, Long postId) {
@@ -39,7 +40,8 @@ public class PostLikeService {
         }
 
         postLikeRepository.save(new PostLike(user, post));
-        notificationService.create(post.getAuthor().getId(), NotificationType.LIKE, userId, postId);
+        // 알림은 outbox 기록 후 NotificationDispatcher 가 비동기 생성
+        eventPublisher.publishEvent(new PostLikedEvent(postId, post.getAuthor().getId(), userId));
     }
 
     @Transactional
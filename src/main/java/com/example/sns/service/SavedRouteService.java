@@ -13,9 +13,15 @@ import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.example.sns.repository.SavedRouteRepository;
 import com.example.sns.repository.UserRepository;
+import com.example.sns.util.polyline.PolylineEncoder;
+import com.example.sns.util.polyline.RoutePathCodec;
+import com.example.sns.util.polyline.RoutePathFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,6 +29,7 @@ public class SavedRouteService {
 
     private final SavedRouteRepository savedRouteRepository;
     private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public SavedRouteResponse save(Long userId, SavedRouteCreateRequest request) {
@@ -33,21 +40,25 @@ public class SavedRouteService {
                 .user(user)
                 .name(request.name())
                 .points(request.points())
-                .path(request.path())
+                .path(encodePath(request.path()))
                 .distance(request.distance())
                 .duration(request.duration())
                 .transportMode(request.transportMode())
                 .build();
 
-        return SavedRouteResponse.from(savedRouteRepository.save(route));
+        SavedRoute saved = savedRouteRepository.save(route);
+        return SavedRouteResponse.from(saved, formatPath(saved.getPath(), RoutePathFormat.COORDS));
     }
 
-    public List<SavedRouteResponse> getByUser(Long userId) {
+    /**
+     * @param format 경로 응답 형식 (COORDS: 좌표 JSON, POLYLINE: Encoded Polyline)
+     */
+    public List<SavedRouteResponse> getByUser(Long userId, RoutePathFormat format) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
 
         return savedRouteRepository.findByUserOrderByCreatedAtDesc(user).stream()
-                .map(SavedRouteResponse::from)
+                .map(route -> SavedRouteResponse.from(route, formatPath(route.getPath(), format)))
                 .toList();
     }
 
@@ -65,4 +76,37 @@ public class SavedRouteService {
 
         savedRouteRepository.delete(route);
     }
+
+    /**
+     * 저장 형식: Encoded Polyline (좌표 JSON 대비 약 1/8). 요청은 좌표 JSON·polyline 모두 허용.
+     */
+    private String encodePath(String path) {
+        if (path == null || path.isBlank()) {
+            return path;
+        }
+        try {
+            return RoutePathCodec.isEncoded(path) ? path : PolylineEncoder.encode(RoutePathCodec.parse(path, objectMapper));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "경로 좌표 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 저장된 경로를 응답 형식으로 변환. polyline 저장 이전의 좌표 JSON 행은 COORDS 요청 시 그대로 반환.
+     */
+    private String formatPath(String stored, RoutePathFormat format) {
+        if (stored == null || stored.isBlank()) {
+            return stored;
+        }
+        boolean encoded = RoutePathCodec.isEncoded(stored);
+        try {
+            return switch (format) {
+                case POLYLINE -> encoded ? stored : PolylineEncoder.encode(RoutePathCodec.parse(stored, objectMapper));
+                case COORDS -> encoded ? RoutePathCodec.toCoordsJson(PolylineEncoder.decodeCoordinates(stored)) : stored;
+            };
+        } catch (IllegalArgumentException e) {
+            log.warn("저장 경로 형식 변환 실패 — 원문 반환: format={}, message={}", format, e.getMessage());
+            return stored;
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.sns.service.event;
+
+/**
+ * 게시글 좋아요 도메인 이벤트. 좋아요 트랜잭션 안에서 발행되어 알림 outbox 에 기록된다.
+ *
+ * @param postId       게시글 ID
+ * @param postAuthorId 게시글 작성자 userId (알림 수신자)
+ * @param likerId      좋아요한 사용자 userId
+ */
+public record PostLikedEvent(Long postId, Long postAuthorId, Long likerId) {
+}
@@ -0,0 +1,10 @@
+package com.example.sns.service.event;
+
+/**
+ * 팔로우 도메인 이벤트. 팔로우 트랜잭션 안에서 발행되어 알림 outbox 에 기록된다.
+ *
+ * @param followerId  팔로우한 사용자 userId
+ * @param followingId 팔로우된 사용자 userId (알림 수신자)
+ */
+public record UserFollowedEvent(Long followerId, Long followingId) {
+}
@@ -0,0 +1,6 @@
+/**
+ * 도메인 이벤트 — 서비스 간 부수 효과(알림 등) 분리.
+ *
+ * 발행 측은 ApplicationEventPublisher 로 이벤트만 발행하고, 구독 측이 같은 트랜잭션(outbox) 또는 커밋 후 처리.
+ */
+package com.example.sns.service.event;
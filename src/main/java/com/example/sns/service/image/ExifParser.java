@@ -0,0 +1,249 @@
+package com.example.sns.service.image;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * EXIF(TIFF 구조)·XMP 에서 위치·촬영 시각·방향만 읽는 파서. 필요한 태그만 따라가고 나머지는 건너뛴다.
+ * 손상된 헤더는 예외 대신 읽은 데까지의 값을 반환 (업로드 자체는 막지 않음).
+ */
+final class ExifParser {
+
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_GPS_IFD = 0x8825;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int GPS_LATITUDE_REF = 0x0001;
+    private static final int GPS_LATITUDE = 0x0002;
+    private static final int GPS_LONGITUDE_REF = 0x0003;
+    private static final int GPS_LONGITUDE = 0x0004;
+
+    private static final int TYPE_ASCII = 2;
+    private static final int TYPE_SHORT = 3;
+    private static final int TYPE_RATIONAL = 5;
+    private static final int MAX_IFD_ENTRIES = 512;
+
+    private static final DateTimeFormatter EXIF_DATE_TIME = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+    private static final Pattern XMP_GPS = Pattern.compile(
+            "exif:GPS(Latitude|Longitude)(?:=\"|>)\\s*(\\d+),(\\d+(?:\\.\\d+)?)(?:,(\\d+(?:\\.\\d+)?))?([NSEW])");
+    private static final Pattern XMP_DATE = Pattern.compile(
+            "(?:exif:DateTimeOriginal|xmp:CreateDate|photoshop:DateCreated)(?:=\"|>)\\s*"
+                    + "(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}(?::\\d{2})?)");
+
+    private ExifParser() {
+    }
+
+    /**
+     * 방향 태그 하나만 담은 TIFF 구조 (big-endian, 26바이트). 저장본에 남기는 최소 EXIF 본문.
+     */
+    static byte[] orientationOnlyTiff(int orientation) {
+        return new byte[] {
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08, // TIFF 헤더, IFD0 오프셋 8
+                0x00, 0x01, // 항목 1개
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00 // 다음 IFD 없음
+        };
+    }
+
+    /**
+     * TIFF 구조(EXIF APP1 의 "Exif\0\0" 뒤) 파싱.
+     *
+     * @param b      버퍼
+     * @param start  TIFF 헤더 시작 위치
+     * @param length TIFF 데이터 길이
+     */
+    static ImageMetadata parseTiff(byte[] b, int start, int length) {
+        Tiff tiff = Tiff.of(b, start, length);
+        if (tiff == null) {
+            return ImageMetadata.EMPTY;
+        }
+        int ifd0 = tiff.u32(4);
+        int orientation = 1;
+        LocalDateTime dateTime = null;
+        LocalDateTime dateTimeOriginal = null;
+        Double latitude = null;
+        Double longitude = null;
+
+        int count = tiff.entryCount(ifd0);
+        int exifIfd = -1;
+        int gpsIfd = -1;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd0 + 2 + i * 12;
+            switch (tiff.u16(entry)) {
+                case TAG_ORIENTATION -> {
+                    int value = tiff.u16(entry + 8);
+                    orientation = tiff.u16(entry + 2) == TYPE_SHORT && value >= 1 && value <= 8 ? value : 1;
+                }
+                case TAG_DATE_TIME -> dateTime = tiff.dateTime(entry);
+                case TAG_EXIF_IFD -> exifIfd = tiff.u32(entry + 8);
+                case TAG_GPS_IFD -> gpsIfd = tiff.u32(entry + 8);
+                default -> {
+                }
+            }
+        }
+
+        count = tiff.entryCount(exifIfd);
+        for (int i = 0; i < count; i++) {
+            int entry = exifIfd + 2 + i * 12;
+            if (tiff.u16(entry) == TAG_DATE_TIME_ORIGINAL) {
+                dateTimeOriginal = tiff.dateTime(entry);
+            }
+        }
+
+        count = tiff.entryCount(gpsIfd);
+        char latitudeRef = 0;
+        char longitudeRef = 0;
+        for (int i = 0; i < count; i++) {
+            int entry = gpsIfd + 2 + i * 12;
+            switch (tiff.u16(entry)) {
+                case GPS_LATITUDE_REF -> latitudeRef = (char) tiff.u8(entry + 8);
+                case GPS_LONGITUDE_REF -> longitudeRef = (char) tiff.u8(entry + 8);
+                case GPS_LATITUDE -> latitude = tiff.degrees(entry);
+                case GPS_LONGITUDE -> longitude = tiff.degrees(entry);
+                default -> {
+                }
+            }
+        }
+        if (latitude != null && latitudeRef == 'S') {
+            latitude = -latitude;
+        }
+        if (longitude != null && longitudeRef == 'W') {
+            longitude = -longitude;
+        }
+        boolean validLocation = latitude != null && longitude != null && isValidLocation(latitude, longitude);
+        return new ImageMetadata(validLocation ? latitude : null, validLocation ? longitude : null,
+                dateTimeOriginal != null ? dateTimeOriginal : dateTime, orientation);
+    }
+
+    /**
+     * XMP 패킷(APP1 "http://ns.adobe.com/xap/1.0/\0" 뒤)에서 위치·촬영 시각 읽기.
+     */
+    static ImageMetadata parseXmp(byte[] b, int start, int length) {
+        String xmp = new String(b, start, length, StandardCharsets.UTF_8);
+        Double latitude = null;
+        Double longitude = null;
+        Matcher gps = XMP_GPS.matcher(xmp);
+        while (gps.find()) {
+            double value = Double.parseDouble(gps.group(2)) + Double.parseDouble(gps.group(3)) / 60
+                    + (gps.group(4) != null ? Double.parseDouble(gps.group(4)) / 3600 : 0);
+            String ref = gps.group(5);
+            if (ref.equals("S") || ref.equals("W")) {
+                value = -value;
+            }
+            if (gps.group(1).equals("Latitude")) {
+                latitude = value;
+            } else {
+                longitude = value;
+            }
+        }
+        LocalDateTime capturedAt = null;
+        Matcher date = XMP_DATE.matcher(xmp);
+        if (date.find()) {
+            try {
+                capturedAt = LocalDateTime.parse(date.group(1));
+            } catch (DateTimeParseException e) {
+                capturedAt = null;
+            }
+        }
+        boolean validLocation = latitude != null && longitude != null && isValidLocation(latitude, longitude);
+        return new ImageMetadata(validLocation ? latitude : null, validLocation ? longitude : null, capturedAt, 1);
+    }
+
+    /**
+     * 범위 밖 값과 (0, 0) — GPS 미수신 카메라가 기록하는 자리표시 값 — 제외.
+     */
+    private static boolean isValidLocation(double latitude, double longitude) {
+        return Math.abs(latitude) <= 90 && Math.abs(longitude) <= 180 && !(latitude == 0 && longitude == 0);
+    }
+
+    /**
+     * TIFF 바이트 순서(II/MM)와 범위 검사를 담당하는 읽기 도우미. 범위 밖 읽기는 0.
+     */
+    private record Tiff(byte[] b, int start, int length, boolean littleEndian) {
+
+        static Tiff of(byte[] b, int start, int length) {
+            if (length < 8) {
+                return null;
+            }
+            boolean little = b[start] == 'I' && b[start + 1] == 'I';
+            boolean big = b[start] == 'M' && b[start + 1] == 'M';
+            if (!little && !big) {
+                return null;
+            }
+            Tiff tiff = new Tiff(b, start, length, little);
+            return tiff.u16(2) == 42 ? tiff : null;
+        }
+
+        int u8(int offset) {
+            return offset >= 0 && offset < length ? b[start + offset] & 0xFF : 0;
+        }
+
+        int u16(int offset) {
+            return littleEndian ? u8(offset) | (u8(offset + 1) << 8) : (u8(offset) << 8) | u8(offset + 1);
+        }
+
+        int u32(int offset) {
+            long value = littleEndian
+                    ? u16(offset) | ((long) u16(offset + 2) << 16)
+                    : ((long) u16(offset) << 16) | u16(offset + 2);
+            return value > Integer.MAX_VALUE ? -1 : (int) value;
+        }
+
+        int entryCount(int ifd) {
+            if (ifd < 8 || ifd + 2 > length) {
+                return 0;
+            }
+            int count = u16(ifd);
+            return count <= MAX_IFD_ENTRIES && ifd + 2 + count * 12 <= length ? count : 0;
+        }
+
+        LocalDateTime dateTime(int entry) {
+            if (u16(entry + 2) != TYPE_ASCII || u32(entry + 4) < 19) {
+                return null;
+            }
+            int offset = u32(entry + 8);
+            if (offset < 0 || offset + 19 > length) {
+                return null;
+            }
+            try {
+                return LocalDateTime.parse(new String(b, start + offset, 19, StandardCharsets.US_ASCII), EXIF_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+
+        /**
+         * 도·분·초 RATIONAL 3개 → 십진 도.
+         */
+        Double degrees(int entry) {
+            int type = u16(entry + 2);
+            int offset = u32(entry + 8);
+            if (type != TYPE_RATIONAL || u32(entry + 4) != 3 || offset < 0 || offset + 24 > length) {
+                return null;
+            }
+            double degrees = 0;
+            double unit = 1;
+            for (int i = 0; i < 3; i++) {
+                long numerator = Integer.toUnsignedLong(u32raw(offset + i * 8));
+                long denominator = Integer.toUnsignedLong(u32raw(offset + i * 8 + 4));
+                if (denominator == 0) {
+                    return null;
+                }
+                degrees += (double) numerator / denominator / unit;
+                unit *= 60;
+            }
+            return degrees;
+        }
+
+        private int u32raw(int offset) {
+            return littleEndian
+                    ? u16(offset) | (u16(offset + 2) << 16)
+                    : (u16(offset) << 16) | u16(offset + 2);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sns.service.image;
+
+/**
+ * 파일 삭제 대기열 기록 이벤트. 커밋 후 FileDeletionWorker 를 즉시 깨우는 용도.
+ *
+ * @param storageKey 삭제할 저장소 키
+ */
+public record FileDeletionRequestedEvent(String storageKey) {
+}
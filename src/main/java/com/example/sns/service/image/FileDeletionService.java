@@ -0,0 +1,90 @@
+package com.example.sns.service.image;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.domain.PendingFileDeletion;
+import com.example.sns.repository.ImageBlobRepository;
+import com.example.sns.repository.PendingFileDeletionRepository;
+import com.example.sns.service.storage.BlobStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 삭제 대기열 배치 처리.
+ *
+ * <p>재시도 시각이 된 항목을 잠그고, 그 사이 다시 참조된 키(같은 내용 재업로드)는 건너뛴 뒤
+ * 나머지를 {@link BlobStore#deleteAll} 한 번으로 삭제한다. 실패한 키는 지수 backoff 로 재시도하고,
+ * maxAttempts 를 넘기면 포기 (파일은 고아 이미지 GC 가 회수).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionService {
+
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final BlobStore blobStore;
+    private final ImageProperties imageProperties;
+
+    /**
+     * 대기열 배치 1회 처리.
+     *
+     * @return 처리 결과 (처리 항목 수·실제 삭제된 키)
+     */
+    @Transactional
+    public BatchResult processBatch(int batchSize) {
+        List<PendingFileDeletion> due = pendingFileDeletionRepository.findDueForUpdate(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return new BatchResult(0, List.of());
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        due.forEach(entry -> keys.add(entry.getStorageKey()));
+        Set<String> referenced = new HashSet<>(imageBlobRepository.findReferencedStoragePaths(keys));
+        keys.removeAll(referenced);
+        Set<String> failed = keys.isEmpty() ? Set.of() : blobStore.deleteAll(keys);
+
+        ImageProperties.Deletion policy = imageProperties.deletion();
+        List<PendingFileDeletion> done = new ArrayList<>();
+        for (PendingFileDeletion entry : due) {
+            if (!failed.contains(entry.getStorageKey())) {
+                done.add(entry);
+            } else if (entry.getAttempts() + 1 >= policy.maxAttempts()) {
+                log.error("파일 삭제 재시도 한도 초과 — 포기 (GC 에 위임): key={}, attempts={}",
+                        entry.getStorageKey(), entry.getAttempts() + 1);
+                done.add(entry);
+            } else {
+                entry.retryLater(policy.initialBackoff(), policy.maxBackoff());
+                log.warn("파일 삭제 실패 — 재시도 예약: key={}, attempts={}, nextAttemptAt={}",
+                        entry.getStorageKey(), entry.getAttempts(), entry.getNextAttemptAt());
+            }
+        }
+        pendingFileDeletionRepository.deleteAllInBatch(done);
+
+        keys.removeAll(failed);
+        if (!referenced.isEmpty()) {
+            log.debug("다시 참조된 파일 삭제 취소: count={}", referenced.size());
+        }
+        log.info("파일 삭제 배치 완료: due={}, deleted={}, failed={}", due.size(), keys.size(), failed.size());
+        return new BatchResult(due.size(), List.copyOf(keys));
+    }
+
+    /**
+     * @param processed   이번 배치에서 꺼낸 항목 수
+     * @param deletedKeys 실제로 삭제된 저장소 키
+     */
+    public record BatchResult(int processed, List<String> deletedKeys) {
+    }
+}
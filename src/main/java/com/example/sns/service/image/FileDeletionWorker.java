@@ -0,0 +1,73 @@
+package com.example.sns.service.image;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.util.concurrent.CoalescingTrigger;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 삭제 대기열 작업자.
+ *
+ * <p>삭제 예약 트랜잭션이 커밋되면 전용 스레드에서 즉시 깨어나 대기열을 비우고, 주기적 polling 은
+ * 다른 노드 기록분·backoff 재시도용 안전망이다. 실제 삭제된 키마다 {@link ImageBlobDeletedEvent} 를
+ * 발행해 파생 이미지를 정리한다. 노드 내 동시 실행은 1개 ({@link CoalescingTrigger}).
+ */
+@Slf4j
+@Component
+public class FileDeletionWorker {
+
+    private final FileDeletionService fileDeletionService;
+    private final ImageProperties imageProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CoalescingTrigger trigger;
+
+    public FileDeletionWorker(FileDeletionService fileDeletionService, ImageProperties imageProperties,
+            ApplicationEventPublisher eventPublisher) {
+        this.fileDeletionService = fileDeletionService;
+        this.imageProperties = imageProperties;
+        this.eventPublisher = eventPublisher;
+        this.trigger = new CoalescingTrigger("file-deletion-worker", this::drainQueue,
+                e -> log.warn("파일 삭제 대기열 처리 실패 (다음 polling 에서 재시도): {}", e.getMessage()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeletionRequested(FileDeletionRequestedEvent event) {
+        trigger.wakeUp();
+    }
+
+    /**
+     * 주기적 polling. 깨우기 누락·다른 노드 기록분·재시도 시각이 된 항목 처리.
+     */
+    @Scheduled(fixedDelayString = "${app.image.deletion.poll-interval-ms:2000}")
+    public void poll() {
+        drain();
+    }
+
+    /**
+     * 재시도 시각이 된 항목이 없을 때까지 배치 처리. 이미 실행 중이면 재실행만 예약하고 반환.
+     */
+    public void drain() {
+        trigger.run();
+    }
+
+    private void drainQueue() {
+        int batchSize = imageProperties.deletion().batchSize();
+        FileDeletionService.BatchResult result;
+        do {
+            result = fileDeletionService.processBatch(batchSize);
+            result.deletedKeys().forEach(key -> eventPublisher.publishEvent(new ImageBlobDeletedEvent(key)));
+        } while (result.processed() == batchSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        trigger.shutdown();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.sns.service.image;
+
+import java.time.Instant;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+/**
+ * 이미지 응답 메타데이터 — 파일 I/O 없이 DB 값만으로 조건부 요청(304)을 판정하기 위한 값.
+ *
+ * <p>저장 파일명은 업로드마다 새로 발급되고 내용이 바뀌지 않으므로(교체 시 새 이름) 파일명 자체를 버전으로 쓴다.
+ * 같은 버전·규격이면 바이트가 같으므로 강한 ETag.
+ *
+ * @param storagePath  원본 저장 경로 (basePath 기준 상대)
+ * @param variant      요청 규격
+ * @param lastModified 최종 수정 시각 (게시글 수정 시각)
+ */
+public record ImageAsset(String storagePath, ImageVariant variant, Instant lastModified) {
+
+    /** 이미지 버전: 저장 파일명(확장자 제외). */
+    public String version() {
+        return versionOf(storagePath);
+    }
+
+    /** 강한 ETag (따옴표 포함). 버전 + 규격. */
+    public String etag() {
+        return "\"" + version() + "-" + variant.name().toLowerCase() + "\"";
+    }
+
+    /** 저장 파일 확장자 기준 Content-Type (파생본은 원본과 같은 포맷). */
+    public MediaType contentType() {
+        return MediaTypeFactory.getMediaType(storagePath).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    public static String versionOf(String storagePath) {
+        String filename = storagePath.substring(storagePath.lastIndexOf('/') + 1);
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sns.service.image;
+
+/**
+ * 저장 파일(blob) 삭제 이벤트. 파생본 등 해당 파일에서 파생된 캐시 정리용.
+ *
+ * @param storagePath 삭제된 파일의 basePath 기준 상대 경로
+ */
+public record ImageBlobDeletedEvent(String storagePath) {
+}
@@ -0,0 +1,336 @@
+package com.example.sns.service.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.config.upload.UploadProperties;
+import com.example.sns.service.storage.BlobStore;
+import com.example.sns.util.cache.LocalLruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 파생본(리사이즈) 생성·조회 서비스.
+ *
+ * <p>파생본은 저장소 키 {derivativeDir}/{최대 픽셀}/{원본 키} 에 원본과 같은 포맷으로 저장 (BlobStore 캐시).
+ * 업로드 직후 bounded 워커 풀에서 선생성하고, 기존 업로드·대기열 초과분은 첫 요청 시 생성한다.
+ * 디코딩 시 서브샘플링으로 목표 크기의 2배 정도까지만 읽어 메모리·CPU 사용을 줄인다.
+ * JPEG·PNG 만 변환하며, 그 외 포맷(GIF 애니메이션·WebP)과 이미 작은 이미지는 원본을 그대로 사용.
+ * 규격별 결정 결과(파생본 | 원본)는 로컬 LRU 에 캐시해 원격 저장소 존재 확인(HEAD)을 요청마다 하지 않는다.
+ * 저장소 I/O 오류로 확인·생성하지 못한 경우는 원본을 내주되 결정으로 캐시하지 않는다 (다음 요청에서 재시도).
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final String TEMP_DIR = "tmp";
+
+    private final BlobStore blobStore;
+    private final ImageProperties imageProperties;
+    private final ThreadPoolTaskExecutor imageDerivativeExecutor;
+    private final Path tempDir;
+
+    /** 파생본 키 → 실제 서빙할 키 (파생본 또는 원본). */
+    private final LocalLruCache<String, String> resolvedKeys;
+
+    /** 같은 파생본 동시 생성 방지 (요청 폭주 시 1회만 디코딩). */
+    private final Map<String, Object> generationLocks = new ConcurrentHashMap<>();
+
+    public ImageDerivativeService(BlobStore blobStore,
+                                  UploadProperties uploadProperties,
+                                  ImageProperties imageProperties,
+                                  @Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor imageDerivativeExecutor) {
+        this.blobStore = blobStore;
+        this.imageProperties = imageProperties;
+        this.imageDerivativeExecutor = imageDerivativeExecutor;
+        this.tempDir = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize().resolve(TEMP_DIR);
+        this.resolvedKeys = new LocalLruCache<>(imageProperties.pathCacheSize(), imageProperties.pathCacheTtl());
+    }
+
+    /**
+     * 모든 파생본을 백그라운드에서 생성. 대기열이 가득 차면 버려지고 요청 시 생성된다.
+     *
+     * @param key 원본 저장소 키
+     */
+    public void generateAsync(String key) {
+        imageDerivativeExecutor.execute(() -> {
+            for (ImageVariant variant : ImageVariant.derivatives()) {
+                resolve(key, variant);
+            }
+        });
+    }
+
+    /**
+     * 규격에 맞는 이미지 저장소 키. 파생본이 없으면 생성하고, 생성할 수 없으면 원본 키 반환.
+     *
+     * @param key     원본 저장소 키
+     * @param variant 요청 규격
+     */
+    public String resolve(String key, ImageVariant variant) {
+        return resolveKey(key, variant).key();
+    }
+
+    /**
+     * {@link #resolve} 와 같되, 저장소 I/O 오류로 원본을 임시로 대신 내주는 경우인지 함께 반환.
+     * 임시 대체는 다음 요청에서 파생본으로 바뀔 수 있으므로 응답 캐시(ETag·immutable)를 규격 기준으로 두면 안 된다.
+     *
+     * @param key     원본 저장소 키
+     * @param variant 요청 규격
+     */
+    public ResolvedKey resolveKey(String key, ImageVariant variant) {
+        if (variant == ImageVariant.ORIGINAL) {
+            return new ResolvedKey(key, false);
+        }
+        String target = derivativeKey(key, variant);
+        String cached = resolvedKeys.get(target);
+        if (cached != null) {
+            return new ResolvedKey(cached, false);
+        }
+        Object lock = generationLocks.computeIfAbsent(target, k -> new Object());
+        synchronized (lock) {
+            try {
+                String resolved = resolvedKeys.get(target);
+                if (resolved != null) {
+                    return new ResolvedKey(resolved, false);
+                }
+                Resolution resolution = existsOrGenerate(key, target, variant.maxDimension());
+                if (resolution == Resolution.UNAVAILABLE) {
+                    return new ResolvedKey(key, true);
+                }
+                resolved = resolution == Resolution.DERIVATIVE ? target : key;
+                resolvedKeys.put(target, resolved);
+                return new ResolvedKey(resolved, false);
+            } finally {
+                generationLocks.remove(target, lock);
+            }
+        }
+    }
+
+    /**
+     * 원본 blob 이 삭제되면(마지막 참조 해제, 커밋 후) 파생본도 삭제.
+     */
+    @EventListener
+    public void onBlobDeleted(ImageBlobDeletedEvent event) {
+        deleteDerivatives(event.storagePath());
+    }
+
+    /**
+     * 원본의 모든 파생본 삭제.
+     */
+    public void deleteDerivatives(String key) {
+        for (ImageVariant variant : ImageVariant.derivatives()) {
+            String target = derivativeKey(key, variant);
+            resolvedKeys.invalidate(target);
+            try {
+                blobStore.delete(target);
+            } catch (IOException e) {
+                log.warn("이미지 파생본 삭제 실패(무시): variant={}", variant, e);
+            }
+        }
+    }
+
+    private String derivativeKey(String key, ImageVariant variant) {
+        return imageProperties.derivativeDir() + "/" + variant.maxDimension() + "/" + key;
+    }
+
+    private Resolution existsOrGenerate(String key, String target, int maxDimension) {
+        try {
+            if (blobStore.exists(target)) {
+                return Resolution.DERIVATIVE;
+            }
+        } catch (IOException e) {
+            log.warn("이미지 파생본 확인 실패 — 원본 사용(캐시 안 함): maxDimension={}, error={}", maxDimension,
+                    e.getMessage());
+            return Resolution.UNAVAILABLE;
+        }
+        return generate(key, target, maxDimension);
+    }
+
+    /**
+     * 파생본 생성. 원본이 로컬 파일이 아니면 임시 파일로 받아 디코딩하고, 결과는 임시 파일에 쓴 뒤 저장소에 올린다
+     * (부분 파일 노출 방지).
+     *
+     * @return 생성 결과. 변환 불가·이미 작음·디코딩 실패는 ORIGINAL, 원본 받기·결과 저장 I/O 실패는 UNAVAILABLE
+     */
+    private Resolution generate(String key, String target, int maxDimension) {
+        Path downloaded = null;
+        Path output = null;
+        try {
+            Path original = blobStore.localPath(key).orElse(null);
+            if (original == null) {
+                try {
+                    downloaded = download(key);
+                } catch (IOException e) {
+                    log.warn("이미지 원본 받기 실패 — 원본 사용(캐시 안 함): maxDimension={}, error={}", maxDimension,
+                            e.getMessage());
+                    return Resolution.UNAVAILABLE;
+                }
+                original = downloaded;
+            }
+            if (!Files.exists(original)) {
+                return Resolution.UNAVAILABLE;
+            }
+            try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+                Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+                if (readers == null || !readers.hasNext()) {
+                    return Resolution.ORIGINAL;
+                }
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, true, true);
+                    String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                    if (!isResizable(format)) {
+                        return Resolution.ORIGINAL;
+                    }
+                    int width = reader.getWidth(0);
+                    int height = reader.getHeight(0);
+                    int longSide = Math.max(width, height);
+                    if (longSide <= maxDimension) {
+                        return Resolution.ORIGINAL;
+                    }
+
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    int subsampling = Math.max(1, longSide / (maxDimension * 2));
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    BufferedImage decoded = reader.read(0, param);
+
+                    double scale = (double) maxDimension / Math.max(decoded.getWidth(), decoded.getHeight());
+                    int targetWidth = Math.max(1, (int) Math.round(decoded.getWidth() * scale));
+                    int targetHeight = Math.max(1, (int) Math.round(decoded.getHeight() * scale));
+                    boolean jpeg = isJpeg(format);
+                    BufferedImage resized = resize(decoded, targetWidth, targetHeight, jpeg);
+
+                    try {
+                        output = createTempFile(".derivative-");
+                        write(resized, jpeg ? "jpeg" : "png", output);
+                        blobStore.put(target, output, jpeg ? "image/jpeg" : "image/png");
+                    } catch (IOException e) {
+                        log.warn("이미지 파생본 저장 실패 — 원본 사용(캐시 안 함): maxDimension={}, error={}",
+                                maxDimension, e.getMessage());
+                        return Resolution.UNAVAILABLE;
+                    }
+                    log.debug("이미지 파생본 생성: maxDimension={}, size={}x{}", maxDimension, targetWidth, targetHeight);
+                    return Resolution.DERIVATIVE;
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 파생본 생성 실패 — 원본 사용: maxDimension={}, error={}", maxDimension, e.getMessage());
+            return Resolution.ORIGINAL;
+        } finally {
+            deleteQuietly(downloaded);
+            deleteQuietly(output);
+        }
+    }
+
+    private Path download(String key) throws IOException {
+        Path temp = createTempFile(".original-");
+        try (InputStream in = blobStore.open(key)) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return temp;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    private Path createTempFile(String prefix) throws IOException {
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, prefix, ".tmp");
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패(무시)", e);
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height, boolean opaque) {
+        int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("이미지 writer 없음: " + format);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(imageProperties.jpegQuality());
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static boolean isResizable(String format) {
+        return isJpeg(format) || "png".equals(format);
+    }
+
+    private static boolean isJpeg(String format) {
+        return "jpeg".equals(format) || "jpg".equals(format);
+    }
+
+    /**
+     * 서빙할 저장소 키.
+     *
+     * @param key      실제 서빙할 키 (파생본 또는 원본)
+     * @param fallback 저장소 I/O 오류로 파생본 대신 원본을 임시로 내주는 경우 true (결정 캐시 안 됨)
+     */
+    public record ResolvedKey(String key, boolean fallback) {
+    }
+
+    /**
+     * 규격 결정 결과. DERIVATIVE·ORIGINAL 은 캐시하고, UNAVAILABLE(저장소 일시 오류)은 원본을 내주되 캐시하지 않는다.
+     */
+    private enum Resolution {
+        DERIVATIVE, ORIGINAL, UNAVAILABLE
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.sns.service.image;
+
+/**
+ * 이미지 가로·세로 픽셀 크기 (헤더에서 읽은 값, 디코딩 없음).
+ */
+public record ImageDimensions(int width, int height) {
+
+    public long pixels() {
+        return (long) width * height;
+    }
+
+    /**
+     * 가로·세로 교환 (EXIF 방향 5~8 — 90° 회전 표시).
+     */
+    public ImageDimensions transposed() {
+        return new ImageDimensions(height, width);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.sns.service.image;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 업로드 허용 이미지 포맷. 클라이언트 Content-Type·파일명 대신 magic byte 로 판별.
+ *
+ * <p>가로·세로 크기는 파일 앞부분(헤더)만으로 읽는다 — 이미지 디코딩 없이 해상도 상한 검증.
+ */
+public enum ImageFormat {
+
+    JPEG("image/jpeg", ".jpg"),
+    PNG("image/png", ".png"),
+    GIF("image/gif", ".gif"),
+    WEBP("image/webp", ".webp");
+
+    /** 포맷 판별에 필요한 최대 바이트 수. */
+    public static final int MAGIC_LENGTH = 12;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final String mimeType;
+    private final String extension;
+
+    ImageFormat(String mimeType, String extension) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+    }
+
+    public String mimeType() {
+        return mimeType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * magic byte 로 포맷 판별.
+     *
+     * @return 지원 포맷이 아니면 null
+     */
+    public static ImageFormat sniff(byte[] magic, int length) {
+        if (length >= 3 && u8(magic, 0) == 0xFF && u8(magic, 1) == 0xD8 && u8(magic, 2) == 0xFF) {
+            return JPEG;
+        }
+        if (length >= 8 && Arrays.equals(magic, 0, 8, PNG_SIGNATURE, 0, 8)) {
+            return PNG;
+        }
+        if (length >= 6 && (ascii(magic, 0, 6).equals("GIF87a") || ascii(magic, 0, 6).equals("GIF89a"))) {
+            return GIF;
+        }
+        if (length >= 12 && ascii(magic, 0, 4).equals("RIFF") && ascii(magic, 8, 4).equals("WEBP")) {
+            return WEBP;
+        }
+        return null;
+    }
+
+    /**
+     * 헤더 바이트에서 가로·세로 크기 읽기.
+     *
+     * @param header 파일 앞부분
+     * @param length header 중 유효 바이트 수
+     * @return 헤더 범위 안에서 찾지 못하면 null
+     */
+    public ImageDimensions readDimensions(byte[] header, int length) {
+        return switch (this) {
+            case PNG -> length >= 24 && ascii(header, 12, 4).equals("IHDR")
+                    ? new ImageDimensions(be32(header, 16), be32(header, 20)) : null;
+            case GIF -> length >= 10 ? new ImageDimensions(le16(header, 6), le16(header, 8)) : null;
+            case WEBP -> webpDimensions(header, length);
+            case JPEG -> jpegDimensions(header, length);
+        };
+    }
+
+    /**
+     * JPEG 마커를 따라가며 첫 SOF(Start Of Frame) 세그먼트의 크기 읽기.
+     */
+    private static ImageDimensions jpegDimensions(byte[] b, int length) {
+        int pos = 2;
+        while (pos + 3 < length) {
+            if (u8(b, pos) != 0xFF) {
+                return null;
+            }
+            int marker = u8(b, pos + 1);
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                pos += 2;
+                continue;
+            }
+            boolean startOfFrame = marker >= 0xC0 && marker <= 0xCF
+                    && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+            if (startOfFrame) {
+                // FF Cn | length(2) | precision(1) | height(2) | width(2)
+                return pos + 9 <= length ? new ImageDimensions(be16(b, pos + 7), be16(b, pos + 5)) : null;
+            }
+            pos += 2 + be16(b, pos + 2);
+        }
+        return null;
+    }
+
+    private static ImageDimensions webpDimensions(byte[] b, int length) {
+        if (length < 30) {
+            return null;
+        }
+        String chunk = ascii(b, 12, 4);
+        return switch (chunk) {
+            case "VP8 " -> new ImageDimensions(le16(b, 26) & 0x3FFF, le16(b, 28) & 0x3FFF);
+            case "VP8L" -> new ImageDimensions(
+                    1 + (((u8(b, 22) & 0x3F) << 8) | u8(b, 21)),
+                    1 + (((u8(b, 24) & 0x0F) << 10) | (u8(b, 23) << 2) | ((u8(b, 22) & 0xC0) >> 6)));
+            case "VP8X" -> new ImageDimensions(1 + le24(b, 24), 1 + le24(b, 27));
+            default -> null;
+        };
+    }
+
+    private static int u8(byte[] b, int i) {
+        return b[i] & 0xFF;
+    }
+
+    private static int be16(byte[] b, int i) {
+        return (u8(b, i) << 8) | u8(b, i + 1);
+    }
+
+    private static int be32(byte[] b, int i) {
+        return (be16(b, i) << 16) | be16(b, i + 2);
+    }
+
+    private static int le16(byte[] b, int i) {
+        return u8(b, i) | (u8(b, i + 1) << 8);
+    }
+
+    private static int le24(byte[] b, int i) {
+        return le16(b, i) | (u8(b, i + 2) << 16);
+    }
+
+    private static String ascii(byte[] b, int offset, int length) {
+        return new String(b, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.sns.service.image;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+/**
+ * 업로드 스트림 검사용 래퍼. 읽는 동안 크기 상한을 강제하고, 앞부분(최대 headerCapacity 바이트)만 보관해
+ * 저장이 끝난 뒤 헤더에서 해상도를 읽을 수 있게 한다. 메모리 사용 = headerCapacity (파일 크기와 무관).
+ */
+public class ImageIngestStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final long maxBytes;
+    private final byte[] header;
+    private int headerLength;
+    private long bytesRead;
+
+    public ImageIngestStream(InputStream in, long maxBytes, int headerCapacity) {
+        super(in);
+        this.maxBytes = maxBytes;
+        this.header = new byte[headerCapacity];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            observe(new byte[] {(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            observe(b, off, n);
+        }
+        return n;
+    }
+
+    /**
+     * 읽고 버리는 방식으로 건너뛴다. 건너뛴 바이트도 {@link #read(byte[], int, int)} 를 거쳐
+     * 크기 상한·헤더 보관·하위 스트림(해시) 처리를 그대로 받는다.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        byte[] scratch = new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(scratch, 0, (int) Math.min(remaining, scratch.length));
+            if (read < 0) {
+                break;
+            }
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    public byte[] header() {
+        return header;
+    }
+
+    public int headerLength() {
+        return headerLength;
+    }
+
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    private void observe(byte[] b, int off, int n) {
+        bytesRead += n;
+        if (bytesRead > maxBytes) {
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+        if (headerLength < header.length) {
+            int copy = Math.min(n, header.length - headerLength);
+            System.arraycopy(b, off, header, headerLength, copy);
+            headerLength += copy;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.sns.service.image;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * 이미지 바이트 위치. 로컬 파일(앱 서버가 zero-copy 전송) 또는 원격 저장소 pre-signed URL(클라이언트 redirect) 중 하나.
+ *
+ * @param file        로컬 파일 경로 (원격이면 null)
+ * @param redirectUrl pre-signed GET URL (로컬이면 null)
+ * @param fallback    요청 규격의 파생본 대신 원본을 임시로 내주는 경우 true (응답은 원본 ETag·재검증)
+ */
+public record ImageLocation(Path file, URI redirectUrl, boolean fallback) {
+
+    public static ImageLocation local(Path file, boolean fallback) {
+        return new ImageLocation(file, null, fallback);
+    }
+
+    public static ImageLocation redirect(URI redirectUrl, boolean fallback) {
+        return new ImageLocation(null, redirectUrl, fallback);
+    }
+
+    public boolean isRedirect() {
+        return redirectUrl != null;
+    }
+}
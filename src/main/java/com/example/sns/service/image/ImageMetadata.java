@@ -0,0 +1,39 @@
+package com.example.sns.service.image;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 이미지 메타데이터 (EXIF·XMP 헤더에서 추출, 픽셀 디코딩 없음).
+ *
+ * @param latitude    촬영 위치 위도 (없으면 null)
+ * @param longitude   촬영 위치 경도 (없으면 null)
+ * @param capturedAt  촬영 시각 (카메라 로컬 시각, 없으면 null)
+ * @param orientation EXIF 방향 1~8 (1 = 회전 없음)
+ */
+public record ImageMetadata(Double latitude, Double longitude, LocalDateTime capturedAt, int orientation) {
+
+    public static final ImageMetadata EMPTY = new ImageMetadata(null, null, null, 1);
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * 방향 5~8 은 90° 회전 — 표시 크기는 가로·세로가 바뀐다.
+     */
+    public boolean isTransposed() {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * 비어 있는 값만 fallback 에서 채움 (EXIF 우선, XMP 보조).
+     */
+    public ImageMetadata orElse(ImageMetadata fallback) {
+        boolean useFallbackLocation = !hasLocation() && fallback.hasLocation();
+        return new ImageMetadata(
+                useFallbackLocation ? fallback.latitude : latitude,
+                useFallbackLocation ? fallback.longitude : longitude,
+                capturedAt != null ? capturedAt : fallback.capturedAt,
+                orientation != 1 ? orientation : fallback.orientation);
+    }
+}
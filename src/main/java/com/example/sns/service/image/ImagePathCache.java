@@ -0,0 +1,55 @@
+package com.example.sns.service.image;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.util.cache.LocalLruCache;
+
+/**
+ * 이미지 게시글 ID → 저장 경로 캐시. 이미지 서빙 hot path 에서 JPA 조회(엔티티 로딩·커넥션 획득)를 생략.
+ *
+ * <p>이미지 교체·게시글 삭제 시 커밋 후 무효화 (커밋 전 무효화하면 동시 조회가 옛 값을 다시 적재할 수 있음).
+ * 다른 노드의 변경은 TTL 내에 반영되며, 버전(v)이 다른 요청은 캐시를 우회한다.
+ */
+@Component
+public class ImagePathCache {
+
+    private final LocalLruCache<Long, StoredImage> cache;
+
+    public ImagePathCache(ImageProperties imageProperties) {
+        this.cache = new LocalLruCache<>(imageProperties.pathCacheSize(), imageProperties.pathCacheTtl());
+    }
+
+    public StoredImage get(Long imagePostId) {
+        return cache.get(imagePostId);
+    }
+
+    public void put(Long imagePostId, StoredImage storedImage) {
+        cache.put(imagePostId, storedImage);
+    }
+
+    /**
+     * 무효화. 트랜잭션 안이면 커밋 후, 아니면 즉시.
+     */
+    public void evict(Long imagePostId) {
+        cache.invalidate(imagePostId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(imagePostId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 값: 저장 경로와 최종 수정 시각.
+     */
+    public record StoredImage(String storagePath, Instant lastModified) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.sns.service.image;
+
+import java.util.Arrays;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+/**
+ * 이미지 파생본 규격. 긴 변 기준 최대 픽셀 (원본이 더 작으면 확대하지 않음).
+ */
+public enum ImageVariant {
+
+    /** 피드·목록 썸네일. */
+    THUMBNAIL(160),
+    /** 모바일 피드·카드. */
+    MEDIUM(480),
+    /** 상세 화면. */
+    LARGE(1080),
+    /** 원본. */
+    ORIGINAL(0);
+
+    private final int maxDimension;
+
+    ImageVariant(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public int maxDimension() {
+        return maxDimension;
+    }
+
+    /** 원본 외 파생본 목록 (업로드 시 선생성 대상). */
+    public static ImageVariant[] derivatives() {
+        return new ImageVariant[] {THUMBNAIL, MEDIUM, LARGE};
+    }
+
+    /**
+     * 요청 파라미터(size)를 규격으로 변환. null·빈 값·"original" 은 원본.
+     *
+     * @param size 160 | 480 | 1080 | original
+     */
+    public static ImageVariant fromParam(String size) {
+        if (size == null || size.isBlank() || "original".equalsIgnoreCase(size)) {
+            return ORIGINAL;
+        }
+        return Arrays.stream(derivatives())
+                .filter(v -> String.valueOf(v.maxDimension).equals(size.trim()))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_ERROR,
+                        "size 는 160, 480, 1080, original 중 하나여야 합니다."));
+    }
+}
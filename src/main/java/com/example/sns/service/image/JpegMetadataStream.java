@@ -0,0 +1,264 @@
+package com.example.sns.service.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JPEG 메타데이터 추출·제거 스트림. 업로드 스트림을 그대로 흘려보내면서 SOS(이미지 데이터 시작) 이전
+ * 세그먼트만 해석한다 — 픽셀 디코딩·추가 I/O 없음, 메모리는 세그먼트 1개(최대 64KB).
+ *
+ * <ul>
+ *   <li>APP1 EXIF: 위치·촬영 시각·방향을 읽고, 방향 태그만 남긴 최소 EXIF 로 교체 (GPS·기기 일련번호·MakerNote 제거)</li>
+ *   <li>APP1 XMP·APP13(IPTC)·COM·ICC 가 아닌 APP2(MPF·FlashPix)·기타 제조사 APPn: 읽은 뒤(XMP 는 위치·시각 보조) 제거</li>
+ *   <li>APP0(JFIF)·APP2 ICC_PROFILE(색 프로파일)·APP14(Adobe)·프레임/테이블 세그먼트: 그대로 유지</li>
+ *   <li>SOS 이후: 엔트로피 데이터를 따라가며 주 이미지 EOI 에서 끊는다 — 뒤에 붙은 보조 이미지(MPF 미리보기·
+ *   게인 맵)는 각자 GPS 가 든 EXIF 를 가지므로 저장하지 않는다 (읽지도 않음)</li>
+ * </ul>
+ * 구조가 예상과 다르면 그 지점부터 원본을 그대로 통과시킨다 (형식 검증은 다른 단계 담당).
+ */
+public class JpegMetadataStream extends MetadataStrippingStream {
+
+    private static final int MARKER_SOS = 0xDA;
+    private static final int MARKER_EOI = 0xD9;
+    private static final int MARKER_APP0 = 0xE0;
+    private static final int MARKER_APP1 = 0xE1;
+    private static final int MARKER_APP2 = 0xE2;
+    private static final int MARKER_APP14 = 0xEE;
+    private static final int MARKER_APP15 = 0xEF;
+    private static final int MARKER_COM = 0xFE;
+
+    private static final byte[] EXIF_ID = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] XMP_ID = "http://ns.adobe.com/xap/1.0/\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] ICC_ID = "ICC_PROFILE\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] EMPTY = new byte[0];
+
+    /** SOS 이후 상태: 엔트로피 데이터, 0xFF 직후, 마커 세그먼트 길이 상위·하위 바이트, 세그먼트 본문. */
+    private static final int SCAN_ENTROPY = 0;
+    private static final int SCAN_MARKER = 1;
+    private static final int SCAN_LENGTH_HIGH = 2;
+    private static final int SCAN_LENGTH_LOW = 3;
+    private static final int SCAN_SEGMENT = 4;
+
+    private final InputStream in;
+    private byte[] pending = EMPTY;
+    private int pendingPos;
+    private boolean started;
+    private boolean passthrough;
+    private boolean scanning;
+    private boolean finished;
+    private int scanState;
+    private int segmentRemaining;
+    private ImageMetadata exif = ImageMetadata.EMPTY;
+    private ImageMetadata xmp = ImageMetadata.EMPTY;
+    private int strippedBytes;
+
+    public JpegMetadataStream(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * 추출한 메타데이터 (EXIF 우선, 빈 값은 XMP). 스트림을 끝까지 읽은 뒤 호출.
+     */
+    @Override
+    public ImageMetadata metadata() {
+        return exif.orElse(xmp);
+    }
+
+    /**
+     * 제거된 메타데이터 바이트 수 (교체한 최소 EXIF 제외, 읽지 않은 EOI 뒤 데이터 제외).
+     */
+    @Override
+    public int strippedBytes() {
+        return strippedBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = read(one, 0, 1);
+        return n < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (pendingPos >= pending.length && !passthrough && !scanning && !finished) {
+            nextSegment();
+        }
+        if (pendingPos < pending.length) {
+            int n = Math.min(len, pending.length - pendingPos);
+            System.arraycopy(pending, pendingPos, b, off, n);
+            pendingPos += n;
+            return n;
+        }
+        if (finished) {
+            return -1;
+        }
+        int n = in.read(b, off, len);
+        return n > 0 && scanning ? scan(b, off, n) : n;
+    }
+
+    /**
+     * SOS 이후 바이트를 따라가며 주 이미지 EOI 위치를 찾는다. 엔트로피 데이터 안의 0xFF 는 0x00(stuffing)·
+     * RST 가 뒤따르고, 그 외 마커(progressive 의 DHT·SOS 등)는 길이만큼 본문을 건너뛴다.
+     *
+     * @return 출력할 바이트 수 (EOI 를 찾으면 EOI 까지)
+     */
+    private int scan(byte[] b, int off, int n) {
+        for (int i = off; i < off + n; i++) {
+            int value = b[i] & 0xFF;
+            switch (scanState) {
+                case SCAN_ENTROPY -> {
+                    if (value == 0xFF) {
+                        scanState = SCAN_MARKER;
+                    }
+                }
+                case SCAN_MARKER -> {
+                    if (value == MARKER_EOI) {
+                        finished = true;
+                        return i - off + 1;
+                    }
+                    if (value == 0x00 || value == 0x01 || (value >= 0xD0 && value <= 0xD7)) {
+                        scanState = SCAN_ENTROPY;
+                    } else if (value != 0xFF) {
+                        scanState = SCAN_LENGTH_HIGH;
+                    }
+                }
+                case SCAN_LENGTH_HIGH -> {
+                    segmentRemaining = value << 8;
+                    scanState = SCAN_LENGTH_LOW;
+                }
+                case SCAN_LENGTH_LOW -> {
+                    segmentRemaining = (segmentRemaining | value) - 2;
+                    scanState = segmentRemaining > 0 ? SCAN_SEGMENT : SCAN_ENTROPY;
+                }
+                default -> {
+                    if (--segmentRemaining == 0) {
+                        scanState = SCAN_ENTROPY;
+                    }
+                }
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * 세그먼트 1개를 읽어 유지·교체·제거 결정 후 pending 에 출력분 적재.
+     */
+    private void nextSegment() throws IOException {
+        if (!started) {
+            started = true;
+            byte[] soi = in.readNBytes(2);
+            emit(soi);
+            passthrough = soi.length < 2 || (soi[0] & 0xFF) != 0xFF || (soi[1] & 0xFF) != 0xD8;
+            return;
+        }
+        int first = in.read();
+        if (first != 0xFF) {
+            emitAndPassthrough(first < 0 ? EMPTY : new byte[] {(byte) first});
+            return;
+        }
+        int marker = in.read();
+        while (marker == 0xFF) {
+            marker = in.read(); // 채움 바이트
+        }
+        if (marker < 0) {
+            emitAndPassthrough(new byte[] {(byte) 0xFF});
+            return;
+        }
+        boolean standalone = marker == 0x01 || (marker >= 0xD0 && marker <= MARKER_EOI);
+        if (marker == MARKER_SOS || standalone) {
+            emit(new byte[] {(byte) 0xFF, (byte) marker});
+            if (marker == MARKER_SOS) {
+                scanning = true;
+                scanState = SCAN_LENGTH_HIGH;
+            }
+            finished = marker == MARKER_EOI;
+            return;
+        }
+
+        byte[] lengthBytes = in.readNBytes(2);
+        int length = lengthBytes.length == 2 ? ((lengthBytes[0] & 0xFF) << 8) | (lengthBytes[1] & 0xFF) : 0;
+        byte[] payload = length >= 2 ? in.readNBytes(length - 2) : EMPTY;
+        if (length < 2 || payload.length != length - 2) {
+            emitAndPassthrough(concat(new byte[] {(byte) 0xFF, (byte) marker}, lengthBytes, payload));
+            return;
+        }
+        byte[] replacement = filter(marker, payload);
+        emit(replacement != null ? replacement : concat(new byte[] {(byte) 0xFF, (byte) marker}, lengthBytes, payload));
+    }
+
+    /**
+     * @return 교체 세그먼트(제거 시 빈 배열), 유지하면 null
+     */
+    private byte[] filter(int marker, byte[] payload) {
+        boolean iccProfile = marker == MARKER_APP2 && startsWith(payload, ICC_ID);
+        if (marker == MARKER_APP0 || marker == MARKER_APP14 || iccProfile) {
+            return null;
+        }
+        boolean metadataSegment = (marker >= MARKER_APP1 && marker <= MARKER_APP15) || marker == MARKER_COM;
+        if (!metadataSegment) {
+            return null;
+        }
+        strippedBytes += payload.length + 4;
+        if (marker == MARKER_APP1 && startsWith(payload, EXIF_ID)) {
+            exif = exif.orElse(ExifParser.parseTiff(payload, EXIF_ID.length, payload.length - EXIF_ID.length));
+            byte[] minimal = minimalExif(exif.orientation());
+            strippedBytes -= minimal.length;
+            return minimal;
+        }
+        if (marker == MARKER_APP1 && startsWith(payload, XMP_ID)) {
+            xmp = xmp.orElse(ExifParser.parseXmp(payload, XMP_ID.length, payload.length - XMP_ID.length));
+        }
+        return EMPTY;
+    }
+
+    /**
+     * 방향 태그 하나만 담은 APP1 EXIF. 방향이 기본값(1)이면 EXIF 자체를 생략.
+     */
+    private static byte[] minimalExif(int orientation) {
+        if (orientation == 1) {
+            return EMPTY;
+        }
+        byte[] tiff = ExifParser.orientationOnlyTiff(orientation);
+        int length = 2 + EXIF_ID.length + tiff.length;
+        return concat(new byte[] {(byte) 0xFF, (byte) MARKER_APP1, (byte) (length >> 8), (byte) length}, EXIF_ID, tiff);
+    }
+
+    private void emit(byte[] bytes) {
+        pending = bytes;
+        pendingPos = 0;
+    }
+
+    private void emitAndPassthrough(byte[] bytes) {
+        emit(bytes);
+        passthrough = true;
+    }
+
+    static boolean startsWith(byte[] payload, byte[] prefix) {
+        return payload.length >= prefix.length && Arrays.equals(payload, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] joined = new byte[length];
+        int pos = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, joined, pos, part.length);
+            pos += part.length;
+        }
+        return joined;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.sns.service.image;
+
+import java.io.InputStream;
+
+/**
+ * 업로드 스트림을 흘려보내면서 형식별 메타데이터를 읽고 저장본에서 제거하는 스트림 공통.
+ *
+ * <p>구현: JPEG(APPn·COM 세그먼트), PNG(eXIf·텍스트 청크), WebP(EXIF·XMP 청크). GIF 는 대상 아님.
+ */
+public abstract class MetadataStrippingStream extends InputStream {
+
+    /**
+     * 형식에 맞는 스트림. 메타데이터 처리 대상이 아닌 형식이면 null.
+     */
+    public static MetadataStrippingStream of(ImageFormat format, InputStream in) {
+        return switch (format) {
+            case JPEG -> new JpegMetadataStream(in);
+            case PNG -> new PngMetadataStream(in);
+            case WEBP -> new WebpMetadataStream(in);
+            default -> null;
+        };
+    }
+
+    /**
+     * 추출한 메타데이터. 스트림을 끝까지 읽은 뒤 호출.
+     */
+    public abstract ImageMetadata metadata();
+
+    /**
+     * 제거된 메타데이터 바이트 수 (교체한 최소 EXIF 제외).
+     */
+    public abstract int strippedBytes();
+}
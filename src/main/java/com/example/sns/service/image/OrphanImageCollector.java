@@ -0,0 +1,285 @@
+package com.example.sns.service.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.dto.response.ImageGcReportResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.repository.ImageBlobRepository;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.service.JobLeaseService;
+import com.example.sns.service.storage.BlobEntry;
+import com.example.sns.service.storage.BlobStore;
+import com.example.sns.util.bloom.BloomFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고아 이미지 파일 GC.
+ *
+ * <p>업로드 후 트랜잭션 롤백·예외로 어떤 게시글·blob 도 참조하지 않게 된 파일(원본·파생본)을 찾아 정리한다.
+ * <ol>
+ *   <li>게시글·blob 의 참조 경로를 keyset 배치로 읽어 Bloom filter 구성 (메모리 = 항목당 약 1.2바이트)</li>
+ *   <li>저장소를 지연 순회하며 filter 가 "확실히 없음"이라 답한 파일만 후보로 모음</li>
+ *   <li>후보를 배치로 DB 재확인 후 quarantine/ 로 격리, 유예 기간이 지난 격리 항목은 삭제</li>
+ * </ol>
+ * 최근(minAge 이내) 파일은 진행 중 업로드일 수 있어 건드리지 않는다. 격리된 blob 을 다시 업로드하면
+ * FileStorageService 가 파일 부재를 감지해 다시 저장하므로, 경합으로 잘못 격리되어도 복구된다.
+ * 배치마다 대기해 디스크·저장소 I/O 를 제한. dryRun 은 보고만 한다.
+ * 모든 노드가 같은 cron 으로 깨어나므로 실행 전 클러스터 임대({@link JobLeaseService})를 잡는다.
+ * 항목별 이동·삭제 실패는 집계·로그만 남기고 다음 항목으로 진행 — 이미 없는 파일(다른 노드·삭제 작업자가
+ * 먼저 처리)은 정상 처리된 것으로 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanImageCollector {
+
+    static final String QUARANTINE_DIR = "quarantine";
+    static final String LEASE_NAME = "image-gc";
+    private static final String TEMP_DIR = "tmp";
+    private static final int SAMPLE_LIMIT = 100;
+
+    private final BlobStore blobStore;
+    private final ImagePostRepository imagePostRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageProperties imageProperties;
+    private final JobLeaseService jobLeaseService;
+
+    @Scheduled(cron = "${app.image.gc.cron:0 0 4 * * *}")
+    public void run() {
+        ImageProperties.Gc gc = imageProperties.gc();
+        if (!gc.enabled()) {
+            return;
+        }
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, gc.lockTtl())) {
+            log.debug("이미지 GC 건너뜀 — 다른 노드가 실행 중");
+            return;
+        }
+        execute(gc.dryRun());
+    }
+
+    /**
+     * GC 1회 실행. 클러스터 전체에서 동시에 한 번만 실행.
+     *
+     * @param dryRun true 면 격리·삭제 없이 보고만
+     */
+    public ImageGcReportResponse collect(boolean dryRun) {
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, imageProperties.gc().lockTtl())) {
+            throw new BusinessException(ErrorCode.OPERATION_IN_PROGRESS, "이미지 GC 가 이미 실행 중입니다.");
+        }
+        return execute(dryRun);
+    }
+
+    /** 임대를 잡은 뒤 호출. 끝나면 임대 해제. */
+    private ImageGcReportResponse execute(boolean dryRun) {
+        try {
+            ImageGcReportResponse report = new Run(dryRun, Instant.now()).execute();
+            log.info("이미지 GC 완료: dryRun={}, scanned={}, orphans={}, orphanBytes={}, quarantined={}, purged={}, "
+                            + "failed={}, elapsedMs={}", report.dryRun(), report.scanned(), report.orphans(),
+                    report.orphanBytes(), report.quarantined(), report.purged(), report.failed(), report.elapsedMs());
+            return report;
+        } catch (IOException e) {
+            log.error("이미지 GC 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "이미지 GC 에 실패했습니다.");
+        } finally {
+            jobLeaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 실행 1회의 상태·집계.
+     */
+    private final class Run {
+
+        private final boolean dryRun;
+        private final Instant startedAt;
+        private final ImageProperties.Gc gc = imageProperties.gc();
+        private final String derivativePrefix = imageProperties.derivativeDir() + "/";
+        private final List<BlobEntry> candidates = new ArrayList<>();
+        private final List<String> samples = new ArrayList<>();
+        private long scanned;
+        private long orphans;
+        private long orphanBytes;
+        private long quarantined;
+        private long purged;
+        private long failed;
+
+        Run(boolean dryRun, Instant startedAt) {
+            this.dryRun = dryRun;
+            this.startedAt = startedAt;
+        }
+
+        ImageGcReportResponse execute() throws IOException {
+            BloomFilter live = buildLiveSet();
+            Instant youngest = startedAt.minus(gc.minAge());
+            try (Stream<BlobEntry> entries = blobStore.list("")) {
+                Iterator<BlobEntry> iterator = entries.iterator();
+                while (iterator.hasNext()) {
+                    BlobEntry entry = iterator.next();
+                    if (++scanned % gc.batchSize() == 0 && !pause()) {
+                        break;
+                    }
+                    inspect(entry, live, youngest);
+                }
+            } catch (UncheckedIOException e) {
+                // 저장소 순회 자체가 끊기면 이번 실행은 여기까지 — 모은 후보는 아래에서 처리
+                failed++;
+                log.warn("이미지 GC 저장소 순회 중단: scanned={}", scanned, e);
+            }
+            flushCandidates();
+            return new ImageGcReportResponse(dryRun, scanned, orphans, orphanBytes, quarantined, purged, failed,
+                    List.copyOf(samples), Duration.between(startedAt, Instant.now()).toMillis());
+        }
+
+        private void inspect(BlobEntry entry, BloomFilter live, Instant youngest) {
+            String key = entry.key();
+            if (key.startsWith(QUARANTINE_DIR + "/")) {
+                if (entry.lastModified().isBefore(startedAt.minus(gc.quarantineRetention()))) {
+                    purge(key);
+                }
+                return;
+            }
+            if (entry.lastModified().isAfter(youngest)) {
+                return;
+            }
+            if (key.startsWith(TEMP_DIR + "/")) {
+                purge(key);
+                return;
+            }
+            if (live.mightContain(originalKeyOf(key))) {
+                return;
+            }
+            candidates.add(entry);
+            if (candidates.size() >= gc.batchSize()) {
+                flushCandidates();
+            }
+        }
+
+        /**
+         * 후보(filter 상 없음)를 DB 로 재확인 — filter 구성 이후 참조된 경로 보호.
+         */
+        private void flushCandidates() {
+            if (candidates.isEmpty()) {
+                return;
+            }
+            Set<String> originals = new HashSet<>();
+            candidates.forEach(entry -> originals.add(originalKeyOf(entry.key())));
+            Set<String> referenced = new HashSet<>(imagePostRepository.findReferencedStoragePaths(originals));
+            referenced.addAll(imageBlobRepository.findReferencedStoragePaths(originals));
+
+            for (BlobEntry entry : candidates) {
+                if (referenced.contains(originalKeyOf(entry.key()))) {
+                    continue;
+                }
+                orphans++;
+                orphanBytes += entry.sizeBytes();
+                if (samples.size() < SAMPLE_LIMIT) {
+                    samples.add(entry.key());
+                }
+                if (!dryRun) {
+                    quarantine(entry.key());
+                }
+            }
+            candidates.clear();
+        }
+
+        private void quarantine(String key) {
+            try {
+                blobStore.move(key, QUARANTINE_DIR + "/" + key);
+                quarantined++;
+            } catch (NoSuchFileException e) {
+                log.debug("이미지 GC 격리 대상이 이미 없음: key={}", key);
+            } catch (IOException | RuntimeException e) {
+                failed++;
+                log.warn("이미지 GC 격리 실패: key={}", key, e);
+            }
+        }
+
+        private void purge(String key) {
+            if (dryRun) {
+                purged++;
+                return;
+            }
+            try {
+                blobStore.delete(key);
+                purged++;
+            } catch (NoSuchFileException e) {
+                log.debug("이미지 GC 삭제 대상이 이미 없음: key={}", key);
+            } catch (IOException | RuntimeException e) {
+                failed++;
+                log.warn("이미지 GC 삭제 실패: key={}", key, e);
+            }
+        }
+
+        /**
+         * 참조 경로 전체를 Bloom filter 로 (실행마다 seed 변경 — 같은 고아가 계속 오탐되지 않도록).
+         */
+        private BloomFilter buildLiveSet() {
+            long expected = imagePostRepository.count() + imageBlobRepository.count();
+            BloomFilter filter = new BloomFilter(expected, gc.falsePositiveRate(), startedAt.toEpochMilli());
+            PageRequest batch = PageRequest.of(0, gc.batchSize());
+
+            long afterId = 0;
+            List<ImagePostRepository.StoragePathRow> rows;
+            do {
+                rows = imagePostRepository.findStoragePathsAfter(afterId, batch);
+                for (ImagePostRepository.StoragePathRow row : rows) {
+                    if (row.getStoragePath() != null) {
+                        filter.put(row.getStoragePath());
+                    }
+                    afterId = row.getId();
+                }
+            } while (rows.size() == gc.batchSize());
+
+            String after = "";
+            List<String> paths;
+            do {
+                paths = imageBlobRepository.findReferencedStoragePathsAfter(after, batch);
+                paths.forEach(filter::put);
+                if (!paths.isEmpty()) {
+                    after = paths.get(paths.size() - 1);
+                }
+            } while (paths.size() == gc.batchSize());
+            log.debug("이미지 GC 참조 집합 구성: expected={}, filterBytes={}", expected, filter.sizeInBytes());
+            return filter;
+        }
+
+        /**
+         * 파생본 키({derivativeDir}/{size}/{원본 키})는 원본 키로, 그 외는 그대로.
+         */
+        private String originalKeyOf(String key) {
+            if (key.startsWith(derivativePrefix)) {
+                int slash = key.indexOf('/', derivativePrefix.length());
+                return slash < 0 ? key : key.substring(slash + 1);
+            }
+            return key;
+        }
+
+        private boolean pause() {
+            try {
+                Thread.sleep(gc.batchPause());
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
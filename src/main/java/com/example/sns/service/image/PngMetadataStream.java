@@ -0,0 +1,187 @@
+package com.example.sns.service.image;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * PNG 메타데이터 추출·제거 스트림. 청크 헤더만 해석하고 이미지 데이터(IDAT)는 그대로 흘려보낸다.
+ *
+ * <ul>
+ *   <li>eXIf: 위치·촬영 시각·방향을 읽고, 방향 태그만 남긴 최소 eXIf 로 교체</li>
+ *   <li>tEXt·zTXt·iTXt: 제거 (XMP·작성 도구·설명 등 — iTXt XMP 는 위치·시각 보조)</li>
+ *   <li>IEND 이후 덧붙은 데이터: 저장하지 않음</li>
+ * </ul>
+ * 구조가 예상과 다르면 그 지점부터 원본을 그대로 통과시킨다.
+ */
+public class PngMetadataStream extends MetadataStrippingStream {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] XMP_KEYWORD = "XML:com.adobe.xmp\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final String EXIF = "eXIf";
+    private static final String END = "IEND";
+    private static final Set<String> TEXT_CHUNKS = Set.of("tEXt", "zTXt", "iTXt");
+    /** 파싱을 위해 메모리에 올리는 메타데이터 청크 상한. 넘으면 읽지 않고 버린다. */
+    private static final int MAX_PARSED_CHUNK = 1 << 20;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final InputStream in;
+    private byte[] pending = EMPTY;
+    private int pendingPos;
+    private long copyRemaining;
+    private boolean started;
+    private boolean passthrough;
+    private boolean finished;
+    private ImageMetadata exif = ImageMetadata.EMPTY;
+    private ImageMetadata xmp = ImageMetadata.EMPTY;
+    private int strippedBytes;
+
+    public PngMetadataStream(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * 추출한 메타데이터 (eXIf 우선, 빈 값은 iTXt XMP). 스트림을 끝까지 읽은 뒤 호출.
+     */
+    @Override
+    public ImageMetadata metadata() {
+        return exif.orElse(xmp);
+    }
+
+    @Override
+    public int strippedBytes() {
+        return strippedBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = read(one, 0, 1);
+        return n < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (pendingPos >= pending.length && copyRemaining == 0 && !passthrough && !finished) {
+            nextChunk();
+        }
+        if (pendingPos < pending.length) {
+            int n = Math.min(len, pending.length - pendingPos);
+            System.arraycopy(pending, pendingPos, b, off, n);
+            pendingPos += n;
+            return n;
+        }
+        if (copyRemaining > 0) {
+            int n = in.read(b, off, (int) Math.min(len, copyRemaining));
+            if (n > 0) {
+                copyRemaining -= n;
+            }
+            return n;
+        }
+        return finished ? -1 : in.read(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * 청크 1개 헤더를 읽어 유지(본문은 스트리밍 복사)·교체·제거 결정.
+     */
+    private void nextChunk() throws IOException {
+        if (!started) {
+            started = true;
+            byte[] signature = in.readNBytes(SIGNATURE.length);
+            emit(signature);
+            passthrough = !Arrays.equals(signature, SIGNATURE);
+            return;
+        }
+        byte[] header = in.readNBytes(8);
+        if (header.length == 0) {
+            finished = true;
+            return;
+        }
+        int length = header.length == 8 ? readInt(header, 0) : -1;
+        if (length < 0) {
+            emit(header);
+            passthrough = true;
+            return;
+        }
+        String type = new String(header, 4, 4, StandardCharsets.ISO_8859_1);
+        if (END.equals(type)) {
+            emit(JpegMetadataStream.concat(header, in.readNBytes(length + 4)));
+            finished = true;
+            return;
+        }
+        if (!EXIF.equals(type) && !TEXT_CHUNKS.contains(type)) {
+            emit(header);
+            copyRemaining = length + 4L;
+            return;
+        }
+
+        strippedBytes += length + 12;
+        if (length > MAX_PARSED_CHUNK) {
+            try {
+                in.skipNBytes(length + 4L);
+            } catch (EOFException e) {
+                finished = true;
+            }
+            return;
+        }
+        byte[] data = in.readNBytes(length);
+        in.readNBytes(4); // CRC
+        if (EXIF.equals(type)) {
+            exif = exif.orElse(ExifParser.parseTiff(data, 0, data.length));
+            emit(minimalExif(exif.orientation()));
+            return;
+        }
+        if ("iTXt".equals(type) && JpegMetadataStream.startsWith(data, XMP_KEYWORD)) {
+            // keyword\0 압축플래그 압축방식 언어\0 번역키워드\0 본문 — 압축되지 않은 XMP 만 읽는다
+            if (data.length > XMP_KEYWORD.length && data[XMP_KEYWORD.length] == 0) {
+                xmp = xmp.orElse(ExifParser.parseXmp(data, XMP_KEYWORD.length, data.length - XMP_KEYWORD.length));
+            }
+        }
+    }
+
+    /**
+     * 방향 태그 하나만 담은 eXIf 청크. 방향이 기본값(1)이면 생략.
+     */
+    private static byte[] minimalExif(int orientation) {
+        if (orientation == 1) {
+            return EMPTY;
+        }
+        byte[] tiff = ExifParser.orientationOnlyTiff(orientation);
+        byte[] chunk = new byte[12 + tiff.length];
+        writeInt(chunk, 0, tiff.length);
+        System.arraycopy(EXIF.getBytes(StandardCharsets.ISO_8859_1), 0, chunk, 4, 4);
+        System.arraycopy(tiff, 0, chunk, 8, tiff.length);
+        CRC32 crc = new CRC32();
+        crc.update(chunk, 4, 4 + tiff.length);
+        writeInt(chunk, 8 + tiff.length, (int) crc.getValue());
+        return chunk;
+    }
+
+    private void emit(byte[] bytes) {
+        pending = bytes;
+        pendingPos = 0;
+    }
+
+    private static int readInt(byte[] b, int pos) {
+        return ((b[pos] & 0xFF) << 24) | ((b[pos + 1] & 0xFF) << 16) | ((b[pos + 2] & 0xFF) << 8) | (b[pos + 3] & 0xFF);
+    }
+
+    private static void writeInt(byte[] b, int pos, int value) {
+        b[pos] = (byte) (value >>> 24);
+        b[pos + 1] = (byte) (value >>> 16);
+        b[pos + 2] = (byte) (value >>> 8);
+        b[pos + 3] = (byte) value;
+    }
+}
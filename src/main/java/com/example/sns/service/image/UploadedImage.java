@@ -0,0 +1,11 @@
+package com.example.sns.service.image;
+
+/**
+ * 업로드 이미지 저장 결과.
+ *
+ * @param storagePath 저장소 키 (blobs/ab/{sha256}.ext)
+ * @param dimensions  표시 기준 가로·세로 (EXIF 방향 반영, 헤더에서 읽지 못하면 null)
+ * @param metadata    업로드 원본의 EXIF·XMP 메타데이터 (저장본에서는 제거됨)
+ */
+public record UploadedImage(String storagePath, ImageDimensions dimensions, ImageMetadata metadata) {
+}
@@ -0,0 +1,173 @@
+package com.example.sns.service.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * WebP 메타데이터 추출·제거 스트림. RIFF 청크 헤더만 해석하고 이미지 데이터는 그대로 흘려보낸다.
+ *
+ * <p>EXIF·XMP 청크는 보통 이미지 데이터 뒤에 오는데, 파일 맨 앞 RIFF 크기는 이미 내보낸 뒤라 청크를 빼면
+ * 크기가 어긋난다. 그래서 빼는 대신 같은 크기의 JUNK 청크(RIFF 표준 패딩, 디코더가 무시)로 바꾸고 본문을
+ * 0 으로 채운다 — 버퍼링 없이 한 번에 처리. VP8X 의 EXIF·XMP 존재 플래그도 끈다.
+ * RIFF 크기 뒤에 덧붙은 데이터는 저장하지 않는다. 구조가 예상과 다르면 그 지점부터 원본을 그대로 통과시킨다.
+ */
+public class WebpMetadataStream extends MetadataStrippingStream {
+
+    private static final byte[] RIFF = "RIFF".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] WEBP = "WEBP".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] JUNK = "JUNK".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] EXIF_ID = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final String VP8X = "VP8X";
+    private static final String EXIF = "EXIF";
+    private static final String XMP = "XMP ";
+    private static final int VP8X_FLAG_EXIF = 0x08;
+    private static final int VP8X_FLAG_XMP = 0x04;
+    /** 파싱을 위해 메모리에 올리는 메타데이터 청크 상한. 넘으면 읽지 않고 0 으로 채운다. */
+    private static final int MAX_PARSED_CHUNK = 1 << 20;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final InputStream in;
+    private byte[] pending = EMPTY;
+    private int pendingPos;
+    private long copyRemaining;
+    private long blankRemaining;
+    private long riffRemaining;
+    private boolean started;
+    private boolean passthrough;
+    private boolean finished;
+    private ImageMetadata exif = ImageMetadata.EMPTY;
+    private ImageMetadata xmp = ImageMetadata.EMPTY;
+    private int strippedBytes;
+
+    public WebpMetadataStream(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * 추출한 메타데이터 (EXIF 우선, 빈 값은 XMP). 스트림을 끝까지 읽은 뒤 호출.
+     */
+    @Override
+    public ImageMetadata metadata() {
+        return exif.orElse(xmp);
+    }
+
+    /**
+     * 0 으로 덮은 메타데이터 바이트 수 (파일 크기는 그대로).
+     */
+    @Override
+    public int strippedBytes() {
+        return strippedBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = read(one, 0, 1);
+        return n < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (pendingPos >= pending.length && copyRemaining == 0 && blankRemaining == 0
+                && !passthrough && !finished) {
+            nextChunk();
+        }
+        if (pendingPos < pending.length) {
+            int n = Math.min(len, pending.length - pendingPos);
+            System.arraycopy(pending, pendingPos, b, off, n);
+            pendingPos += n;
+            return n;
+        }
+        if (copyRemaining > 0 || blankRemaining > 0) {
+            boolean blank = blankRemaining > 0;
+            int n = in.read(b, off, (int) Math.min(len, blank ? blankRemaining : copyRemaining));
+            if (n > 0 && blank) {
+                Arrays.fill(b, off, off + n, (byte) 0);
+                blankRemaining -= n;
+            } else if (n > 0) {
+                copyRemaining -= n;
+            }
+            return n;
+        }
+        return finished ? -1 : in.read(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * 청크 1개 헤더를 읽어 유지(본문은 스트리밍 복사)·JUNK 교체 결정.
+     */
+    private void nextChunk() throws IOException {
+        if (!started) {
+            started = true;
+            byte[] header = in.readNBytes(12);
+            emit(header);
+            passthrough = header.length < 12 || !JpegMetadataStream.startsWith(header, RIFF)
+                    || !Arrays.equals(header, 8, 12, WEBP, 0, 4);
+            riffRemaining = passthrough ? 0 : Integer.toUnsignedLong(readIntLe(header, 4)) - 4;
+            return;
+        }
+        if (riffRemaining < 8) {
+            finished = true;
+            return;
+        }
+        byte[] header = in.readNBytes(8);
+        if (header.length < 8) {
+            emit(header);
+            finished = true;
+            return;
+        }
+        long size = Integer.toUnsignedLong(readIntLe(header, 4));
+        long padded = size + (size & 1);
+        riffRemaining -= 8 + padded;
+        String type = new String(header, 0, 4, StandardCharsets.ISO_8859_1);
+
+        if (VP8X.equals(type) && size >= 1 && size <= 64) {
+            byte[] payload = in.readNBytes((int) padded);
+            if (payload.length > 0) {
+                payload[0] &= (byte) ~(VP8X_FLAG_EXIF | VP8X_FLAG_XMP);
+            }
+            emit(JpegMetadataStream.concat(header, payload));
+            return;
+        }
+        if (!EXIF.equals(type) && !XMP.equals(type)) {
+            emit(header);
+            copyRemaining = padded;
+            return;
+        }
+
+        strippedBytes += (int) Math.min(Integer.MAX_VALUE, padded);
+        System.arraycopy(JUNK, 0, header, 0, 4);
+        if (padded > MAX_PARSED_CHUNK) {
+            emit(header);
+            blankRemaining = padded;
+            return;
+        }
+        byte[] payload = in.readNBytes((int) padded);
+        int length = (int) Math.min(size, payload.length);
+        if (EXIF.equals(type)) {
+            int start = JpegMetadataStream.startsWith(payload, EXIF_ID) ? EXIF_ID.length : 0;
+            exif = exif.orElse(ExifParser.parseTiff(payload, start, length - start));
+        } else {
+            xmp = xmp.orElse(ExifParser.parseXmp(payload, 0, length));
+        }
+        emit(JpegMetadataStream.concat(header, new byte[payload.length]));
+    }
+
+    private void emit(byte[] bytes) {
+        pending = bytes;
+        pendingPos = 0;
+    }
+
+    private static int readIntLe(byte[] b, int pos) {
+        return (b[pos] & 0xFF) | ((b[pos + 1] & 0xFF) << 8) | ((b[pos + 2] & 0xFF) << 16) | ((b[pos + 3] & 0xFF) << 24);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.sns.service.map;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.sns.config.map.GeocodeProperties;
+import com.example.sns.util.cache.LocalLruCache;
+import com.example.sns.util.geohash.GeoHash;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MapService 캐시 데코레이터 (노드 로컬 LRU + 선택적 Redis 2차).
+ *
+ * <p>프로퍼티로 선택된 제공자 구현체를 감싸는 {@link Primary} 빈 — MapService 주입 시 이 빈이 선택되고,
+ * 생성자의 MapService 는 자기 자신을 제외한 제공자 구현체로 주입된다.
+ * <ul>
+ *   <li>Geocoding 키: NFC 정규화·소문자·연속 공백 축약한 주소 ("서울  중구" 와 "서울 중구" 가 같은 키)</li>
+ *   <li>Reverse Geocoding 키: geohash 칸 — 수 m 떨어진 핀이 같은 주소를 반복 조회하지 않음</li>
+ *   <li>결과 없음은 negativeTtl 동안 캐시 (없는 주소 반복 조회 방지)</li>
+ *   <li>제공자 장애({@link MapUnavailableException})는 캐시하지 않고 empty 로 fallback — 장애가 끝나면 바로 재조회</li>
+ * </ul>
+ * Redis 오류는 로컬 캐시만으로 계속 동작 (RULE 5.2.1 Fallback).
+ * 지표: map.geocode.cache{operation=geocode|reverse-geocode, result=hit|miss}.
+ */
+@Slf4j
+@Primary
+@Service
+public class CachingMapService implements MapService {
+
+    private static final String REDIS_KEY_PREFIX = "geocode:";
+    private static final String NOT_FOUND = "";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final MapService delegate;
+    private final GeocodeProperties.Cache properties;
+    private final LocalLruCache<String, String> local;
+    private final LocalLruCache<String, Boolean> notFound;
+    private final StringRedisTemplate redisTemplate;
+    private final Counter geocodeHits;
+    private final Counter geocodeMisses;
+    private final Counter reverseHits;
+    private final Counter reverseMisses;
+
+    public CachingMapService(MapService delegate, GeocodeProperties geocodeProperties,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = geocodeProperties.cache();
+        this.local = new LocalLruCache<>(properties.maxEntries() * 2, properties.ttl());
+        this.notFound = new LocalLruCache<>(properties.maxEntries(), properties.negativeTtl());
+        this.redisTemplate = properties.redisEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+        this.geocodeHits = counter(meterRegistry, "geocode", "hit");
+        this.geocodeMisses = counter(meterRegistry, "geocode", "miss");
+        this.reverseHits = counter(meterRegistry, "reverse-geocode", "hit");
+        this.reverseMisses = counter(meterRegistry, "reverse-geocode", "miss");
+    }
+
+    @Override
+    public Optional<GeoResult> geocode(String address) {
+        if (!properties.enabled() || address == null || address.isBlank()) {
+            return delegate.geocode(address);
+        }
+        String key = "addr:" + normalizeAddress(address);
+        String cached = lookup(key);
+        if (cached != null) {
+            geocodeHits.increment();
+            return cached.equals(NOT_FOUND) ? Optional.empty() : Optional.of(parseGeoResult(cached));
+        }
+        geocodeMisses.increment();
+        Optional<GeoResult> result;
+        try {
+            result = delegate.geocode(address);
+        } catch (MapUnavailableException e) {
+            log.debug("Geocoding 제공자 사용 불가 — 캐시 없이 fallback: {}", e.getMessage());
+            return Optional.empty();
+        }
+        store(key, result.map(geo -> geo.latitude() + "," + geo.longitude()).orElse(NOT_FOUND));
+        return result;
+    }
+
+    @Override
+    public Optional<String> reverseGeocode(double latitude, double longitude) {
+        if (!properties.enabled()) {
+            return delegate.reverseGeocode(latitude, longitude);
+        }
+        String key = "rev:" + GeoHash.encode(latitude, longitude, properties.geohashPrecision());
+        String cached = lookup(key);
+        if (cached != null) {
+            reverseHits.increment();
+            return cached.equals(NOT_FOUND) ? Optional.empty() : Optional.of(cached);
+        }
+        reverseMisses.increment();
+        Optional<String> result;
+        try {
+            result = delegate.reverseGeocode(latitude, longitude);
+        } catch (MapUnavailableException e) {
+            log.debug("Reverse Geocoding 제공자 사용 불가 — 캐시 없이 fallback: {}", e.getMessage());
+            return Optional.empty();
+        }
+        store(key, result.filter(address -> !address.isEmpty()).orElse(NOT_FOUND));
+        return result;
+    }
+
+    /**
+     * 캐시 키용 주소 정규화. 공백·대소문자·유니코드 조합 차이만 흡수하고 내용은 바꾸지 않는다.
+     */
+    static String normalizeAddress(String address) {
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFC).strip();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return 캐시 값 (결과 없음은 {@link #NOT_FOUND}), 캐시에 없으면 null
+     */
+    private String lookup(String key) {
+        String cached = local.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (notFound.get(key) != null) {
+            return NOT_FOUND;
+        }
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            if (value != null) {
+                putLocal(key, value);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("Geocoding 캐시 Redis 조회 실패 (로컬 캐시만 사용): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String value) {
+        putLocal(key, value);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key, value,
+                        value.equals(NOT_FOUND) ? properties.negativeTtl() : properties.redisTtl());
+            } catch (RuntimeException e) {
+                log.warn("Geocoding 캐시 Redis 기록 실패 (로컬 캐시만 사용): {}", e.getMessage());
+            }
+        }
+    }
+
+    private void putLocal(String key, String value) {
+        if (value.equals(NOT_FOUND)) {
+            notFound.put(key, Boolean.TRUE);
+        } else {
+            local.put(key, value);
+        }
+    }
+
+    private static GeoResult parseGeoResult(String value) {
+        int separator = value.indexOf(',');
+        return new GeoResult(Double.parseDouble(value.substring(0, separator)),
+                Double.parseDouble(value.substring(separator + 1)));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String operation, String result) {
+        return Counter.builder("map.geocode.cache").tag("operation", operation).tag("result", result)
+                .description("Geocoding 캐시 조회 결과").register(meterRegistry);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.sns.service.map;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 제공자 회로 차단기 (CLOSED → OPEN → HALF_OPEN).
+ *
+ * <ul>
+ *   <li>CLOSED: 최근 windowSize 건의 실패율·느린 호출 비율을 집계. minimumCalls 이상에서 임계치를 넘으면 OPEN</li>
+ *   <li>OPEN: openDuration 동안 호출을 즉시 거부 (외부 timeout 을 기다리지 않고 fallback)</li>
+ *   <li>HALF_OPEN: halfOpenProbes 건만 시험 호출 허용. 모두 정상이면 CLOSED, 하나라도 실패·느리면 다시 OPEN</li>
+ * </ul>
+ * 단일 락(synchronized) — 임계 구역이 카운터 연산뿐이라 외부 호출 지연에 비해 무시할 수준.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * @param windowSize            집계 대상 최근 호출 수
+     * @param minimumCalls          판정에 필요한 최소 호출 수
+     * @param failureRateThreshold  OPEN 전환 실패율 (%)
+     * @param slowCallThreshold     느린 호출 기준 시간
+     * @param slowCallRateThreshold OPEN 전환 느린 호출 비율 (%)
+     * @param openDuration          OPEN 유지 시간 (이후 HALF_OPEN 시험 호출)
+     * @param halfOpenProbes        HALF_OPEN 시험 호출 수
+     */
+    public record Settings(int windowSize, int minimumCalls, int failureRateThreshold, Duration slowCallThreshold,
+            int slowCallRateThreshold, Duration openDuration, int halfOpenProbes) {
+    }
+
+    /**
+     * 상태 조회용 스냅숏.
+     */
+    public record Snapshot(State state, int calls, int failureRate, int slowCallRate) {
+    }
+
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final boolean[] failed;
+    private final boolean[] slow;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int next;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+    private int probesIssued;
+    private int probesSucceeded;
+
+    public CircuitBreaker(Settings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 단조 시계 (테스트용 주입)
+     */
+    public CircuitBreaker(Settings settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.failed = new boolean[settings.windowSize()];
+        this.slow = new boolean[settings.windowSize()];
+    }
+
+    /**
+     * 호출 허용 여부. true 를 받았으면 결과를 {@link #onSuccess}·{@link #onFailure}·{@link #release} 중 하나로 보고.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < settings.openDuration().toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesIssued = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesIssued >= settings.halfOpenProbes()) {
+                return false;
+            }
+            probesIssued++;
+        }
+        return true;
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않음 (bulkhead 거부 등). 집계에 넣지 않고 시험 호출 자리만 반환.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && probesIssued > 0) {
+            probesIssued--;
+        }
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        record(false, durationNanos >= settings.slowCallThreshold().toNanos());
+    }
+
+    public synchronized void onFailure(long durationNanos) {
+        record(true, durationNanos >= settings.slowCallThreshold().toNanos());
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(state, calls, rate(failures), rate(slowCalls));
+    }
+
+    private void record(boolean isFailure, boolean isSlow) {
+        if (state == State.HALF_OPEN) {
+            if (isFailure || isSlow) {
+                open();
+            } else if (++probesSucceeded >= settings.halfOpenProbes()) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // OPEN 전환 전에 시작한 호출의 늦은 결과
+        }
+        if (calls == failed.length) {
+            failures -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            calls++;
+        }
+        failed[next] = isFailure;
+        slow[next] = isSlow;
+        failures += isFailure ? 1 : 0;
+        slowCalls += isSlow ? 1 : 0;
+        next = (next + 1) % failed.length;
+
+        if (calls >= settings.minimumCalls() && (rate(failures) >= settings.failureRateThreshold()
+                || rate(slowCalls) >= settings.slowCallRateThreshold())) {
+            open();
+        }
+    }
+
+    private int rate(int count) {
+        return calls == 0 ? 0 : count * 100 / calls;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
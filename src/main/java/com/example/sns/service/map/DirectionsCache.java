@@ -0,0 +1,112 @@
+package com.example.sns.service.map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.map.DirectionsProperties;
+import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
+import com.example.sns.util.cache.LocalLruCache;
+import com.example.sns.util.polyline.PolylineEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경로 응답 캐시 (노드 로컬 LRU + 선택적 Redis 2차).
+ *
+ * <p>키: 이동수단·경로 유형 + 격자로 스냅한 출발지·목적지. 근처에서 출발·도착하는 요청(같은 장소를 보는 여러 사용자)은
+ * 같은 경로를 공유해 외부 API 호출·할당량을 아낀다. 값은 encoded polyline + 거리 (점당 수 바이트).
+ * 실패·경로 없음(null)은 캐시하지 않는다. Redis 오류는 로컬 캐시만으로 계속 동작 (RULE 5.2.1 Fallback).
+ */
+@Slf4j
+@Component
+public class DirectionsCache {
+
+    private static final String REDIS_KEY_PREFIX = "directions:";
+
+    private final DirectionsProperties.Cache properties;
+    private final LocalLruCache<String, CachedRoute> local;
+    private final StringRedisTemplate redisTemplate;
+
+    public DirectionsCache(DirectionsProperties directionsProperties,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider) {
+        this.properties = directionsProperties.cache();
+        this.local = new LocalLruCache<>(properties.maxEntries(), properties.ttl());
+        this.redisTemplate = properties.redisEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 캐시 키. 좌표는 snapDecimals 자리 격자로 반올림 (정수로 기록해 부동소수 표기 차이 제거).
+     */
+    public String key(double originLat, double originLng, double destLat, double destLng,
+            String transportMode, String routeType) {
+        return transportMode + ':' + routeType + ':'
+                + snap(originLat) + ',' + snap(originLng) + ':' + snap(destLat) + ',' + snap(destLng);
+    }
+
+    /**
+     * @return 캐시된 경로, 없으면 null
+     */
+    public DirectionsResult get(String key) {
+        CachedRoute cached = local.get(key);
+        if (cached == null && redisTemplate != null) {
+            cached = readRedis(key);
+            if (cached != null) {
+                local.put(key, cached);
+            }
+        }
+        return cached != null ? cached.toResult() : null;
+    }
+
+    public void put(String key, DirectionsResult result) {
+        CachedRoute cached = new CachedRoute(PolylineEncoder.encode(result.coordinates()), result.distanceMeters());
+        local.put(key, cached);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key, cached.serialize(), properties.redisTtl());
+            } catch (RuntimeException e) {
+                log.warn("경로 캐시 Redis 기록 실패 (로컬 캐시만 사용): {}", e.getMessage());
+            }
+        }
+    }
+
+    private CachedRoute readRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            return value != null ? CachedRoute.deserialize(value) : null;
+        } catch (RuntimeException e) {
+            log.warn("경로 캐시 Redis 조회 실패 (로컬 캐시만 사용): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private long snap(double coordinate) {
+        return Math.round(coordinate * Math.pow(10, properties.snapDecimals()));
+    }
+
+    /**
+     * 압축 저장 형태. Redis 값은 "{distanceMeters}|{polyline}".
+     */
+    private record CachedRoute(String polyline, int distanceMeters) {
+
+        DirectionsResult toResult() {
+            return new DirectionsResult(PolylineEncoder.decodeCoordinates(polyline), distanceMeters);
+        }
+
+        String serialize() {
+            return distanceMeters + "|" + polyline;
+        }
+
+        static CachedRoute deserialize(String value) {
+            int separator = value.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 경로 캐시 값");
+            }
+            return new CachedRoute(value.substring(separator + 1), Integer.parseInt(value.substring(0, separator)));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.sns.service.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.example.sns.config.map.DirectionsProperties;
+import com.example.sns.config.map.MapProperties;
+import com.example.sns.dto.request.DistanceMatrixRequest;
+import com.example.sns.dto.request.DistanceMatrixRequest.Point;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
+import com.example.sns.util.haversine.HaversineUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거리 행렬 (출발지 N × 목적지 M) — "내 위치에서 핀 20개까지 거리" 를 요청 1건으로.
+ *
+ * <p>직선 거리는 {@link HaversineUtil#distanceMatrix} 로 모든 쌍을 한 번에 계산.
+ * 도로 거리는 {@link KakaoMobilityDirectionsService} 를 쌍마다 호출하되 {@link MapCallExecutor#fanOut} 으로
+ * 요청 안 동시 수(roadParallelism)와 전체 마감 시간(외부 호출 예산)을 제한한다. 캐시·single-flight·회로 차단기는
+ * 단건 경로 조회와 공유. 실패·마감 초과 쌍은 null (부분 결과).
+ */
+@Slf4j
+@Service
+public class DistanceMatrixService {
+
+    private final DirectionsProperties.Matrix properties;
+    private final MapProperties mapProperties;
+    private final KakaoMobilityDirectionsService directionsService;
+    private final MapCallExecutor mapCallExecutor;
+
+    public DistanceMatrixService(DirectionsProperties directionsProperties, MapProperties mapProperties,
+            KakaoMobilityDirectionsService directionsService, MapCallExecutor mapCallExecutor) {
+        this.properties = directionsProperties.matrix();
+        this.mapProperties = mapProperties;
+        this.directionsService = directionsService;
+        this.mapCallExecutor = mapCallExecutor;
+    }
+
+    /**
+     * 거리 행렬 결과. [i][j] = 출발지 i → 목적지 j (미터).
+     *
+     * @param straightMeters 직선 거리
+     * @param roadMeters     도로 거리 (road=false 면 null, 조회 실패 쌍은 null)
+     * @param roadFailures   도로 거리 조회 실패 쌍 수
+     */
+    public record DistanceMatrix(int[][] straightMeters, Integer[][] roadMeters, int roadFailures) {
+    }
+
+    /**
+     * @throws BusinessException 좌표 수·도로 거리 쌍 수 상한 초과 (BAD_REQUEST)
+     */
+    public DistanceMatrix compute(DistanceMatrixRequest request) {
+        int pairs = roadPairs(request);
+        List<Point> origins = request.origins();
+        List<Point> destinations = request.destinations();
+
+        int[][] straight = straightMeters(origins, destinations);
+        if (!request.road()) {
+            return new DistanceMatrix(straight, null, 0);
+        }
+
+        List<Supplier<DirectionsResult>> tasks = new ArrayList<>(pairs);
+        for (Point origin : origins) {
+            for (Point destination : destinations) {
+                tasks.add(() -> directionsService.getDirections(origin.lat(), origin.lng(),
+                        destination.lat(), destination.lng(), request.transportMode(), request.routeType()));
+            }
+        }
+        List<DirectionsResult> results = mapCallExecutor.fanOut(tasks, properties.roadParallelism(),
+                mapProperties.upstreamBudget());
+
+        Integer[][] road = new Integer[origins.size()][destinations.size()];
+        int failures = 0;
+        for (int k = 0; k < results.size(); k++) {
+            DirectionsResult result = results.get(k);
+            if (result != null) {
+                road[k / destinations.size()][k % destinations.size()] = result.distanceMeters();
+            } else {
+                failures++;
+            }
+        }
+        log.info("거리 행렬 도로 거리 조회: pairs={}, failures={}", pairs, failures);
+        return new DistanceMatrix(straight, road, failures);
+    }
+
+    /**
+     * 요청 검증 후 도로 거리 외부 호출 쌍 수 (rate limit 차감량).
+     *
+     * @return road=false 면 0
+     * @throws BusinessException 좌표 수·도로 거리 쌍 수 상한 초과 (BAD_REQUEST)
+     */
+    public int roadPairs(DistanceMatrixRequest request) {
+        int origins = request.origins().size();
+        int destinations = request.destinations().size();
+        if (origins > properties.maxLocations() || destinations > properties.maxLocations()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    "출발지·목적지는 각각 최대 " + properties.maxLocations() + "개까지 조회할 수 있습니다.");
+        }
+        if (!request.road()) {
+            return 0;
+        }
+        int pairs = origins * destinations;
+        if (pairs > properties.maxRoadPairs()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    "도로 거리는 최대 " + properties.maxRoadPairs() + "쌍까지 조회할 수 있습니다.");
+        }
+        return pairs;
+    }
+
+    private static int[][] straightMeters(List<Point> origins, List<Point> destinations) {
+        double[] distances = HaversineUtil.distanceMatrix(
+                origins.stream().mapToDouble(Point::lat).toArray(),
+                origins.stream().mapToDouble(Point::lng).toArray(),
+                destinations.stream().mapToDouble(Point::lat).toArray(),
+                destinations.stream().mapToDouble(Point::lng).toArray());
+        int[][] meters = new int[origins.size()][destinations.size()];
+        for (int i = 0; i < origins.size(); i++) {
+            for (int j = 0; j < destinations.size(); j++) {
+                meters[i][j] = (int) Math.round(distances[i * destinations.size() + j]);
+            }
+        }
+        return meters;
+    }
+}
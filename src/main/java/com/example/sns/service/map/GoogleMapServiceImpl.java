@@ -1,7 +1,7 @@
 package com.example.sns.service.map;
 
+import java.io.IOException;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
@@ -11,10 +11,12 @@ import com.example.sns.exception.BusinessException;
 import com.example.sns.exception.ErrorCode;
 import com.google.maps.GeoApiContext;
 import com.google.maps.GeocodingApi;
+import com.google.maps.errors.OverQueryLimitException;
+import com.google.maps.errors.UnknownErrorException;
 import com.google.maps.model.GeocodingResult;
 import com.google.maps.model.LatLng;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -22,63 +24,114 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>
  * PRD 2.2: 지도 API 추상화 구현체 (Google).
- * RULE 3.4: Timeout·Retry 정책 (MapProperties).
+ * RULE 3.4: Timeout·Retry 정책 (MapProperties). GeoApiContext 는 MapConfig 의 공유 빈 (커넥션 풀 재사용).
  * RULE 1.4.3: 외부 API 호출·실패 시 파라미터화 로깅.
  * Step 11: app.map.provider=google 시 활성화.
+ * 같은 주소·좌표의 동시 요청은 {@link SingleFlight} 로 외부 호출 1건에 합치고,
+ * 외부 호출은 {@link MapCallExecutor} 의 제공자별 회로 차단기·동시 호출 상한 안에서 실행하며,
+ * 연결·할당량 초과·서버 오류는 {@link MapUpstreamException} 으로 던져 회로 실패로 집계한다.
+ * 회로 OPEN·상한 초과·대기 시간 초과 등 결과를 알 수 없는 경우는 빈 결과 대신 {@link MapUnavailableException}.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "app.map.provider", havingValue = "google")
 public class GoogleMapServiceImpl implements MapService {
 
     private final MapProperties mapProperties;
+    private final GeoApiContext geoApiContext;
+    private final MapCallExecutor mapCallExecutor;
+    private final SingleFlight<String, Optional<GeoResult>> geocodeFlight;
+    private final SingleFlight<String, Optional<String>> reverseGeocodeFlight;
+
+    public GoogleMapServiceImpl(MapProperties mapProperties, GeoApiContext geoApiContext,
+            MapCallExecutor mapCallExecutor, MeterRegistry meterRegistry) {
+        this.mapProperties = mapProperties;
+        this.geoApiContext = geoApiContext;
+        this.mapCallExecutor = mapCallExecutor;
+        this.geocodeFlight = new SingleFlight<>("geocode", mapProperties.upstreamBudget(), meterRegistry);
+        this.reverseGeocodeFlight = new SingleFlight<>("reverse-geocode", mapProperties.upstreamBudget(),
+                meterRegistry);
+    }
 
     @Override
     public Optional<GeoResult> geocode(String address) {
         if (address == null || address.isBlank()) {
             return Optional.empty();
         }
+        String key = address.strip();
+        try {
+            return geocodeFlight.execute(key,
+                    () -> mapCallExecutor.call(MapCallExecutor.GOOGLE, () -> doGeocode(key),
+                            GoogleMapServiceImpl::unavailable));
+        } catch (SingleFlight.SingleFlightTimeoutException e) {
+            log.warn("Geocoding 대기 시간 초과: address={}, message={}", address, e.getMessage());
+            throw new MapUnavailableException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<String> reverseGeocode(double latitude, double longitude) {
+        try {
+            return reverseGeocodeFlight.execute(latitude + "," + longitude,
+                    () -> mapCallExecutor.call(MapCallExecutor.GOOGLE,
+                            () -> doReverseGeocode(latitude, longitude), GoogleMapServiceImpl::unavailable));
+        } catch (SingleFlight.SingleFlightTimeoutException e) {
+            log.warn("Reverse Geocoding 대기 시간 초과: lat={}, lng={}, message={}", latitude, longitude,
+                    e.getMessage());
+            throw new MapUnavailableException(e.getMessage(), e);
+        }
+    }
+
+    private Optional<GeoResult> doGeocode(String address) {
         try {
-            GeoApiContext context = createContext();
-            GeocodingResult[] results = GeocodingApi.geocode(context, address).await();
+            GeocodingResult[] results = GeocodingApi.geocode(context(), address).await();
             if (results != null && results.length > 0 && results[0].geometry != null) {
                 LatLng location = results[0].geometry.location;
                 log.debug("Geocoding 성공: address={}, lat={}, lng={}", address, location.lat, location.lng);
                 return Optional.of(new GeoResult(location.lat, location.lng));
             }
+        } catch (IOException | OverQueryLimitException | UnknownErrorException e) {
+            throw new MapUpstreamException("Geocoding 장애: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MapUnavailableException("Geocoding 중단: " + address, e);
         } catch (Exception e) {
             log.warn("Geocoding 실패: address={}, message={}", address, e.getMessage());
         }
         return Optional.empty();
     }
 
-    @Override
-    public Optional<String> reverseGeocode(double latitude, double longitude) {
+    private Optional<String> doReverseGeocode(double latitude, double longitude) {
         try {
-            GeoApiContext context = createContext();
-            GeocodingResult[] results = GeocodingApi.reverseGeocode(context, new LatLng(latitude, longitude)).await();
+            GeocodingResult[] results = GeocodingApi.reverseGeocode(context(), new LatLng(latitude, longitude)).await();
             if (results != null && results.length > 0 && results[0].formattedAddress != null) {
                 log.debug("Reverse Geocoding 성공: lat={}, lng={}", latitude, longitude);
                 return Optional.of(results[0].formattedAddress);
             }
+        } catch (IOException | OverQueryLimitException | UnknownErrorException e) {
+            throw new MapUpstreamException("Reverse Geocoding 장애: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MapUnavailableException("Reverse Geocoding 중단: " + latitude + "," + longitude, e);
         } catch (Exception e) {
             log.warn("Reverse Geocoding 실패: lat={}, lng={}, message={}", latitude, longitude, e.getMessage());
         }
         return Optional.empty();
     }
 
-    private GeoApiContext createContext() {
+    /**
+     * 회로 OPEN·상한 초과·장애 fallback — 빈 결과로 바꾸지 않고 결과를 알 수 없음으로 알린다.
+     */
+    private static <T> T unavailable() {
+        throw new MapUnavailableException("Google Maps 일시 사용 불가 (회로 OPEN·동시 호출 상한 초과·장애)");
+    }
+
+    private GeoApiContext context() {
         String apiKey = mapProperties.googleApiKey();
         if (apiKey == null || apiKey.isBlank()) {
             throw new BusinessException(ErrorCode.BAD_REQUEST,
                     "Google Maps API Key가 설정되지 않았습니다. app.map.google-api-key 환경 변수를 확인하세요.");
         }
-        return new GeoApiContext.Builder()
-                .apiKey(apiKey)
-                .connectTimeout(mapProperties.timeoutSeconds(), TimeUnit.SECONDS)
-                .readTimeout(mapProperties.timeoutSeconds(), TimeUnit.SECONDS)
-                .maxRetries(mapProperties.retryCount())
-                .build();
+        return geoApiContext;
     }
 }
@@ -1,39 +1,49 @@
 package com.example.sns.service.map;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Optional;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.sns.config.map.MapProperties;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Kakao Mobility Directions API — 실제 도로 경로·이동 거리 조회.
  * https://developers.kakaomobility.com/docs/navi-api/directions/
+ *
+ * <p>같은 구간(스냅한 출발지·목적지, 이동수단, 경로 유형) 반복 요청은 {@link DirectionsCache} 에서 응답하고,
+ * 캐시 미스가 동시에 몰리면 {@link SingleFlight} 로 외부 호출 1건에 합친다.
+ * 외부 호출은 {@link MapCallExecutor} 의 제공자별 회로 차단기·동시 호출 상한 안에서 실행 (회로 OPEN·상한 초과·장애 시 null → 직선 거리 fallback).
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoMobilityDirectionsService {
 
     private static final String CAR_API_URL  = "https://apis-navi.kakaomobility.com/v1/directions";
     private static final String WALK_API_URL = "https://apis-navi.kakaomobility.com/v1/directions/walk";
-    // 프로젝트가 Gson 기반이라 ObjectMapper Spring 빈이 없음 → Jackson 인스턴스 직접 생성
-    private static final ObjectMapper JSON = new ObjectMapper();
 
     private final MapProperties mapProperties;
     private final RestTemplate restTemplate;
+    private final DirectionsCache directionsCache;
+    private final MapCallExecutor mapCallExecutor;
+    private final SingleFlight<String, Optional<DirectionsResult>> singleFlight;
+
+    public KakaoMobilityDirectionsService(MapProperties mapProperties, RestTemplate restTemplate,
+            DirectionsCache directionsCache, MapCallExecutor mapCallExecutor, MeterRegistry meterRegistry) {
+        this.mapProperties = mapProperties;
+        this.restTemplate = restTemplate;
+        this.directionsCache = directionsCache;
+        this.mapCallExecutor = mapCallExecutor;
+        this.singleFlight = new SingleFlight<>("directions", mapProperties.upstreamBudget(), meterRegistry);
+    }
 
     /** 기본(자동차 최단거리) 경로 조회. */
     public DirectionsResult getDirections(double originLat, double originLng, double destLat, double destLng) {
@@ -62,7 +72,6 @@ public class KakaoMobilityDirectionsService {
      * @param routeType     RECOMMEND | MAIN_ROAD | NO_STAIRS
      * @return 경로 좌표 리스트 + 이동 거리(미터), 실패 시 null
      */
-    @SuppressWarnings("java:S3776")
     public DirectionsResult getDirections(double originLat, double originLng, double destLat, double destLng,
             String transportMode, String routeType) {
         String apiKey = mapProperties.kakaoMobilityApiKey();
@@ -74,6 +83,56 @@ public class KakaoMobilityDirectionsService {
         String mode = (transportMode == null || transportMode.isBlank()) ? "CAR" : transportMode.toUpperCase();
         String type = (routeType == null || routeType.isBlank()) ? "RECOMMEND" : routeType.toUpperCase();
 
+        String cacheKey = directionsCache.key(originLat, originLng, destLat, destLng, mode, type);
+        if (directionsCache.isEnabled()) {
+            DirectionsResult cached = directionsCache.get(cacheKey);
+            if (cached != null) {
+                log.debug("경로 캐시 hit: key={}", cacheKey);
+                return cached;
+            }
+        }
+        try {
+            return singleFlight.execute(cacheKey, () -> Optional.ofNullable(
+                    loadDirections(cacheKey, apiKey, originLat, originLng, destLat, destLng, mode, type)))
+                    .orElse(null);
+        } catch (SingleFlight.SingleFlightTimeoutException e) {
+            log.warn("Kakao Mobility 경로 조회 대기 시간 초과 — 직선 거리 fallback: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * single-flight leader 가 실행. 직전 leader 가 채운 캐시를 다시 확인한 뒤 외부 호출.
+     */
+    private DirectionsResult loadDirections(String cacheKey, String apiKey, double originLat, double originLng,
+            double destLat, double destLng, String mode, String type) {
+        if (!directionsCache.isEnabled()) {
+            return callUpstream(apiKey, originLat, originLng, destLat, destLng, mode, type);
+        }
+        DirectionsResult cached = directionsCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        DirectionsResult result = callUpstream(apiKey, originLat, originLng, destLat, destLng, mode, type);
+        if (result != null) {
+            directionsCache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    private DirectionsResult callUpstream(String apiKey, double originLat, double originLng,
+            double destLat, double destLng, String mode, String type) {
+        return mapCallExecutor.call(MapCallExecutor.KAKAO_MOBILITY,
+                () -> fetchDirections(apiKey, originLat, originLng, destLat, destLng, mode, type),
+                () -> null);
+    }
+
+    /**
+     * Kakao Mobility API 호출 (캐시 미스 시).
+     */
+    @SuppressWarnings("java:S3776")
+    private DirectionsResult fetchDirections(String apiKey, double originLat, double originLng,
+            double destLat, double destLng, String mode, String type) {
         // Kakao Mobility: origin/destination 파라미터는 "경도,위도" (x=lng, y=lat) 순서
         String origin = originLng + "," + originLat;
         String destination = destLng + "," + destLat;
@@ -118,87 +177,59 @@ public class KakaoMobilityDirectionsService {
             // Kakao Mobility REST API 공식 문서: Authorization + Content-Type 만 필요.
             // KA 헤더는 JavaScript SDK 전용 — REST API 키로 호출 시 불필요.
             // JS 앱 키로 호출하면 KA 헤더 요구 -401 발생 → 카카오디벨로퍼스에서 REST API 키 사용.
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + apiKey);
-            headers.set("Content-Type", "application/json");
-
-            // JsonNode.class를 직접 사용하면 Jackson 역직렬화 오류 발생 → String으로 수신 후 readTree
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    new HttpEntity<>(headers),
-                    String.class);
-
-            String rawBody = response.getBody();
-            log.info("Kakao Mobility 응답: status={}, body={}", response.getStatusCode(), rawBody);
-
-            JsonNode body = (rawBody == null || rawBody.isBlank()) ? null : JSON.readTree(rawBody);
-
-            if (body == null || !body.has("routes")) {
-                log.warn("Kakao Mobility 응답에 routes 없음: body={}", body);
-                return null;
-            }
-
-            JsonNode routes = body.get("routes");
-            if (routes.isEmpty()) {
-                log.warn("Kakao Mobility routes 비어있음");
+            // 본문은 String·JsonNode 로 만들지 않고 스트리밍 파싱 (긴 경로의 할당 감소, 본문 로깅 없음)
+            KakaoRouteParser.ParsedRoute route = restTemplate.execute(url, HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().set("Authorization", "KakaoAK " + apiKey);
+                        request.getHeaders().set("Content-Type", "application/json");
+                    },
+                    response -> KakaoRouteParser.parse(response.getBody(), "WALK".equals(mode)));
+
+            if (route == null) {
+                log.warn("Kakao Mobility 응답에 routes 없음: mode={}", mode);
                 return null;
             }
-
-            JsonNode route = routes.get(0);
-            int resultCode = route.path("result_code").asInt(-1);
-            String resultMsg = route.path("result_msg").asText("unknown");
-            if (resultCode != 0) {
-                log.warn("Kakao Mobility 경로 탐색 실패: result_code={}, result_msg={}", resultCode, resultMsg);
+            if (route.resultCode() != 0) {
+                log.warn("Kakao Mobility 경로 탐색 실패: result_code={}, result_msg={}",
+                        route.resultCode(), route.resultMsg());
                 return null;
             }
 
-            int distanceMeters = route.path("summary").path("distance").asInt();
-            List<double[]> path = new ArrayList<>();
-
-            JsonNode sections = route.path("sections");
-            if ("WALK".equals(mode)) {
-                // Walk API 응답: sections > guides > { x: 경도, y: 위도 }
-                // Car API와 달리 roads/vertexes 없이 guides 배열에 경유 좌표 포함
-                for (JsonNode section : sections) {
-                    for (JsonNode guide : section.path("guides")) {
-                        double lng = guide.path("x").asDouble();
-                        double lat = guide.path("y").asDouble();
-                        if (lng != 0 && lat != 0) {
-                            path.add(new double[]{lat, lng});
-                        }
-                    }
-                }
-            } else {
-                // Car API 응답: sections > roads > vertexes (평탄 배열 [lng1, lat1, lng2, lat2, ...])
-                for (JsonNode section : sections) {
-                    for (JsonNode road : section.path("roads")) {
-                        JsonNode vertexes = road.path("vertexes");
-                        if (vertexes.isArray()) {
-                            for (int i = 0; i + 1 < vertexes.size(); i += 2) {
-                                double lng = vertexes.get(i).asDouble();
-                                double lat = vertexes.get(i + 1).asDouble();
-                                path.add(new double[]{lat, lng});
-                            }
-                        }
-                    }
-                }
-            }
-
-            log.info("Kakao Mobility 경로 추출 완료: mode={}, distanceMeters={}, pathSize={}", mode, distanceMeters, path.size());
+            log.info("Kakao Mobility 경로 추출 완료: mode={}, distanceMeters={}, pathSize={}",
+                    mode, route.distanceMeters(), route.pointCount());
 
-            if (path.isEmpty()) {
+            if (route.pointCount() == 0) {
                 log.warn("Kakao Mobility 경로 좌표 없음 — mode={}, routes 구조 확인 필요", mode);
                 return null;
             }
 
-            return new DirectionsResult(path, distanceMeters);
+            return new DirectionsResult(route.coordinates(), route.distanceMeters());
+        } catch (ResourceAccessException | HttpServerErrorException | HttpClientErrorException.TooManyRequests e) {
+            throw new MapUpstreamException("Kakao Mobility 경로 조회 장애: " + e.getMessage(), e);
         } catch (Exception e) {
             log.warn("Kakao Mobility 경로 조회 예외: {}", e.getMessage());
             return null;
         }
     }
 
-    public record DirectionsResult(List<double[]> path, int distanceMeters) {
+    /**
+     * 경로 조회 결과.
+     *
+     * @param coordinates    경로 좌표 {lat, lng} 교차 배열 (길이 = 좌표 수 × 2)
+     * @param distanceMeters 이동 거리 (미터)
+     */
+    public record DirectionsResult(double[] coordinates, int distanceMeters) {
+
+        public int pointCount() {
+            return coordinates.length / 2;
+        }
+
+        public double latitude(int index) {
+            return coordinates[index * 2];
+        }
+
+        public double longitude(int index) {
+            return coordinates[index * 2 + 1];
+        }
     }
 }
@@ -0,0 +1,258 @@
+package com.example.sns.service.map;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Kakao Mobility Directions 응답 스트리밍 파서.
+ *
+ * <p>응답 본문을 String·JsonNode 트리로 만들지 않고 토큰 단위로 읽어, 첫 번째 route 의 결과 코드·거리와
+ * 경로 좌표만 primitive double 버퍼({lat, lng} 교차 배열)에 기록한다. 나머지 필드(guides 안내 문구, 구간 요약 등)는
+ * 건너뛴다. 수만 개 vertex 의 긴 자동차 경로에서 점당 double[2] 객체·JsonNode 할당이 사라진다.
+ * <ul>
+ *   <li>자동차 API: routes[0].sections[].roads[].vertexes (평탄 배열 [lng1, lat1, lng2, lat2, ...])</li>
+ *   <li>도보 API: routes[0].sections[].guides[] { x: 경도, y: 위도 } — (0, 0) 좌표는 제외</li>
+ * </ul>
+ */
+final class KakaoRouteParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+    private KakaoRouteParser() {
+    }
+
+    /**
+     * 첫 번째 route 파싱 결과.
+     *
+     * @param resultCode     result_code (0 = 성공)
+     * @param resultMsg      result_msg
+     * @param distanceMeters summary.distance
+     * @param coordinates    {lat, lng} 교차 배열 (길이 = 좌표 수 × 2)
+     */
+    record ParsedRoute(int resultCode, String resultMsg, int distanceMeters, double[] coordinates) {
+
+        int pointCount() {
+            return coordinates.length / 2;
+        }
+    }
+
+    /**
+     * @param walk true 면 도보 API 응답(guides), false 면 자동차 API 응답(roads.vertexes)
+     * @return 첫 번째 route, routes 가 없거나 비어 있으면 null
+     * @throws IllegalArgumentException JSON 형식 오류
+     * @throws IOException              본문 읽기 실패
+     */
+    static ParsedRoute parse(InputStream body, boolean walk) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            ParsedRoute route = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("routes".equals(field) && value == JsonToken.START_ARRAY) {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) {
+                        route = parseRoute(parser, walk);
+                        skipRemainingElements(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return route;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Kakao Mobility 응답 JSON 형식 오류: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static ParsedRoute parseRoute(JsonParser parser, boolean walk) throws IOException {
+        int resultCode = -1;
+        String resultMsg = "unknown";
+        int distanceMeters = 0;
+        CoordinateBuffer coordinates = new CoordinateBuffer(INITIAL_CAPACITY);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "result_code" -> resultCode = parser.getValueAsInt(-1);
+                case "result_msg" -> resultMsg = parser.getValueAsString(resultMsg);
+                case "summary" -> distanceMeters = value == JsonToken.START_OBJECT ? parseDistance(parser) : 0;
+                case "sections" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        parseSections(parser, walk, coordinates);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new ParsedRoute(resultCode, resultMsg, distanceMeters, coordinates.toArray());
+    }
+
+    private static int parseDistance(JsonParser parser) throws IOException {
+        int distance = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("distance".equals(field)) {
+                distance = parser.getValueAsInt(0);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return distance;
+    }
+
+    private static void parseSections(JsonParser parser, boolean walk, CoordinateBuffer coordinates)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (!walk && "roads".equals(field)) {
+                    forEachObject(parser, "vertexes", () -> readVertexes(parser, coordinates));
+                } else if (walk && "guides".equals(field)) {
+                    parseGuides(parser, coordinates);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * 객체 배열의 각 원소에서 arrayField 배열만 reader 로 읽고 나머지 필드는 건너뛴다.
+     */
+    private static void forEachObject(JsonParser parser, String arrayField, ArrayReader reader) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && arrayField.equals(field)) {
+                    reader.read();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void readVertexes(JsonParser parser, CoordinateBuffer coordinates) throws IOException {
+        while (true) {
+            JsonToken lngToken = parser.nextToken();
+            if (lngToken == JsonToken.END_ARRAY) {
+                return;
+            }
+            double lng = readDouble(parser);
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return; // 홀수 길이 — 짝 없는 경도는 버림
+            }
+            coordinates.add(readDouble(parser), lng);
+        }
+    }
+
+    private static void parseGuides(JsonParser parser, CoordinateBuffer coordinates) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            double lng = 0;
+            double lat = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "x" -> lng = readDouble(parser);
+                    case "y" -> lat = readDouble(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (lng != 0 && lat != 0) {
+                coordinates.add(lat, lng);
+            }
+        }
+    }
+
+    /**
+     * 숫자 토큰을 파서의 문자 버퍼에서 바로 변환 (토큰마다 String 을 만들지 않음).
+     * 부호·정수부·소수부 15자리 이하 10진수만 직접 계산하고, 지수 표기·긴 숫자·숫자 아닌 토큰은 Jackson 변환 사용.
+     * 15자리 이하 정수 가수 ÷ 10^k (k ≤ 22) 는 두 값이 double 로 정확하므로 Double.parseDouble 과 같은 값.
+     */
+    static double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+            parser.skipChildren();
+            return parser.getValueAsDouble();
+        }
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int end = offset + parser.getTextLength();
+        boolean negative = text[offset] == '-';
+        int i = negative ? offset + 1 : offset;
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            char c = text[i];
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9' && digits < MAX_FAST_DIGITS) {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else {
+                return parser.getDoubleValue();
+            }
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    private static void skipRemainingElements(JsonParser parser) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ArrayReader {
+        void read() throws IOException;
+    }
+
+    /**
+     * {lat, lng} 교차 저장 가변 double 버퍼. 용량 부족 시 1.5배 확장.
+     */
+    private static final class CoordinateBuffer {
+
+        private double[] values;
+        private int size;
+
+        CoordinateBuffer(int initialPoints) {
+            this.values = new double[initialPoints * 2];
+        }
+
+        void add(double lat, double lng) {
+            if (size + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1) + 2);
+            }
+            values[size++] = lat;
+            values[size++] = lng;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.sns.service.map;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.map.MapClientProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 지도 API 호출 실행기.
+ *
+ * <ul>
+ *   <li>{@link #async}: async 모드면 작업을 가상 스레드에서 실행 — 컨트롤러가 CompletableFuture 를 반환하면 Tomcat 요청
+ *   스레드는 외부 응답을 기다리지 않고 풀로 돌아간다. blocking 모드면 호출 스레드에서 실행.</li>
+ *   <li>{@link #fanOut}: 요청 1건 안의 여러 외부 호출을 가상 스레드에서 동시 실행 (동시 수 상한·전체 마감 시간).
+ *   실패·마감 초과 작업은 null 로 두고 나머지 결과를 반환 (부분 결과). 마감 초과 작업은 interrupt 하지 않는다 —
+ *   진행 중인 외부 호출은 끝까지 실행해 캐시·single-flight follower 를 채우고, 아직 시작 전인 작업만 건너뛴다.</li>
+ *   <li>{@link #call}: 제공자별 회로 차단기 + 동시 호출 상한(semaphore bulkhead). 회로가 열려 있으면 즉시,
+ *   상한에 걸리면 acquireTimeout 만큼만 기다린 뒤 외부 호출 없이 fallback — 느리거나 장애인 제공자가
+ *   다른 제공자·API 의 자원을 잠식하지 않는다. 외부 호출 예외는 실패로 집계하고 fallback 으로 바꾼다.
+ *   호출 스레드 interrupt 로 끊긴 호출은 제공자 장애가 아니므로 집계하지 않는다.</li>
+ * </ul>
+ * 지표: map.client.active{provider} (진행 중 호출), map.client.rejected{provider, reason=bulkhead|circuit-open},
+ * map.client.circuit.state{provider} (0 CLOSED, 1 OPEN, 2 HALF_OPEN).
+ */
+@Slf4j
+@Component
+public class MapCallExecutor {
+
+    public static final String KAKAO_MOBILITY = "kakao-mobility";
+    public static final String GOOGLE = "google";
+
+    private final MapClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService virtualThreads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("map-call-", 0).factory());
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public MapCallExecutor(MapClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 처리 작업 실행. async 모드면 가상 스레드(MDC traceId 전파), blocking 모드면 즉시 실행.
+     */
+    public <T> CompletableFuture<T> async(Supplier<T> task) {
+        if (properties.mode() == MapClientProperties.ExecutionMode.BLOCKING) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return CompletableFuture.supplyAsync(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return task.get();
+            } finally {
+                MDC.clear();
+            }
+        }, virtualThreads);
+    }
+
+    /**
+     * 작업들을 가상 스레드에서 최대 parallelism 개씩 동시 실행 (실행 모드와 무관, MDC traceId 전파).
+     *
+     * @param deadline 전체 대기 상한. 초과하면 결과를 기다리지 않음 (진행 중 작업은 interrupt 없이 마저 실행,
+     *                 시작 전 작업은 건너뜀)
+     * @return 작업 순서대로의 결과. 예외·마감 초과 작업은 null
+     */
+    public <T> List<T> fanOut(List<Supplier<T>> tasks, int parallelism, Duration deadline) {
+        Semaphore slots = new Semaphore(Math.max(1, parallelism));
+        AtomicBoolean expired = new AtomicBoolean();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<T> task : tasks) {
+            futures.add(virtualThreads.submit(() -> {
+                slots.acquire();
+                if (expired.get()) {
+                    slots.release();
+                    return null;
+                }
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    return task.get();
+                } finally {
+                    MDC.clear();
+                    slots.release();
+                }
+            }));
+        }
+
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        List<T> results = new ArrayList<>(tasks.size());
+        int failed = 0;
+        for (Future<T> future : futures) {
+            T result = null;
+            try {
+                result = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                expired.set(true);
+                future.cancel(false);
+            } catch (TimeoutException e) {
+                expired.set(true);
+                future.cancel(false);
+            } catch (ExecutionException e) {
+                log.debug("지도 API 병렬 호출 작업 실패: {}", e.getCause().getMessage());
+            }
+            failed += result == null ? 1 : 0;
+            results.add(result);
+        }
+        if (failed > 0) {
+            log.warn("지도 API 병렬 호출 일부 실패 — 부분 결과 반환: failed={}/{}", failed, tasks.size());
+        }
+        return results;
+    }
+
+    /**
+     * 제공자 회로 차단기·동시 호출 상한 안에서 외부 호출 실행.
+     *
+     * @param fallback 회로 OPEN·상한 초과·외부 호출 예외 시 반환값 공급. Error 는 회로 실패로 집계한 뒤 그대로 전파
+     */
+    public <T> T call(String provider, Supplier<T> upstreamCall, Supplier<T> fallback) {
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(provider, this::newBulkhead);
+        CircuitBreaker circuitBreaker = bulkhead.circuitBreaker();
+        if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+            bulkhead.circuitOpen().increment();
+            log.debug("지도 API 회로 OPEN — 즉시 fallback: provider={}", provider);
+            return fallback.get();
+        }
+        boolean acquired;
+        try {
+            acquired = bulkhead.permits().tryAcquire(properties.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            if (circuitBreaker != null) {
+                circuitBreaker.release();
+            }
+            bulkhead.rejected().increment();
+            log.warn("지도 API 동시 호출 상한 초과 — fallback: provider={}, maxConcurrent={}",
+                    provider, bulkhead.maxConcurrent());
+            return fallback.get();
+        }
+        long start = System.nanoTime();
+        boolean outcomeRecorded = false;
+        try {
+            T result = upstreamCall.get();
+            outcomeRecorded = true;
+            if (circuitBreaker != null) {
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            outcomeRecorded = true;
+            if (isInterrupted(e)) {
+                if (circuitBreaker != null) {
+                    circuitBreaker.release();
+                }
+                log.debug("지도 API 호출 중단 (interrupt) — 실패로 집계하지 않음: provider={}", provider);
+                return fallback.get();
+            }
+            if (circuitBreaker != null) {
+                circuitBreaker.onFailure(System.nanoTime() - start);
+            }
+            log.warn("지도 API 호출 실패 — fallback: provider={}, error={}", provider, e.getMessage());
+            return fallback.get();
+        } finally {
+            if (!outcomeRecorded && circuitBreaker != null) {
+                // Error(OOM·StackOverflow 등)는 그대로 던지되 실패로 집계 — 안 그러면 HALF_OPEN 시험 호출 슬롯이 반납되지 않는다
+                circuitBreaker.onFailure(System.nanoTime() - start);
+            }
+            bulkhead.permits().release();
+        }
+    }
+
+    /**
+     * 호출 스레드 interrupt 로 끊긴 호출인지. 가상 스레드의 소켓 I/O 는 interrupt 시 소켓을 닫고 I/O 예외로 끝나므로
+     * 예외 원인과 함께 스레드 interrupt 상태도 본다.
+     */
+    private static boolean isInterrupted(RuntimeException e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 제공자별 회로 상태 (호출된 적 있는 제공자만).
+     */
+    public Map<String, CircuitBreaker.Snapshot> circuitStates() {
+        Map<String, CircuitBreaker.Snapshot> states = new TreeMap<>();
+        bulkheads.forEach((provider, bulkhead) -> {
+            if (bulkhead.circuitBreaker() != null) {
+                states.put(provider, bulkhead.circuitBreaker().snapshot());
+            }
+        });
+        return states;
+    }
+
+    private Bulkhead newBulkhead(String provider) {
+        int maxConcurrent = properties.maxConcurrent(provider);
+        Semaphore permits = new Semaphore(maxConcurrent);
+        Gauge.builder("map.client.active", permits, p -> maxConcurrent - p.availablePermits())
+                .tag("provider", provider).description("진행 중인 외부 지도 API 호출 수").register(meterRegistry);
+        Counter rejected = Counter.builder("map.client.rejected").tag("provider", provider).tag("reason", "bulkhead")
+                .description("동시 호출 상한 초과로 fallback 한 요청 수").register(meterRegistry);
+        Counter circuitOpen = Counter.builder("map.client.rejected").tag("provider", provider)
+                .tag("reason", "circuit-open").description("회로 OPEN 으로 fallback 한 요청 수").register(meterRegistry);
+
+        MapClientProperties.CircuitBreaker settings = properties.circuitBreaker();
+        CircuitBreaker circuitBreaker = settings.enabled()
+                ? new CircuitBreaker(new CircuitBreaker.Settings(settings.windowSize(), settings.minimumCalls(),
+                        settings.failureRateThreshold(), settings.slowCallThreshold(),
+                        settings.slowCallRateThreshold(), settings.openDuration(), settings.halfOpenProbes()))
+                : null;
+        if (circuitBreaker != null) {
+            Gauge.builder("map.client.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+                    .tag("provider", provider).description("회로 상태 (0 CLOSED, 1 OPEN, 2 HALF_OPEN)")
+                    .register(meterRegistry);
+        }
+        return new Bulkhead(permits, maxConcurrent, rejected, circuitOpen, circuitBreaker);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualThreads.shutdown();
+    }
+
+    /**
+     * 제공자별 보호 장치 묶음.
+     *
+     * @param circuitBreaker 회로 차단기 비활성 시 null
+     */
+    private record Bulkhead(Semaphore permits, int maxConcurrent, Counter rejected, Counter circuitOpen,
+            CircuitBreaker circuitBreaker) {
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Optional;
  *
  * @see GoogleMapServiceImpl
  * @see NoOpMapService
+ * @see CachingMapService
  */
 public interface MapService {
 
@@ -19,6 +20,7 @@ public interface MapService {
      *
      * @param address 주소 문자열
      * @return 위도·경도 (주소를 찾지 못하면 empty)
+     * @throws MapUnavailableException 제공자 장애로 결과를 판단할 수 없음 (결과 없음과 구분)
      */
     Optional<GeoResult> geocode(String address);
 
@@ -28,6 +30,7 @@ public interface MapService {
      * @param latitude  위도
      * @param longitude 경도
      * @return 주소 문자열 (찾지 못하면 empty)
+     * @throws MapUnavailableException 제공자 장애로 결과를 판단할 수 없음 (결과 없음과 구분)
      */
     Optional<String> reverseGeocode(double latitude, double longitude);
 
@@ -0,0 +1,16 @@
+package com.example.sns.service.map;
+
+/**
+ * 제공자 장애로 결과를 판단할 수 없음 (회로 OPEN·동시 호출 상한 초과·대기 시간 초과·중단).
+ * "결과 없음"(빈 결과)과 구분하기 위한 예외 — 캐시는 이 경우를 결과 없음으로 기록하지 않는다.
+ */
+public class MapUnavailableException extends RuntimeException {
+
+    public MapUnavailableException(String message) {
+        super(message);
+    }
+
+    public MapUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.sns.service.map;
+
+/**
+ * 외부 지도 API 장애성 실패 (연결·timeout·5xx·할당량 초과). 회로 차단기 실패로 집계된다.
+ * 잘못된 입력·경로 없음 같은 정상 응답성 결과는 이 예외 대신 빈 결과로 반환.
+ */
+public class MapUpstreamException extends RuntimeException {
+
+    public MapUpstreamException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
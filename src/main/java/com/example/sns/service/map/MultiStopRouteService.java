@@ -0,0 +1,157 @@
+package com.example.sns.service.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.example.sns.config.map.DirectionsProperties;
+import com.example.sns.config.map.MapProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
+import com.example.sns.util.haversine.HaversineUtil;
+import com.example.sns.util.route.WaypointOrderOptimizer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경유지 경로 (출발지 → 경유지들 → 목적지).
+ *
+ * <p>인접 지점 쌍(구간, leg)마다 {@link KakaoMobilityDirectionsService} 를 호출하되
+ * {@link MapCallExecutor#fanOut} 으로 동시에 조회 — 전체 지연은 구간 합이 아니라 가장 느린 구간 수준.
+ * 동시 수(legParallelism)와 전체 마감 시간(외부 호출 예산)을 제한하고, 캐시·single-flight·회로 차단기는
+ * 단건 경로 조회와 공유. 실패·마감 초과 구간은 직선으로 대체하고 나머지 도로 구간은 그대로 잇는다.
+ * 마감 초과 구간의 외부 호출은 interrupt 하지 않아 회로 실패로 집계되지 않고, 끝까지 조회해 경로 캐시를 채운다
+ * (같은 경로 재요청은 도로 경로로 응답).
+ * optimize=true 면 직선 거리 기준 {@link WaypointOrderOptimizer} 로 경유지 방문 순서를 먼저 정한다.
+ */
+@Slf4j
+@Service
+public class MultiStopRouteService {
+
+    private final DirectionsProperties.Waypoints properties;
+    private final MapProperties mapProperties;
+    private final KakaoMobilityDirectionsService directionsService;
+    private final MapCallExecutor mapCallExecutor;
+
+    public MultiStopRouteService(DirectionsProperties directionsProperties, MapProperties mapProperties,
+            KakaoMobilityDirectionsService directionsService, MapCallExecutor mapCallExecutor) {
+        this.properties = directionsProperties.waypoints();
+        this.mapProperties = mapProperties;
+        this.directionsService = directionsService;
+        this.mapCallExecutor = mapCallExecutor;
+    }
+
+    /**
+     * 구간 경로.
+     *
+     * @param coordinates    {lat, lng} 교차 배열 (도로 경로 또는 직선 fallback 의 양 끝점)
+     * @param distanceMeters 구간 거리
+     * @param isRoadRoute    false 면 직선 fallback
+     */
+    public record Leg(double[] coordinates, int distanceMeters, boolean isRoadRoute) {
+    }
+
+    /**
+     * 경유지 경로 결과.
+     *
+     * @param order          방문 순서 (입력 지점 인덱스, 첫 원소 출발지·마지막 원소 목적지)
+     * @param legs           방문 순서대로의 구간
+     * @param coordinates    모든 구간을 이은 {lat, lng} 교차 배열 (구간 경계 중복 점 제거)
+     * @param distanceMeters 총 거리
+     */
+    public record MultiStopRoute(int[] order, List<Leg> legs, double[] coordinates, int distanceMeters) {
+    }
+
+    /**
+     * @param stops    {lat, lng} 교차 배열 — 출발지, 경유지들, 목적지 순
+     * @param optimize true 면 출발지·목적지를 고정하고 경유지 방문 순서를 최적화
+     * @throws BusinessException 지점 2개 미만 또는 경유지 수 상한 초과 (BAD_REQUEST)
+     */
+    public MultiStopRoute plan(double[] stops, boolean optimize, String transportMode, String routeType) {
+        int n = stops.length / 2;
+        if (n < 2) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "출발지와 목적지가 필요합니다.");
+        }
+        if (n - 2 > properties.maxWaypoints()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    "경유지는 최대 " + properties.maxWaypoints() + "개까지 지정할 수 있습니다.");
+        }
+
+        int[] order = optimize && n > 3 ? optimizedOrder(stops, n) : identity(n);
+
+        List<Supplier<DirectionsResult>> tasks = new ArrayList<>(n - 1);
+        for (int leg = 0; leg < n - 1; leg++) {
+            int from = order[leg];
+            int to = order[leg + 1];
+            tasks.add(() -> directionsService.getDirections(stops[from * 2], stops[from * 2 + 1],
+                    stops[to * 2], stops[to * 2 + 1], transportMode, routeType));
+        }
+        List<DirectionsResult> results = mapCallExecutor.fanOut(tasks, properties.legParallelism(),
+                mapProperties.upstreamBudget());
+
+        List<Leg> legs = new ArrayList<>(n - 1);
+        int fallbacks = 0;
+        for (int leg = 0; leg < n - 1; leg++) {
+            DirectionsResult result = results.get(leg);
+            if (result != null) {
+                legs.add(new Leg(result.coordinates(), result.distanceMeters(), true));
+            } else {
+                legs.add(straightLeg(stops, order[leg], order[leg + 1]));
+                fallbacks++;
+            }
+        }
+        if (fallbacks > 0) {
+            log.warn("경유지 경로 일부 구간 직선 fallback: legs={}, fallbacks={}", legs.size(), fallbacks);
+        }
+        return new MultiStopRoute(order, legs, stitch(legs), legs.stream().mapToInt(Leg::distanceMeters).sum());
+    }
+
+    private static int[] optimizedOrder(double[] stops, int n) {
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = stops[i * 2];
+            lngs[i] = stops[i * 2 + 1];
+        }
+        return WaypointOrderOptimizer.order(HaversineUtil.distanceMatrix(lats, lngs, lats, lngs), n);
+    }
+
+    private static int[] identity(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    private static Leg straightLeg(double[] stops, int from, int to) {
+        double[] coordinates = {stops[from * 2], stops[from * 2 + 1], stops[to * 2], stops[to * 2 + 1]};
+        double distance = HaversineUtil.distanceMeters(coordinates[0], coordinates[1], coordinates[2], coordinates[3]);
+        return new Leg(coordinates, (int) Math.round(distance), false);
+    }
+
+    /** 구간을 순서대로 잇는다. 앞 구간 끝점과 같은 다음 구간 첫 점은 한 번만 넣는다. */
+    static double[] stitch(List<Leg> legs) {
+        int capacity = 0;
+        for (Leg leg : legs) {
+            capacity += leg.coordinates().length;
+        }
+        double[] path = new double[capacity];
+        int size = 0;
+        for (Leg leg : legs) {
+            double[] coordinates = leg.coordinates();
+            int start = 0;
+            if (size >= 2 && coordinates.length >= 2
+                    && path[size - 2] == coordinates[0] && path[size - 1] == coordinates[1]) {
+                start = 2;
+            }
+            System.arraycopy(coordinates, start, path, size, coordinates.length - start);
+            size += coordinates.length - start;
+        }
+        return size == capacity ? path : Arrays.copyOf(path, size);
+    }
+}
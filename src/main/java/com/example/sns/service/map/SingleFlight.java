@@ -0,0 +1,107 @@
+package com.example.sns.service.map;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 동일 요청 합치기(single-flight). 같은 키로 동시에 들어온 호출 중 첫 호출(leader)만 외부 API 를 호출하고,
+ * 나머지(follower)는 leader 의 결과(또는 예외)를 함께 받는다. 완료 즉시 키를 비우므로 결과를 보관하지 않는다 —
+ * 보관은 캐시 담당.
+ *
+ * <p>follower 는 waitTimeout 까지만 기다리고 {@link SingleFlightTimeoutException} 으로 빠진다 (leader 호출은 계속).
+ * 지표: map.singleflight.calls{name, role=leader|follower}, map.singleflight.timeouts{name},
+ * map.singleflight.in-flight{name}.
+ *
+ * @param <K> 요청 키
+ * @param <V> 결과
+ */
+public final class SingleFlight<K, V> {
+
+    private final String name;
+    private final Duration waitTimeout;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter followerCalls;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.waitTimeout = waitTimeout;
+        this.leaderCalls = Counter.builder("map.singleflight.calls").tag("name", name).tag("role", "leader")
+                .description("외부 호출을 직접 수행한 요청 수").register(meterRegistry);
+        this.followerCalls = Counter.builder("map.singleflight.calls").tag("name", name).tag("role", "follower")
+                .description("진행 중인 호출에 합쳐진 요청 수").register(meterRegistry);
+        this.timeouts = Counter.builder("map.singleflight.timeouts").tag("name", name)
+                .description("leader 결과 대기 시간 초과 수").register(meterRegistry);
+        Gauge.builder("map.singleflight.in-flight", inFlight, ConcurrentHashMap::size).tag("name", name)
+                .description("진행 중인 외부 호출 키 수").register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 호출이 진행 중이면 그 결과를, 아니면 loader 를 직접 실행한 결과를 반환.
+     *
+     * @throws SingleFlightTimeoutException follower 대기 시간 초과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing == null) {
+            leaderCalls.increment();
+            try {
+                V value = loader.get();
+                created.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, created);
+            }
+        }
+
+        followerCalls.increment();
+        try {
+            return existing.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new SingleFlightTimeoutException(name, waitTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SingleFlightTimeoutException(name, waitTimeout);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 현재 진행 중인 키 수 (모니터링·테스트용).
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * follower 가 leader 결과를 waitTimeout 안에 받지 못함.
+     */
+    public static class SingleFlightTimeoutException extends RuntimeException {
+
+        public SingleFlightTimeoutException(String name, Duration waitTimeout) {
+            super("진행 중인 " + name + " 호출 대기 시간 초과 (" + waitTimeout.toMillis() + "ms)");
+        }
+    }
+}
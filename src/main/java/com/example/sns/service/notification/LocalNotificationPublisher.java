@@ -0,0 +1,65 @@
+package com.example.sns.service.notification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단일 노드 Push 발행 — 이 노드의 NotificationSink로 직접 전달.
+ *
+ * <p>relay=local(dev/test 기본) 시 사용. relay=redis 시 RedisNotificationPublisher가 구독 메시지 전달에 사용.
+ * 전달은 가상 스레드로 넘기고 기다리지 않는다 — 느린 SSE 클라이언트가 outbox 디스패처·Redis 구독 스레드를 붙잡아
+ * 다른 사용자 알림까지 밀리지 않도록. 같은 수신자의 메시지는 발행 순서대로 하나씩 전달 (알림 → 안 읽은 수).
+ */
+@Slf4j
+@Component
+public class LocalNotificationPublisher implements NotificationPublisher {
+
+    private final List<NotificationSink> sinks;
+    private final ExecutorService deliveryExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("notification-push-", 0).factory());
+    /** 수신자별 마지막 전달 작업 — 다음 메시지는 그 뒤에 이어 붙인다. 전달이 끝나면 제거. */
+    private final Map<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public LocalNotificationPublisher(List<NotificationSink> sinks) {
+        this.sinks = sinks;
+    }
+
+    @Override
+    public void publish(NotificationPushMessage message) {
+        Long recipientId = message.recipientId();
+        try {
+            CompletableFuture<Void> tail = tails.compute(recipientId, (k, previous) -> previous == null
+                    ? CompletableFuture.runAsync(() -> deliver(message), deliveryExecutor)
+                    : previous.thenRunAsync(() -> deliver(message), deliveryExecutor));
+            tail.whenComplete((ignored, e) -> tails.remove(recipientId, tail));
+        } catch (RejectedExecutionException e) {
+            log.debug("알림 Push 전달 종료 중 — 무시: recipientId={}", recipientId);
+        }
+    }
+
+    private void deliver(NotificationPushMessage message) {
+        for (NotificationSink sink : sinks) {
+            try {
+                sink.deliver(message);
+            } catch (Exception e) {
+                log.warn("알림 Push 전달 실패: sink={}, recipientId={}, error={}",
+                        sink.getClass().getSimpleName(), message.recipientId(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.sns.service.notification;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.config.notification.NotificationProperties;
+import com.example.sns.dto.response.NotificationResponse;
+import com.example.sns.service.NotificationService;
+import com.example.sns.service.event.PostLikedEvent;
+import com.example.sns.service.event.UserFollowedEvent;
+import com.example.sns.util.concurrent.CoalescingTrigger;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 outbox 디스패처 — 알림 생성과 실시간 Push 의 단일 진입점.
+ *
+ * <p>outbox 를 배치 단위로 비울 때까지 처리하고, 커밋된 알림(생성·병합)과 변경된 안 읽은 알림 수를 Push 한다.
+ * 도메인 이벤트 커밋 직후 전용 스레드에서 즉시 깨어나며, 주기적 polling 은 다른 노드 기록분·
+ * 실패 재시도용 안전망이다. 노드 내 동시 실행은 1개로 제한 (실행 중 깨우기는 {@link CoalescingTrigger} 로 합침).
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+    private final NotificationPublisher notificationPublisher;
+    private final NotificationProperties notificationProperties;
+    private final CoalescingTrigger trigger;
+
+    public NotificationDispatcher(NotificationService notificationService,
+            NotificationPublisher notificationPublisher, NotificationProperties notificationProperties) {
+        this.notificationService = notificationService;
+        this.notificationPublisher = notificationPublisher;
+        this.notificationProperties = notificationProperties;
+        this.trigger = new CoalescingTrigger("notification-dispatcher", this::drainOutbox,
+                e -> log.warn("알림 outbox 처리 실패 (다음 polling 에서 재시도): {}", e.getMessage()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserFollowed(UserFollowedEvent event) {
+        trigger.wakeUp();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostLiked(PostLikedEvent event) {
+        trigger.wakeUp();
+    }
+
+    /**
+     * 주기적 polling. 깨우기 누락·다른 노드 기록분·이전 실패분 처리.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        drain();
+    }
+
+    /**
+     * outbox 가 빌 때까지 배치 처리. 이미 실행 중이면 재실행만 예약하고 반환.
+     */
+    public void drain() {
+        trigger.run();
+    }
+
+    private void drainOutbox() {
+        int batchSize = notificationProperties.outbox().batchSize();
+        List<NotificationResponse> dispatched;
+        do {
+            dispatched = notificationService.dispatchOutbox(batchSize);
+            push(dispatched);
+        } while (!dispatched.isEmpty());
+    }
+
+    /**
+     * 발행만 하고 전달은 기다리지 않는다 — 클라이언트 전송은 {@link LocalNotificationPublisher} 가 수신자별로 넘겨 처리.
+     */
+    private void push(List<NotificationResponse> dispatched) {
+        Set<Long> recipients = new LinkedHashSet<>();
+        for (NotificationResponse notification : dispatched) {
+            notificationPublisher.publish(NotificationPushMessage.ofNotification(notification.userId(), notification));
+            recipients.add(notification.userId());
+        }
+        for (Long recipientId : recipients) {
+            notificationPublisher.publish(
+                    NotificationPushMessage.ofUnreadCount(recipientId, notificationService.getUnreadCount(recipientId)));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        trigger.shutdown();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.sns.service.notification;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.sns.config.notification.NotificationProperties;
+import com.example.sns.dto.response.NotificationResponse;
+import com.example.sns.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE(Server-Sent Events) 연결 레지스트리 — STOMP 연결을 유지할 수 없는 클라이언트용 알림 스트림.
+ *
+ * <p>SseEmitter는 Servlet async 로 동작하므로 idle 연결이 요청 스레드를 점유하지 않는다.
+ * 연결당 상태는 SseEmitter 1개 + Set 엔트리뿐이며, 전송 실패·타임아웃 시 즉시 제거.
+ * 이벤트: notification(id=알림 ID), unread-count. 주기적 heartbeat(comment)로 프록시 idle 종료 방지.
+ * Last-Event-ID 재연결 시 그 이후 알림을 DB에서 재전송 (등록 후 재전송하므로 누락 없음, 중복은 클라이언트가 id로 제거).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEmitterRegistry implements NotificationSink {
+
+    static final String EVENT_NOTIFICATION = "notification";
+    static final String EVENT_UNREAD_COUNT = "unread-count";
+
+    private final NotificationService notificationService;
+    private final NotificationProperties notificationProperties;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * SSE 연결 등록. 안 읽은 알림 수와 Last-Event-ID 이후 알림을 먼저 전송.
+     *
+     * @param userId      사용자 userId
+     * @param lastEventId 마지막으로 받은 알림 ID (없으면 null)
+     * @return 등록된 SseEmitter
+     */
+    public SseEmitter connect(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(notificationProperties.sse().timeout().toMillis());
+        emitters.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        if (lastEventId != null) {
+            List<NotificationResponse> missed = notificationService.getSince(userId, lastEventId,
+                    notificationProperties.sse().replayLimit());
+            for (NotificationResponse notification : missed) {
+                if (!send(userId, emitter, notificationEvent(notification))) {
+                    return emitter;
+                }
+            }
+        }
+        send(userId, emitter, unreadCountEvent(notificationService.getUnreadCount(userId)));
+        log.debug("SSE 연결 등록: userId={}, lastEventId={}", userId, lastEventId);
+        return emitter;
+    }
+
+    @Override
+    public void deliver(NotificationPushMessage message) {
+        Set<SseEmitter> userEmitters = emitters.get(message.recipientId());
+        if (userEmitters == null || userEmitters.isEmpty()) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            if (message.notification() != null
+                    && !send(message.recipientId(), emitter, notificationEvent(message.notification()))) {
+                continue;
+            }
+            if (message.unreadCount() != null) {
+                send(message.recipientId(), emitter, unreadCountEvent(message.unreadCount()));
+            }
+        }
+    }
+
+    /** 프록시·로드밸런서 idle timeout 방지용 comment 전송. 끊긴 연결도 이때 정리된다. */
+    @Scheduled(fixedDelayString = "${app.notification.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    /** 현재 노드의 SSE 연결 수. */
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 연결 제거: userId={}, error={}", userId, e.getMessage());
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (k, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder notificationEvent(NotificationResponse notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.id()))
+                .name(EVENT_NOTIFICATION)
+                .data(notification, MediaType.APPLICATION_JSON);
+    }
+
+    private static SseEmitter.SseEventBuilder unreadCountEvent(long count) {
+        return SseEmitter.event()
+                .name(EVENT_UNREAD_COUNT)
+                .data(Map.of("count", count), MediaType.APPLICATION_JSON);
+    }
+}
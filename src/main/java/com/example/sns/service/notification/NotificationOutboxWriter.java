@@ -0,0 +1,46 @@
+package com.example.sns.service.notification;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.sns.domain.NotificationOutbox;
+import com.example.sns.domain.NotificationType;
+import com.example.sns.repository.NotificationOutboxRepository;
+import com.example.sns.service.event.PostLikedEvent;
+import com.example.sns.service.event.UserFollowedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트 → 알림 outbox 기록.
+ *
+ * <p>발행 트랜잭션 안에서 동기 실행 (MANDATORY): 팔로우·좋아요와 함께 커밋·롤백되므로 알림 유실·유령 알림 없음.
+ * 자기 자신에 대한 행위는 기록하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWriter {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserFollowed(UserFollowedEvent event) {
+        append(event.followingId(), NotificationType.FOLLOW, event.followerId(), null);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPostLiked(PostLikedEvent event) {
+        append(event.postAuthorId(), NotificationType.LIKE, event.likerId(), event.postId());
+    }
+
+    private void append(Long recipientId, NotificationType type, Long actorId, Long postId) {
+        if (recipientId.equals(actorId)) {
+            return;
+        }
+        notificationOutboxRepository.save(new NotificationOutbox(recipientId, type, actorId, postId));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.sns.service.notification;
+
+/**
+ * 알림 Push 발행 인터페이스.
+ *
+ * <p>수신자가 어느 노드에 연결돼 있든 전달되도록 발행한다.
+ *
+ * @see LocalNotificationPublisher
+ * @see RedisNotificationPublisher
+ */
+public interface NotificationPublisher {
+
+    /**
+     * 알림 Push 발행. 실패해도 예외를 던지지 않는다 (알림 저장은 이미 완료, 클라이언트는 목록 조회로 복구).
+     *
+     * @param message Push 메시지
+     */
+    void publish(NotificationPushMessage message);
+}
@@ -0,0 +1,33 @@
+package com.example.sns.service.notification;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.sns.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 읽음 커밋 후 변경된 안 읽은 알림 수 Push (SSE·STOMP 배지 갱신).
+ *
+ * <p>AFTER_COMMIT: 롤백된 변경은 Push 되지 않음. 트랜잭션 밖에서 발행된 이벤트도 처리 (fallbackExecution).
+ * 신규 알림 Push 는 NotificationDispatcher 가 담당.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPushListener {
+
+    private final NotificationPublisher notificationPublisher;
+    private final NotificationService notificationService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRead(NotificationReadEvent event) {
+        publishUnreadCount(event.userId());
+    }
+
+    private void publishUnreadCount(Long userId) {
+        notificationPublisher.publish(
+                NotificationPushMessage.ofUnreadCount(userId, notificationService.getUnreadCount(userId)));
+    }
+}
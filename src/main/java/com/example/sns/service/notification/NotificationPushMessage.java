@@ -0,0 +1,24 @@
+package com.example.sns.service.notification;
+
+import com.example.sns.dto.response.NotificationResponse;
+
+/**
+ * 실시간 Push 메시지.
+ *
+ * <p>노드 간 Redis relay 시 JSON 직렬화 대상이므로 record 필드만 사용.
+ * notification(신규 알림)·unreadCount(안 읽은 알림 수 변경) 중 하나 이상을 담는다.
+ *
+ * @param recipientId  수신자 userId
+ * @param notification 신규 알림 (없으면 null)
+ * @param unreadCount  안 읽은 알림 수 (변경 없으면 null)
+ */
+public record NotificationPushMessage(Long recipientId, NotificationResponse notification, Long unreadCount) {
+
+    public static NotificationPushMessage ofNotification(Long recipientId, NotificationResponse notification) {
+        return new NotificationPushMessage(recipientId, notification, null);
+    }
+
+    public static NotificationPushMessage ofUnreadCount(Long recipientId, long unreadCount) {
+        return new NotificationPushMessage(recipientId, null, unreadCount);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sns.service.notification;
+
+/**
+ * 알림 읽음 처리 이벤트. 커밋 후 안 읽은 알림 수 Push (NotificationPushListener).
+ *
+ * @param userId 읽음 처리한 사용자 userId
+ */
+public record NotificationReadEvent(Long userId) {
+}
@@ -0,0 +1,77 @@
+package com.example.sns.service.notification;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.notification.NotificationProperties;
+import com.example.sns.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 보관 정리 작업.
+ *
+ * <p>보관 기간(maxAge)이 지난 읽은 알림(개별 읽음 또는 읽음 워터마크 이하)을 작은 배치로 나눠 삭제한다.
+ * 배치마다 별도 트랜잭션 + 배치 간 대기로 잠금 시간·복제 지연을 제한하고, 배치는 id 키셋으로 이어 읽어
+ * 삭제할 수 없는 안 읽은 알림을 배치마다 다시 훑지 않는다.
+ * 1회 실행 배치 수 상한을 넘는 잔여분은 다음 실행에서 이어서 처리한다.
+ * 삭제는 멱등이므로 다중 노드 동시 실행도 안전.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private final NotificationService notificationService;
+    private final NotificationProperties notificationProperties;
+
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 3 * * *}")
+    public void run() {
+        NotificationProperties.Retention retention = notificationProperties.retention();
+        if (!retention.enabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention.maxAge());
+        long total = purge(cutoff, retention);
+        if (total > 0) {
+            log.info("읽은 알림 정리 완료: cutoff={}, deleted={}", cutoff, total);
+        }
+    }
+
+    /**
+     * 배치 삭제 반복 (직전 배치 마지막 id 이후부터). 배치가 덜 차면(더 이상 대상 없음) 또는 상한 도달 시 종료.
+     *
+     * @return 총 삭제 건수
+     */
+    long purge(LocalDateTime cutoff, NotificationProperties.Retention retention) {
+        long total = 0;
+        long afterId = 0;
+        for (int batch = 0; batch < retention.maxBatchesPerRun(); batch++) {
+            NotificationService.PurgeBatch result =
+                    notificationService.purgeExpiredRead(cutoff, afterId, retention.batchSize());
+            total += result.deleted();
+            afterId = result.lastId();
+            if (result.deleted() < retention.batchSize()) {
+                return total;
+            }
+            if (!pause(retention)) {
+                return total;
+            }
+        }
+        log.info("읽은 알림 정리 배치 상한 도달 — 다음 실행에서 계속: deleted={}", total);
+        return total;
+    }
+
+    private boolean pause(NotificationProperties.Retention retention) {
+        try {
+            Thread.sleep(retention.batchPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
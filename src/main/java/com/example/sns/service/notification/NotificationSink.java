@@ -0,0 +1,16 @@
+package com.example.sns.service.notification;
+
+/**
+ * 이 노드에 연결된 클라이언트로의 알림 전달 채널.
+ *
+ * <p>구현체: STOMP(WebSocket) 세션 전달. 수신자가 이 노드에 연결돼 있지 않으면 아무 것도 하지 않는다.
+ */
+public interface NotificationSink {
+
+    /**
+     * 이 노드에 연결된 수신자 세션으로 메시지 전달.
+     *
+     * @param message Push 메시지
+     */
+    void deliver(NotificationPushMessage message);
+}
@@ -0,0 +1,58 @@
+package com.example.sns.service.notification;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.sns.config.notification.NotificationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 기반 다중 노드 Push relay.
+ *
+ * <p>발행: 채널(app.notification.push.redis-channel)로 JSON 메시지 publish.
+ * 구독: 모든 노드가 같은 채널을 구독하고, 수신 메시지를 이 노드의 세션으로 전달 (LocalNotificationPublisher).
+ * RULE 5.2.1(Fallback): Redis 발행 실패 시 이 노드 세션에만 직접 전달.
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(name = "app.notification.push.relay", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisNotificationPublisher implements NotificationPublisher, MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalNotificationPublisher localNotificationPublisher;
+    private final NotificationProperties notificationProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(NotificationPushMessage message) {
+        try {
+            String json = objectMapper.writeValueAsString(message);
+            redisTemplate.convertAndSend(notificationProperties.push().redisChannel(), json);
+        } catch (Exception e) {
+            log.warn("Redis 알림 relay 발행 실패, 로컬 전달 fallback: recipientId={}, error={}",
+                    message.recipientId(), e.getMessage());
+            localNotificationPublisher.publish(message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String json = new String(message.getBody(), StandardCharsets.UTF_8);
+            localNotificationPublisher.publish(objectMapper.readValue(json, NotificationPushMessage.class));
+        } catch (Exception e) {
+            log.warn("Redis 알림 relay 수신 메시지 처리 실패: error={}", e.getMessage());
+        }
+    }
+}
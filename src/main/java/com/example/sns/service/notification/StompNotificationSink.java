@@ -0,0 +1,37 @@
+package com.example.sns.service.notification;
+
+import java.util.Map;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP(WebSocket) 알림 전달.
+ *
+ * <p>사용자별 목적지 /user/queue/notifications(신규 알림), /user/queue/notifications.unread-count(안 읽은 수)로 전송.
+ * Principal 이름은 userId (StompAuthChannelInterceptor).
+ * 수신자 세션이 이 노드에 없으면 SimpleBroker가 메시지를 버린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompNotificationSink implements NotificationSink {
+
+    public static final String USER_DESTINATION = "/queue/notifications";
+    public static final String UNREAD_COUNT_DESTINATION = "/queue/notifications.unread-count";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void deliver(NotificationPushMessage message) {
+        String user = String.valueOf(message.recipientId());
+        if (message.notification() != null) {
+            messagingTemplate.convertAndSendToUser(user, USER_DESTINATION, message.notification());
+        }
+        if (message.unreadCount() != null) {
+            messagingTemplate.convertAndSendToUser(user, UNREAD_COUNT_DESTINATION,
+                    Map.of("count", message.unreadCount()));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.sns.service.storage;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * AWS Signature Version 4 서명 (S3 호환 저장소 요청·pre-signed URL).
+ *
+ * <p>URI 의 path·query 는 이미 {@link #encode(String)} 규칙으로 인코딩되어 있어야 한다.
+ */
+final class AwsSigV4Signer {
+
+    static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+    private final String service;
+
+    AwsSigV4Signer(String accessKey, String secretKey, String region, String service) {
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.region = region;
+        this.service = service;
+    }
+
+    /**
+     * Authorization 헤더 방식 서명. 반환 헤더(x-amz-date·x-amz-content-sha256·Authorization)를 요청에 추가.
+     *
+     * @param headers     서명에 포함할 추가 헤더 (host 제외)
+     * @param payloadHash 본문 SHA-256 hex 또는 {@link #UNSIGNED_PAYLOAD}
+     */
+    Map<String, String> signHeaders(String method, URI uri, Map<String, String> headers, String payloadHash,
+                                    Instant now) {
+        String amzDate = AMZ_DATE.format(now);
+        TreeMap<String, String> canonicalHeaders = new TreeMap<>();
+        headers.forEach((name, value) -> canonicalHeaders.put(name.toLowerCase(Locale.ROOT), value.trim()));
+        canonicalHeaders.put("host", hostHeader(uri));
+        canonicalHeaders.put("x-amz-content-sha256", payloadHash);
+        canonicalHeaders.put("x-amz-date", amzDate);
+        String signedHeaders = String.join(";", canonicalHeaders.keySet());
+
+        String canonicalRequest = method + "\n"
+                + canonicalPath(uri) + "\n"
+                + canonicalQuery(uri.getRawQuery()) + "\n"
+                + canonicalHeaders.entrySet().stream()
+                        .map(e -> e.getKey() + ":" + e.getValue() + "\n")
+                        .collect(Collectors.joining()) + "\n"
+                + signedHeaders + "\n"
+                + payloadHash;
+        String signature = signature(canonicalRequest, now);
+
+        Map<String, String> result = new LinkedHashMap<>();
+        result.put("x-amz-date", amzDate);
+        result.put("x-amz-content-sha256", payloadHash);
+        result.put("Authorization", ALGORITHM + " Credential=" + accessKey + "/" + scope(now)
+                + ", SignedHeaders=" + signedHeaders + ", Signature=" + signature);
+        return result;
+    }
+
+    /**
+     * 쿼리 문자열 방식 서명 (pre-signed URL). 서명 헤더는 host 만 포함.
+     */
+    URI presign(String method, URI uri, Duration expires, Instant now) {
+        String query = (uri.getRawQuery() != null ? uri.getRawQuery() + "&" : "")
+                + "X-Amz-Algorithm=" + ALGORITHM
+                + "&X-Amz-Credential=" + encode(accessKey + "/" + scope(now))
+                + "&X-Amz-Date=" + AMZ_DATE.format(now)
+                + "&X-Amz-Expires=" + expires.toSeconds()
+                + "&X-Amz-SignedHeaders=host";
+        String canonicalRequest = method + "\n"
+                + canonicalPath(uri) + "\n"
+                + canonicalQuery(query) + "\n"
+                + "host:" + hostHeader(uri) + "\n\n"
+                + "host\n"
+                + UNSIGNED_PAYLOAD;
+        String base = uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+        return URI.create(base + "?" + query + "&X-Amz-Signature=" + signature(canonicalRequest, now));
+    }
+
+    /**
+     * RFC 3986 인코딩 (unreserved 문자만 유지). S3 키 경로는 '/' 를 유지하도록 세그먼트별로 호출.
+     */
+    static String encode(String value) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~') {
+                sb.append(c);
+            } else {
+                sb.append('%').append(String.format("%02X", b & 0xFF));
+            }
+        }
+        return sb.toString();
+    }
+
+    static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
+    private String signature(String canonicalRequest, Instant now) {
+        String stringToSign = ALGORITHM + "\n"
+                + AMZ_DATE.format(now) + "\n"
+                + scope(now) + "\n"
+                + sha256Hex(canonicalRequest.getBytes(StandardCharsets.UTF_8));
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), DATE.format(now));
+        key = hmac(key, region);
+        key = hmac(key, service);
+        key = hmac(key, "aws4_request");
+        return HexFormat.of().formatHex(hmac(key, stringToSign));
+    }
+
+    private String scope(Instant now) {
+        return DATE.format(now) + "/" + region + "/" + service + "/aws4_request";
+    }
+
+    private static String canonicalPath(URI uri) {
+        String path = uri.getRawPath();
+        return path == null || path.isEmpty() ? "/" : path;
+    }
+
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        List<String[]> params = new ArrayList<>();
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            params.add(eq < 0 ? new String[] {pair, ""} : new String[] {pair.substring(0, eq), pair.substring(eq + 1)});
+        }
+        params.sort((a, b) -> a[0].equals(b[0]) ? a[1].compareTo(b[1]) : a[0].compareTo(b[0]));
+        return params.stream().map(p -> p[0] + "=" + p[1]).collect(Collectors.joining("&"));
+    }
+
+    private static String hostHeader(URI uri) {
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 미지원", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.sns.service.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소 목록 항목.
+ *
+ * @param key          저장 키
+ * @param sizeBytes    크기
+ * @param lastModified 마지막 수정(이동) 시각
+ */
+public record BlobEntry(String key, long sizeBytes, Instant lastModified) {
+}
@@ -0,0 +1,81 @@
+package com.example.sns.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 원본·파생본 바이트 저장소 추상화.
+ *
+ * <p>키는 저장소 루트 기준 상대 경로 ("blobs/ab/{sha256}.jpg", "derivatives/160/..."). 구현: 로컬 파일시스템,
+ * S3 호환 오브젝트 스토리지. 원격 저장소는 pre-signed URL 로 클라이언트가 직접 받게 하여
+ * 이미지 바이트가 앱 서버를 거치지 않도록 한다.
+ */
+public interface BlobStore {
+
+    /**
+     * 파일 내용을 키에 저장 (같은 키가 있으면 덮어씀). 저장 완료 전에는 키가 노출되지 않아야 한다.
+     *
+     * @param key         저장 키
+     * @param source      업로드할 파일 (호출자 소유 임시 파일 — 구현에 따라 이동될 수 있음)
+     * @param contentType Content-Type (원격 저장소 메타데이터)
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 키 삭제. 없으면 무시.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 여러 키 일괄 삭제. 없는 키는 무시.
+     *
+     * @return 삭제에 실패한 키
+     */
+    default Set<String> deleteAll(Collection<String> keys) {
+        Set<String> failed = new HashSet<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (IOException | RuntimeException e) {
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 내용 스트림. 키가 없으면 {@link java.nio.file.NoSuchFileException}.
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 키를 다른 키로 이동 (덮어씀). 이동된 항목의 수정 시각은 이동 시각.
+     */
+    void move(String fromKey, String toKey) throws IOException;
+
+    /**
+     * prefix 아래 모든 항목을 지연 순회 (전체 목록을 메모리에 올리지 않음). 반환 Stream 은 닫아야 한다.
+     *
+     * @param prefix 키 prefix ("" 이면 전체)
+     */
+    Stream<BlobEntry> list(String prefix) throws IOException;
+
+    /**
+     * 로컬 파일 경로 (zero-copy 전송용). 원격 저장소는 empty.
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * 클라이언트 직접 다운로드용 pre-signed GET URL. 로컬 저장소는 empty.
+     */
+    Optional<URI> presignedGetUrl(String key);
+}
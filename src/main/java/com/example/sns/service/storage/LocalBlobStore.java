@@ -0,0 +1,213 @@
+package com.example.sns.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 파일시스템 BlobStore. 키 = 루트 디렉터리 기준 상대 경로.
+ *
+ * RULE 1.3: 경로 traversal 방지 — 루트 밖으로 벗어나는 키 거부.
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    /**
+     * 같은 파일시스템의 임시 파일을 원자적으로 이동 (부분 파일 노출 없음). 다른 파일시스템이면 일반 이동.
+     */
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public void move(String fromKey, String toKey) throws IOException {
+        Path target = resolve(toKey);
+        Files.createDirectories(target.getParent());
+        Files.move(resolve(fromKey), target, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+    }
+
+    /**
+     * 디렉터리 트리 지연 순회 (깊이 우선, 열린 디렉터리 스트림 = 깊이만큼). 일반 파일만, 키 구분자는 '/'.
+     * Files.walk 와 달리 순회 중 사라진 파일·디렉터리(동시 삭제·이동)는 건너뛴다.
+     */
+    @Override
+    public Stream<BlobEntry> list(String prefix) throws IOException {
+        Path start = prefix.isEmpty() ? root : resolve(prefix);
+        if (!Files.isDirectory(start)) {
+            return Stream.empty();
+        }
+        TolerantWalk walk = new TolerantWalk(start);
+        Spliterator<BlobEntry> entries =
+                Spliterators.spliteratorUnknownSize(walk, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(entries, false).onClose(walk::close);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public Optional<URI> presignedGetUrl(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * 사라진 항목을 건너뛰는 디렉터리 트리 반복자. 그 외 I/O 오류는 UncheckedIOException.
+     */
+    private final class TolerantWalk implements Iterator<BlobEntry> {
+
+        private final Deque<DirectoryStream<Path>> streams = new ArrayDeque<>();
+        private final Deque<Iterator<Path>> iterators = new ArrayDeque<>();
+        private BlobEntry next;
+
+        TolerantWalk(Path start) {
+            open(start);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !iterators.isEmpty()) {
+                Path path;
+                try {
+                    Iterator<Path> top = iterators.peek();
+                    if (!top.hasNext()) {
+                        closeTop();
+                        continue;
+                    }
+                    path = top.next();
+                } catch (DirectoryIteratorException e) {
+                    if (!(e.getCause() instanceof NoSuchFileException)) {
+                        throw new UncheckedIOException(e.getCause());
+                    }
+                    closeTop();
+                    continue;
+                }
+                visit(path);
+            }
+            return next != null;
+        }
+
+        @Override
+        public BlobEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BlobEntry entry = next;
+            next = null;
+            return entry;
+        }
+
+        void close() {
+            while (!streams.isEmpty()) {
+                closeTop();
+            }
+        }
+
+        private void visit(Path path) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (NoSuchFileException e) {
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (attributes.isDirectory()) {
+                open(path);
+            } else if (attributes.isRegularFile()) {
+                String key = root.relativize(path).toString().replace('\\', '/');
+                next = new BlobEntry(key, attributes.size(), attributes.lastModifiedTime().toInstant());
+            }
+        }
+
+        private void open(Path directory) {
+            try {
+                DirectoryStream<Path> stream = Files.newDirectoryStream(directory);
+                streams.push(stream);
+                iterators.push(stream.iterator());
+            } catch (NoSuchFileException e) {
+                // 순회 중 삭제된 디렉터리
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void closeTop() {
+            iterators.pop();
+            try {
+                streams.pop().close();
+            } catch (IOException e) {
+                log.debug("디렉터리 스트림 닫기 실패", e);
+            }
+        }
+    }
+
+    private Path resolve(String key) {
+        if (key == null || key.contains("..")) {
+            log.warn("저장 경로 traversal 시도 차단");
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
+        }
+        Path resolved = root.resolve(key.replace('\\', '/')).normalize();
+        if (!resolved.startsWith(root)) {
+            log.warn("저장 경로 traversal 시도 차단");
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "잘못된 파일 경로입니다.");
+        }
+        return resolved;
+    }
+}
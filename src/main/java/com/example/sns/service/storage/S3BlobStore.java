@@ -0,0 +1,394 @@
+package com.example.sns.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.example.sns.config.storage.StorageProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 호환 오브젝트 스토리지 BlobStore (AWS S3, MinIO 등).
+ *
+ * <p>JDK HttpClient + SigV4 서명으로 REST API 직접 호출. 파트 크기 이상 파일은 멀티파트 업로드로
+ * 파트 단위 스트리밍(메모리 사용 = 파트 1개), 실패 시 업로드 중단(abort)으로 미완성 파트 정리.
+ * 다운로드는 pre-signed GET URL 로 클라이언트가 직접 받는다 — 이미지 바이트가 앱 서버를 거치지 않음.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore {
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("<UploadId>([^<]+)</UploadId>");
+    private static final Pattern CONTENTS = Pattern.compile("<Contents>(.*?)</Contents>", Pattern.DOTALL);
+    private static final Pattern KEY = Pattern.compile("<Key>([^<]*)</Key>");
+    private static final Pattern SIZE = Pattern.compile("<Size>(\\d+)</Size>");
+    private static final Pattern LAST_MODIFIED = Pattern.compile("<LastModified>([^<]+)</LastModified>");
+    private static final Pattern DELETE_ERROR = Pattern.compile("<Error>\\s*<Key>([^<]*)</Key>");
+    private static final int MAX_DELETE_KEYS = 1000;
+    private static final Pattern NEXT_TOKEN = Pattern.compile("<NextContinuationToken>([^<]+)</NextContinuationToken>");
+
+    private final StorageProperties.S3 properties;
+    private final HttpClient httpClient;
+    private final Clock clock;
+    private final AwsSigV4Signer signer;
+    private final String endpoint;
+
+    public S3BlobStore(StorageProperties.S3 properties, HttpClient httpClient, Clock clock) {
+        if (properties.endpoint() == null || properties.bucket() == null) {
+            throw new IllegalStateException("app.storage.s3.endpoint·bucket 설정이 필요합니다.");
+        }
+        this.properties = properties;
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.signer = new AwsSigV4Signer(properties.accessKey(), properties.secretKey(), properties.region(), "s3");
+        this.endpoint = properties.endpoint().replaceAll("/+$", "");
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        if (size <= properties.partSizeBytes()) {
+            HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.ofFile(source);
+            expectSuccess(send("PUT", objectUri(key, null), body, Map.of("Content-Type", contentType),
+                    HttpResponse.BodyHandlers.ofString()), "PUT", key);
+            return;
+        }
+        uploadMultipart(key, source, contentType);
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        HttpResponse<Void> response = send("HEAD", objectUri(key, null), HttpRequest.BodyPublishers.noBody(),
+                Map.of(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        expectSuccess(response, "HEAD", key);
+        return true;
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        HttpResponse<String> response = send("DELETE", objectUri(key, null), HttpRequest.BodyPublishers.noBody(),
+                Map.of(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 404) {
+            expectSuccess(response, "DELETE", key);
+        }
+    }
+
+    /**
+     * DeleteObjects(quiet) — 요청 1회에 최대 1000개. 응답의 Error 항목만 실패로 반환.
+     */
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        Set<String> failed = new HashSet<>();
+        List<String> all = List.copyOf(keys);
+        for (int from = 0; from < all.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = all.subList(from, Math.min(all.size(), from + MAX_DELETE_KEYS));
+            StringBuilder xml = new StringBuilder("<Delete><Quiet>true</Quiet>");
+            chunk.forEach(key -> xml.append("<Object><Key>").append(escapeXml(key)).append("</Key></Object>"));
+            xml.append("</Delete>");
+            byte[] body = xml.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                HttpResponse<String> response = send("POST", bucketUri("delete="),
+                        HttpRequest.BodyPublishers.ofByteArray(body),
+                        Map.of("Content-Type", "application/xml", "Content-MD5", md5Base64(body)),
+                        HttpResponse.BodyHandlers.ofString());
+                expectSuccess(response, "DeleteObjects", chunk.get(0));
+                Matcher error = DELETE_ERROR.matcher(response.body());
+                while (error.find()) {
+                    failed.add(unescapeXml(error.group(1)));
+                }
+            } catch (IOException e) {
+                log.warn("S3 일괄 삭제 실패: keys={}, error={}", chunk.size(), e.getMessage());
+                failed.addAll(chunk);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 서버 측 복사(CopyObject) 후 원본 삭제 — 바이트가 앱 서버를 거치지 않음. 5GB 이하 객체 기준.
+     */
+    @Override
+    public void move(String fromKey, String toKey) throws IOException {
+        String copySource = "/" + AwsSigV4Signer.encode(properties.bucket()) + encodeKey(fromKey);
+        HttpResponse<String> response = send("PUT", objectUri(toKey, null), HttpRequest.BodyPublishers.noBody(),
+                Map.of("x-amz-copy-source", copySource), HttpResponse.BodyHandlers.ofString());
+        expectSuccess(response, "CopyObject", toKey);
+        if (response.body().contains("<Error>")) {
+            throw new IOException("S3 CopyObject 실패");
+        }
+        delete(fromKey);
+    }
+
+    /**
+     * ListObjectsV2 페이지(최대 1000개) 단위 지연 조회.
+     */
+    @Override
+    public Stream<BlobEntry> list(String prefix) {
+        Iterator<BlobEntry> iterator = new Iterator<>() {
+            private Iterator<BlobEntry> page = Collections.emptyIterator();
+            private String continuationToken;
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !lastPage) {
+                    fetchPage();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public BlobEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+
+            private void fetchPage() {
+                String query = "list-type=2&prefix=" + AwsSigV4Signer.encode(prefix)
+                        + (continuationToken != null
+                                ? "&continuation-token=" + AwsSigV4Signer.encode(continuationToken) : "");
+                try {
+                    HttpResponse<String> response = send("GET", bucketUri(query), HttpRequest.BodyPublishers.noBody(),
+                            Map.of(), HttpResponse.BodyHandlers.ofString());
+                    expectSuccess(response, "ListObjectsV2", prefix);
+                    page = parseListPage(response.body()).iterator();
+                    Matcher token = NEXT_TOKEN.matcher(response.body());
+                    continuationToken = token.find() ? unescapeXml(token.group(1)) : null;
+                    lastPage = continuationToken == null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        HttpResponse<InputStream> response = send("GET", objectUri(key, null), HttpRequest.BodyPublishers.noBody(),
+                Map.of(), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            if (response.statusCode() == 404) {
+                throw new NoSuchFileException(key);
+            }
+            throw new IOException("S3 GET 실패: status=" + response.statusCode());
+        }
+        return response.body();
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * pre-signed GET URL. 서명 시각을 presignTtl/2 구간으로 내림해 구간 내에서는 같은 URL 을 반환
+     * (브라우저·CDN 캐시 적중). 남은 유효 기간은 항상 presignTtl/2 이상.
+     */
+    @Override
+    public Optional<URI> presignedGetUrl(String key) {
+        long window = Math.max(1, properties.presignTtl().toSeconds() / 2);
+        long now = clock.instant().getEpochSecond();
+        Instant signingTime = Instant.ofEpochSecond(now - now % window);
+        return Optional.of(signer.presign("GET", objectUri(key, null), properties.presignTtl(), signingTime));
+    }
+
+    private void uploadMultipart(String key, Path source, String contentType) throws IOException {
+        String uploadId = createMultipartUpload(key, contentType);
+        try (InputStream in = Files.newInputStream(source)) {
+            int partSize = (int) properties.partSizeBytes();
+            byte[] buffer = new byte[partSize];
+            List<String> etags = new ArrayList<>();
+            int read;
+            while ((read = in.readNBytes(buffer, 0, partSize)) > 0) {
+                int partNumber = etags.size() + 1;
+                URI uri = objectUri(key, "partNumber=" + partNumber + "&uploadId=" + AwsSigV4Signer.encode(uploadId));
+                HttpResponse<String> response = send("PUT", uri,
+                        HttpRequest.BodyPublishers.ofByteArray(buffer, 0, read), Map.of(),
+                        HttpResponse.BodyHandlers.ofString());
+                expectSuccess(response, "UploadPart", key);
+                etags.add(response.headers().firstValue("ETag")
+                        .orElseThrow(() -> new IOException("S3 UploadPart 응답에 ETag 없음")));
+            }
+            completeMultipartUpload(key, uploadId, etags);
+            log.debug("S3 멀티파트 업로드 완료: parts={}", etags.size());
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(key, uploadId);
+            throw e;
+        }
+    }
+
+    private String createMultipartUpload(String key, String contentType) throws IOException {
+        HttpResponse<String> response = send("POST", objectUri(key, "uploads="), HttpRequest.BodyPublishers.noBody(),
+                Map.of("Content-Type", contentType), HttpResponse.BodyHandlers.ofString());
+        expectSuccess(response, "CreateMultipartUpload", key);
+        Matcher matcher = UPLOAD_ID.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IOException("S3 CreateMultipartUpload 응답에 UploadId 없음");
+        }
+        return matcher.group(1);
+    }
+
+    private void completeMultipartUpload(String key, String uploadId, List<String> etags) throws IOException {
+        StringBuilder xml = new StringBuilder("<CompleteMultipartUpload>");
+        for (int i = 0; i < etags.size(); i++) {
+            xml.append("<Part><PartNumber>").append(i + 1).append("</PartNumber><ETag>")
+                    .append(etags.get(i).replace("\"", "&quot;")).append("</ETag></Part>");
+        }
+        xml.append("</CompleteMultipartUpload>");
+        HttpResponse<String> response = send("POST", objectUri(key, "uploadId=" + AwsSigV4Signer.encode(uploadId)),
+                HttpRequest.BodyPublishers.ofString(xml.toString(), StandardCharsets.UTF_8),
+                Map.of("Content-Type", "application/xml"), HttpResponse.BodyHandlers.ofString());
+        expectSuccess(response, "CompleteMultipartUpload", key);
+        // S3 는 200 응답 본문에 오류를 담을 수 있음
+        if (response.body().contains("<Error>")) {
+            throw new IOException("S3 CompleteMultipartUpload 실패");
+        }
+    }
+
+    private void abortMultipartUpload(String key, String uploadId) {
+        try {
+            send("DELETE", objectUri(key, "uploadId=" + AwsSigV4Signer.encode(uploadId)),
+                    HttpRequest.BodyPublishers.noBody(), Map.of(), HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패(무시, 버킷 lifecycle 로 정리)", e);
+        }
+    }
+
+    private <T> HttpResponse<T> send(String method, URI uri, HttpRequest.BodyPublisher body,
+                                     Map<String, String> headers, HttpResponse.BodyHandler<T> handler)
+            throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(properties.requestTimeout())
+                .method(method, body);
+        headers.forEach(builder::header);
+        // x-amz-* 헤더는 서명에 포함해야 함
+        Map<String, String> signedHeaders = new TreeMap<>();
+        headers.forEach((name, value) -> {
+            if (name.toLowerCase(Locale.ROOT).startsWith("x-amz-")) {
+                signedHeaders.put(name, value);
+            }
+        });
+        signer.signHeaders(method, uri, signedHeaders, AwsSigV4Signer.UNSIGNED_PAYLOAD, clock.instant())
+                .forEach(builder::header);
+        try {
+            return httpClient.send(builder.build(), handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 요청 중단: " + method);
+        }
+    }
+
+    private static void expectSuccess(HttpResponse<?> response, String operation, String key) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            log.warn("S3 요청 실패: operation={}, status={}, key={}", operation, response.statusCode(), key);
+            throw new IOException("S3 " + operation + " 실패: status=" + response.statusCode());
+        }
+    }
+
+    private static List<BlobEntry> parseListPage(String xml) {
+        List<BlobEntry> entries = new ArrayList<>();
+        Matcher contents = CONTENTS.matcher(xml);
+        while (contents.find()) {
+            String item = contents.group(1);
+            Matcher key = KEY.matcher(item);
+            Matcher size = SIZE.matcher(item);
+            Matcher lastModified = LAST_MODIFIED.matcher(item);
+            if (key.find() && size.find() && lastModified.find()) {
+                entries.add(new BlobEntry(unescapeXml(key.group(1)), Long.parseLong(size.group(1)),
+                        Instant.parse(lastModified.group(1))));
+            }
+        }
+        return entries;
+    }
+
+    private static String escapeXml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&apos;");
+    }
+
+    private static String md5Base64(byte[] body) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 미지원", e);
+        }
+    }
+
+    private static String unescapeXml(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+
+    private URI bucketUri(String rawQuery) {
+        String base;
+        if (properties.pathStyle()) {
+            base = endpoint + "/" + AwsSigV4Signer.encode(properties.bucket());
+        } else {
+            URI endpointUri = URI.create(endpoint);
+            base = endpointUri.getScheme() + "://" + properties.bucket() + "." + endpointUri.getRawAuthority() + "/";
+        }
+        return URI.create(base + "?" + rawQuery);
+    }
+
+    private static String encodeKey(String key) {
+        StringBuilder path = new StringBuilder();
+        for (String segment : key.split("/")) {
+            path.append('/').append(AwsSigV4Signer.encode(segment));
+        }
+        return path.toString();
+    }
+
+    /**
+     * 객체 URI. 키는 '/' 를 유지한 채 세그먼트별 인코딩.
+     */
+    private URI objectUri(String key, String rawQuery) {
+        String path = encodeKey(key);
+        String base;
+        if (properties.pathStyle()) {
+            base = endpoint + "/" + AwsSigV4Signer.encode(properties.bucket()) + path;
+        } else {
+            URI endpointUri = URI.create(endpoint);
+            base = endpointUri.getScheme() + "://" + properties.bucket() + "." + endpointUri.getRawAuthority() + path;
+        }
+        return URI.create(rawQuery == null ? base : base + "?" + rawQuery);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.sns.util.bloom;
+
+/**
+ * 문자열 Bloom filter. "없음" 판정은 확실하고 "있음" 판정은 오탐률(falsePositiveRate) 이내로 틀릴 수 있다.
+ *
+ * <p>64비트 FNV-1a 해시 1회 + double hashing 으로 k 개 위치 계산. seed 를 바꾸면 오탐 대상도 바뀐다
+ * (주기 작업에서 실행마다 다른 seed 를 쓰면 같은 항목이 계속 오탐되지 않음). 스레드 안전하지 않음.
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long seed;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  목표 오탐률 (0 초과 1 미만)
+     * @param seed               해시 seed
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate, long seed) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate 는 0 과 1 사이여야 합니다.");
+        }
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, m);
+        this.bits = new long[(int) ((bitCount + 63) / 64)];
+        this.hashCount = Math.max(1, (int) Math.round(-Math.log(falsePositiveRate) / Math.log(2)));
+        this.seed = seed;
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * @return false 면 확실히 없음, true 면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 비트 배열 크기(바이트). */
+    public long sizeInBytes() {
+        return bits.length * 8L;
+    }
+
+    private long hash(String value) {
+        long hash = FNV_OFFSET ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // 하위·상위 32비트 모두 고르게 섞기 (finalizer)
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
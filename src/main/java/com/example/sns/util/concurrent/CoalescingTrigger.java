@@ -0,0 +1,75 @@
+package com.example.sns.util.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합쳐지는 drain 트리거 — 대기열 작업자(outbox·삭제 대기열)의 "깨우면 빌 때까지 처리" 실행 제어.
+ *
+ * <ul>
+ *   <li>동시 실행은 1개. 실행 중 들어온 요청은 재실행 플래그 1개로 합쳐진다 (요청 수만큼 반복하지 않음).</li>
+ *   <li>깨우기 누락 없음: 실행 중인 drain 이 끝나는 순간 들어온 요청도 플래그 재확인으로 다시 처리한다.</li>
+ *   <li>{@link #wakeUp}: 전용 데몬 스레드에서 비동기 실행 (커밋 이벤트 리스너용). {@link #run}: 호출 스레드에서 실행 (polling 용).</li>
+ *   <li>drain 이 예외로 끝나면 재실행하지 않고 onFailure 로 넘긴다 — 재시도는 다음 polling.</li>
+ * </ul>
+ */
+@Slf4j
+public final class CoalescingTrigger {
+
+    private final String name;
+    private final Runnable drain;
+    private final Consumer<RuntimeException> onFailure;
+    private final ExecutorService wakeUpExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+
+    /**
+     * @param name      깨우기 전용 스레드 이름
+     * @param drain     대기열을 빌 때까지 처리하는 1회 실행
+     * @param onFailure drain 예외 처리 (로그 등)
+     */
+    public CoalescingTrigger(String name, Runnable drain, Consumer<RuntimeException> onFailure) {
+        this.name = name;
+        this.drain = drain;
+        this.onFailure = onFailure;
+        this.wakeUpExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name(name).daemon(true).factory());
+    }
+
+    /**
+     * 호출 스레드에서 drain. 이미 실행 중이면 재실행만 예약하고 즉시 반환.
+     */
+    public void run() {
+        pending.set(true);
+        while (pending.get() && draining.compareAndSet(false, true)) {
+            try {
+                pending.set(false);
+                drain.run();
+            } catch (RuntimeException e) {
+                onFailure.accept(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 전용 스레드에서 drain 예약. 종료 중이면 무시 (polling 에 위임).
+     */
+    public void wakeUp() {
+        try {
+            wakeUpExecutor.execute(this::run);
+        } catch (RejectedExecutionException e) {
+            log.debug("{} 종료 중 — polling 에 위임", name);
+        }
+    }
+
+    public void shutdown() {
+        wakeUpExecutor.shutdown();
+    }
+}
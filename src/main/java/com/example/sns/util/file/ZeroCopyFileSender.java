@@ -0,0 +1,69 @@
+package com.example.sns.util.file;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 파일 전체를 응답 본문으로 전송 — 힙 버퍼 복사 최소화.
+ *
+ * <p>Tomcat NIO 커넥터가 sendfile 을 지원하면 요청 속성으로 파일을 넘겨 커널이 직접 소켓으로 전송 (zero-copy).
+ * 지원하지 않으면 FileChannel.transferTo 로 응답 스트림에 전송한다 (응답 스트림은 소켓 채널이 아니므로 사용자 공간 복사).
+ * 헤더(Content-Type 등)는 호출 측에서 먼저 설정하고, Range 요청은 호출 측에서 별도 처리한다.
+ */
+public final class ZeroCopyFileSender {
+
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** 이보다 작은 파일은 sendfile 준비 비용이 더 커서 직접 전송 (Tomcat DefaultServlet 기본값과 동일). */
+    static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private ZeroCopyFileSender() {
+    }
+
+    /**
+     * 파일 전송. HEAD 요청이면 Content-Length 만 설정.
+     *
+     * @param file 전송할 파일 (존재·읽기 가능해야 함)
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            response.setContentLengthLong(length);
+            if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+                return;
+            }
+            if (length >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, length);
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            transferFully(channel, out, length);
+        }
+    }
+
+    /**
+     * transferTo 는 요청 길이보다 적게 보낼 수 있으므로 끝까지 반복.
+     */
+    public static void transferFully(FileChannel source, WritableByteChannel target, long length) throws IOException {
+        long position = 0;
+        while (position < length) {
+            long sent = source.transferTo(position, length - position, target);
+            if (sent <= 0) {
+                break;
+            }
+            position += sent;
+        }
+    }
+}
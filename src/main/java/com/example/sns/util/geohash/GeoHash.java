@@ -0,0 +1,63 @@
+package com.example.sns.util.geohash;
+
+/**
+ * Geohash 인코딩 (base32, 경도·위도 비트 교차).
+ *
+ * <p>같은 접두어를 공유하는 좌표는 같은 격자 칸에 속한다. 정밀도별 칸 크기(위도 37° 부근):
+ * 7 ≈ 153m × 122m, 8 ≈ 38m × 19m, 9 ≈ 4.8m × 4.8m.
+ * 칸 경계를 사이에 둔 두 점은 가까워도 다른 값이 나올 수 있다.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    /**
+     * @param precision 문자 수 (1~12)
+     * @throws IllegalArgumentException 범위를 벗어난 좌표·정밀도
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be 1.." + MAX_PRECISION);
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("coordinate out of range");
+        }
+        double minLat = -90;
+        double maxLat = 90;
+        double minLng = -180;
+        double maxLng = 180;
+        char[] out = new char[precision];
+        boolean lngBit = true;
+        for (int i = 0; i < precision; i++) {
+            int index = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                index <<= 1;
+                if (lngBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (longitude >= mid) {
+                        index |= 1;
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (latitude >= mid) {
+                        index |= 1;
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                lngBit = !lngBit;
+            }
+            out[i] = BASE32[index];
+        }
+        return new String(out);
+    }
+}
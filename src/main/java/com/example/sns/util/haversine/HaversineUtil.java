@@ -28,4 +28,52 @@ public final class HaversineUtil {
         double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
         return EARTH_RADIUS_METERS * c;
     }
+
+    /**
+     * 출발지 × 목적지 모든 쌍의 직선 거리(미터) 행렬.
+     *
+     * <p>좌표별 sin·cos 를 한 번만 구해 두고(SoA 배열), 쌍마다의 반정현(haversine) 값은
+     * 코사인 차 공식 hav(Δ) = (1 − (cos a·cos b + sin a·sin b)) / 2 로 곱셈·덧셈만으로 계산한다.
+     * 내부 루프에 삼각함수·분기가 없어 JIT 가 SIMD 로 벡터화할 수 있고, 쌍당 삼각함수는 마지막 asin 1회뿐.
+     * 1m 미만 거리에서는 상쇄 오차로 수 mm 차이가 날 수 있다.
+     *
+     * @return 행 우선 배열 — [i * 목적지 수 + j] = 출발지 i → 목적지 j 거리
+     */
+    public static double[] distanceMatrix(double[] originLats, double[] originLngs,
+            double[] destLats, double[] destLngs) {
+        int destCount = destLats.length;
+        double[] sinLat = new double[destCount];
+        double[] cosLat = new double[destCount];
+        double[] sinLng = new double[destCount];
+        double[] cosLng = new double[destCount];
+        for (int j = 0; j < destCount; j++) {
+            double lat = Math.toRadians(destLats[j]);
+            double lng = Math.toRadians(destLngs[j]);
+            sinLat[j] = Math.sin(lat);
+            cosLat[j] = Math.cos(lat);
+            sinLng[j] = Math.sin(lng);
+            cosLng[j] = Math.cos(lng);
+        }
+
+        double[] distances = new double[originLats.length * destCount];
+        for (int i = 0; i < originLats.length; i++) {
+            double lat = Math.toRadians(originLats[i]);
+            double lng = Math.toRadians(originLngs[i]);
+            double sinLat1 = Math.sin(lat);
+            double cosLat1 = Math.cos(lat);
+            double sinLng1 = Math.sin(lng);
+            double cosLng1 = Math.cos(lng);
+            int row = i * destCount;
+            for (int j = 0; j < destCount; j++) {
+                double cosDLat = cosLat1 * cosLat[j] + sinLat1 * sinLat[j];
+                double cosDLng = cosLng1 * cosLng[j] + sinLng1 * sinLng[j];
+                distances[row + j] = 0.5 * (1 - cosDLat) + 0.5 * cosLat1 * cosLat[j] * (1 - cosDLng);
+            }
+        }
+        for (int k = 0; k < distances.length; k++) {
+            double h = Math.min(1, Math.max(0, distances[k]));
+            distances[k] = 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(h));
+        }
+        return distances;
+    }
 }
@@ -0,0 +1,85 @@
+package com.example.sns.util.polyline;
+
+import java.util.Arrays;
+
+/**
+ * Encoded Polyline Algorithm Format (정밀도 1e-5, 약 1m) 인코딩·디코딩.
+ *
+ * <p>좌표를 이전 점과의 차이(delta)로 바꿔 5비트 단위 가변 길이 문자로 기록한다. 도로 경로처럼 인접 점이 가까운
+ * 좌표열은 점당 약 4~8 바이트 — double[2] 리스트(점당 수십 바이트) 대비 캐시·전송 크기가 크게 줄어든다.
+ * 좌표 순서는 프로젝트 규약과 같은 {lat, lng}.
+ */
+public final class PolylineEncoder {
+
+    private static final double SCALE = 1e5;
+
+    private PolylineEncoder() {
+    }
+
+    /**
+     * @param coordinates {lat, lng} 교차 배열
+     */
+    public static String encode(double[] coordinates) {
+        StringBuilder out = new StringBuilder(coordinates.length * 4);
+        long previousLat = 0;
+        long previousLng = 0;
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            long lat = Math.round(coordinates[i] * SCALE);
+            long lng = Math.round(coordinates[i + 1] * SCALE);
+            encodeValue(lat - previousLat, out);
+            encodeValue(lng - previousLng, out);
+            previousLat = lat;
+            previousLng = lng;
+        }
+        return out.toString();
+    }
+
+    /**
+     * @return {lat, lng} 교차 배열
+     * @throws IllegalArgumentException 형식이 잘못된 문자열
+     */
+    public static double[] decodeCoordinates(String encoded) {
+        double[] coordinates = new double[Math.max(2, encoded.length() / 2)];
+        int size = 0;
+        int[] index = {0};
+        long lat = 0;
+        long lng = 0;
+        while (index[0] < encoded.length()) {
+            lat += decodeValue(encoded, index);
+            lng += decodeValue(encoded, index);
+            if (size + 2 > coordinates.length) {
+                coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+            }
+            coordinates[size++] = lat / SCALE;
+            coordinates[size++] = lng / SCALE;
+        }
+        return Arrays.copyOf(coordinates, size);
+    }
+
+    private static void encodeValue(long value, StringBuilder out) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            out.append((char) ((0x20 | (v & 0x1F)) + 63));
+            v >>= 5;
+        }
+        out.append((char) (v + 63));
+    }
+
+    private static long decodeValue(String encoded, int[] index) {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (index[0] >= encoded.length() || shift > 60) {
+                throw new IllegalArgumentException("잘못된 polyline 형식");
+            }
+            b = encoded.charAt(index[0]++) - 63;
+            if (b < 0 || b > 63) {
+                throw new IllegalArgumentException("잘못된 polyline 문자");
+            }
+            result |= (long) (b & 0x1F) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.sns.util.polyline;
+
+import java.util.Arrays;
+
+/**
+ * Douglas-Peucker 경로 단순화 (줌 레벨 기반 허용 오차).
+ *
+ * <p>구간 양 끝을 잇는 선분에서 허용 오차(m)보다 멀리 떨어진 가장 먼 점만 남기며 재귀적으로 나눈다.
+ * 허용 오차를 화면 1px 이 나타내는 거리로 잡으면 화면상 모양은 같고 점 수는 수십 분의 1로 준다.
+ * 거리는 경로 첫 점 위도 기준 등장방형 투영(m) — 도시·지역 단위 경로에서 오차 무시 가능.
+ * 재귀 대신 명시적 스택 — 수만 점 경로에서도 호출 깊이 제한 없음.
+ */
+public final class PolylineSimplifier {
+
+    /** Web Mercator 줌 0 에서 적도 기준 1px 거리 (m, 256px 타일). */
+    private static final double METERS_PER_PIXEL_ZOOM_0 = 156_543.03392;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private PolylineSimplifier() {
+    }
+
+    /**
+     * 줌 레벨에서 pixels 만큼의 화면 거리가 나타내는 지상 거리 (m).
+     *
+     * @param zoom Web Mercator 줌 (0 = 전 세계, 클수록 확대)
+     */
+    public static double toleranceMeters(int zoom, double latitude, double pixels) {
+        return METERS_PER_PIXEL_ZOOM_0 * Math.cos(Math.toRadians(latitude)) / Math.pow(2, zoom) * pixels;
+    }
+
+    /**
+     * @param coordinates     {lat, lng} 교차 배열
+     * @param toleranceMeters 허용 오차 (m). 0 이하면 원본 반환
+     * @return 단순화된 {lat, lng} 교차 배열 (첫·끝 점 유지)
+     */
+    public static double[] simplify(double[] coordinates, double toleranceMeters) {
+        int points = coordinates.length / 2;
+        if (points <= 2 || toleranceMeters <= 0) {
+            return coordinates;
+        }
+        double latScale = METERS_PER_DEGREE;
+        double lngScale = METERS_PER_DEGREE * Math.cos(Math.toRadians(coordinates[0]));
+        double toleranceSquared = toleranceMeters * toleranceMeters;
+
+        boolean[] keep = new boolean[points];
+        keep[0] = true;
+        keep[points - 1] = true;
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = points - 1;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            double ax = coordinates[first * 2 + 1] * lngScale;
+            double ay = coordinates[first * 2] * latScale;
+            double dx = coordinates[last * 2 + 1] * lngScale - ax;
+            double dy = coordinates[last * 2] * latScale - ay;
+            double lengthSquared = dx * dx + dy * dy;
+
+            double maxDistance = -1;
+            int farthest = -1;
+            for (int i = first + 1; i < last; i++) {
+                double px = coordinates[i * 2 + 1] * lngScale - ax;
+                double py = coordinates[i * 2] * latScale - ay;
+                double distance = segmentDistanceSquared(px, py, dx, dy, lengthSquared);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0 && maxDistance > toleranceSquared) {
+                keep[farthest] = true;
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = first;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = last;
+            }
+        }
+
+        int kept = 0;
+        for (boolean k : keep) {
+            kept += k ? 1 : 0;
+        }
+        double[] simplified = new double[kept * 2];
+        int next = 0;
+        for (int i = 0; i < points; i++) {
+            if (keep[i]) {
+                simplified[next++] = coordinates[i * 2];
+                simplified[next++] = coordinates[i * 2 + 1];
+            }
+        }
+        return simplified;
+    }
+
+    /**
+     * 원점 기준 선분 (0,0)→(dx,dy) 과 점 (px,py) 사이 거리의 제곱.
+     */
+    private static double segmentDistanceSquared(double px, double py, double dx, double dy, double lengthSquared) {
+        if (lengthSquared == 0) {
+            return px * px + py * py;
+        }
+        double t = Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSquared));
+        double ex = px - t * dx;
+        double ey = py - t * dy;
+        return ex * ex + ey * ey;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.sns.util.polyline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 저장 경로 문자열 변환 — 좌표 JSON 배열과 Encoded Polyline 사이.
+ *
+ * <p>좌표 JSON: [{"lat":37.5,"lng":127.0}, ...] 또는 [[37.5,127.0], ...].
+ * 좌표 JSON 은 항상 '[' 로 시작하므로 먼저 걸러낸다 ("[]" 도 '?'~'~' 범위 문자뿐이라 문자 구성만으로는 polyline 으로 보임).
+ * 그 밖에는 Encoded Polyline 문자가 '?'(63)~'~'(126) 범위라 숫자·쉼표를 포함하지 않는 점으로 구분한다.
+ * '[' 로 시작하는 polyline 은 첫 위도가 적도 바로 남쪽(-0.0002° 안팎)인 경우뿐이라 서비스 범위에서 생기지 않는다.
+ */
+public final class RoutePathCodec {
+
+    private RoutePathCodec() {
+    }
+
+    public static boolean isEncoded(String path) {
+        if (path == null || path.isEmpty() || path.stripLeading().startsWith("[")) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c < 63 || c > 126) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param objectMapper 좌표 JSON 파싱용 (애플리케이션 공유 빈)
+     * @return {lat, lng} 교차 배열
+     * @throws IllegalArgumentException 좌표 JSON·polyline 어느 형식도 아님
+     */
+    public static double[] parse(String path, ObjectMapper objectMapper) {
+        if (isEncoded(path)) {
+            return PolylineEncoder.decodeCoordinates(path);
+        }
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(path);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("경로 좌표 JSON 형식 오류", e);
+        }
+        if (root == null || !root.isArray()) {
+            throw new IllegalArgumentException("경로 좌표는 배열이어야 합니다.");
+        }
+        double[] coordinates = new double[root.size() * 2];
+        int i = 0;
+        for (JsonNode point : root) {
+            JsonNode lat = point.isArray() ? point.get(0) : point.get("lat");
+            JsonNode lng = point.isArray() ? point.get(1) : point.get("lng");
+            if (lat == null || lng == null || !lat.isNumber() || !lng.isNumber()) {
+                throw new IllegalArgumentException("경로 좌표에 lat·lng 숫자가 필요합니다.");
+            }
+            coordinates[i++] = lat.asDouble();
+            coordinates[i++] = lng.asDouble();
+        }
+        return coordinates;
+    }
+
+    /**
+     * @param coordinates {lat, lng} 교차 배열
+     * @return [{"lat":..,"lng":..}, ...]
+     */
+    public static String toCoordsJson(double[] coordinates) {
+        StringBuilder json = new StringBuilder(coordinates.length * 12 + 2).append('[');
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"lat\":").append(coordinates[i]).append(",\"lng\":").append(coordinates[i + 1]).append('}');
+        }
+        return json.append(']').toString();
+    }
+}
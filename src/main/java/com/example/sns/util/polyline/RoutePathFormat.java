@@ -0,0 +1,25 @@
+package com.example.sns.util.polyline;
+
+import java.util.Locale;
+
+/**
+ * 경로 좌표 응답 형식. 클라이언트가 format 파라미터로 선택.
+ *
+ * <ul>
+ *   <li>COORDS: {lat, lng} 객체 배열 (기존 형식, 기본값)</li>
+ *   <li>POLYLINE: Encoded Polyline 문자열 (정밀도 1e-5) — 좌표 JSON 대비 약 1/8 크기</li>
+ * </ul>
+ */
+public enum RoutePathFormat {
+    COORDS, POLYLINE;
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 형식
+     */
+    public static RoutePathFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return COORDS;
+        }
+        return valueOf(value.strip().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.sns.util.route;
+
+/**
+ * 경유지 방문 순서 최적화 (nearest-neighbour + 2-opt).
+ *
+ * <p>출발지(첫 지점)·목적지(마지막 지점)는 고정하고 그 사이 경유지 순서만 바꾼다 (열린 경로).
+ * 최근접 이웃으로 초기 순서를 만든 뒤 2-opt 로 구간을 뒤집어 총 거리가 줄지 않을 때까지 개선.
+ * 구간 뒤집기 비용 계산은 대칭 거리(직선 거리 등)를 가정한다.
+ * 최적해 보장은 없지만 "핀 몇 곳 둘러보기" 규모(수~수십 지점)에서는 최적에 가깝고 즉시 끝난다.
+ */
+public final class WaypointOrderOptimizer {
+
+    /** 2-opt 개선 라운드 상한 — 부동소수 오차로 인한 무한 반복 방지. */
+    private static final int MAX_ROUNDS = 100;
+    private static final double EPSILON = 1e-6;
+
+    private WaypointOrderOptimizer() {
+    }
+
+    /**
+     * @param distances 지점 n × n 거리 행렬 (row-major, [i * n + j] = i → j)
+     * @param n         지점 수 (출발지·경유지·목적지 포함)
+     * @return 방문 순서 (지점 인덱스). 첫 원소 0, 마지막 원소 n - 1
+     */
+    public static int[] order(double[] distances, int n) {
+        if (distances.length != n * n) {
+            throw new IllegalArgumentException("거리 행렬 크기가 지점 수와 맞지 않습니다.");
+        }
+        int[] order = nearestNeighbour(distances, n);
+        if (n > 3) {
+            twoOpt(order, distances, n);
+        }
+        return order;
+    }
+
+    /** 경로 총 거리 (order 순서대로 인접 지점 간 거리 합). */
+    public static double length(int[] order, double[] distances, int n) {
+        double total = 0;
+        for (int i = 0; i + 1 < order.length; i++) {
+            total += distances[order[i] * n + order[i + 1]];
+        }
+        return total;
+    }
+
+    private static int[] nearestNeighbour(double[] distances, int n) {
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        order[0] = 0;
+        order[n - 1] = n - 1;
+        visited[0] = true;
+        for (int pos = 1; pos < n - 1; pos++) {
+            int current = order[pos - 1];
+            int next = -1;
+            for (int candidate = 1; candidate < n - 1; candidate++) {
+                if (!visited[candidate]
+                        && (next < 0 || distances[current * n + candidate] < distances[current * n + next])) {
+                    next = candidate;
+                }
+            }
+            order[pos] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    /** 경유지 구간 [i..k] 를 뒤집어 짧아지면 적용. 양 끝(출발·목적지)은 움직이지 않는다. */
+    private static void twoOpt(int[] order, double[] distances, int n) {
+        boolean improved = true;
+        for (int round = 0; improved && round < MAX_ROUNDS; round++) {
+            improved = false;
+            for (int i = 1; i < n - 2; i++) {
+                for (int k = i + 1; k < n - 1; k++) {
+                    int before = order[i - 1];
+                    int first = order[i];
+                    int last = order[k];
+                    int after = order[k + 1];
+                    double delta = distances[before * n + last] + distances[first * n + after]
+                            - distances[before * n + first] - distances[last * n + after];
+                    if (delta < -EPSILON) {
+                        reverse(order, i, k);
+                        improved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int tmp = order[from];
+            order[from++] = order[to];
+            order[to--] = tmp;
+        }
+    }
+}
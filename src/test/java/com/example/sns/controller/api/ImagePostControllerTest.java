@@ -0,0 +1,178 @@
+package com.example.sns.controller.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.sns.BaseIntegrationTest;
+import com.example.sns.config.upload.UploadProperties;
+import com.example.sns.domain.ImagePost;
+import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.repository.UserRepository;
+
+/**
+ * ImagePostController 통합 테스트.
+ *
+ * 이미지 서빙: 버전 URL, ETag 조건부 요청(304), Cache-Control, Range(206).
+ */
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("ImagePostController 통합 테스트")
+class ImagePostControllerTest extends BaseIntegrationTest {
+
+    private static final byte[] IMAGE_BYTES = "0123456789abcdefghij".getBytes();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ImagePostRepository imagePostRepository;
+
+    @Autowired
+    private UploadProperties uploadProperties;
+
+    private ImagePost post;
+    private String version;
+    private Path storedFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        User author = userRepository.save(User.builder()
+                .email("image-author@example.com")
+                .passwordHash("hash")
+                .nickname("작성자")
+                .role(UserRole.USER)
+                .build());
+        version = UUID.randomUUID().toString();
+        String storagePath = "image-posts/" + version + ".gif";
+        storedFile = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize().resolve(storagePath);
+        Files.createDirectories(storedFile.getParent());
+        Files.write(storedFile, IMAGE_BYTES);
+        post = imagePostRepository.save(ImagePost.builder()
+                .author(author)
+                .title("제목")
+                .content("내용")
+                .imageStoragePath(storagePath)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(storedFile);
+    }
+
+    @Test
+    @DisplayName("GET /api/image-posts/{id} - imageUrl 에 이미지 버전 포함")
+    void get_imageUrl_버전포함() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/image-posts/{id}", post.getId()));
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imageUrl").value("/api/image-posts/" + post.getId() + "/image?v=" + version));
+    }
+
+    @Test
+    @DisplayName("GET /api/image-posts/{id}/image?v= - 버전 URL 은 ETag 와 immutable Cache-Control")
+    void getImage_버전URL_immutable() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/image-posts/{id}/image", post.getId()).param("v", version));
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "-original\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/gif"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    @DisplayName("GET /api/image-posts/{id}/image - If-None-Match 일치 시 파일을 읽지 않고 304")
+    void getImage_IfNoneMatch_304() throws Exception {
+        // given
+        Files.delete(storedFile);
+        // when
+        var result = mockMvc.perform(get("/api/image-posts/{id}/image", post.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + version + "-original\""));
+        // then
+        result.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "-original\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+    }
+
+    @Test
+    @DisplayName("GET /api/image-posts/{id}/image?size= - 저장소 오류로 원본을 대신 내주면 원본 ETag 와 no-cache")
+    void getImage_파생본대체_원본ETag_noCache() throws Exception {
+        // given: 파생본 저장 경로의 상위 디렉터리 자리에 일반 파일을 두어 저장(put)이 I/O 오류로 실패하게 함
+        String directory = "image-posts/" + UUID.randomUUID();
+        String jpegVersion = UUID.randomUUID().toString();
+        String storagePath = directory + "/" + jpegVersion + ".jpg";
+        Path basePath = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize();
+        Path jpeg = basePath.resolve(storagePath);
+        Path blocker = basePath.resolve("derivatives/160/" + directory);
+        Files.createDirectories(jpeg.getParent());
+        ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), "jpeg", jpeg.toFile());
+        Files.createDirectories(blocker.getParent());
+        Files.write(blocker, new byte[0]);
+        ImagePost jpegPost = imagePostRepository.save(ImagePost.builder()
+                .author(post.getAuthor())
+                .title("제목")
+                .content("내용")
+                .imageStoragePath(storagePath)
+                .build());
+        try {
+            // when
+            var result = mockMvc.perform(get("/api/image-posts/{id}/image", jpegPost.getId())
+                    .param("size", "160")
+                    .param("v", jpegVersion));
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + jpegVersion + "-original\""))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+        } finally {
+            Files.deleteIfExists(blocker);
+            Files.deleteIfExists(jpeg);
+            Files.deleteIfExists(jpeg.getParent());
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/image-posts/{id}/image - Range 요청 시 206 부분 응답")
+    void getImage_Range_206() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/image-posts/{id}/image", post.getId())
+                        .header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/" + IMAGE_BYTES.length))
+                .andReturn();
+        // then
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo("0123456789".getBytes());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.sns.controller.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.sns.BaseIntegrationTest;
+
+/**
+ * MapController 통합 테스트.
+ *
+ * /api/route 좌표 검증: 형식·NaN·무한대·범위 밖 좌표는 외부 호출 없이 400.
+ * RULE 4.2.2: Given-When-Then 준수.
+ */
+@AutoConfigureMockMvc
+@DisplayName("MapController 통합 테스트")
+class MapControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /api/route - NaN 좌표는 400")
+    void route_NaN_400() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/route")
+                .param("origin", "NaN,37.5")
+                .param("destination", "127.0,37.6"));
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("E001"));
+    }
+
+    @Test
+    @DisplayName("GET /api/route - 무한대 경유지 좌표는 400")
+    void route_무한대경유지_400() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/route")
+                .param("origin", "127.0,37.5")
+                .param("waypoints", "127.1,37.55|Infinity,37.56")
+                .param("destination", "127.2,37.6"));
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("E001"));
+    }
+
+    @Test
+    @DisplayName("GET /api/route - 위도 ±90·경도 ±180 범위 밖 좌표는 400")
+    void route_범위밖_400() throws Exception {
+        // given
+        // when
+        var latitudeOut = mockMvc.perform(get("/api/route")
+                .param("origin", "127.0,91")
+                .param("destination", "127.2,37.6"));
+        var longitudeOut = mockMvc.perform(get("/api/route")
+                .param("origin", "127.0,37.5")
+                .param("destination", "-180.5,37.6"));
+        // then
+        latitudeOut.andExpect(status().isBadRequest());
+        longitudeOut.andExpect(status().isBadRequest());
+    }
+}
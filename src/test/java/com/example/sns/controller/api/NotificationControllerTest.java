@@ -0,0 +1,304 @@
+package com.example.sns.controller.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+import com.example.sns.BaseIntegrationTest;
+import com.example.sns.domain.Notification;
+import com.example.sns.domain.NotificationOutbox;
+import com.example.sns.domain.NotificationType;
+import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+import com.example.sns.dto.response.NotificationResponse;
+import com.example.sns.repository.NotificationOutboxRepository;
+import com.example.sns.repository.NotificationRepository;
+import com.example.sns.repository.UserRepository;
+import com.example.sns.service.FollowService;
+import com.example.sns.service.NotificationService;
+
+/**
+ * NotificationController 통합 테스트.
+ *
+ * RULE 1.2.4: 인증 테스트 (401).
+ * 알림함 커서 페이징, 안 읽은 알림 수 카운터, outbox 경유 알림 생성, 좋아요 병합,
+ * 읽음 워터마크, 보관 기간 정리.
+ * SSE 스트림: 안 읽은 알림 수 전송, Last-Event-ID 이후 알림 재전송.
+ */
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("NotificationController 통합 테스트")
+class NotificationControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private FollowService followService;
+
+    private User recipient;
+    private Notification first;
+    private Notification second;
+
+    @BeforeEach
+    void setUp() {
+        recipient = userRepository.save(User.builder()
+                .email("recipient@example.com")
+                .passwordHash("hash")
+                .nickname("수신자")
+                .role(UserRole.USER)
+                .build());
+        User actor = userRepository.save(User.builder()
+                .email("actor@example.com")
+                .passwordHash("hash")
+                .nickname("행위자")
+                .role(UserRole.USER)
+                .build());
+        first = notificationRepository.save(new Notification(recipient, NotificationType.FOLLOW, actor, null));
+        second = notificationRepository.save(new Notification(recipient, NotificationType.LIKE, actor, 10L));
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications - 미인증 시 401 반환")
+    void list_미인증_401() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/notifications"));
+        // then
+        result.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("E002"));
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications - 로그인 시 본인 알림 목록 반환")
+    void list_로그인_200() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/notifications").with(authentication(authOf(recipient))));
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications - nextCursor 로 다음 페이지 조회")
+    void list_커서페이징_다음페이지() throws Exception {
+        // given
+        var firstPage = mockMvc.perform(get("/api/notifications").param("size", "1")
+                        .with(authentication(authOf(recipient))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String nextCursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+        // when
+        var result = mockMvc.perform(get("/api/notifications").param("size", "1").param("cursor", nextCursor)
+                .with(authentication(authOf(recipient))));
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications - 잘못된 커서면 400 반환")
+    void list_잘못된커서_400() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/notifications").param("cursor", "not-a-cursor")
+                .with(authentication(authOf(recipient))));
+        // then
+        result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications/unread-count - 읽음 처리 후 카운터 감소")
+    void unreadCount_읽음처리_감소() throws Exception {
+        // given
+        mockMvc.perform(get("/api/notifications/unread-count").with(authentication(authOf(recipient))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2));
+        mockMvc.perform(post("/api/notifications/{id}/read", first.getId())
+                        .with(authentication(authOf(recipient))))
+                .andExpect(status().is2xxSuccessful());
+        // when
+        var result = mockMvc.perform(get("/api/notifications/unread-count")
+                .with(authentication(authOf(recipient))));
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications/stream - Last-Event-ID 이후 알림과 안 읽은 알림 수를 전송")
+    void stream_LastEventId_이후알림_재전송() throws Exception {
+        // given
+        // when
+        var result = mockMvc.perform(get("/api/notifications/stream")
+                        .header("Last-Event-ID", String.valueOf(first.getId()))
+                        .with(authentication(authOf(recipient))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // then
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("id:" + second.getId());
+        assertThat(body).doesNotContain("id:" + first.getId() + "\n");
+        assertThat(body).contains("event:unread-count").contains("\"count\":2");
+    }
+
+    @Test
+    @DisplayName("팔로우 알림은 outbox 를 거쳐 디스패처가 생성한 뒤 알림함·카운터에 반영")
+    void follow_outbox경유_알림생성() throws Exception {
+        // given
+        User follower = userRepository.save(User.builder()
+                .email("follower@example.com")
+                .passwordHash("hash")
+                .nickname("팔로워")
+                .role(UserRole.USER)
+                .build());
+        followService.follow(follower.getId(), recipient.getId());
+        assertThat(notificationOutboxRepository.count()).isEqualTo(1);
+        // when
+        notificationService.dispatchOutbox(100);
+        // then
+        assertThat(notificationOutboxRepository.count()).isZero();
+        mockMvc.perform(get("/api/notifications").with(authentication(authOf(recipient))))
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].fromUserId").value(follower.getId()));
+        mockMvc.perform(get("/api/notifications/unread-count").with(authentication(authOf(recipient))))
+                .andExpect(jsonPath("$.count").value(3));
+    }
+
+    @Test
+    @DisplayName("같은 게시글 좋아요는 기존 안 읽은 좋아요 알림을 새 id 의 1건으로 대체해 병합")
+    void like_같은게시글_병합() throws Exception {
+        // given
+        for (int i = 0; i < 2; i++) {
+            User liker = userRepository.save(User.builder()
+                    .email("liker" + i + "@example.com")
+                    .passwordHash("hash")
+                    .nickname("좋아요" + i)
+                    .role(UserRole.USER)
+                    .build());
+            notificationOutboxRepository.save(
+                    new NotificationOutbox(recipient.getId(), NotificationType.LIKE, liker.getId(), 10L));
+        }
+        // when
+        List<NotificationResponse> dispatched = notificationService.dispatchOutbox(100);
+        // then
+        assertThat(dispatched).hasSize(1);
+        assertThat(dispatched.get(0).id()).isGreaterThan(second.getId());
+        assertThat(dispatched.get(0).replacedId()).isEqualTo(second.getId());
+        assertThat(notificationRepository.existsById(second.getId())).isFalse();
+        assertThat(notificationService.getSince(recipient.getId(), second.getId(), 10))
+                .extracting(NotificationResponse::id).containsExactly(dispatched.get(0).id());
+        mockMvc.perform(get("/api/notifications").with(authentication(authOf(recipient))))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(dispatched.get(0).id()))
+                .andExpect(jsonPath("$.content[0].actorCount").value(3))
+                .andExpect(jsonPath("$.content[0].fromUserName").value("좋아요1"));
+        mockMvc.perform(get("/api/notifications/unread-count").with(authentication(authOf(recipient))))
+                .andExpect(jsonPath("$.count").value(2));
+    }
+
+    @Test
+    @DisplayName("이미 집계된 행위자의 재좋아요(좋아요 → 취소 → 좋아요)는 행위자 수에 더하지 않음")
+    void like_같은행위자_재좋아요_무시() throws Exception {
+        // given
+        notificationOutboxRepository.save(new NotificationOutbox(
+                recipient.getId(), NotificationType.LIKE, second.getFromUser().getId(), 10L));
+        // when
+        List<NotificationResponse> dispatched = notificationService.dispatchOutbox(100);
+        // then
+        assertThat(dispatched).isEmpty();
+        assertThat(notificationOutboxRepository.count()).isZero();
+        mockMvc.perform(get("/api/notifications").with(authentication(authOf(recipient))))
+                .andExpect(jsonPath("$.content[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.content[0].actorCount").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/notifications/read-all - 읽음 워터마크로 전체 읽음, 이후 알림은 안 읽음")
+    void readAll_워터마크_전체읽음() throws Exception {
+        // given
+        mockMvc.perform(post("/api/notifications/read-all").with(authentication(authOf(recipient))))
+                .andExpect(status().is2xxSuccessful());
+        User actor = userRepository.save(User.builder()
+                .email("later@example.com")
+                .passwordHash("hash")
+                .nickname("이후행위자")
+                .role(UserRole.USER)
+                .build());
+        followService.follow(actor.getId(), recipient.getId());
+        notificationService.dispatchOutbox(100);
+        // when
+        var result = mockMvc.perform(get("/api/notifications").with(authentication(authOf(recipient))));
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].isRead").value(false))
+                .andExpect(jsonPath("$.content[1].isRead").value(true))
+                .andExpect(jsonPath("$.content[2].isRead").value(true));
+        assertThat(notificationRepository.findById(first.getId()).orElseThrow().isRead()).isFalse();
+        mockMvc.perform(get("/api/notifications/unread-count").with(authentication(authOf(recipient))))
+                .andExpect(jsonPath("$.count").value(1));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 읽은 알림만 정리")
+    void purgeExpiredRead_읽은알림만_삭제() throws Exception {
+        // given
+        mockMvc.perform(post("/api/notifications/{id}/read", first.getId())
+                        .with(authentication(authOf(recipient))))
+                .andExpect(status().is2xxSuccessful());
+        // when
+        NotificationService.PurgeBatch batch =
+                notificationService.purgeExpiredRead(LocalDateTime.now().plusSeconds(1), 0L, 100);
+        // then
+        assertThat(batch.deleted()).isEqualTo(1);
+        assertThat(batch.lastId()).isEqualTo(first.getId());
+        assertThat(notificationService.purgeExpiredRead(LocalDateTime.now().plusSeconds(1), batch.lastId(), 100)
+                .deleted()).isZero();
+        assertThat(notificationRepository.existsById(first.getId())).isFalse();
+        assertThat(notificationRepository.existsById(second.getId())).isTrue();
+    }
+
+    private static UsernamePasswordAuthenticationToken authOf(User user) {
+        return new UsernamePasswordAuthenticationToken(user, null,
+                Collections.singletonList(new SimpleGrantedAuthority(user.getRole().toAuthority())));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.sns.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.sns.config.ratelimit.RateLimitProperties;
+
+/**
+ * RateLimitFilter 단위 테스트. 공개 API 버킷 추가 차감 (도로 거리 행렬 쌍 수).
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("RateLimitFilter 단위 테스트")
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(new RateLimitProperties(10, 1, 10, 1, 20, 5, 5, 1));
+
+    @Test
+    @DisplayName("tryConsumeAdditional - 필터가 차감한 버킷에서 추가 차감, 한도 소진 후 다음 요청은 429")
+    void tryConsumeAdditional_같은버킷_차감() throws Exception {
+        // given
+        MockHttpServletRequest first = matrixRequest();
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        boolean overLimit = RateLimitFilter.tryConsumeAdditional(first, 5);
+        boolean withinLimit = RateLimitFilter.tryConsumeAdditional(first, 4);
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        filter.doFilter(matrixRequest(), next, new MockFilterChain());
+
+        // then
+        assertThat(overLimit).isFalse();
+        assertThat(withinLimit).isTrue();
+        assertThat(next.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("tryConsumeAdditional - 제한 대상이 아닌 요청(버킷 없음)은 항상 허용")
+    void tryConsumeAdditional_버킷없음_허용() {
+        // when & then
+        assertThat(RateLimitFilter.tryConsumeAdditional(new MockHttpServletRequest(), 100)).isTrue();
+    }
+
+    private static MockHttpServletRequest matrixRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/map/matrix");
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.sns.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.service.auth.JwtService;
+import com.example.sns.service.auth.TokenStore;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * StompAuthChannelInterceptor 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompAuthChannelInterceptor 단위 테스트")
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenStore tokenStore;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    @Test
+    @DisplayName("CONNECT - 유효한 Bearer 토큰이면 userId를 Principal 이름으로 설정한다")
+    void connect_유효한토큰이면_userId를_Principal로_설정한다() {
+        // given
+        Claims claims = Jwts.claims().id("jti-1").add("userId", 7).add("role", "USER").build();
+        given(jwtService.parseAccessToken("valid-token")).willReturn(claims);
+        given(tokenStore.isBlacklisted("jti-1")).willReturn(false);
+        Message<byte[]> message = stompMessage(StompCommand.CONNECT, "Bearer valid-token", null);
+
+        // when
+        Message<?> result = interceptor.preSend(message, channel);
+
+        // then
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class);
+        assertThat(accessor.getUser()).isNotNull();
+        assertThat(accessor.getUser().getName()).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("CONNECT - 토큰이 없으면 UNAUTHORIZED 예외를 던진다")
+    void connect_토큰없으면_UNAUTHORIZED() {
+        // given
+        Message<byte[]> message = stompMessage(StompCommand.CONNECT, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.UNAUTHORIZED));
+    }
+
+    @Test
+    @DisplayName("CONNECT - 블랙리스트된 토큰이면 UNAUTHORIZED 예외를 던진다")
+    void connect_블랙리스트토큰이면_UNAUTHORIZED() {
+        // given
+        Claims claims = Jwts.claims().id("jti-2").add("userId", 7).build();
+        given(jwtService.parseAccessToken("revoked-token")).willReturn(claims);
+        given(tokenStore.isBlacklisted("jti-2")).willReturn(true);
+        Message<byte[]> message = stompMessage(StompCommand.CONNECT, "Bearer revoked-token", null);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE - 사용자 목적지가 아니면 FORBIDDEN 예외를 던진다")
+    void subscribe_사용자목적지아니면_FORBIDDEN() {
+        // given
+        Message<byte[]> message = stompMessage(StompCommand.SUBSCRIBE, null, "/queue/notifications-user123");
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.FORBIDDEN));
+    }
+
+    private static Message<byte[]> stompMessage(StompCommand command, String authorization, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.sns.BaseIntegrationTest;
+import com.example.sns.config.upload.UploadProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.repository.ImageBlobRepository;
+import com.example.sns.repository.PendingFileDeletionRepository;
+
+/**
+ * FileStorageService 통합 테스트.
+ *
+ * 내용 주소 저장: 같은 바이트는 한 번만 저장하고 참조 수로 관리, 마지막 참조 해제 시 삭제 대기열을 거쳐 커밋 후 파일 삭제.
+ * 업로드 검증: magic byte 형식 판별, 스트리밍 중 크기 상한.
+ * 파일 삭제가 커밋 후 동작이므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@DisplayName("FileStorageService 통합 테스트")
+class FileStorageServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private UploadProperties uploadProperties;
+
+    @Autowired
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Path storedFile;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        awaitDeletionQueueDrained();
+        imageBlobRepository.deleteAll();
+        if (storedFile != null) {
+            Files.deleteIfExists(storedFile);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 내용 두 번 업로드 - 같은 경로, 파일 1개, 참조 수 2")
+    void storeImage_중복내용_참조수증가() {
+        // given
+        byte[] bytes = png(UUID.randomUUID().toString().getBytes());
+
+        // when
+        String first = fileStorageService.storeImage(image("a.png", bytes)).storagePath();
+        String second = fileStorageService.storeImage(new MockMultipartFile("image", "b.jpg", "image/jpeg", bytes))
+                .storagePath();
+        storedFile = storedPath(first);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(first).startsWith("blobs/").endsWith(".png");
+        assertThat(storedFile).exists().hasBinaryContent(bytes);
+        assertThat(imageBlobRepository.findByStoragePath(first))
+                .hasValueSatisfying(blob -> assertThat(blob.getRefCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("참조 해제 - 남은 참조가 있으면 파일 유지, 마지막 참조 해제 시 삭제")
+    void deleteIfExists_마지막참조에서만삭제() throws Exception {
+        // given
+        byte[] bytes = png(UUID.randomUUID().toString().getBytes());
+        String path = fileStorageService.storeImage(image("a.png", bytes)).storagePath();
+        fileStorageService.storeImage(image("a.png", bytes));
+        storedFile = storedPath(path);
+
+        // when
+        fileStorageService.deleteIfExists(path);
+
+        // then
+        assertThat(storedFile).exists();
+        assertThat(imageBlobRepository.findByStoragePath(path))
+                .hasValueSatisfying(blob -> assertThat(blob.getRefCount()).isEqualTo(1));
+
+        // when
+        fileStorageService.deleteIfExists(path);
+
+        // then — 커밋 후 삭제 작업자가 비동기로 삭제
+        awaitDeletionQueueDrained();
+        assertThat(storedFile).doesNotExist();
+        assertThat(imageBlobRepository.findByStoragePath(path)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("참조 해제 트랜잭션 롤백 - 삭제 예약도 롤백되어 파일·참조 유지")
+    void deleteIfExists_롤백시파일유지() {
+        // given
+        byte[] bytes = png(UUID.randomUUID().toString().getBytes());
+        String path = fileStorageService.storeImage(image("a.png", bytes)).storagePath();
+        storedFile = storedPath(path);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            fileStorageService.deleteIfExists(path);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(pendingFileDeletionRepository.count()).isZero();
+        assertThat(storedFile).exists();
+        assertThat(imageBlobRepository.findByStoragePath(path))
+                .hasValueSatisfying(blob -> assertThat(blob.getRefCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("magic byte 가 이미지가 아니면 Content-Type 이 image/png 여도 거부")
+    void storeImage_위장파일_거부() {
+        // given
+        MockMultipartFile spoofed = image("evil.png", "<?php echo 1; ?>".getBytes());
+
+        // when & then
+        assertThatThrownBy(() -> fileStorageService.storeImage(spoofed))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.INVALID_FILE_TYPE));
+    }
+
+    @Test
+    @DisplayName("선언 크기를 속여도 스트리밍 중 크기 상한 초과 시 거부")
+    void storeImage_크기속임_스트리밍중거부() {
+        // given
+        byte[] bytes = png(new byte[(int) uploadProperties.maxFileSizeBytes()]);
+        MockMultipartFile lying = new MockMultipartFile("image", "big.png", "image/png", bytes) {
+            @Override
+            public long getSize() {
+                return 10;
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> fileStorageService.storeImage(lying))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.FILE_TOO_LARGE));
+    }
+
+    private Path storedPath(String key) {
+        return Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize().resolve(key);
+    }
+
+    private static MockMultipartFile image(String filename, byte[] bytes) {
+        return new MockMultipartFile("image", filename, "image/png", bytes);
+    }
+
+    /**
+     * PNG 시그니처 + IHDR(16x16) 뒤에 payload 를 붙인 바이트 (해시를 다르게 하기 위한 payload).
+     */
+    private static byte[] png(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(33 + payload.length);
+        buffer.put(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        buffer.putInt(13).put("IHDR".getBytes()).putInt(16).putInt(16);
+        buffer.put(new byte[] {8, 2, 0, 0, 0}).putInt(0);
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    /** 삭제 작업자가 대기열을 비울 때까지 대기 (최대 5초). */
+    private void awaitDeletionQueueDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (pendingFileDeletionRepository.count() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.sns.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.sns.BaseIntegrationTest;
+import com.example.sns.domain.Notification;
+import com.example.sns.domain.NotificationType;
+import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+import com.example.sns.repository.NotificationRepository;
+import com.example.sns.repository.UserNotificationStateRepository;
+import com.example.sns.repository.UserRepository;
+
+/**
+ * NotificationService 개별 읽음 동시성 통합 테스트.
+ *
+ * 같은 알림의 읽음 요청이 동시에 들어와도 안 읽은 알림 수 카운터는 한 번만 줄어든다 (조건부 UPDATE).
+ * 요청마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@DisplayName("NotificationService 읽음 동시성 통합 테스트")
+class NotificationReadConcurrencyTest extends BaseIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserNotificationStateRepository userNotificationStateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (User user : users) {
+            notificationRepository.deleteAll(notificationRepository.findAll().stream()
+                    .filter(n -> n.getUser().getId().equals(user.getId()))
+                    .toList());
+            userNotificationStateRepository.deleteById(user.getId());
+        }
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("markAsRead - 같은 알림 동시 읽음 요청은 카운터를 1만 감소")
+    void markAsRead_동시요청_카운터1감소() throws Exception {
+        // given
+        User recipient = user("concurrent-recipient@example.com", "동시수신자");
+        User actor = user("concurrent-actor@example.com", "동시행위자");
+        Notification target = notificationRepository.save(
+                new Notification(recipient, NotificationType.FOLLOW, actor, null));
+        notificationRepository.save(new Notification(recipient, NotificationType.LIKE, actor, 10L));
+        assertThat(notificationService.getUnreadCount(recipient.getId())).isEqualTo(2);
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> requests = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                requests.add(executor.submit(() -> {
+                    start.await();
+                    notificationService.markAsRead(target.getId(), recipient.getId());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> request : requests) {
+                request.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(notificationService.getUnreadCount(recipient.getId())).isEqualTo(1);
+        assertThat(notificationRepository.findById(target.getId())).get()
+                .extracting(Notification::isRead).isEqualTo(true);
+    }
+
+    private User user(String email, String nickname) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("hash")
+                .nickname(nickname)
+                .role(UserRole.USER)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.domain.PendingFileDeletion;
+import com.example.sns.repository.ImageBlobRepository;
+import com.example.sns.repository.PendingFileDeletionRepository;
+import com.example.sns.service.storage.BlobStore;
+
+/**
+ * FileDeletionService 단위 테스트. 재참조 건너뛰기·실패 재시도·재시도 한도.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileDeletionService 단위 테스트")
+class FileDeletionServiceTest {
+
+    private static final String GONE = "blobs/aa/gone.jpg";
+    private static final String REUSED = "blobs/bb/reused.jpg";
+    private static final String BROKEN = "blobs/cc/broken.jpg";
+
+    @Mock
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    @Mock
+    private ImageBlobRepository imageBlobRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    private FileDeletionService fileDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        ImageProperties.Deletion deletion = new ImageProperties.Deletion(2000, 100, 2, Duration.ofSeconds(10),
+                Duration.ofHours(1));
+        ImageProperties properties = new ImageProperties(1, 10, 0.8f, "derivatives", 100, Duration.ofMinutes(5), null,
+                deletion);
+        fileDeletionService = new FileDeletionService(pendingFileDeletionRepository, imageBlobRepository, blobStore,
+                properties);
+    }
+
+    @Test
+    @DisplayName("배치 처리 - 다시 참조된 키는 삭제하지 않고 항목만 제거, 실패 키는 재시도 예약")
+    void processBatch_재참조건너뛰기_실패재시도() {
+        // given
+        PendingFileDeletion gone = new PendingFileDeletion(GONE);
+        PendingFileDeletion reused = new PendingFileDeletion(REUSED);
+        PendingFileDeletion broken = new PendingFileDeletion(BROKEN);
+        given(pendingFileDeletionRepository.findDueForUpdate(any(), any())).willReturn(List.of(gone, reused, broken));
+        given(imageBlobRepository.findReferencedStoragePaths(any())).willReturn(List.of(REUSED));
+        given(blobStore.deleteAll(Set.of(GONE, BROKEN))).willReturn(Set.of(BROKEN));
+
+        // when
+        FileDeletionService.BatchResult result = fileDeletionService.processBatch(100);
+
+        // then
+        assertThat(result.processed()).isEqualTo(3);
+        assertThat(result.deletedKeys()).containsExactly(GONE);
+        assertThat(broken.getAttempts()).isEqualTo(1);
+        assertThat(broken.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(5));
+        then(pendingFileDeletionRepository).should().deleteAllInBatch(List.of(gone, reused));
+    }
+
+    @Test
+    @DisplayName("배치 처리 - 재시도 한도 도달 시 항목 제거 (파일은 GC 에 위임)")
+    void processBatch_재시도한도_포기() {
+        // given
+        PendingFileDeletion broken = new PendingFileDeletion(BROKEN);
+        broken.retryLater(Duration.ZERO, Duration.ZERO);
+        given(pendingFileDeletionRepository.findDueForUpdate(any(), any())).willReturn(List.of(broken));
+        given(imageBlobRepository.findReferencedStoragePaths(any())).willReturn(List.of());
+        given(blobStore.deleteAll(Set.of(BROKEN))).willReturn(Set.of(BROKEN));
+
+        // when
+        FileDeletionService.BatchResult result = fileDeletionService.processBatch(100);
+
+        // then
+        assertThat(result.deletedKeys()).isEmpty();
+        then(pendingFileDeletionRepository).should().deleteAllInBatch(List.of(broken));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.config.upload.UploadProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.service.storage.LocalBlobStore;
+
+/**
+ * ImageDerivativeService 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("ImageDerivativeService 단위 테스트")
+class ImageDerivativeServiceTest {
+
+    @TempDir
+    Path basePath;
+
+    private ImageDerivativeService service;
+
+    @BeforeEach
+    void setUp() {
+        UploadProperties uploadProperties = new UploadProperties(basePath.toString(),
+                Set.of("image/jpeg", "image/png"), 5_242_880, 40_000_000);
+        service = new ImageDerivativeService(new LocalBlobStore(basePath), uploadProperties,
+                new ImageProperties(1, 10, 0.8f, "derivatives", 100, Duration.ofMinutes(5), null, null),
+                new ThreadPoolTaskExecutor());
+    }
+
+    @Test
+    @DisplayName("resolve - 파생본이 없으면 긴 변 기준으로 리사이즈해 저장소에 캐시한다")
+    void resolve_파생본없음_생성후캐시() throws IOException {
+        // given
+        writeImage("image-posts/a.jpg", 2000, 1000, "jpeg");
+        // when
+        String derivative = service.resolve("image-posts/a.jpg", ImageVariant.MEDIUM);
+        // then
+        BufferedImage image = ImageIO.read(basePath.resolve(derivative).toFile());
+        assertThat(derivative).isEqualTo("derivatives/480/image-posts/a.jpg");
+        assertThat(image.getWidth()).isEqualTo(480);
+        assertThat(image.getHeight()).isEqualTo(240);
+        assertThat(service.resolve("image-posts/a.jpg", ImageVariant.MEDIUM)).isEqualTo(derivative);
+    }
+
+    @Test
+    @DisplayName("resolve - 원본이 규격보다 작으면 확대하지 않고 원본을 반환한다")
+    void resolve_작은원본_원본반환() throws IOException {
+        // given
+        writeImage("image-posts/small.png", 100, 80, "png");
+        // when
+        String resolved = service.resolve("image-posts/small.png", ImageVariant.THUMBNAIL);
+        // then
+        assertThat(resolved).isEqualTo("image-posts/small.png");
+        assertThat(basePath.resolve("derivatives/160/image-posts/small.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("resolve - 저장소 I/O 오류로 만들지 못하면 원본을 반환하되 결정을 캐시하지 않고 다음 요청에 재시도")
+    void resolve_저장소오류_원본반환_캐시안함() throws IOException {
+        // given
+        writeImage("image-posts/c.jpg", 2000, 1000, "jpeg");
+        AtomicInteger puts = new AtomicInteger();
+        LocalBlobStore flakyStore = new LocalBlobStore(basePath) {
+            @Override
+            public void put(String key, Path source, String contentType) throws IOException {
+                if (puts.incrementAndGet() == 1) {
+                    throw new IOException("storage unavailable");
+                }
+                super.put(key, source, contentType);
+            }
+        };
+        ImageDerivativeService flaky = new ImageDerivativeService(flakyStore, new UploadProperties(
+                basePath.toString(), Set.of("image/jpeg"), 5_242_880, 40_000_000),
+                new ImageProperties(1, 10, 0.8f, "derivatives", 100, Duration.ofMinutes(5), null, null),
+                new ThreadPoolTaskExecutor());
+        // when
+        ImageDerivativeService.ResolvedKey duringOutage = flaky.resolveKey("image-posts/c.jpg", ImageVariant.MEDIUM);
+        ImageDerivativeService.ResolvedKey afterOutage = flaky.resolveKey("image-posts/c.jpg", ImageVariant.MEDIUM);
+        // then
+        assertThat(duringOutage).isEqualTo(new ImageDerivativeService.ResolvedKey("image-posts/c.jpg", true));
+        assertThat(afterOutage).isEqualTo(
+                new ImageDerivativeService.ResolvedKey("derivatives/480/image-posts/c.jpg", false));
+        assertThat(puts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("deleteDerivatives - 원본의 모든 파생본을 삭제한다")
+    void deleteDerivatives_모든파생본_삭제() throws IOException {
+        // given
+        writeImage("image-posts/b.png", 1600, 1600, "png");
+        Path thumbnail = basePath.resolve(service.resolve("image-posts/b.png", ImageVariant.THUMBNAIL));
+        Path large = basePath.resolve(service.resolve("image-posts/b.png", ImageVariant.LARGE));
+        // when
+        service.deleteDerivatives("image-posts/b.png");
+        // then
+        assertThat(basePath.resolve("derivatives/160/image-posts/b.png")).isEqualTo(thumbnail);
+        assertThat(thumbnail).doesNotExist();
+        assertThat(large).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("ImageVariant.fromParam - 지원하지 않는 size 는 검증 오류")
+    void fromParam_잘못된size_검증오류() {
+        // given
+        // when
+        // then
+        assertThat(ImageVariant.fromParam(null)).isEqualTo(ImageVariant.ORIGINAL);
+        assertThat(ImageVariant.fromParam("160")).isEqualTo(ImageVariant.THUMBNAIL);
+        assertThatThrownBy(() -> ImageVariant.fromParam("999")).isInstanceOf(BusinessException.class);
+    }
+
+    private Path writeImage(String relativePath, int width, int height, String format) throws IOException {
+        Path path = basePath.resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ImageIO.write(image, format, path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * ImageFormat 단위 테스트. magic byte 판별·헤더 해상도 읽기.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("ImageFormat 단위 테스트")
+class ImageFormatTest {
+
+    @ParameterizedTest
+    @CsvSource({"jpeg, JPEG", "png, PNG", "gif, GIF"})
+    @DisplayName("sniff·readDimensions - ImageIO 로 만든 이미지의 형식과 크기 판별")
+    void sniff_readDimensions_ImageIO이미지(String writerFormat, ImageFormat expected) throws IOException {
+        // given
+        byte[] bytes = encode(writerFormat, 321, 123);
+
+        // when
+        ImageFormat format = ImageFormat.sniff(bytes, bytes.length);
+        ImageDimensions dimensions = format.readDimensions(bytes, bytes.length);
+
+        // then
+        assertThat(format).isEqualTo(expected);
+        assertThat(dimensions).isEqualTo(new ImageDimensions(321, 123));
+    }
+
+    @Test
+    @DisplayName("WebP(VP8X) - RIFF 헤더 판별, 24비트 캔버스 크기 읽기")
+    void webp_VP8X_크기() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(22).put("WEBP".getBytes()).put("VP8X".getBytes()).putInt(10);
+        buffer.putInt(0);
+        buffer.put(new byte[] {(byte) 0xFF, 0x0F, 0x00}).put(new byte[] {0x1F, 0x00, 0x00});
+        byte[] bytes = buffer.array();
+
+        // when
+        ImageFormat format = ImageFormat.sniff(bytes, bytes.length);
+
+        // then
+        assertThat(format).isEqualTo(ImageFormat.WEBP);
+        assertThat(format.readDimensions(bytes, bytes.length)).isEqualTo(new ImageDimensions(4096, 32));
+    }
+
+    @Test
+    @DisplayName("sniff - 이미지가 아닌 내용·짧은 입력은 null")
+    void sniff_비이미지_null() {
+        // given
+        byte[] script = "<script>alert(1)</script>".getBytes();
+
+        // when & then
+        assertThat(ImageFormat.sniff(script, script.length)).isNull();
+        assertThat(ImageFormat.sniff(new byte[] {(byte) 0xFF, (byte) 0xD8}, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("readDimensions - SOF 가 보관한 헤더 범위 밖이면 null")
+    void readDimensions_헤더범위밖_null() throws IOException {
+        // given
+        byte[] bytes = encode("jpeg", 10, 10);
+
+        // when & then
+        assertThat(ImageFormat.JPEG.readDimensions(bytes, 20)).isNull();
+    }
+
+    private static byte[] encode(String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.exception.BusinessException;
+
+/**
+ * ImageIngestStream 단위 테스트. 크기 상한·헤더 보관, skip 도 같은 경로로 검사.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("ImageIngestStream 단위 테스트")
+class ImageIngestStreamTest {
+
+    @Test
+    @DisplayName("skip - 건너뛴 바이트도 헤더 보관·바이트 수·하위 스트림 해시에 반영")
+    void skip_읽고버림() throws IOException, NoSuchAlgorithmException {
+        // given
+        byte[] data = new byte[20_000];
+        Arrays.fill(data, (byte) 7);
+        data[0] = 1;
+        data[1] = 2;
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        ImageIngestStream ingest = new ImageIngestStream(
+                new DigestInputStream(new ByteArrayInputStream(data), digest), 100_000, 16);
+
+        // when
+        long skipped = ingest.skip(10_000);
+        ingest.skipNBytes(5_000);
+        byte[] rest = ingest.readAllBytes();
+
+        // then
+        assertThat(skipped).isEqualTo(10_000);
+        assertThat(rest).hasSize(5_000);
+        assertThat(ingest.bytesRead()).isEqualTo(data.length);
+        assertThat(ingest.headerLength()).isEqualTo(16);
+        assertThat(ingest.header()).startsWith(1, 2, 7);
+        assertThat(digest.digest()).isEqualTo(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    @Test
+    @DisplayName("skip - 스트림 끝을 넘기면 실제로 건너뛴 바이트 수만 반환")
+    void skip_스트림끝() throws IOException {
+        // given
+        ImageIngestStream ingest = new ImageIngestStream(new ByteArrayInputStream(new byte[100]), 1_000, 16);
+
+        // when
+        long skipped = ingest.skip(500);
+
+        // then
+        assertThat(skipped).isEqualTo(100);
+        assertThat(ingest.read()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("skip - 건너뛰는 중에도 크기 상한 초과 시 FILE_TOO_LARGE")
+    void skip_크기상한초과() {
+        // given
+        ImageIngestStream ingest = new ImageIngestStream(new ByteArrayInputStream(new byte[2_000]), 1_000, 16);
+
+        // when & then
+        assertThatThrownBy(() -> ingest.skip(2_000)).isInstanceOf(BusinessException.class);
+    }
+}
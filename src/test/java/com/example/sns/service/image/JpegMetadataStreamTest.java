@@ -0,0 +1,210 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JpegMetadataStream 단위 테스트. EXIF·XMP 추출, 저장본 메타데이터·보조 이미지 제거.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("JpegMetadataStream 단위 테스트")
+class JpegMetadataStreamTest {
+
+    @Test
+    @DisplayName("EXIF - GPS·촬영 시각·방향 추출, 저장본에는 방향만 남기고 이미지는 그대로 디코딩 가능")
+    void exif_추출_제거() throws IOException {
+        // given
+        byte[] original = withSegment(encode(40, 20), exifSegment(6));
+
+        // when
+        JpegMetadataStream stream = new JpegMetadataStream(new ByteArrayInputStream(original));
+        byte[] stored = stream.readAllBytes();
+
+        // then
+        ImageMetadata metadata = stream.metadata();
+        assertThat(metadata.latitude()).isCloseTo(-37.5, offset(1e-9));
+        assertThat(metadata.longitude()).isCloseTo(127.025, offset(1e-9));
+        assertThat(metadata.capturedAt()).isEqualTo(LocalDateTime.of(2024, 5, 1, 10, 20, 30));
+        assertThat(metadata.orientation()).isEqualTo(6);
+        assertThat(metadata.isTransposed()).isTrue();
+
+        assertThat(stored.length).isLessThan(original.length);
+        assertThat(ExifParser.parseTiff(stored, 12, 26).hasLocation()).isFalse();
+        assertThat(ExifParser.parseTiff(stored, 12, 26).orientation()).isEqualTo(6);
+        assertThat(ImageFormat.JPEG.readDimensions(stored, stored.length)).isEqualTo(new ImageDimensions(40, 20));
+        assertThat(ImageIO.read(new ByteArrayInputStream(stored)).getWidth()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("XMP - EXIF 가 없으면 XMP 위치·시각 사용, XMP 세그먼트는 제거")
+    void xmp_보조추출_제거() throws IOException {
+        // given
+        byte[] jpeg = encode(8, 8);
+        String xmp = "http://ns.adobe.com/xap/1.0/\0<x:xmpmeta><rdf:Description exif:GPSLatitude=\"37,30.5N\""
+                + " exif:GPSLongitude=\"126,58.8E\" xmp:CreateDate=\"2023-12-24T18:00:05+09:00\"/></x:xmpmeta>";
+        byte[] original = withSegment(jpeg, segment(0xE1, xmp.getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        JpegMetadataStream stream = new JpegMetadataStream(new ByteArrayInputStream(original));
+        byte[] stored = stream.readAllBytes();
+
+        // then
+        ImageMetadata metadata = stream.metadata();
+        assertThat(metadata.latitude()).isCloseTo(37.508333, offset(1e-6));
+        assertThat(metadata.longitude()).isCloseTo(126.98, offset(1e-6));
+        assertThat(metadata.capturedAt()).isEqualTo(LocalDateTime.of(2023, 12, 24, 18, 0, 5));
+        assertThat(stored).isEqualTo(jpeg);
+    }
+
+    @Test
+    @DisplayName("MPF - 주 이미지 EOI 뒤 보조 이미지(자체 GPS EXIF)·MPF APP2 는 저장하지 않고 ICC APP2 는 유지")
+    void mpf_보조이미지_제거() throws IOException {
+        // given
+        byte[] icc = segment(0xE2, "ICC_PROFILE\0\1\1profile".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] mpf = segment(0xE2, "MPF\0MM\0*\0\0\0\bindex".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] primary = withSegment(withSegment(withSegment(encode(40, 20), mpf), icc), exifSegment(1));
+        byte[] secondary = withSegment(encode(8, 8), exifSegment(6));
+        byte[] original = concat(primary, secondary);
+
+        // when
+        JpegMetadataStream stream = new JpegMetadataStream(new ByteArrayInputStream(original));
+        byte[] stored = stream.readAllBytes();
+
+        // then
+        assertThat(indexOf(stored, "Exif")).isEqualTo(-1);
+        assertThat(indexOf(stored, "MPF\0")).isEqualTo(-1);
+        assertThat(indexOf(stored, "ICC_PROFILE\0")).isPositive();
+        assertThat(stored).endsWith(0xFF, 0xD9);
+        assertThat(stored.length).isLessThan(primary.length);
+        assertThat(stream.metadata().orientation()).isEqualTo(1);
+        assertThat(stream.metadata().hasLocation()).isTrue();
+        assertThat(ImageIO.read(new ByteArrayInputStream(stored)).getWidth()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("progressive - 여러 스캔 사이 테이블 세그먼트를 지나 마지막 EOI 까지 그대로, 뒤 데이터만 제거")
+    void progressive_여러스캔_유지() throws IOException {
+        // given
+        byte[] progressive = encodeProgressive(64, 48);
+        byte[] original = concat(progressive, "TRAILER".getBytes(StandardCharsets.ISO_8859_1));
+
+        // when
+        byte[] stored = new JpegMetadataStream(new ByteArrayInputStream(original)).readAllBytes();
+
+        // then
+        assertThat(stored).isEqualTo(progressive);
+    }
+
+    /**
+     * 리틀 엔디언 EXIF: IFD0(Orientation, ExifIFD, GPS IFD) → ExifIFD(DateTimeOriginal) → GPS(S 37°30', E 127°1'30").
+     */
+    static byte[] exifSegment(int orientation) {
+        ByteBuffer tiff = ByteBuffer.allocate(200).order(ByteOrder.LITTLE_ENDIAN);
+        tiff.put((byte) 'I').put((byte) 'I').putShort((short) 42).putInt(8);
+        // IFD0 @8: 3 entries → 8 + 2 + 36 + 4 = 50
+        tiff.putShort((short) 3);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putShort((short) 0x8769).putShort((short) 4).putInt(1).putInt(50);
+        tiff.putShort((short) 0x8825).putShort((short) 4).putInt(1).putInt(88);
+        tiff.putInt(0);
+        // ExifIFD @50: 1 entry → 50 + 2 + 12 + 4 = 68, 날짜 문자열 @68 (20바이트)
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x9003).putShort((short) 2).putInt(20).putInt(68);
+        tiff.putInt(0);
+        tiff.put("2024:05:01 10:20:30\0".getBytes(StandardCharsets.US_ASCII));
+        // GPS IFD @88: 4 entries → 88 + 2 + 48 + 4 = 142, 위도 @142, 경도 @166
+        tiff.putShort((short) 4);
+        tiff.putShort((short) 1).putShort((short) 2).putInt(2).put(new byte[] {'S', 0, 0, 0});
+        tiff.putShort((short) 2).putShort((short) 5).putInt(3).putInt(142);
+        tiff.putShort((short) 3).putShort((short) 2).putInt(2).put(new byte[] {'E', 0, 0, 0});
+        tiff.putShort((short) 4).putShort((short) 5).putInt(3).putInt(166);
+        tiff.putInt(0);
+        tiff.putInt(37).putInt(1).putInt(30).putInt(1).putInt(0).putInt(1);
+        tiff.putInt(127).putInt(1).putInt(1).putInt(1).putInt(30).putInt(1);
+
+        byte[] body = new byte[6 + tiff.position()];
+        System.arraycopy("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1), 0, body, 0, 6);
+        System.arraycopy(tiff.array(), 0, body, 6, tiff.position());
+        return segment(0xE1, body);
+    }
+
+    private static byte[] segment(int marker, byte[] body) {
+        ByteBuffer segment = ByteBuffer.allocate(4 + body.length);
+        segment.put((byte) 0xFF).put((byte) marker).putShort((short) (body.length + 2)).put(body);
+        return segment.array();
+    }
+
+    /**
+     * SOI 바로 뒤에 세그먼트 삽입.
+     */
+    private static byte[] withSegment(byte[] jpeg, byte[] segment) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.writeBytes(segment);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeProgressive(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 4) << 16 | (y * 5) << 8 | (x ^ y));
+            }
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    private static int indexOf(byte[] haystack, String needle) {
+        byte[] bytes = needle.getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 0; i + bytes.length <= haystack.length; i++) {
+            if (Arrays.equals(haystack, i, i + bytes.length, bytes, 0, bytes.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] encode(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+}
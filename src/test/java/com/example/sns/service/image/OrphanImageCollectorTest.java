@@ -0,0 +1,230 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.example.sns.config.image.ImageProperties;
+import com.example.sns.dto.response.ImageGcReportResponse;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.repository.ImageBlobRepository;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.service.JobLeaseService;
+import com.example.sns.service.storage.LocalBlobStore;
+
+/**
+ * OrphanImageCollector 단위 테스트. 로컬 저장소(임시 디렉터리) + Repository mock.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("OrphanImageCollector 단위 테스트")
+class OrphanImageCollectorTest {
+
+    private static final String LIVE = "blobs/aa/live.jpg";
+    private static final String ORPHAN = "blobs/bb/orphan.jpg";
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private ImagePostRepository imagePostRepository;
+
+    @Mock
+    private ImageBlobRepository imageBlobRepository;
+
+    @Mock
+    private JobLeaseService jobLeaseService;
+
+    private ImageProperties properties;
+    private OrphanImageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        ImageProperties.Gc gc = new ImageProperties.Gc(true, "-", false, Duration.ofHours(24), Duration.ofDays(7),
+                2, Duration.ZERO, 0.01, Duration.ofHours(6));
+        properties = new ImageProperties(1, 10, 0.8f, "derivatives", 100, Duration.ofMinutes(5), gc, null);
+        collector = new OrphanImageCollector(new LocalBlobStore(root), imagePostRepository, imageBlobRepository,
+                properties, jobLeaseService);
+        given(jobLeaseService.tryAcquire(eq(OrphanImageCollector.LEASE_NAME), any())).willReturn(true);
+
+        ImagePostRepository.StoragePathRow row = new ImagePostRepository.StoragePathRow() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public String getStoragePath() {
+                return LIVE;
+            }
+        };
+        given(imagePostRepository.count()).willReturn(1L);
+        given(imagePostRepository.findStoragePathsAfter(anyLong(), any())).willReturn(List.of(row));
+        given(imagePostRepository.findReferencedStoragePaths(any())).willReturn(List.of());
+        given(imageBlobRepository.findReferencedStoragePathsAfter(anyString(), any())).willReturn(List.of());
+        given(imageBlobRepository.findReferencedStoragePaths(any())).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("collect - 참조 없는 오래된 원본·파생본만 격리, 참조 파일·최근 파일은 유지")
+    void collect_고아만격리() throws IOException {
+        // given
+        write(LIVE, Duration.ofDays(2));
+        write("derivatives/160/" + LIVE, Duration.ofDays(2));
+        write(ORPHAN, Duration.ofDays(2));
+        write("derivatives/160/" + ORPHAN, Duration.ofDays(2));
+        write("blobs/cc/uploading.jpg", Duration.ofMinutes(1));
+
+        // when
+        ImageGcReportResponse report = collector.collect(false);
+
+        // then
+        assertThat(report.scanned()).isEqualTo(5);
+        assertThat(report.orphans()).isEqualTo(2);
+        assertThat(report.quarantined()).isEqualTo(2);
+        assertThat(report.sampleOrphans()).containsExactlyInAnyOrder(ORPHAN, "derivatives/160/" + ORPHAN);
+        assertThat(root.resolve(LIVE)).exists();
+        assertThat(root.resolve("derivatives/160/" + LIVE)).exists();
+        assertThat(root.resolve("blobs/cc/uploading.jpg")).exists();
+        assertThat(root.resolve(ORPHAN)).doesNotExist();
+        assertThat(root.resolve("quarantine/" + ORPHAN)).exists();
+    }
+
+    @Test
+    @DisplayName("collect - DB 재확인에서 참조 중이면 filter 에 없어도 유지")
+    void collect_DB재확인_참조중유지() throws IOException {
+        // given
+        write(ORPHAN, Duration.ofDays(2));
+        given(imageBlobRepository.findReferencedStoragePaths(any())).willReturn(List.of(ORPHAN));
+
+        // when
+        ImageGcReportResponse report = collector.collect(false);
+
+        // then
+        assertThat(report.orphans()).isZero();
+        assertThat(root.resolve(ORPHAN)).exists();
+    }
+
+    @Test
+    @DisplayName("collect(dryRun) - 고아를 보고하지만 격리·삭제하지 않음")
+    void collect_dryRun_보고만() throws IOException {
+        // given
+        write(ORPHAN, Duration.ofDays(2));
+        write("quarantine/blobs/dd/old.jpg", Duration.ofDays(30));
+
+        // when
+        ImageGcReportResponse report = collector.collect(true);
+
+        // then
+        assertThat(report.dryRun()).isTrue();
+        assertThat(report.orphans()).isEqualTo(1);
+        assertThat(report.orphanBytes()).isEqualTo(3);
+        assertThat(report.quarantined()).isZero();
+        assertThat(report.purged()).isEqualTo(1);
+        assertThat(root.resolve(ORPHAN)).exists();
+        assertThat(root.resolve("quarantine/blobs/dd/old.jpg")).exists();
+    }
+
+    @Test
+    @DisplayName("collect - 유예 기간이 지난 격리 항목·오래된 임시 파일 삭제, 최근 격리 항목 유지")
+    void collect_격리만료삭제() throws IOException {
+        // given
+        write("quarantine/blobs/dd/old.jpg", Duration.ofDays(30));
+        write("quarantine/blobs/ee/recent.jpg", Duration.ofDays(1));
+        write("tmp/upload-1.tmp", Duration.ofDays(2));
+
+        // when
+        ImageGcReportResponse report = collector.collect(false);
+
+        // then
+        assertThat(report.purged()).isEqualTo(2);
+        assertThat(root.resolve("quarantine/blobs/dd/old.jpg")).doesNotExist();
+        assertThat(root.resolve("tmp/upload-1.tmp")).doesNotExist();
+        assertThat(root.resolve("quarantine/blobs/ee/recent.jpg")).exists();
+    }
+
+    @Test
+    @DisplayName("collect - 항목별 이동 실패는 집계만 하고 계속, 이미 없는 파일(다른 노드가 처리)은 실패가 아님")
+    void collect_항목별실패_계속진행() throws IOException {
+        // given
+        String gone = "blobs/cc/gone.jpg";
+        String broken = "blobs/dd/broken.jpg";
+        write(gone, Duration.ofDays(2));
+        write(broken, Duration.ofDays(2));
+        write(ORPHAN, Duration.ofDays(2));
+        LocalBlobStore store = new LocalBlobStore(root) {
+            @Override
+            public void move(String fromKey, String toKey) throws IOException {
+                if (fromKey.equals(gone)) {
+                    Files.delete(root.resolve(gone));
+                } else if (fromKey.equals(broken)) {
+                    throw new IOException("disk error");
+                }
+                super.move(fromKey, toKey);
+            }
+        };
+        OrphanImageCollector collector = new OrphanImageCollector(store, imagePostRepository, imageBlobRepository,
+                properties, jobLeaseService);
+
+        // when
+        ImageGcReportResponse report = collector.collect(false);
+
+        // then
+        assertThat(report.orphans()).isEqualTo(3);
+        assertThat(report.quarantined()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(root.resolve("quarantine/" + ORPHAN)).exists();
+        assertThat(root.resolve(broken)).exists();
+        then(jobLeaseService).should().release(OrphanImageCollector.LEASE_NAME);
+    }
+
+    @Test
+    @DisplayName("collect - 다른 노드가 임대를 보유 중이면 OPERATION_IN_PROGRESS, 파일을 건드리지 않음")
+    void collect_임대보유중_거부() throws IOException {
+        // given
+        write(ORPHAN, Duration.ofDays(2));
+        given(jobLeaseService.tryAcquire(eq(OrphanImageCollector.LEASE_NAME), any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> collector.collect(false))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.OPERATION_IN_PROGRESS));
+        assertThat(root.resolve(ORPHAN)).exists();
+        then(jobLeaseService).should(never()).release(any());
+    }
+
+    private void write(String key, Duration age) throws IOException {
+        Path path = root.resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, "img".getBytes());
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(age)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PngMetadataStream 단위 테스트. eXIf 추출·최소화, 텍스트 청크·IEND 뒤 데이터 제거.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("PngMetadataStream 단위 테스트")
+class PngMetadataStreamTest {
+
+    /** 시그니처(8) + IHDR(8 + 13 + 4). */
+    private static final int AFTER_IHDR = 33;
+
+    @Test
+    @DisplayName("eXIf - GPS 추출 후 방향만 남긴 eXIf 로 교체, tEXt·iTXt·IEND 뒤 데이터 제거, 이미지는 디코딩 가능")
+    void exif_추출_제거() throws IOException {
+        // given
+        byte[] png = encode(30, 10);
+        byte[] exifSegment = JpegMetadataStreamTest.exifSegment(6);
+        byte[] tiff = Arrays.copyOfRange(exifSegment, 10, exifSegment.length);
+        byte[] original = concat(
+                Arrays.copyOfRange(png, 0, AFTER_IHDR),
+                chunk("eXIf", tiff),
+                chunk("tEXt", "Comment\0home address".getBytes(StandardCharsets.ISO_8859_1)),
+                chunk("iTXt", "XML:com.adobe.xmp\0\0\0\0\0<x:xmpmeta/>".getBytes(StandardCharsets.ISO_8859_1)),
+                Arrays.copyOfRange(png, AFTER_IHDR, png.length),
+                "TRAILER".getBytes(StandardCharsets.ISO_8859_1));
+
+        // when
+        PngMetadataStream stream = new PngMetadataStream(new ByteArrayInputStream(original));
+        byte[] stored = stream.readAllBytes();
+
+        // then
+        assertThat(stream.metadata().latitude()).isCloseTo(-37.5, offset(1e-9));
+        assertThat(stream.metadata().orientation()).isEqualTo(6);
+        assertThat(stored).isEqualTo(concat(Arrays.copyOfRange(png, 0, AFTER_IHDR),
+                chunk("eXIf", ExifParser.orientationOnlyTiff(6)), Arrays.copyOfRange(png, AFTER_IHDR, png.length)));
+        assertThat(ImageIO.read(new ByteArrayInputStream(stored)).getWidth()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("메타데이터 없는 PNG 는 그대로 통과")
+    void 메타데이터없음_그대로() throws IOException {
+        // given
+        byte[] png = encode(5, 5);
+
+        // when
+        PngMetadataStream stream = new PngMetadataStream(new ByteArrayInputStream(png));
+        byte[] stored = stream.readAllBytes();
+
+        // then
+        assertThat(stored).isEqualTo(png);
+        assertThat(stream.strippedBytes()).isZero();
+    }
+
+    private static byte[] chunk(String type, byte[] data) {
+        ByteBuffer chunk = ByteBuffer.allocate(12 + data.length);
+        chunk.putInt(data.length).put(type.getBytes(StandardCharsets.ISO_8859_1)).put(data);
+        CRC32 crc = new CRC32();
+        crc.update(chunk.array(), 4, 4 + data.length);
+        chunk.putInt((int) crc.getValue());
+        return chunk.array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encode(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.sns.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * WebpMetadataStream 단위 테스트. EXIF·XMP 청크를 같은 크기의 JUNK 로 교체, VP8X 플래그 해제.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("WebpMetadataStream 단위 테스트")
+class WebpMetadataStreamTest {
+
+    @Test
+    @DisplayName("EXIF·XMP - 위치 추출 후 본문을 0 으로 채운 JUNK 청크로 교체, 파일 크기·이미지 청크는 그대로")
+    void exif_xmp_JUNK교체() throws IOException {
+        // given
+        byte[] exifSegment = JpegMetadataStreamTest.exifSegment(1);
+        byte[] exif = Arrays.copyOfRange(exifSegment, 4, exifSegment.length); // "Exif\0\0" + TIFF
+        byte[] xmp = "<x:xmpmeta/>!".getBytes(StandardCharsets.ISO_8859_1); // 홀수 크기 → 패딩 1바이트
+        byte[] vp8x = {(byte) (0x08 | 0x04 | 0x10), 0, 0, 0, 9, 0, 0, 4, 0, 0};
+        byte[] image = "fake-vp8l-bitstream".getBytes(StandardCharsets.ISO_8859_1);
+        byte[] body = concat("WEBP".getBytes(StandardCharsets.ISO_8859_1), chunk("VP8X", vp8x), chunk("VP8L", image),
+                chunk("EXIF", exif), chunk("XMP ", xmp));
+        byte[] webp = concat(riff(body), "TRAILER".getBytes(StandardCharsets.ISO_8859_1));
+
+        // when
+        WebpMetadataStream stream = new WebpMetadataStream(new ByteArrayInputStream(webp));
+        byte[] stored = stream.readAllBytes();
+
+        // then
+        byte[] expectedVp8x = vp8x.clone();
+        expectedVp8x[0] = 0x10;
+        byte[] expected = riff(concat("WEBP".getBytes(StandardCharsets.ISO_8859_1), chunk("VP8X", expectedVp8x),
+                chunk("VP8L", image), chunk("JUNK", new byte[exif.length]), chunk("JUNK", new byte[xmp.length])));
+        assertThat(stored).isEqualTo(expected);
+        assertThat(stream.metadata().latitude()).isCloseTo(-37.5, offset(1e-9));
+        assertThat(stream.strippedBytes()).isEqualTo(exif.length + (exif.length & 1) + xmp.length + 1);
+    }
+
+    private static byte[] riff(byte[] body) {
+        return concat(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
+                .put("RIFF".getBytes(StandardCharsets.ISO_8859_1)).putInt(body.length).array(), body);
+    }
+
+    private static byte[] chunk(String type, byte[] data) {
+        ByteBuffer chunk = ByteBuffer.allocate(8 + data.length + (data.length & 1)).order(ByteOrder.LITTLE_ENDIAN);
+        chunk.put(type.getBytes(StandardCharsets.ISO_8859_1)).putInt(data.length).put(data);
+        return chunk.array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
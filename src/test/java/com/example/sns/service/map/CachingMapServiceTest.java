@@ -0,0 +1,134 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.example.sns.config.map.GeocodeProperties;
+import com.example.sns.service.map.MapService.GeoResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CachingMapService 단위 테스트. 정규화 주소·geohash 칸 키, 결과 없음 캐시(장애는 제외), Redis 2차 캐시.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@DisplayName("CachingMapService 단위 테스트")
+class CachingMapServiceTest {
+
+    private final MapService delegate = mock(MapService.class);
+
+    @Test
+    @DisplayName("geocode - 공백·대소문자만 다른 주소는 캐시 적중, 제공자 호출 1회")
+    void geocode_정규화주소_캐시적중() {
+        // given
+        given(delegate.geocode(anyString())).willReturn(Optional.of(new GeoResult(37.5665, 126.978)));
+        CachingMapService service = service(null);
+
+        // when
+        Optional<GeoResult> first = service.geocode("서울 중구  Sejong-daero 110");
+        Optional<GeoResult> second = service.geocode("  서울 중구 sejong-daero 110 ");
+
+        // then
+        assertThat(first).contains(new GeoResult(37.5665, 126.978));
+        assertThat(second).isEqualTo(first);
+        then(delegate).should(times(1)).geocode(anyString());
+    }
+
+    @Test
+    @DisplayName("reverseGeocode - 같은 geohash 칸의 핀은 캐시 적중, 결과 없음도 캐시")
+    void reverseGeocode_같은칸_캐시적중() {
+        // given
+        given(delegate.reverseGeocode(anyDouble(), anyDouble())).willReturn(Optional.of("서울특별시 중구 세종대로 110"));
+        given(delegate.reverseGeocode(0.0, 0.0)).willReturn(Optional.empty());
+        CachingMapService service = service(null);
+
+        // when
+        Optional<String> pin = service.reverseGeocode(37.5665, 126.9780);
+        Optional<String> nearby = service.reverseGeocode(37.56653, 126.97803);
+        Optional<String> ocean = service.reverseGeocode(0.0, 0.0);
+        Optional<String> oceanAgain = service.reverseGeocode(0.0, 0.0);
+
+        // then
+        assertThat(nearby).isEqualTo(pin).contains("서울특별시 중구 세종대로 110");
+        assertThat(ocean).isEmpty();
+        assertThat(oceanAgain).isEmpty();
+        then(delegate).should(times(1)).reverseGeocode(37.5665, 126.9780);
+        then(delegate).should(times(1)).reverseGeocode(0.0, 0.0);
+    }
+
+    @Test
+    @DisplayName("geocode·reverseGeocode - 제공자 사용 불가는 empty 로 fallback 하되 결과 없음으로 캐시하지 않음")
+    void 제공자사용불가_캐시안함() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(ops);
+        given(delegate.geocode(anyString()))
+                .willThrow(new MapUnavailableException("circuit open"))
+                .willReturn(Optional.of(new GeoResult(37.5665, 126.978)));
+        given(delegate.reverseGeocode(anyDouble(), anyDouble()))
+                .willThrow(new MapUnavailableException("bulkhead"))
+                .willReturn(Optional.of("서울특별시 중구 세종대로 110"));
+        CachingMapService service = service(redisTemplate);
+
+        // when
+        Optional<GeoResult> duringOutage = service.geocode("서울 중구 세종대로 110");
+        Optional<GeoResult> afterOutage = service.geocode("서울 중구 세종대로 110");
+        Optional<String> reverseDuringOutage = service.reverseGeocode(37.5665, 126.978);
+        Optional<String> reverseAfterOutage = service.reverseGeocode(37.5665, 126.978);
+
+        // then
+        assertThat(duringOutage).isEmpty();
+        assertThat(afterOutage).contains(new GeoResult(37.5665, 126.978));
+        assertThat(reverseDuringOutage).isEmpty();
+        assertThat(reverseAfterOutage).contains("서울특별시 중구 세종대로 110");
+        then(ops).should(never()).set(anyString(), eq(""), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("geocode - 로컬 미스 시 Redis 값 사용, 제공자 호출 없음")
+    void geocode_Redis적중() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(ops);
+        given(ops.get("geocode:addr:seoul")).willReturn("37.5,127.0");
+        CachingMapService service = service(redisTemplate);
+
+        // when
+        Optional<GeoResult> result = service.geocode("Seoul");
+
+        // then
+        assertThat(result).contains(new GeoResult(37.5, 127.0));
+        then(delegate).shouldHaveNoInteractions();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CachingMapService service(StringRedisTemplate redisTemplate) {
+        GeocodeProperties properties = new GeocodeProperties(new GeocodeProperties.Cache(true, 8, 100,
+                Duration.ofHours(6), Duration.ofMinutes(5), redisTemplate != null, Duration.ofDays(7)));
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(redisTemplate);
+        return new CachingMapService(delegate, properties, provider, new SimpleMeterRegistry());
+    }
+}
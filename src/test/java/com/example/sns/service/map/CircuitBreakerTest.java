@@ -0,0 +1,126 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreaker 단위 테스트. 실패율·느린 호출 기반 OPEN, HALF_OPEN 시험 호출 전환.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("CircuitBreaker 단위 테스트")
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(new CircuitBreaker.Settings(
+                10, 4, 50, Duration.ofSeconds(2), 80, Duration.ofSeconds(30), 2), clock::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만이면 실패율이 높아도 CLOSED 유지")
+    void 최소호출수미만_CLOSED() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onFailure(FAST);
+        }
+
+        // when
+        boolean permitted = circuitBreaker.tryAcquirePermission();
+
+        // then
+        assertThat(permitted).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율 임계치 도달 시 OPEN — openDuration 동안 호출 거부")
+    void 실패율초과_OPEN() {
+        // given
+        recordCalls(2, false);
+        recordCalls(2, true);
+
+        // when
+        boolean permitted = circuitBreaker.tryAcquirePermission();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(permitted).isFalse();
+        assertThat(circuitBreaker.snapshot().failureRate()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율 임계치 도달 시 OPEN")
+    void 느린호출_OPEN() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onSuccess(SLOW);
+        }
+
+        // when & then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("openDuration 경과 후 시험 호출이 모두 성공하면 CLOSED")
+    void HALF_OPEN_시험성공_CLOSED() {
+        // given
+        recordCalls(4, true);
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // when
+        boolean first = circuitBreaker.tryAcquirePermission();
+        boolean second = circuitBreaker.tryAcquirePermission();
+        boolean third = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.snapshot().calls()).isZero();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출 실패 시 다시 OPEN")
+    void HALF_OPEN_시험실패_OPEN() {
+        // given
+        recordCalls(4, true);
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onFailure(FAST);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void recordCalls(int count, boolean failure) {
+        for (int i = 0; i < count; i++) {
+            circuitBreaker.tryAcquirePermission();
+            if (failure) {
+                circuitBreaker.onFailure(FAST);
+            } else {
+                circuitBreaker.onSuccess(FAST);
+            }
+        }
+    }
+}
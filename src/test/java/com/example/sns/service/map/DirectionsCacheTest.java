@@ -0,0 +1,99 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.example.sns.config.map.DirectionsProperties;
+import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
+
+/**
+ * DirectionsCache 단위 테스트. 좌표 스냅 키·압축 저장·Redis 2차 캐시.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@DisplayName("DirectionsCache 단위 테스트")
+class DirectionsCacheTest {
+
+    private static final double[] PATH = {37.56651, 126.97801, 37.56702, 126.97912};
+
+    @Test
+    @DisplayName("key - 같은 격자 안의 좌표는 같은 키, 이동수단이 다르면 다른 키")
+    void key_좌표스냅() {
+        // given
+        DirectionsCache cache = cache(false, null);
+
+        // when
+        String a = cache.key(37.566512, 126.978011, 37.5, 127.0, "CAR", "RECOMMEND");
+        String b = cache.key(37.566538, 126.977989, 37.50001, 127.00003, "CAR", "RECOMMEND");
+        String walk = cache.key(37.566512, 126.978011, 37.5, 127.0, "WALK", "RECOMMEND");
+
+        // then
+        assertThat(b).isEqualTo(a);
+        assertThat(walk).isNotEqualTo(a);
+    }
+
+    @Test
+    @DisplayName("put·get - 압축 저장 후 같은 경로·거리 반환, Redis 에는 거리|polyline 기록")
+    void putGet_압축저장_Redis기록() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(ops);
+        DirectionsCache cache = cache(true, redisTemplate);
+
+        // when
+        cache.put("k", new DirectionsResult(PATH, 152));
+        DirectionsResult result = cache.get("k");
+
+        // then
+        assertThat(result.distanceMeters()).isEqualTo(152);
+        assertThat(result.pointCount()).isEqualTo(2);
+        assertThat(result.longitude(1)).isCloseTo(126.97912, within(1e-6));
+        then(ops).should().set(eq("directions:k"), eq("152|uehdFqk_fWeB}E"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("get - 로컬 미스 시 Redis 에서 읽어 로컬에 적재")
+    void get_Redis적재() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(ops);
+        given(ops.get(anyString())).willReturn("99|uehdFqk_fWeB}E");
+        DirectionsCache cache = cache(true, redisTemplate);
+
+        // when
+        DirectionsResult first = cache.get("k");
+        DirectionsResult second = cache.get("k");
+
+        // then
+        assertThat(first.distanceMeters()).isEqualTo(99);
+        assertThat(second.pointCount()).isEqualTo(2);
+        then(ops).should().get("directions:k");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DirectionsCache cache(boolean redisEnabled, StringRedisTemplate redisTemplate) {
+        DirectionsProperties properties = new DirectionsProperties(new DirectionsProperties.Cache(
+                true, 4, 100, Duration.ofMinutes(30), redisEnabled, Duration.ofHours(6)), null, null);
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(redisTemplate);
+        return new DirectionsCache(properties, provider);
+    }
+}
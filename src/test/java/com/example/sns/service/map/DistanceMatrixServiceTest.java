@@ -0,0 +1,105 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.config.map.DirectionsProperties;
+import com.example.sns.config.map.MapClientProperties;
+import com.example.sns.config.map.MapProperties;
+import com.example.sns.dto.request.DistanceMatrixRequest;
+import com.example.sns.dto.request.DistanceMatrixRequest.Point;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DistanceMatrixService 단위 테스트. 직선 거리 행렬, 도로 거리 병렬 조회·부분 결과, 상한.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@DisplayName("DistanceMatrixService 단위 테스트")
+class DistanceMatrixServiceTest {
+
+    private static final Point ME = new Point(37.5665, 126.9780);
+    private static final Point PIN_A = new Point(37.5700, 126.9820);
+    private static final Point PIN_B = new Point(37.5600, 126.9700);
+
+    private final KakaoMobilityDirectionsService directionsService = mock(KakaoMobilityDirectionsService.class);
+    private final MapCallExecutor mapCallExecutor = new MapCallExecutor(new MapClientProperties(
+            MapClientProperties.ExecutionMode.BLOCKING, 4, Map.of(), Duration.ofMillis(20), null, null),
+            new SimpleMeterRegistry());
+    private final DistanceMatrixService service = new DistanceMatrixService(
+            new DirectionsProperties(null, new DirectionsProperties.Matrix(50, 4, 2), null),
+            new MapProperties("none", 1, 0, null, null, null, null, null, null, null),
+            directionsService, mapCallExecutor);
+
+    @AfterEach
+    void tearDown() {
+        mapCallExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("compute - road=false 면 직선 거리만, 외부 API 호출 없음")
+    void compute_직선거리만() {
+        // given
+        DistanceMatrixRequest request = new DistanceMatrixRequest(List.of(ME), List.of(PIN_A, PIN_B), false, null, null);
+
+        // when
+        DistanceMatrixService.DistanceMatrix matrix = service.compute(request);
+
+        // then
+        assertThat(matrix.straightMeters()[0]).hasSize(2);
+        assertThat(matrix.straightMeters()[0][0]).isBetween(500, 560);
+        assertThat(matrix.roadMeters()).isNull();
+        then(directionsService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("compute - 도로 거리 일부 실패 시 실패 쌍만 null, 나머지는 반환")
+    void compute_도로거리_부분결과() {
+        // given
+        given(directionsService.getDirections(anyDouble(), anyDouble(), eq(PIN_A.lat()), eq(PIN_A.lng()),
+                eq("WALK"), eq(null)))
+                .willReturn(new DirectionsResult(new double[] {ME.lat(), ME.lng(), PIN_A.lat(), PIN_A.lng()}, 710));
+        given(directionsService.getDirections(anyDouble(), anyDouble(), eq(PIN_B.lat()), eq(PIN_B.lng()),
+                eq("WALK"), eq(null)))
+                .willThrow(new IllegalStateException("upstream"));
+        DistanceMatrixRequest request = new DistanceMatrixRequest(List.of(ME), List.of(PIN_A, PIN_B), true, "WALK", null);
+
+        // when
+        DistanceMatrixService.DistanceMatrix matrix = service.compute(request);
+
+        // then
+        assertThat(matrix.roadMeters()[0]).containsExactly(710, null);
+        assertThat(matrix.roadFailures()).isEqualTo(1);
+        assertThat(matrix.straightMeters()[0][1]).isPositive();
+    }
+
+    @Test
+    @DisplayName("compute - 도로 거리 쌍 수 상한 초과 시 BusinessException, 외부 API 호출 없음")
+    void compute_도로거리_상한초과() {
+        // given
+        DistanceMatrixRequest request = new DistanceMatrixRequest(
+                List.of(ME, PIN_A, PIN_B), List.of(ME, PIN_A), true, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> service.compute(request)).isInstanceOf(BusinessException.class);
+        then(directionsService).should(never())
+                .getDirections(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(null), eq(null));
+    }
+}
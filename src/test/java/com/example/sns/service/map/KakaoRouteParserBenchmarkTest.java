@@ -0,0 +1,147 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Kakao Mobility 응답 파싱 벤치마크 — 기존 String + readTree + List&lt;double[]&gt; vs 스트리밍 파싱(double 버퍼).
+ *
+ * <p>실제 응답 구조(sections·roads·vertexes·guides)를 따라 만든 자동차 경로 응답(vertex 2만·5만 개)을 반복 파싱하며
+ * 처리 시간(ms/op)과 파싱 스레드의 힙 할당량(bytes/op)을 측정한다.
+ * 기본 test 에서 제외: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("Kakao Mobility 응답 파싱 벤치마크")
+class KakaoRouteParserBenchmarkTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    @DisplayName("readTree vs 스트리밍: ms/op, 할당 bytes/op")
+    void compare() throws Exception {
+        for (int vertexCount : new int[] {20_000, 50_000}) {
+            // given
+            byte[] body = carResponse(vertexCount).getBytes(StandardCharsets.UTF_8);
+
+            // when
+            Result tree = measure("readTree+List<double[]>", () -> parseWithTree(body));
+            Result streaming = measure("streaming+double[]", () -> KakaoRouteParser
+                    .parse(new ByteArrayInputStream(body), false).pointCount());
+
+            // then
+            System.out.printf("vertices=%d, body=%d KB%n", vertexCount, body.length / 1024);
+            System.out.println(tree);
+            System.out.println(streaming);
+            assertThat(streaming.points()).isEqualTo(tree.points()).isEqualTo(vertexCount);
+            assertThat(streaming.allocatedBytesPerOp()).isLessThan(tree.allocatedBytesPerOp());
+        }
+    }
+
+    /**
+     * 변경 전 KakaoMobilityDirectionsService 의 파싱 경로 (본문 String → JsonNode 트리 → double[2] 리스트).
+     */
+    private static int parseWithTree(byte[] body) throws IOException {
+        String rawBody = new String(body, StandardCharsets.UTF_8);
+        JsonNode route = JSON.readTree(rawBody).get("routes").get(0);
+        List<double[]> path = new ArrayList<>();
+        for (JsonNode section : route.path("sections")) {
+            for (JsonNode road : section.path("roads")) {
+                JsonNode vertexes = road.path("vertexes");
+                for (int i = 0; i + 1 < vertexes.size(); i += 2) {
+                    path.add(new double[] {vertexes.get(i + 1).asDouble(), vertexes.get(i).asDouble()});
+                }
+            }
+        }
+        return path.size();
+    }
+
+    /**
+     * 자동차 API 응답 형태. 도로(road)당 vertex 20~60개, 구간(section) 안내(guides) 포함.
+     */
+    private static String carResponse(int vertexCount) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(vertexCount * 40);
+        json.append("{\"trans_id\":\"018e3b\",\"routes\":[{\"result_code\":0,\"result_msg\":\"길찾기 성공\",")
+                .append("\"summary\":{\"origin\":{\"name\":\"\",\"x\":126.978,\"y\":37.566},\"distance\":")
+                .append(vertexCount * 12).append(",\"duration\":3600,\"fare\":{\"taxi\":52000,\"toll\":0}},")
+                .append("\"sections\":[{\"distance\":").append(vertexCount * 12).append(",\"roads\":[");
+        double lng = 126.978;
+        double lat = 37.566;
+        int written = 0;
+        int road = 0;
+        while (written < vertexCount) {
+            int roadVertices = Math.min(20 + random.nextInt(41), vertexCount - written);
+            if (road++ > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"도로").append(road).append("\",\"distance\":240,\"duration\":30,")
+                    .append("\"traffic_speed\":42.0,\"traffic_state\":2,\"vertexes\":[");
+            for (int i = 0; i < roadVertices; i++) {
+                lng += (random.nextDouble() - 0.3) * 1e-4;
+                lat += (random.nextDouble() - 0.3) * 1e-4;
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append(String.format(Locale.ROOT, "%.6f,%.6f", lng, lat));
+            }
+            json.append("]}");
+            written += roadVertices;
+        }
+        json.append("],\"guides\":[");
+        for (int i = 0; i < road; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"교차로\",\"x\":126.9,\"y\":37.5,\"distance\":240,\"duration\":30,")
+                    .append("\"type\":1,\"guidance\":\"우회전\",\"road_index\":").append(i).append('}');
+        }
+        return json.append("]}]}]}").toString();
+    }
+
+    private static Result measure(String name, Parse parse) throws IOException {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        int points = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            points = parse.run();
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            points = parse.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(name, points, elapsed / 1_000_000.0 / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    @FunctionalInterface
+    private interface Parse {
+        int run() throws IOException;
+    }
+
+    private record Result(String name, int points, double msPerOp, long allocatedBytesPerOp) {
+        @Override
+        public String toString() {
+            return String.format("%-24s %8.2f ms/op %12d B/op allocated", name, msPerOp, allocatedBytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * KakaoRouteParser 단위 테스트. 자동차(vertexes)·도보(guides) 응답 스트리밍 파싱.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("KakaoRouteParser 단위 테스트")
+class KakaoRouteParserTest {
+
+    @Test
+    @DisplayName("parse - 자동차 응답: 첫 route 의 거리와 vertexes 를 {lat, lng} 순서로, 나머지 필드는 건너뜀")
+    void parse_자동차응답() throws IOException {
+        // given
+        String json = """
+                {"trans_id":"t1","routes":[{"result_code":0,"result_msg":"길찾기 성공",
+                  "summary":{"origin":{"x":126.97},"distance":1520,"duration":300},
+                  "sections":[{"distance":1520,"guides":[{"x":1,"y":2,"guidance":"출발"}],
+                    "roads":[{"name":"세종대로","vertexes":[126.978,37.566,126.979,37.567]},
+                             {"name":"","traffic_state":1,"vertexes":[126.98,37.568]}]}]},
+                  {"result_code":0,"summary":{"distance":9999},"sections":[]}]}
+                """;
+
+        // when
+        KakaoRouteParser.ParsedRoute route = KakaoRouteParser.parse(stream(json), false);
+
+        // then
+        assertThat(route.resultCode()).isZero();
+        assertThat(route.distanceMeters()).isEqualTo(1520);
+        assertThat(route.coordinates()).containsExactly(37.566, 126.978, 37.567, 126.979, 37.568, 126.98);
+    }
+
+    @Test
+    @DisplayName("parse - 도보 응답: guides 의 x·y 만 사용하고 (0, 0) 좌표는 제외")
+    void parse_도보응답() throws IOException {
+        // given
+        String json = """
+                {"routes":[{"result_code":0,"summary":{"distance":210},
+                  "sections":[{"roads":[{"vertexes":[1,2]}],
+                    "guides":[{"x":126.978,"y":37.566,"name":"출발지"},{"x":0,"y":0},{"x":126.979,"y":37.567}]}]}]}
+                """;
+
+        // when
+        KakaoRouteParser.ParsedRoute route = KakaoRouteParser.parse(stream(json), true);
+
+        // then
+        assertThat(route.pointCount()).isEqualTo(2);
+        assertThat(route.coordinates()).containsExactly(37.566, 126.978, 37.567, 126.979);
+    }
+
+    @Test
+    @DisplayName("parse - 경로 탐색 실패 응답은 result_code·result_msg 전달, routes 없으면 null")
+    void parse_실패응답() throws IOException {
+        // given
+        String failed = "{\"routes\":[{\"result_code\":104,\"result_msg\":\"출발지와 도착지가 5 m 이내\"}]}";
+
+        // when
+        KakaoRouteParser.ParsedRoute route = KakaoRouteParser.parse(stream(failed), false);
+        KakaoRouteParser.ParsedRoute none = KakaoRouteParser.parse(stream("{\"routes\":[]}"), false);
+
+        // then
+        assertThat(route.resultCode()).isEqualTo(104);
+        assertThat(route.resultMsg()).isEqualTo("출발지와 도착지가 5 m 이내");
+        assertThat(route.pointCount()).isZero();
+        assertThat(none).isNull();
+    }
+
+    @Test
+    @DisplayName("parse - JSON 형식 오류는 IllegalArgumentException")
+    void parse_형식오류() {
+        // when & then
+        assertThatThrownBy(() -> KakaoRouteParser.parse(stream("{\"routes\":[{\"result_code\":"), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.example.sns.config.map.MapClientProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MapCallExecutor 단위 테스트. 가상 스레드 실행·MDC 전파, 병렬 호출 마감, 제공자별 동시 호출 상한·회로 차단.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("MapCallExecutor 단위 테스트")
+class MapCallExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MapCallExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("async - 가상 스레드에서 실행하고 호출 스레드의 traceId(MDC) 전파")
+    void async_가상스레드_MDC전파() throws Exception {
+        // given
+        executor = executor(MapClientProperties.ExecutionMode.ASYNC, Map.of());
+        MDC.put("traceId", "trace-1");
+
+        // when
+        CompletableFuture<String> result = executor.async(
+                () -> Thread.currentThread().isVirtual() + ":" + MDC.get("traceId"));
+
+        // then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("true:trace-1");
+    }
+
+    @Test
+    @DisplayName("call - 제공자 상한 도달 시 외부 호출 없이 fallback, 다른 제공자는 영향 없음")
+    void call_상한초과_fallback() throws Exception {
+        // given
+        executor = executor(MapClientProperties.ExecutionMode.BLOCKING, Map.of(MapCallExecutor.GOOGLE, 1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slowCall = Thread.ofVirtual().start(() -> executor.call(MapCallExecutor.GOOGLE, () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }, () -> "fallback"));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        String rejected = executor.call(MapCallExecutor.GOOGLE, () -> "upstream", () -> "fallback");
+        String otherProvider = executor.call(MapCallExecutor.KAKAO_MOBILITY, () -> "upstream", () -> "fallback");
+
+        // then
+        assertThat(rejected).isEqualTo("fallback");
+        assertThat(otherProvider).isEqualTo("upstream");
+        assertThat(meterRegistry.get("map.client.rejected").tag("provider", MapCallExecutor.GOOGLE)
+                .tag("reason", "bulkhead").counter().count())
+                .isEqualTo(1);
+        release.countDown();
+        slowCall.join(5000);
+    }
+
+    @Test
+    @DisplayName("call - 장애 누적으로 회로 OPEN 후 외부 호출 없이 즉시 fallback")
+    void call_회로OPEN_즉시fallback() {
+        // given
+        executor = executor(MapClientProperties.ExecutionMode.BLOCKING, Map.of());
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<String> failing = () -> {
+            upstreamCalls.incrementAndGet();
+            throw new MapUpstreamException("timeout", null);
+        };
+        for (int i = 0; i < 4; i++) {
+            assertThat(executor.call(MapCallExecutor.KAKAO_MOBILITY, failing, () -> "fallback")).isEqualTo("fallback");
+        }
+
+        // when
+        String result = executor.call(MapCallExecutor.KAKAO_MOBILITY, failing, () -> "fallback");
+
+        // then
+        assertThat(result).isEqualTo("fallback");
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(executor.circuitStates().get(MapCallExecutor.KAKAO_MOBILITY).state())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("map.client.rejected").tag("provider", MapCallExecutor.KAKAO_MOBILITY)
+                .tag("reason", "circuit-open").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("fanOut - 마감 초과 작업은 interrupt 없이 끝까지 실행, 시작 전 작업은 건너뜀, 회로 실패로 집계 안 함")
+    void fanOut_마감초과_interrupt안함() throws Exception {
+        // given
+        executor = executor(MapClientProperties.ExecutionMode.BLOCKING, Map.of());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Supplier<String> slow = () -> executor.call(MapCallExecutor.KAKAO_MOBILITY, () -> {
+            upstreamCalls.incrementAndGet();
+            await(release);
+            interrupted.set(Thread.currentThread().isInterrupted());
+            finished.countDown();
+            return "slow";
+        }, () -> null);
+        Supplier<String> queued = () -> executor.call(MapCallExecutor.KAKAO_MOBILITY, () -> {
+            upstreamCalls.incrementAndGet();
+            return "queued";
+        }, () -> null);
+
+        // when
+        List<String> results = executor.fanOut(List.of(slow, queued), 1, Duration.ofMillis(50));
+        release.countDown();
+
+        // then
+        assertThat(results).containsExactly(null, null);
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+        Thread.sleep(100);
+        assertThat(upstreamCalls).hasValue(1);
+        CircuitBreaker.Snapshot circuit = executor.circuitStates().get(MapCallExecutor.KAKAO_MOBILITY);
+        assertThat(circuit.calls()).isEqualTo(1);
+        assertThat(circuit.failureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("call - interrupt 로 끊긴 호출은 fallback 하되 회로 실패로 집계하지 않음")
+    void call_interrupt_실패집계안함() {
+        // given
+        executor = executor(MapClientProperties.ExecutionMode.BLOCKING, Map.of());
+        Supplier<String> interruptedCall = () -> {
+            throw new IllegalStateException("I/O 중단", new InterruptedException());
+        };
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(executor.call(MapCallExecutor.KAKAO_MOBILITY, interruptedCall, () -> "fallback"))
+                    .isEqualTo("fallback");
+        }
+
+        // then
+        CircuitBreaker.Snapshot circuit = executor.circuitStates().get(MapCallExecutor.KAKAO_MOBILITY);
+        assertThat(circuit.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuit.calls()).isZero();
+    }
+
+    @Test
+    @DisplayName("call - Error 는 그대로 전파하되 회로 실패로 집계하고 동시 호출 슬롯을 반납")
+    void call_Error_전파_실패집계() {
+        // given
+        executor = executor(MapClientProperties.ExecutionMode.BLOCKING, Map.of());
+        Supplier<String> overflowing = () -> {
+            throw new StackOverflowError();
+        };
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> executor.call(MapCallExecutor.KAKAO_MOBILITY, overflowing, () -> "fallback"))
+                    .isInstanceOf(StackOverflowError.class);
+        }
+
+        // then
+        assertThat(executor.circuitStates().get(MapCallExecutor.KAKAO_MOBILITY).state())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("map.client.active").tag("provider", MapCallExecutor.KAKAO_MOBILITY)
+                .gauge().value()).isZero();
+    }
+
+    private MapCallExecutor executor(MapClientProperties.ExecutionMode mode, Map<String, Integer> limits) {
+        MapClientProperties.CircuitBreaker circuitBreaker = new MapClientProperties.CircuitBreaker(
+                true, 10, 4, 50, Duration.ofSeconds(2), 80, Duration.ofSeconds(30), 1);
+        return new MapCallExecutor(new MapClientProperties(mode, 4, limits, Duration.ofMillis(20), circuitBreaker,
+                null), meterRegistry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
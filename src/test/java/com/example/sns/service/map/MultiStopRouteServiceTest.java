@@ -0,0 +1,195 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.sns.config.map.DirectionsProperties;
+import com.example.sns.config.map.MapClientProperties;
+import com.example.sns.config.map.MapProperties;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.service.map.KakaoMobilityDirectionsService.DirectionsResult;
+import com.example.sns.service.map.MultiStopRouteService.Leg;
+import com.example.sns.service.map.MultiStopRouteService.MultiStopRoute;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MultiStopRouteService 단위 테스트. 구간 병렬 조회, 경로 잇기, 실패·마감 초과 구간 직선 대체, 방문 순서 최적화.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@DisplayName("MultiStopRouteService 단위 테스트")
+class MultiStopRouteServiceTest {
+
+    private static final long LEG_LATENCY_MILLIS = 300;
+
+    private final KakaoMobilityDirectionsService directionsService = mock(KakaoMobilityDirectionsService.class);
+    private final MapCallExecutor mapCallExecutor = new MapCallExecutor(new MapClientProperties(
+            MapClientProperties.ExecutionMode.BLOCKING, 4, Map.of(), Duration.ofMillis(20), null, null),
+            new SimpleMeterRegistry());
+    private final MultiStopRouteService service = new MultiStopRouteService(
+            new DirectionsProperties(null, null, new DirectionsProperties.Waypoints(3, 4)),
+            new MapProperties("none", 1, 0, null, null, null, null, null, null, null),
+            directionsService, mapCallExecutor);
+
+    @AfterEach
+    void tearDown() {
+        mapCallExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("plan - 구간을 동시에 조회해 지연은 가장 느린 구간 수준, 경로는 경계 중복 없이 이어짐")
+    void plan_구간병렬조회() {
+        // given — 출발(37.0,127.0) → 경유(37.0,127.01) → 경유(37.0,127.02) → 도착(37.0,127.03), 구간마다 300ms
+        double[] stops = {37.0, 127.0, 37.0, 127.01, 37.0, 127.02, 37.0, 127.03};
+        given(directionsService.getDirections(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR"),
+                eq("RECOMMEND")))
+                .willAnswer(invocation -> {
+                    Thread.sleep(LEG_LATENCY_MILLIS);
+                    double fromLng = invocation.getArgument(1);
+                    double toLng = invocation.getArgument(3);
+                    return new DirectionsResult(new double[] {37.0, fromLng, 37.001, (fromLng + toLng) / 2, 37.0, toLng},
+                            1000);
+                });
+
+        // when
+        long start = System.nanoTime();
+        MultiStopRoute route = service.plan(stops, false, "CAR", "RECOMMEND");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(elapsedMillis).isLessThan(LEG_LATENCY_MILLIS * 2);
+        assertThat(route.order()).containsExactly(0, 1, 2, 3);
+        assertThat(route.legs()).hasSize(3).allMatch(Leg::isRoadRoute);
+        assertThat(route.distanceMeters()).isEqualTo(3000);
+        assertThat(route.coordinates()).hasSize(7 * 2);
+        assertThat(route.coordinates()[route.coordinates().length - 1]).isEqualTo(127.03);
+    }
+
+    @Test
+    @DisplayName("plan - 실패한 구간만 직선으로 대체하고 나머지 도로 구간은 유지")
+    void plan_실패구간_직선대체() {
+        // given
+        double[] stops = {37.0, 127.0, 37.0, 127.01, 37.0, 127.02};
+        given(directionsService.getDirections(anyDouble(), eq(127.0), anyDouble(), anyDouble(), eq("WALK"), eq(null)))
+                .willReturn(new DirectionsResult(new double[] {37.0, 127.0, 37.001, 127.005, 37.0, 127.01}, 1200));
+        given(directionsService.getDirections(anyDouble(), eq(127.01), anyDouble(), anyDouble(), eq("WALK"), eq(null)))
+                .willThrow(new IllegalStateException("upstream"));
+
+        // when
+        MultiStopRoute route = service.plan(stops, false, "WALK", null);
+
+        // then
+        assertThat(route.legs()).extracting(Leg::isRoadRoute).containsExactly(true, false);
+        assertThat(route.legs().get(1).distanceMeters()).isBetween(880, 900);
+        assertThat(route.coordinates()).containsExactly(37.0, 127.0, 37.001, 127.005, 37.0, 127.01, 37.0, 127.02);
+    }
+
+    @Test
+    @DisplayName("plan - 마감 초과 구간은 직선 대체하되 외부 호출은 interrupt 없이 끝나고 회로 실패로 집계 안 함")
+    void plan_마감초과구간_회로실패아님() throws Exception {
+        // given — 외부 호출 예산 1초, 두 번째 구간만 예산을 넘김
+        MapClientProperties.CircuitBreaker circuitBreaker = new MapClientProperties.CircuitBreaker(
+                true, 10, 1, 50, Duration.ofSeconds(5), 80, Duration.ofSeconds(30), 1);
+        MapCallExecutor executor = new MapCallExecutor(new MapClientProperties(
+                MapClientProperties.ExecutionMode.BLOCKING, 4, Map.of(), Duration.ofMillis(20), circuitBreaker, null),
+                new SimpleMeterRegistry());
+        MultiStopRouteService budgeted = new MultiStopRouteService(
+                new DirectionsProperties(null, null, new DirectionsProperties.Waypoints(3, 4)),
+                new MapProperties("none", 1, 0, null, null, null, null, null, null, null),
+                directionsService, executor);
+        double[] stops = {37.0, 127.0, 37.0, 127.01, 37.0, 127.02};
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        given(directionsService.getDirections(anyDouble(), eq(127.0), anyDouble(), anyDouble(), eq("CAR"), eq(null)))
+                .willAnswer(invocation -> executor.call(MapCallExecutor.KAKAO_MOBILITY,
+                        () -> new DirectionsResult(new double[] {37.0, 127.0, 37.0, 127.01}, 900), () -> null));
+        given(directionsService.getDirections(anyDouble(), eq(127.01), anyDouble(), anyDouble(), eq("CAR"), eq(null)))
+                .willAnswer(invocation -> executor.call(MapCallExecutor.KAKAO_MOBILITY, () -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    interrupted.set(Thread.currentThread().isInterrupted());
+                    finished.countDown();
+                    return new DirectionsResult(new double[] {37.0, 127.01, 37.0, 127.02}, 900);
+                }, () -> null));
+
+        try {
+            // when
+            MultiStopRoute route = budgeted.plan(stops, false, "CAR", null);
+            release.countDown();
+
+            // then
+            assertThat(route.legs()).extracting(Leg::isRoadRoute).containsExactly(true, false);
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(interrupted).isFalse();
+            CircuitBreaker.Snapshot circuit = executor.circuitStates().get(MapCallExecutor.KAKAO_MOBILITY);
+            assertThat(circuit.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(circuit.failureRate()).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("plan - optimize=true 면 경유지를 직선 거리 기준으로 재정렬한 순서대로 조회")
+    void plan_방문순서최적화() {
+        // given — 경유지 입력 순서: 127.02, 127.01 → 최적 순서 127.01, 127.02
+        double[] stops = {37.0, 127.0, 37.0, 127.02, 37.0, 127.01, 37.0, 127.03};
+        given(directionsService.getDirections(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(null), eq(null)))
+                .willReturn(null);
+
+        // when
+        MultiStopRoute route = service.plan(stops, true, null, null);
+
+        // then
+        assertThat(route.order()).containsExactly(0, 2, 1, 3);
+        then(directionsService).should().getDirections(37.0, 127.0, 37.0, 127.01, null, null);
+        then(directionsService).should().getDirections(37.0, 127.01, 37.0, 127.02, null, null);
+        then(directionsService).should().getDirections(37.0, 127.02, 37.0, 127.03, null, null);
+    }
+
+    @Test
+    @DisplayName("plan - 경유지 수 상한 초과 시 BusinessException, 외부 API 호출 없음")
+    void plan_경유지상한초과() {
+        // given — 경유지 4개 (상한 3)
+        double[] stops = {37.0, 127.0, 37.0, 127.01, 37.0, 127.02, 37.0, 127.03, 37.0, 127.04, 37.0, 127.05};
+
+        // when & then
+        assertThatThrownBy(() -> service.plan(stops, false, null, null)).isInstanceOf(BusinessException.class);
+        then(directionsService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("stitch - 앞 구간 끝점과 다른 다음 구간 첫 점은 그대로 유지")
+    void stitch_경계점다르면유지() {
+        // given
+        List<Leg> legs = List.of(new Leg(new double[] {1, 1, 2, 2}, 10, true),
+                new Leg(new double[] {2.0001, 2, 3, 3}, 10, true));
+
+        // when
+        double[] path = MultiStopRouteService.stitch(legs);
+
+        // then
+        assertThat(path).containsExactly(1, 1, 2, 2, 2.0001, 2, 3, 3);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.sns.service.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SingleFlight 단위 테스트. 동시 요청 합치기·예외 공유·대기 시간 초과·지표.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("SingleFlight 단위 테스트")
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 7;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 요청 - 외부 호출 1회, 모두 같은 결과, follower 수 집계")
+    void execute_동시요청_한번호출() throws Exception {
+        // given
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+            upstreamCalls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "route";
+        }));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        // when
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> flight.execute("k", () -> {
+                upstreamCalls.incrementAndGet();
+                return "other";
+            })));
+        }
+        while (meterRegistry.get("map.singleflight.calls").tag("role", "follower").counter().count() < FOLLOWERS) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("route");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("route");
+        }
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(meterRegistry.get("map.singleflight.calls").tag("role", "leader").counter().count()).isEqualTo(1);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 예외 - follower 도 같은 예외, 다음 호출은 새로 실행")
+    void execute_예외공유() throws Exception {
+        // given
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> flight.execute("k", () -> "unused"));
+        while (meterRegistry.get("map.singleflight.calls").tag("role", "follower").counter().count() < 1) {
+            Thread.sleep(5);
+        }
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(flight.execute("k", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("follower 대기 시간 초과 - SingleFlightTimeoutException, timeout 지표 증가")
+    void execute_대기시간초과() throws Exception {
+        // given
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> flight.execute("k", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "late";
+        }));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> flight.execute("k", () -> "unused"))
+                .isInstanceOf(SingleFlight.SingleFlightTimeoutException.class);
+        assertThat(meterRegistry.get("map.singleflight.timeouts").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sns.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LocalNotificationPublisher 단위 테스트. 전달 비동기화 — 느린 수신자가 발행자·다른 수신자를 막지 않음, 수신자별 순서 유지.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("LocalNotificationPublisher 단위 테스트")
+class LocalNotificationPublisherTest {
+
+    private static final long SLOW_USER = 1L;
+    private static final long OTHER_USER = 2L;
+
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+    private final CountDownLatch otherDelivered = new CountDownLatch(1);
+    private final CountDownLatch slowDelivered = new CountDownLatch(3);
+    private final List<Long> slowUserCounts = new CopyOnWriteArrayList<>();
+    private LocalNotificationPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        releaseSlow.countDown();
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("publish - 느린 수신자 전달을 기다리지 않고, 다른 수신자는 먼저 받으며, 같은 수신자는 발행 순서대로 받음")
+    void publish_느린수신자_격리() throws Exception {
+        // given
+        NotificationSink sink = message -> {
+            if (message.recipientId() == SLOW_USER) {
+                await(releaseSlow);
+                slowUserCounts.add(message.unreadCount());
+                slowDelivered.countDown();
+            } else {
+                otherDelivered.countDown();
+            }
+        };
+        publisher = new LocalNotificationPublisher(List.of(sink));
+
+        // when
+        long start = System.nanoTime();
+        publisher.publish(NotificationPushMessage.ofUnreadCount(SLOW_USER, 1));
+        publisher.publish(NotificationPushMessage.ofUnreadCount(SLOW_USER, 2));
+        publisher.publish(NotificationPushMessage.ofUnreadCount(SLOW_USER, 3));
+        publisher.publish(NotificationPushMessage.ofUnreadCount(OTHER_USER, 1));
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(publishMillis).isLessThan(1000);
+        assertThat(otherDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowUserCounts).isEmpty();
+        releaseSlow.countDown();
+        assertThat(slowDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowUserCounts).containsExactly(1L, 2L, 3L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.sns.service.notification;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.sns.config.notification.NotificationProperties;
+import com.example.sns.dto.response.NotificationResponse;
+import com.example.sns.service.NotificationService;
+
+/**
+ * NotificationDispatcher 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDispatcher 단위 테스트")
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationPublisher notificationPublisher;
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        NotificationProperties properties = new NotificationProperties(
+                new NotificationProperties.Push("local", "notifications:push"),
+                new NotificationProperties.Sse(Duration.ofMinutes(30), 15000, 100),
+                new NotificationProperties.Outbox(2, 1000, Duration.ofMinutes(10)),
+                null);
+        dispatcher = new NotificationDispatcher(notificationService, notificationPublisher, properties);
+    }
+
+    @Test
+    @DisplayName("drain - outbox 가 빌 때까지 반복하고, 수신자별 안 읽은 수는 배치당 1회 Push")
+    void drain_빌때까지_반복처리() {
+        // given
+        given(notificationService.dispatchOutbox(2))
+                .willReturn(List.of(notification(1L, 7L), notification(2L, 7L)))
+                .willReturn(List.of(notification(3L, 8L)))
+                .willReturn(List.of());
+        given(notificationService.getUnreadCount(any())).willReturn(1L);
+        // when
+        dispatcher.drain();
+        // then
+        then(notificationService).should(times(3)).dispatchOutbox(2);
+        then(notificationPublisher).should(times(3)).publish(argThat(
+                m -> m.notification() != null));
+        then(notificationService).should(times(1)).getUnreadCount(7L);
+        then(notificationService).should(times(1)).getUnreadCount(8L);
+    }
+
+    @Test
+    @DisplayName("drain - outbox 가 비어 있으면 Push 하지 않는다")
+    void drain_빈outbox_Push없음() {
+        // given
+        given(notificationService.dispatchOutbox(2)).willReturn(List.of());
+        // when
+        dispatcher.drain();
+        // then
+        then(notificationPublisher).should(never()).publish(any());
+    }
+
+    private static NotificationResponse notification(Long id, Long recipientId) {
+        return new NotificationResponse(id, recipientId, "follow", 99L, "행위자", null, null, false, 1,
+                LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.sns.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.sns.config.notification.NotificationProperties;
+import com.example.sns.service.NotificationService;
+import com.example.sns.service.NotificationService.PurgeBatch;
+
+/**
+ * NotificationRetentionJob 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ, BDDMockito 준수.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationRetentionJob 단위 테스트")
+class NotificationRetentionJobTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Test
+    @DisplayName("purge - 직전 배치 마지막 id 이후부터 이어 읽고, 배치가 덜 차면 종료해 총 삭제 건수를 반환한다")
+    void purge_배치미달시_종료() {
+        // given
+        NotificationRetentionJob job = new NotificationRetentionJob(notificationService, null);
+        LocalDateTime cutoff = LocalDateTime.now();
+        given(notificationService.purgeExpiredRead(cutoff, 0L, 100)).willReturn(new PurgeBatch(100, 150));
+        given(notificationService.purgeExpiredRead(cutoff, 150L, 100)).willReturn(new PurgeBatch(100, 420));
+        given(notificationService.purgeExpiredRead(cutoff, 420L, 100)).willReturn(new PurgeBatch(30, 500));
+        // when
+        long deleted = job.purge(cutoff, retention(10));
+        // then
+        assertThat(deleted).isEqualTo(230);
+        then(notificationService).should(times(3)).purgeExpiredRead(eq(cutoff), anyLong(), eq(100));
+    }
+
+    @Test
+    @DisplayName("purge - 1회 실행 배치 상한에 도달하면 중단한다")
+    void purge_배치상한_중단() {
+        // given
+        NotificationRetentionJob job = new NotificationRetentionJob(notificationService, null);
+        given(notificationService.purgeExpiredRead(any(), anyLong(), eq(100))).willReturn(new PurgeBatch(100, 100));
+        // when
+        long deleted = job.purge(LocalDateTime.now(), retention(2));
+        // then
+        assertThat(deleted).isEqualTo(200);
+        then(notificationService).should(times(2)).purgeExpiredRead(any(), anyLong(), eq(100));
+    }
+
+    @Test
+    @DisplayName("run - 비활성화 시 삭제하지 않는다")
+    void run_비활성화_삭제없음() {
+        // given
+        NotificationProperties properties = new NotificationProperties(null, null, null,
+                new NotificationProperties.Retention(false, "-", Duration.ofDays(90), 100, Duration.ZERO, 10));
+        NotificationRetentionJob job = new NotificationRetentionJob(notificationService, properties);
+        // when
+        job.run();
+        // then
+        then(notificationService).should(never()).purgeExpiredRead(any(), anyLong(), anyInt());
+    }
+
+    private static NotificationProperties.Retention retention(int maxBatchesPerRun) {
+        return new NotificationProperties.Retention(true, "-", Duration.ofDays(90), 100, Duration.ZERO,
+                maxBatchesPerRun);
+    }
+}
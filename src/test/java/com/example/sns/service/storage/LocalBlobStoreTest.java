@@ -0,0 +1,82 @@
+package com.example.sns.service.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * LocalBlobStore 테스트. 임시 디렉터리 기반 목록 순회.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("LocalBlobStore 테스트")
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("list - 순회 중 삭제된 파일·디렉터리는 건너뛰고 나머지를 계속 반환")
+    void list_동시삭제_건너뜀() throws IOException {
+        // given
+        write("blobs/aa/1.jpg");
+        write("blobs/bb/2.jpg");
+        write("blobs/cc/3.jpg");
+        write("derivatives/160/blobs/aa/1.jpg");
+        LocalBlobStore store = new LocalBlobStore(root);
+
+        // when — 첫 항목을 받은 뒤 나머지 파일 하나와 디렉터리 하나를 지움
+        List<String> keys = new ArrayList<>();
+        try (Stream<BlobEntry> entries = store.list("")) {
+            Iterator<BlobEntry> iterator = entries.iterator();
+            keys.add(iterator.next().key());
+            List<String> victims = new ArrayList<>(List.of("blobs/aa/1.jpg", "blobs/bb/2.jpg", "blobs/cc/3.jpg",
+                    "derivatives/160/blobs/aa/1.jpg"));
+            victims.remove(keys.get(0));
+            Files.delete(root.resolve(victims.get(0)));
+            deleteTree(root.resolve(victims.get(1)).getParent());
+            iterator.forEachRemaining(entry -> keys.add(entry.key()));
+        }
+
+        // then
+        assertThat(keys).hasSize(2).doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(root.resolve(key)).exists());
+    }
+
+    @Test
+    @DisplayName("list - 없는 prefix 는 빈 목록")
+    void list_없는prefix() throws IOException {
+        // given
+        LocalBlobStore store = new LocalBlobStore(root);
+
+        // when
+        try (Stream<BlobEntry> entries = store.list("missing")) {
+            // then
+            assertThat(entries).isEmpty();
+        }
+    }
+
+    private void write(String key) throws IOException {
+        Path path = root.resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, "img".getBytes());
+    }
+
+    private static void deleteTree(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
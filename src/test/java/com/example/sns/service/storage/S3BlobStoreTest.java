@@ -0,0 +1,324 @@
+package com.example.sns.service.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.sns.config.storage.StorageProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * S3BlobStore 테스트. 로컬 S3 호환 stand-in(JDK HttpServer, path-style)에 대해 실제 HTTP 요청으로 검증.
+ * 서명 값 자체는 AwsSigV4SignerTest 에서 AWS 예제로 검증.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("S3BlobStore 테스트")
+class S3BlobStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:01:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private FakeS3 fakeS3;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fakeS3 = new FakeS3();
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeS3.stop();
+    }
+
+    @Test
+    @DisplayName("파트 크기 이하 - 단일 PUT 업로드·존재 확인·조회·삭제")
+    void put_단일업로드_조회삭제() throws IOException {
+        // given
+        S3BlobStore store = store(1024);
+        Path file = write("small", "hello".getBytes());
+
+        // when
+        store.put("blobs/ab/a b.png", file, "image/png");
+
+        // then
+        assertThat(fakeS3.objects).containsKey("/bucket/blobs/ab/a%20b.png");
+        assertThat(fakeS3.requests).allSatisfy(r -> assertThat(r).contains("AWS4-HMAC-SHA256"));
+        assertThat(store.exists("blobs/ab/a b.png")).isTrue();
+        try (InputStream in = store.open("blobs/ab/a b.png")) {
+            assertThat(in.readAllBytes()).isEqualTo("hello".getBytes());
+        }
+        store.delete("blobs/ab/a b.png");
+        assertThat(store.exists("blobs/ab/a b.png")).isFalse();
+    }
+
+    @Test
+    @DisplayName("파트 크기 초과 - 멀티파트 업로드로 파트 단위 전송 후 완료")
+    void put_멀티파트업로드() throws IOException {
+        // given
+        S3BlobStore store = store(10);
+        byte[] content = "0123456789abcdefghijKLMNO".getBytes();
+        Path file = write("large", content);
+
+        // when
+        store.put("blobs/cd/large.jpg", file, "image/jpeg");
+
+        // then
+        assertThat(fakeS3.objects.get("/bucket/blobs/cd/large.jpg")).isEqualTo(content);
+        assertThat(fakeS3.requests).filteredOn(r -> r.startsWith("PUT") && r.contains("partNumber")).hasSize(3);
+        assertThat(fakeS3.requests).anyMatch(r -> r.startsWith("POST") && r.contains("uploads"));
+    }
+
+    @Test
+    @DisplayName("presignedGetUrl - 같은 구간에서는 같은 URL, 서명 없이 직접 다운로드 가능")
+    void presignedGetUrl_안정적URL() throws Exception {
+        // given
+        S3BlobStore store = store(1024);
+        store.put("blobs/ef/x.gif", write("gif", "GIF89a".getBytes()), "image/gif");
+        S3BlobStore later = new S3BlobStore(properties(1024), httpClient,
+                Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+
+        // when
+        URI url = store.presignedGetUrl("blobs/ef/x.gif").orElseThrow();
+
+        // then
+        assertThat(url.getQuery()).contains("X-Amz-Signature=").contains("X-Amz-Expires=600");
+        assertThat(later.presignedGetUrl("blobs/ef/x.gif")).contains(url);
+        byte[] body = httpClient.send(HttpRequest.newBuilder(url).build(),
+                HttpResponse.BodyHandlers.ofByteArray()).body();
+        assertThat(body).isEqualTo("GIF89a".getBytes());
+    }
+
+    @Test
+    @DisplayName("list·move - 페이지를 넘기며 prefix 아래 전체 순회, 서버 측 복사 후 원본 삭제")
+    void list_move_페이지순회() throws IOException {
+        // given
+        S3BlobStore store = store(1024);
+        for (String key : List.of("blobs/a.jpg", "blobs/b.jpg", "blobs/c&d.jpg", "tmp/x.tmp")) {
+            store.put(key, write(key.replace('/', '_'), "data".getBytes()), "image/jpeg");
+        }
+
+        // when
+        List<String> keys;
+        try (Stream<BlobEntry> entries = store.list("blobs/")) {
+            keys = entries.map(BlobEntry::key).toList();
+        }
+        store.move("blobs/a.jpg", "quarantine/blobs/a.jpg");
+
+        // then
+        assertThat(keys).containsExactly("blobs/a.jpg", "blobs/b.jpg", "blobs/c&d.jpg");
+        assertThat(fakeS3.requests).filteredOn(r -> r.contains("list-type=2")).hasSize(2);
+        assertThat(store.exists("blobs/a.jpg")).isFalse();
+        assertThat(fakeS3.objects.get("/bucket/quarantine/blobs/a.jpg")).isEqualTo("data".getBytes());
+    }
+
+    @Test
+    @DisplayName("deleteAll - DeleteObjects 한 번으로 일괄 삭제, 응답 Error 키만 실패로 반환")
+    void deleteAll_일괄삭제_실패키반환() throws IOException {
+        // given
+        S3BlobStore store = store(1024);
+        for (String key : List.of("blobs/a.jpg", "blobs/b&c.jpg", "blobs/locked.jpg")) {
+            store.put(key, write(key.replace('/', '_'), "data".getBytes()), "image/jpeg");
+        }
+
+        // when
+        Set<String> failed = store.deleteAll(List.of("blobs/a.jpg", "blobs/b&c.jpg", "blobs/locked.jpg"));
+
+        // then
+        assertThat(failed).containsExactly("blobs/locked.jpg");
+        assertThat(fakeS3.requests).filteredOn(r -> r.startsWith("POST") && r.contains("delete=")).hasSize(1);
+        assertThat(fakeS3.objects).containsOnlyKeys("/bucket/blobs/locked.jpg");
+    }
+
+    @Test
+    @DisplayName("open - 없는 키는 NoSuchFileException")
+    void open_없는키_예외() {
+        // given
+        S3BlobStore store = store(1024);
+
+        // when
+        // then
+        assertThatThrownBy(() -> store.open("blobs/00/missing.png")).isInstanceOf(NoSuchFileException.class);
+    }
+
+    private S3BlobStore store(long partSizeBytes) {
+        return new S3BlobStore(properties(partSizeBytes), httpClient, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private StorageProperties.S3 properties(long partSizeBytes) {
+        return new StorageProperties.S3("http://localhost:" + fakeS3.port(), "us-east-1", "bucket",
+                "access", "secret", true, partSizeBytes, Duration.ofMinutes(10), Duration.ofSeconds(2),
+                Duration.ofSeconds(5));
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+    /**
+     * 최소 S3 호환 서버: 객체 PUT/HEAD/GET/DELETE·일괄 삭제, 멀티파트 생성·파트 업로드·완료·중단.
+     */
+    private static final class FakeS3 {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Map<String, byte[]> parts = new ConcurrentHashMap<>();
+        final List<String> requests = new CopyOnWriteArrayList<>();
+        private final HttpServer server;
+
+        FakeS3() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        int port() {
+            return server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getRawPath();
+            String query = exchange.getRequestURI().getRawQuery();
+            String auth = exchange.getRequestHeaders().getFirst("Authorization");
+            requests.add(method + " " + path + "?" + query + " " + auth);
+            byte[] body = exchange.getRequestBody().readAllBytes();
+
+            if ("POST".equals(method) && "uploads=".equals(query)) {
+                respond(exchange, 200, "<InitiateMultipartUploadResult><UploadId>up-1</UploadId>"
+                        + "</InitiateMultipartUploadResult>");
+            } else if ("POST".equals(method) && "delete=".equals(query)) {
+                respond(exchange, 200, deleteObjects(path, new String(body, StandardCharsets.UTF_8)));
+            } else if ("PUT".equals(method) && query != null && query.startsWith("partNumber=")) {
+                String partNumber = query.substring("partNumber=".length(), query.indexOf('&'));
+                parts.put(partNumber, body);
+                exchange.getResponseHeaders().add("ETag", "\"etag-" + partNumber + "\"");
+                respond(exchange, 200, "");
+            } else if ("POST".equals(method) && query != null && query.startsWith("uploadId=")) {
+                ByteArrayOutputStream merged = new ByteArrayOutputStream();
+                for (int i = 1; parts.containsKey(String.valueOf(i)); i++) {
+                    merged.write(parts.get(String.valueOf(i)));
+                }
+                objects.put(path, merged.toByteArray());
+                respond(exchange, 200, "<CompleteMultipartUploadResult/>");
+            } else if ("PUT".equals(method) && exchange.getRequestHeaders().containsKey("x-amz-copy-source")) {
+                objects.put(path, objects.get(exchange.getRequestHeaders().getFirst("x-amz-copy-source")));
+                respond(exchange, 200, "<CopyObjectResult/>");
+            } else if ("GET".equals(method) && query != null && query.startsWith("list-type=2")) {
+                respond(exchange, 200, listPage(path, query));
+            } else if ("PUT".equals(method)) {
+                objects.put(path, body);
+                respond(exchange, 200, "");
+            } else if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(objects.containsKey(path) ? 200 : 404, -1);
+                exchange.close();
+            } else if ("GET".equals(method) && objects.containsKey(path)) {
+                byte[] object = objects.get(path);
+                exchange.sendResponseHeaders(200, object.length);
+                exchange.getResponseBody().write(object);
+                exchange.close();
+            } else if ("DELETE".equals(method)) {
+                objects.remove(path);
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+            } else {
+                respond(exchange, 404, "<Error><Code>NoSuchKey</Code></Error>");
+            }
+        }
+
+        /**
+         * DeleteObjects (quiet). 이름에 "locked" 가 들어간 키는 AccessDenied 로 실패.
+         */
+        private String deleteObjects(String bucketPath, String xml) {
+            StringBuilder result = new StringBuilder("<DeleteResult>");
+            Matcher key = Pattern.compile("<Key>([^<]*)</Key>").matcher(xml);
+            while (key.find()) {
+                String name = key.group(1).replace("&amp;", "&");
+                if (name.contains("locked")) {
+                    result.append("<Error><Key>").append(key.group(1)).append("</Key><Code>AccessDenied</Code></Error>");
+                } else {
+                    objects.remove(bucketPath + "/" + name.replace("&", "%26")); // 객체는 인코딩된 경로로 저장됨
+                }
+            }
+            return result.append("</DeleteResult>").toString();
+        }
+
+        /**
+         * ListObjectsV2 (페이지당 2개, continuation-token = 마지막 키).
+         */
+        private String listPage(String bucketPath, String query) {
+            String prefix = param(query, "prefix");
+            String token = param(query, "continuation-token");
+            List<String> keys = objects.keySet().stream()
+                    .map(p -> URLDecoder.decode(p.substring(bucketPath.length() + 1), StandardCharsets.UTF_8))
+                    .filter(k -> k.startsWith(prefix) && (token == null || k.compareTo(token) > 0))
+                    .sorted()
+                    .toList();
+            StringBuilder xml = new StringBuilder("<ListBucketResult>");
+            keys.stream().limit(2).forEach(k -> xml.append("<Contents><Key>").append(k.replace("&", "&amp;"))
+                    .append("</Key><LastModified>2026-01-01T00:00:00.000Z</LastModified><Size>4</Size></Contents>"));
+            if (keys.size() > 2) {
+                xml.append("<NextContinuationToken>").append(keys.get(1).replace("&", "&amp;"))
+                        .append("</NextContinuationToken>");
+            }
+            return xml.append("</ListBucketResult>").toString();
+        }
+
+        private static String param(String query, String name) {
+            for (String pair : query.split("&")) {
+                if (pair.startsWith(name + "=")) {
+                    return URLDecoder.decode(pair.substring(name.length() + 1), StandardCharsets.UTF_8);
+                }
+            }
+            return null;
+        }
+
+        private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                exchange.getResponseBody().write(bytes);
+            }
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.sns.util.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BloomFilter 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 항목은 항상 있음으로 판정 (false negative 없음)")
+    void mightContain_넣은항목_항상true() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01, 42);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("blobs/" + i + ".jpg");
+        }
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("blobs/" + i + ".jpg")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("넣지 않은 항목의 오탐률은 목표치 근처")
+    void mightContain_오탐률_목표근처() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01, 7);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("live/" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("orphan/" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.sns.util.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LocalLruCache 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("LocalLruCache 단위 테스트")
+class LocalLruCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("용량 초과 시 가장 오래 사용하지 않은 항목을 제거한다")
+    void put_용량초과_LRU제거() {
+        // given
+        LocalLruCache<String, Integer> cache = new LocalLruCache<>(2, Duration.ofMinutes(1), clock::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        // when
+        cache.put("c", 3);
+        // then
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회되지 않는다")
+    void get_TTL만료_null() {
+        // given
+        LocalLruCache<String, Integer> cache = new LocalLruCache<>(10, Duration.ofSeconds(5), clock::get);
+        cache.put("a", 1);
+        // when
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        // then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
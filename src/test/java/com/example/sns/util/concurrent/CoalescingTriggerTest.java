@@ -0,0 +1,112 @@
+package com.example.sns.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CoalescingTrigger 단위 테스트. 동시 실행 1개, 실행 중 요청 합치기·누락 없음, 실패 시 재실행 중단.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("CoalescingTrigger 단위 테스트")
+class CoalescingTriggerTest {
+
+    private CoalescingTrigger trigger;
+
+    @AfterEach
+    void tearDown() {
+        if (trigger != null) {
+            trigger.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("run - 실행 중 들어온 여러 요청은 즉시 반환되고, 끝난 뒤 1회로 합쳐 다시 실행")
+    void run_실행중요청_1회로합침() throws Exception {
+        // given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        trigger = new CoalescingTrigger("test-trigger", () -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            if (runs.incrementAndGet() == 1) {
+                firstStarted.countDown();
+                await(releaseFirst);
+            }
+            concurrent.decrementAndGet();
+        }, e -> { });
+        Thread first = Thread.ofVirtual().start(trigger::run);
+        firstStarted.await(5, TimeUnit.SECONDS);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            trigger.run();
+        }
+        releaseFirst.countDown();
+        first.join(5000);
+
+        // then
+        assertThat(runs).hasValue(2);
+        assertThat(maxConcurrent).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("wakeUp - 전용 스레드에서 실행")
+    void wakeUp_전용스레드() throws Exception {
+        // given
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        trigger = new CoalescingTrigger("test-wake", () -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        }, e -> { });
+
+        // when
+        trigger.wakeUp();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).isEqualTo("test-wake");
+    }
+
+    @Test
+    @DisplayName("run - drain 예외는 onFailure 로 넘기고 재실행 예약이 있어도 반복하지 않음, 다음 호출은 다시 실행")
+    void run_실패_재실행중단() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        AtomicReference<CoalescingTrigger> self = new AtomicReference<>();
+        trigger = new CoalescingTrigger("test-fail", () -> {
+            runs.incrementAndGet();
+            self.get().run(); // 실행 중 재실행 요청
+            throw new IllegalStateException("boom");
+        }, failure::set);
+        self.set(trigger);
+
+        // when
+        trigger.run();
+        trigger.run();
+
+        // then
+        assertThat(runs).hasValue(2);
+        assertThat(failure.get()).hasMessage("boom");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
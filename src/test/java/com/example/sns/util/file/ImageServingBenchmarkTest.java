@@ -0,0 +1,349 @@
+package com.example.sns.util.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.sns.TestConfig;
+import com.example.sns.config.upload.UploadProperties;
+import com.example.sns.domain.ImagePost;
+import com.example.sns.domain.User;
+import com.example.sns.domain.UserRole;
+import com.example.sns.exception.BusinessException;
+import com.example.sns.exception.ErrorCode;
+import com.example.sns.repository.ImagePostRepository;
+import com.example.sns.repository.UserRepository;
+import com.example.sns.service.storage.BlobStore;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 전송 경로 벤치마크 — 실제 Tomcat 서블릿 경로를 HTTP 로 비교.
+ *
+ * <ul>
+ *   <li>legacy-resource: 기존 방식 재현. 요청마다 JPA 로 게시글 조회 + ResponseEntity&lt;Resource&gt;</li>
+ *   <li>stream-fallback: GET /api/image-posts/{id}/image, sendfile 미지원 시 응답 스트림으로 복사 (사용자 공간 복사)</li>
+ *   <li>sendfile: GET /api/image-posts/{id}/image, Tomcat NIO sendfile (커널 zero-copy)</li>
+ * </ul>
+ *
+ * <p>loopback keep-alive 연결로 5MB 파일을 반복 요청하며 처리량(MB/s)과 서버 측 힙 할당량(bytes/op)을 측정한다.
+ * 할당량은 클라이언트(측정) 스레드를 뺀 모든 스레드의 합계이므로 근사치.
+ * 기본 test 에서 제외: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.open-in-view=false", "app.rate-limit.public-api-capacity=1000000"})
+@ActiveProfiles("test")
+@Import({TestConfig.class, ImageServingBenchmarkTest.BenchmarkConfig.class})
+@DisplayName("이미지 전송 경로 벤치마크")
+class ImageServingBenchmarkTest {
+
+    private static final int FILE_SIZE = 5 * 1024 * 1024;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    /** 이 헤더가 있으면 sendfile 지원 속성을 숨겨 ZeroCopyFileSender 의 스트림 전송 경로를 탄다. */
+    private static final String SENDFILE_OFF_HEADER = "X-Benchmark-Sendfile-Off";
+
+    private static final AtomicInteger SENDFILE_RESPONSES = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ImagePostRepository imagePostRepository;
+
+    @Autowired
+    private UploadProperties uploadProperties;
+
+    private User author;
+    private ImagePost post;
+    private Path storedFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        author = userRepository.save(User.builder()
+                .email("benchmark-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .nickname("벤치마크")
+                .role(UserRole.USER)
+                .build());
+        String storagePath = "image-posts/" + UUID.randomUUID() + ".jpg";
+        storedFile = Paths.get(uploadProperties.basePath()).toAbsolutePath().normalize().resolve(storagePath);
+        Files.createDirectories(storedFile.getParent());
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        Files.write(storedFile, content);
+        post = imagePostRepository.save(ImagePost.builder()
+                .author(author)
+                .title("벤치마크")
+                .content("벤치마크")
+                .imageStoragePath(storagePath)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        imagePostRepository.deleteById(post.getId());
+        userRepository.deleteById(author.getId());
+        Files.deleteIfExists(storedFile);
+    }
+
+    @Test
+    @DisplayName("기존 Resource 응답 vs 스트림 전송 vs sendfile: MB/s, 서버 할당 bytes/op")
+    void compare() throws Exception {
+        // given
+        String imagePath = "/api/image-posts/" + post.getId() + "/image";
+        String legacyPath = "/api/sample/legacy-image/" + post.getId();
+
+        try (HttpConnection connection = new HttpConnection(new InetSocketAddress("127.0.0.1", port))) {
+            // when
+            Result legacy = measure("legacy-resource", () -> connection.get(legacyPath, ""));
+            Result streamFallback = measure("stream-fallback",
+                    () -> connection.get(imagePath, SENDFILE_OFF_HEADER + ": true\r\n"));
+            int sendfileBefore = SENDFILE_RESPONSES.get();
+            Result sendfile = measure("sendfile", () -> connection.get(imagePath, ""));
+            int sendfileResponses = SENDFILE_RESPONSES.get() - sendfileBefore;
+
+            // then
+            log.info("{}", legacy);
+            log.info("{}", streamFallback);
+            log.info("{}", sendfile);
+            assertThat(legacy.bytesPerOp()).isEqualTo(FILE_SIZE);
+            assertThat(streamFallback.bytesPerOp()).isEqualTo(FILE_SIZE);
+            assertThat(sendfile.bytesPerOp()).isEqualTo(FILE_SIZE);
+            assertThat(sendfileResponses).as("NIO 커넥터가 sendfile 로 전송해야 함").isEqualTo(WARMUP + ITERATIONS);
+        }
+    }
+
+    private static Result measure(String name, Transfer transfer) throws IOException {
+        long bytes = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            bytes = transfer.run();
+        }
+        long allocatedBefore = otherThreadsAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = transfer.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = otherThreadsAllocatedBytes() - allocatedBefore;
+        double mbPerSec = (double) bytes * ITERATIONS / (1024 * 1024) / (elapsed / 1_000_000_000.0);
+        return new Result(name, bytes, mbPerSec, allocated / ITERATIONS);
+    }
+
+    /**
+     * 측정(클라이언트) 스레드를 제외한 모든 스레드의 누적 힙 할당량. 측정 중 종료된 스레드는 빠진다.
+     */
+    private static long otherThreadsAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long current = Thread.currentThread().threadId();
+        long[] ids = Arrays.stream(threads.getAllThreadIds()).filter(id -> id != current).toArray();
+        return Arrays.stream(threads.getThreadAllocatedBytes(ids)).filter(bytes -> bytes > 0).sum();
+    }
+
+    @FunctionalInterface
+    private interface Transfer {
+        long run() throws IOException;
+    }
+
+    private record Result(String name, long bytesPerOp, double mbPerSec, long allocatedBytesPerOp) {
+        @Override
+        public String toString() {
+            return String.format("%-16s %10.1f MB/s %12d B/op allocated (server)", name, mbPerSec,
+                    allocatedBytesPerOp);
+        }
+    }
+
+    /**
+     * 최소 HTTP/1.1 keep-alive 클라이언트. 본문은 direct 버퍼로 읽고 버려 측정 스레드 할당을 줄인다.
+     * 서버가 Connection: close 로 응답하면(Tomcat maxKeepAliveRequests) 다음 요청 전에 다시 연결.
+     */
+    private static final class HttpConnection implements Closeable {
+
+        private final InetSocketAddress address;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+        private SocketChannel channel;
+
+        HttpConnection(InetSocketAddress address) throws IOException {
+            this.address = address;
+            this.channel = SocketChannel.open(address);
+        }
+
+        /**
+         * GET 요청 후 본문을 끝까지 읽고 본문 길이 반환. 200 이 아니거나 Content-Length 가 없으면 실패.
+         */
+        long get(String path, String extraHeaders) throws IOException {
+            if (!channel.isOpen()) {
+                channel = SocketChannel.open(address);
+            }
+            String request = "GET " + path + " HTTP/1.1\r\nHost: localhost\r\n" + extraHeaders + "\r\n";
+            ByteBuffer out = ByteBuffer.wrap(request.getBytes(StandardCharsets.US_ASCII));
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+
+            buffer.clear();
+            int headerEnd;
+            while ((headerEnd = headerEnd()) < 0) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("응답 헤더 전에 연결 종료");
+                }
+            }
+            byte[] headerBytes = new byte[headerEnd];
+            buffer.get(0, headerBytes);
+            String headers = new String(headerBytes, StandardCharsets.US_ASCII);
+            if (!headers.startsWith("HTTP/1.1 200")) {
+                throw new IOException("예상치 못한 응답: " + headers.lines().findFirst().orElse(""));
+            }
+            long contentLength = contentLength(headers);
+
+            long received = buffer.position() - (headerEnd + 4);
+            while (received < contentLength) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    throw new EOFException("응답 본문 도중 연결 종료");
+                }
+                received += read;
+            }
+            if (headers.toLowerCase(Locale.ROOT).contains("\r\nconnection: close")) {
+                channel.close();
+            }
+            return received;
+        }
+
+        /** 버퍼에서 헤더 끝(\r\n\r\n) 위치. 없으면 -1. */
+        private int headerEnd() {
+            for (int i = 0; i + 3 < buffer.position(); i++) {
+                if (buffer.get(i) == '\r' && buffer.get(i + 1) == '\n'
+                        && buffer.get(i + 2) == '\r' && buffer.get(i + 3) == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static long contentLength(String headers) throws IOException {
+            return headers.lines()
+                    .filter(line -> line.toLowerCase(Locale.ROOT).startsWith("content-length:"))
+                    .mapToLong(line -> Long.parseLong(line.substring(line.indexOf(':') + 1).trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IOException("Content-Length 없음"));
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    @TestConfiguration
+    static class BenchmarkConfig {
+
+        /**
+         * 헤더가 있으면 sendfile 지원 속성을 숨기고, 응답 후 sendfile 로 넘겼는지 집계.
+         */
+        @Bean
+        OncePerRequestFilter sendfileSwitchFilter() {
+            return new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                        FilterChain filterChain) throws ServletException, IOException {
+                    HttpServletRequest target = request.getHeader(SENDFILE_OFF_HEADER) == null ? request
+                            : new HttpServletRequestWrapper(request) {
+                                @Override
+                                public Object getAttribute(String name) {
+                                    return ZeroCopyFileSender.SENDFILE_SUPPORTED.equals(name)
+                                            ? null : super.getAttribute(name);
+                                }
+                            };
+                    filterChain.doFilter(target, response);
+                    if (request.getAttribute(ZeroCopyFileSender.SENDFILE_FILENAME) != null) {
+                        SENDFILE_RESPONSES.incrementAndGet();
+                    }
+                }
+            };
+        }
+
+        @Bean
+        LegacyImageController legacyImageController(ImagePostRepository imagePostRepository, BlobStore blobStore) {
+            return new LegacyImageController(imagePostRepository, blobStore);
+        }
+    }
+
+    /**
+     * 변경 전 이미지 응답 재현: 요청마다 게시글 조회(JPA) → 파일 Resource → ResourceHttpMessageConverter 스트림 복사.
+     * /api/sample/** 는 permitAll 이라 같은 필터 체인을 거친다.
+     */
+    @RestController
+    @RequiredArgsConstructor
+    static class LegacyImageController {
+
+        private final ImagePostRepository imagePostRepository;
+        private final BlobStore blobStore;
+
+        @GetMapping("/api/sample/legacy-image/{id}")
+        ResponseEntity<Resource> getImage(@PathVariable Long id) throws MalformedURLException {
+            ImagePost post = imagePostRepository.findById(id)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "이미지 게시글을 찾을 수 없습니다."));
+            Path path = blobStore.localPath(post.getImageStoragePath())
+                    .filter(Files::exists)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "이미지 파일을 찾을 수 없습니다."));
+            Resource resource = new UrlResource(path.toUri());
+            return ResponseEntity.ok()
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
+                    .body(resource);
+        }
+    }
+}
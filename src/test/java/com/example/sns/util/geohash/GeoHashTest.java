@@ -0,0 +1,46 @@
+package com.example.sns.util.geohash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GeoHash 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("GeoHash 단위 테스트")
+class GeoHashTest {
+
+    @Test
+    @DisplayName("encode - 알려진 예제와 같은 값")
+    void encode_예제() {
+        // when
+        String hash = GeoHash.encode(42.6, -5.6, 5);
+
+        // then
+        assertThat(hash).isEqualTo("ezs42");
+    }
+
+    @Test
+    @DisplayName("encode - 정밀도 8 에서 수 m 거리의 두 점은 같은 칸, 약 90m 떨어진 점은 다른 칸")
+    void encode_근접좌표_같은칸() {
+        // when
+        String pin = GeoHash.encode(37.5665, 126.9780, 8);
+        String nearby = GeoHash.encode(37.56653, 126.97803, 8);
+        String away = GeoHash.encode(37.5665, 126.9790, 8);
+
+        // then
+        assertThat(pin).isEqualTo("wydm9qy8").isEqualTo(nearby);
+        assertThat(away).isNotEqualTo(pin);
+    }
+
+    @Test
+    @DisplayName("encode - 범위를 벗어난 좌표는 IllegalArgumentException")
+    void encode_범위초과() {
+        // when & then
+        assertThatThrownBy(() -> GeoHash.encode(91, 0, 8)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.sns.util.haversine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * HaversineUtil 단위 테스트. 단건 거리와 거리 행렬 일치.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("HaversineUtil 단위 테스트")
+class HaversineUtilTest {
+
+    @Test
+    @DisplayName("distanceMeters - 서울시청 → 부산역 약 329km")
+    void distanceMeters_서울부산() {
+        // when
+        double distance = HaversineUtil.distanceMeters(37.5665, 126.9780, 35.1151, 129.0422);
+
+        // then
+        assertThat(distance).isCloseTo(329_000, within(2_000.0));
+    }
+
+    @Test
+    @DisplayName("distanceMatrix - 모든 쌍이 단건 계산과 1cm 이내로 일치 (같은 좌표는 0)")
+    void distanceMatrix_단건과일치() {
+        // given
+        Random random = new Random(7);
+        int origins = 5;
+        int destinations = 23;
+        double[] originLats = new double[origins];
+        double[] originLngs = new double[origins];
+        double[] destLats = new double[destinations];
+        double[] destLngs = new double[destinations];
+        for (int i = 0; i < origins; i++) {
+            originLats[i] = 37.4 + random.nextDouble() * 0.3;
+            originLngs[i] = 126.8 + random.nextDouble() * 0.4;
+        }
+        for (int j = 0; j < destinations; j++) {
+            destLats[j] = 33 + random.nextDouble() * 5;
+            destLngs[j] = 126 + random.nextDouble() * 3;
+        }
+        destLats[0] = originLats[0];
+        destLngs[0] = originLngs[0];
+
+        // when
+        double[] matrix = HaversineUtil.distanceMatrix(originLats, originLngs, destLats, destLngs);
+
+        // then
+        assertThat(matrix).hasSize(origins * destinations);
+        assertThat(matrix[0]).isCloseTo(0, within(0.01));
+        for (int i = 0; i < origins; i++) {
+            for (int j = 0; j < destinations; j++) {
+                double expected = HaversineUtil.distanceMeters(originLats[i], originLngs[i], destLats[j], destLngs[j]);
+                assertThat(matrix[i * destinations + j]).isCloseTo(expected, within(0.01));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.sns.util.polyline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PolylineEncoder 단위 테스트.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("PolylineEncoder 단위 테스트")
+class PolylineEncoderTest {
+
+    @Test
+    @DisplayName("encode·decodeCoordinates - 알고리즘 명세 예제와 같은 문자열, 왕복 시 같은 좌표")
+    void decodeCoordinates_명세예제_왕복() {
+        // given
+        double[] coordinates = {38.5, -120.2, 40.7, -120.95, 43.252, -126.453};
+
+        // when
+        String encoded = PolylineEncoder.encode(coordinates);
+        double[] decoded = PolylineEncoder.decodeCoordinates(encoded);
+
+        // then
+        assertThat(encoded).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+        assertThat(decoded).containsExactly(coordinates, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("decodeCoordinates - 인코딩 왕복 시 1e-5 정밀도 유지")
+    void decodeCoordinates_정밀도() {
+        // given
+        double[] coordinates = {37.5665123, 126.9780456, 37.5665987, 126.9781001, -33.8688, 151.2093};
+
+        // when
+        double[] decoded = PolylineEncoder.decodeCoordinates(PolylineEncoder.encode(coordinates));
+
+        // then
+        assertThat(decoded).containsExactly(coordinates, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("decodeCoordinates - 잘린 문자열은 IllegalArgumentException")
+    void decodeCoordinates_잘린문자열_예외() {
+        // when & then
+        assertThatThrownBy(() -> PolylineEncoder.decodeCoordinates("_p~iF~ps|U_"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.sns.util.polyline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PolylineSimplifier 단위 테스트. Douglas-Peucker 허용 오차·줌 기반 오차 계산.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("PolylineSimplifier 단위 테스트")
+class PolylineSimplifierTest {
+
+    @Test
+    @DisplayName("simplify - 직선 위의 중간 점은 제거하고 양 끝만 유지")
+    void simplify_직선() {
+        // given
+        double[] line = {37.0, 127.0, 37.001, 127.001, 37.002, 127.002, 37.003, 127.003};
+
+        // when
+        double[] simplified = PolylineSimplifier.simplify(line, 1.0);
+
+        // then
+        assertThat(simplified).containsExactly(37.0, 127.0, 37.003, 127.003);
+    }
+
+    @Test
+    @DisplayName("simplify - 허용 오차보다 큰 굴곡(약 55m)은 유지, 작은 굴곡(약 1m)은 제거")
+    void simplify_굴곡유지() {
+        // given
+        double[] path = {
+                37.0, 127.0,
+                37.00026, 127.001,   // A→C 선분에서 약 1m
+                37.0005, 127.002,    // A→E 선분에서 약 55m
+                37.0, 127.003,
+                37.0, 127.004};
+
+        // when
+        double[] simplified = PolylineSimplifier.simplify(path, 10.0);
+
+        // then
+        assertThat(simplified).containsExactly(37.0, 127.0, 37.0005, 127.002, 37.0, 127.003, 37.0, 127.004);
+    }
+
+    @Test
+    @DisplayName("simplify - 조밀한 도로 경로는 줌 14 에서 점 수가 1/10 이하로 감소, 형태 오차는 허용 오차 이내")
+    void simplify_조밀경로_감소() {
+        // given: 1m 간격으로 완만하게 휘는 5km 경로
+        int points = 5000;
+        double[] path = new double[points * 2];
+        for (int i = 0; i < points; i++) {
+            path[i * 2] = 37.5 + Math.sin(i / 800.0) * 0.005;
+            path[i * 2 + 1] = 127.0 + i * 0.00001;
+        }
+        double tolerance = PolylineSimplifier.toleranceMeters(14, 37.5, 1.0);
+
+        // when
+        double[] simplified = PolylineSimplifier.simplify(path, tolerance);
+
+        // then
+        assertThat(simplified.length / 2).isLessThan(points / 10);
+        assertThat(simplified[0]).isEqualTo(path[0]);
+        assertThat(simplified[simplified.length - 1]).isEqualTo(path[path.length - 1]);
+    }
+
+    @Test
+    @DisplayName("toleranceMeters - 줌이 1 오를 때마다 절반, 적도 줌 0 은 약 156km")
+    void toleranceMeters_줌() {
+        // when
+        double zoom0 = PolylineSimplifier.toleranceMeters(0, 0, 1.0);
+        double zoom15 = PolylineSimplifier.toleranceMeters(15, 37.5, 1.0);
+        double zoom16 = PolylineSimplifier.toleranceMeters(16, 37.5, 1.0);
+
+        // then
+        assertThat(zoom0).isCloseTo(156_543.0, within(1.0));
+        assertThat(zoom16).isCloseTo(zoom15 / 2, within(1e-9));
+    }
+}
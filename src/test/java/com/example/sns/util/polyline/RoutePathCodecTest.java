@@ -0,0 +1,63 @@
+package com.example.sns.util.polyline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * RoutePathCodec 단위 테스트. 좌표 JSON·Encoded Polyline 구분과 변환.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("RoutePathCodec 단위 테스트")
+class RoutePathCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("parse - {lat,lng} 객체 배열·[lat,lng] 배열·polyline 모두 같은 좌표")
+    void parse_세가지형식() {
+        // given
+        String objects = "[{\"lat\":38.5,\"lng\":-120.2},{\"lng\":-120.95,\"lat\":40.7}]";
+        String arrays = "[[38.5,-120.2],[40.7,-120.95]]";
+        String polyline = PolylineEncoder.encode(new double[] {38.5, -120.2, 40.7, -120.95});
+
+        // when & then
+        assertThat(RoutePathCodec.isEncoded(polyline)).isTrue();
+        assertThat(RoutePathCodec.isEncoded(arrays)).isFalse();
+        assertThat(RoutePathCodec.parse(objects, objectMapper)).containsExactly(38.5, -120.2, 40.7, -120.95);
+        assertThat(RoutePathCodec.parse(arrays, objectMapper)).containsExactly(38.5, -120.2, 40.7, -120.95);
+        assertThat(RoutePathCodec.parse(polyline, objectMapper)).containsExactly(38.5, -120.2, 40.7, -120.95);
+    }
+
+    @Test
+    @DisplayName("isEncoded - 빈 배열 \"[]\"·앞 공백 있는 JSON 은 polyline 이 아님, 빈 배열은 좌표 0개")
+    void isEncoded_빈배열() {
+        // when & then
+        assertThat(RoutePathCodec.isEncoded("[]")).isFalse();
+        assertThat(RoutePathCodec.isEncoded(" [[37.5,127.0]]")).isFalse();
+        assertThat(RoutePathCodec.parse("[]", objectMapper)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("toCoordsJson - {lat,lng} 객체 배열 문자열")
+    void toCoordsJson() {
+        // when
+        String json = RoutePathCodec.toCoordsJson(new double[] {37.5, 127.0});
+
+        // then
+        assertThat(json).isEqualTo("[{\"lat\":37.5,\"lng\":127.0}]");
+    }
+
+    @Test
+    @DisplayName("parse - 좌표 배열이 아니면 IllegalArgumentException")
+    void parse_형식오류() {
+        // when & then
+        assertThatThrownBy(() -> RoutePathCodec.parse("{\"lat\":1}", objectMapper)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RoutePathCodec.parse("[{\"lat\":1}]", objectMapper)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
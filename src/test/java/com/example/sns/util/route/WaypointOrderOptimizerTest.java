@@ -0,0 +1,75 @@
+package com.example.sns.util.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * WaypointOrderOptimizer 단위 테스트. 출발·목적지 고정, 최근접 이웃 + 2-opt 개선.
+ *
+ * RULE 4.2.2: Given-When-Then, AssertJ 준수.
+ */
+@DisplayName("WaypointOrderOptimizer 단위 테스트")
+class WaypointOrderOptimizerTest {
+
+    @Test
+    @DisplayName("order - 일직선 위 뒤섞인 경유지를 위치 순으로 정렬, 출발·목적지 고정")
+    void order_일직선() {
+        // given — 지점 0(x=0) 출발, 4(x=10) 도착, 경유지 1(x=7), 2(x=2), 3(x=5)
+        double[] x = {0, 7, 2, 5, 10};
+        double[] distances = lineDistances(x);
+
+        // when
+        int[] order = WaypointOrderOptimizer.order(distances, x.length);
+
+        // then
+        assertThat(order).containsExactly(0, 2, 3, 1, 4);
+        assertThat(WaypointOrderOptimizer.length(order, distances, x.length)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("order - 최근접 이웃이 가까운 쪽부터 가서 되돌아오는 경로를 2-opt 로 개선")
+    void order_2opt개선() {
+        // given — 출발 x=0, 도착 x=10, 경유지 1(x=1), 2(x=-1.5). 최근접 이웃: 0→1→2→도착 = 15
+        double[] x = {0, 1, -1.5, 10};
+        double[] distances = lineDistances(x);
+
+        // when
+        int[] order = WaypointOrderOptimizer.order(distances, x.length);
+
+        // then — 0→2→1→도착 = 1.5 + 2.5 + 9
+        assertThat(order).containsExactly(0, 2, 1, 3);
+        assertThat(WaypointOrderOptimizer.length(order, distances, x.length)).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("order - 경유지 없으면 출발→목적지 그대로")
+    void order_경유지없음() {
+        // when
+        int[] order = WaypointOrderOptimizer.order(new double[] {0, 1, 1, 0}, 2);
+
+        // then
+        assertThat(order).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("order - 거리 행렬 크기 불일치 시 IllegalArgumentException")
+    void order_크기불일치() {
+        // when & then
+        assertThatThrownBy(() -> WaypointOrderOptimizer.order(new double[4], 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double[] lineDistances(double[] x) {
+        int n = x.length;
+        double[] distances = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = Math.abs(x[i] - x[j]);
+            }
+        }
+        return distances;
+    }
+}
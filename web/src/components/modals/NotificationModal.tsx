@@ -117,6 +117,7 @@ export const NotificationModal = ({
                             >
                               {n.fromUserName}
                             </span>
+                            {(n.actorCount ?? 1) > 1 && ` and ${(n.actorCount ?? 1) - 1} others`}
                             {' '}
                             {n.type === 'follow' && "started following you"}
                             {n.type === 'like' && "liked your story"}
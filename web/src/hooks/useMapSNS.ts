@@ -119,7 +119,7 @@ export const useMapSNS = () => {
           api.get('/profile/liked-post-ids')
         ]);
         setFollowingIds(followingRes.data);
-        setNotifications(notificationsRes.data);
+        setNotifications(notificationsRes.data.content);
         
         const likedPostIds = likesRes.data;
         setPosts(prev => prev.map(p => ({
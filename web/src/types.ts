@@ -56,5 +56,6 @@ export interface Notification {
   fromUserProfilePic?: string;
   postId?: number;
   isRead: boolean;
+  actorCount?: number;
   createdAt: string;
 }